@@ -5,12 +5,8 @@ import com.penrose.bibby.cli.prompt.domain.PromptOptions;
 import com.penrose.bibby.library.cataloging.author.api.dtos.AuthorDTO;
 import com.penrose.bibby.library.cataloging.author.core.ports.inbound.AuthorFacade;
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookDTO;
+import com.penrose.bibby.library.cataloging.book.api.dtos.BookLocationResponse;
 import com.penrose.bibby.library.cataloging.book.core.port.inbound.BookFacade;
-import com.penrose.bibby.library.stacks.bookcase.api.dtos.BookcaseDTO;
-import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.BookcaseFacade;
-import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfQueryFacade;
-import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.inboundPortModels.ShelfResponse;
-import com.penrose.bibby.web.controllers.stacks.bookcase.BookcaseMapper;
 import java.util.*;
 import org.springframework.shell.command.annotation.Command;
 import org.springframework.shell.component.flow.ComponentFlow;
@@ -23,8 +19,6 @@ public class BookCirculationCommands extends AbstractShellComponent {
 
   private final AuthorFacade authorFacade;
   private final BookFacade bookFacade;
-  private final BookcaseFacade bookcaseFacade;
-  private final ShelfQueryFacade shelfFacade;
   private final CliPromptService cliPrompt;
   private final ComponentFlow.Builder componentFlowBuilder;
   private final PromptOptions promptOptions;
@@ -32,44 +26,34 @@ public class BookCirculationCommands extends AbstractShellComponent {
   public BookCirculationCommands(
       ComponentFlow.Builder componentFlowBuilder,
       AuthorFacade authorFacade,
-      ShelfQueryFacade shelfFacade,
       CliPromptService cliPrompt,
       BookFacade bookFacade,
-      BookcaseFacade bookcaseFacade,
       PromptOptions promptOptions) {
     this.componentFlowBuilder = componentFlowBuilder;
     this.authorFacade = authorFacade;
-    this.shelfFacade = shelfFacade;
     this.cliPrompt = cliPrompt;
     this.bookFacade = bookFacade;
-    this.bookcaseFacade = bookcaseFacade;
     this.promptOptions = promptOptions;
   }
 
   @Command(command = "check-out", description = "Check-Out a book from the library")
   public void checkOutBook() {
     String bookTitle = cliPrompt.promptForBookTitle();
-    BookDTO bookDTO = bookFacade.findBookByTitle(bookTitle);
+    BookDTO bookDTO = findBookByTitleOrSuggestion(bookTitle);
     String bookcaseName = "N.A";
     String shelfName = "N.A";
     if (bookDTO == null) {
       System.out.println("Book Not Found.");
+      return;
     } else if (bookDTO.shelfId() != null) {
-      Optional<ShelfResponse> shelf = shelfFacade.findShelfById(bookDTO.shelfId());
-      BookcaseDTO bookcase =
-          BookcaseMapper.toDTO(bookcaseFacade.findBookCaseById(shelf.get().bookcaseId()));
-      bookcaseName = bookcase.location();
-      shelfName = shelf.get().shelfLabel();
+      Optional<BookLocationResponse> location = bookFacade.findBookLocation(bookDTO.id());
+      if (location.isPresent()) {
+        bookcaseName = location.get().bookcaseLocation();
+        shelfName = location.get().shelfLabel();
+      }
     }
     if (bookDTO.availabilityStatus().toString().equals("CHECKED_OUT")) {
-      System.out.println(
-          """
-
-                    \u001B[38;5;63m  .---.
-                    \u001B[38;5;63m (* @ *)  \u001B[36m\u001B[38;5;220m "This one’s already off the shelf. No double-dipping on checkouts."
-                    \u001B[38;5;63m  \\|=|/
-
-                    """);
+      printAlreadyCheckedOut();
     } else {
       Set<AuthorDTO> authors = authorFacade.findByBookId(bookDTO.id());
       System.out.println(
@@ -95,7 +79,11 @@ public class BookCirculationCommands extends AbstractShellComponent {
       ComponentFlow.ComponentFlowResult confirmationResult = confirmationFlow.run();
 
       if (confirmationResult.getContext().get("isConfirmed").equals("y")) {
-        bookFacade.checkOutBook(bookDTO);
+        if (!bookFacade.checkOutBook(bookDTO)) {
+          // Someone else checked it out between the status check and the confirmation
+          printAlreadyCheckedOut();
+          return;
+        }
         System.out.println(
             String.format(
                 """
@@ -105,7 +93,7 @@ public class BookCirculationCommands extends AbstractShellComponent {
                         \u001B[38;5;63m  \\|=|/
 
                         """,
-                bookTitle));
+                bookDTO.title()));
       } else {
         System.out.println(
             """
@@ -124,18 +112,19 @@ public class BookCirculationCommands extends AbstractShellComponent {
       description = "Return a borrowed book to the library and update its shelf placement.")
   public void checkInBook() {
     String bookTitle = cliPrompt.promptForBookTitle();
-    BookDTO bookDTO = bookFacade.findBookByTitle(bookTitle);
+    BookDTO bookDTO = findBookByTitleOrSuggestion(bookTitle);
 
     String bookcaseLabel = "No Assigned Bookcase";
     String bookshelfLabel = "No Assigned Bookshelf";
     if (bookDTO == null) {
       System.out.println("Book Not Found");
+      return;
     } else if (bookDTO.shelfId() != null) {
-      Optional<ShelfResponse> shelfDTO = shelfFacade.findShelfById(bookDTO.shelfId());
-      BookcaseDTO bookcaseDTO =
-          BookcaseMapper.toDTO(bookcaseFacade.findBookCaseById(shelfDTO.get().bookcaseId()));
-      bookcaseLabel = bookcaseDTO.location();
-      bookshelfLabel = shelfDTO.get().shelfLabel();
+      Optional<BookLocationResponse> location = bookFacade.findBookLocation(bookDTO.id());
+      if (location.isPresent()) {
+        bookcaseLabel = location.get().bookcaseLocation();
+        bookshelfLabel = location.get().shelfLabel();
+      }
     }
     Set<AuthorDTO> authors = authorFacade.findByBookId(bookDTO.id());
 
@@ -160,7 +149,10 @@ public class BookCirculationCommands extends AbstractShellComponent {
     result = flow.run();
 
     if (result.getContext().get("isConfirmed").equals("y")) {
-      bookFacade.checkInBook(bookTitle);
+      if (!bookFacade.checkInBook(bookDTO.id())) {
+        System.out.println("This book is not checked out.");
+        return;
+      }
       System.out.println(
           """
 
@@ -168,8 +160,30 @@ public class BookCirculationCommands extends AbstractShellComponent {
                     \u001B[38;5;63m (* @ *)  \u001B[36m\u001B[38;5;220m "Check-in complete. Book state updated to \u001B[38;5;42mAVAILABLE."
                     \u001B[38;5;63m  \\|=|/
 
+""");
+    }
+  }
+
+  private void printAlreadyCheckedOut() {
+    System.out.println(
+        """
+
+\u001B[38;5;63m  .---.
+\u001B[38;5;63m (* @ *)  \u001B[36m\u001B[38;5;220m "This one’s already off the shelf. No double-dipping on checkouts."
+\u001B[38;5;63m  \\|=|/
+
                     """);
+  }
+
+  private BookDTO findBookByTitleOrSuggestion(String bookTitle) {
+    BookDTO bookDTO = bookFacade.findBookByTitle(bookTitle);
+    if (bookDTO == null) {
+      String suggestedTitle = cliPrompt.promptForTitleSuggestion(bookTitle);
+      if (suggestedTitle != null) {
+        bookDTO = bookFacade.findBookByTitle(suggestedTitle);
+      }
     }
+    return bookDTO;
   }
 
   public void checkOutBookByID() throws InterruptedException {
@@ -10,7 +10,10 @@ import com.penrose.bibby.library.cataloging.book.core.port.inbound.BookFacade;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.BookcaseFacade;
 import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfQueryFacade;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.springframework.shell.command.annotation.Command;
 import org.springframework.shell.standard.ShellComponent;
@@ -237,21 +240,28 @@ public class BookCreateIsbnCommands {
   */
 
   /**
-   * Creates a list of author IDs by processing a list of author names. Each name is converted into
-   * an AuthorDTO, checked for existence, and either added as a new author or matched to an existing
-   * author.
+   * Creates a list of author IDs by processing a list of author names. Names shared by several
+   * existing authors prompt the user to pick one or add a new namesake. The rest of the list is
+   * resolved in one batch: names that match an existing author (ignoring case and punctuation)
+   * reuse that author, and the others are created together.
    *
    * @param authorNames a list of strings representing author names, where each name is expected to
-   *     be in a "FirstName LastName" format
+   *     be in a "FirstName [MiddleNames] LastName" format
    * @return a list of author IDs corresponding to the processed authors
    */
   public List<Long> createAuthorsFromMetaData(List<String> authorNames) {
+    List<String> names = authorNames.stream().filter(name -> !name.isBlank()).toList();
+    Set<String> ambiguous = authorFacade.findNamesWithNamesakes(names);
+    Iterator<AuthorDTO> resolved =
+        authorFacade
+            .findOrCreateAll(names.stream().filter(name -> !ambiguous.contains(name)).toList())
+            .iterator();
     List<Long> authors = new ArrayList<>();
-
-    for (String authorName : authorNames) {
-      AuthorDTO authorDTO = mapAuthorStringToDTO(authorName);
-      boolean exists = authorExists(authorDTO.firstName(), authorDTO.lastName());
-      authors.add(exists ? createNewAuthorOrAddExisting(authorDTO) : saveNewAuthor(authorDTO).id());
+    for (String name : names) {
+      authors.add(
+          ambiguous.contains(name)
+              ? createNewAuthorOrAddExisting(mapAuthorStringToDTO(name))
+              : resolved.next().id());
     }
     return authors;
   }
@@ -272,28 +282,31 @@ public class BookCreateIsbnCommands {
   }
 
   /**
-   * Converts a given author name string into an AuthorDTO object. The full name is split into first
-   * and last name based on spaces. If the name contains only one word, it is treated as the first
-   * name, and the last name is left empty.
+   * Converts a given author name string into an AuthorDTO object. The last word is the last name
+   * and every word before it, middle names included, is the first name. If the name contains only
+   * one word, it is treated as the first name, and the last name is left empty.
    *
-   * @param authorName the string representing the author's name, expected in "FirstName LastName"
-   *     format
+   * @param authorName the string representing the author's name, expected in "FirstName
+   *     [MiddleNames] LastName" format
    * @return an AuthorDTO object with firstName and lastName extracted from the input string
    */
   public AuthorDTO mapAuthorStringToDTO(String authorName) {
-    String[] nameParts = authorName.trim().split(" ");
-    String firstName = nameParts[0];
-    String lastName = nameParts.length > 1 ? nameParts[nameParts.length - 1] : "";
-    return new AuthorDTO(null, firstName, lastName);
+    String[] nameParts = authorName.trim().split("\\s+");
+    if (nameParts.length == 1) {
+      return new AuthorDTO(null, nameParts[0], "");
+    }
+    String firstName = String.join(" ", Arrays.copyOf(nameParts, nameParts.length - 1));
+    return new AuthorDTO(null, firstName, nameParts[nameParts.length - 1]);
   }
 
   /**
    * Creates a new author or retrieves an existing one based on the provided author details. If an
    * author with the same first and last name exists, the method either prompts the user to select
-   * an existing author or creates a new one depending on the user's decision.
+   * an existing author or creates a new one depending on the user's decision. Otherwise a new
+   * author is created.
    *
    * @param authorDTO the data transfer object containing the author's first name and last name
-   * @return the ID of the existing or newly created author, or null if the operation is aborted
+   * @return the ID of the existing or newly created author
    */
   public Long createNewAuthorOrAddExisting(AuthorDTO authorDTO) {
     String firstName = authorDTO.firstName();
@@ -320,7 +333,7 @@ public class BookCreateIsbnCommands {
         //                log.info("Existing author added to list: {}", existingAuthor);
       }
     }
-    return null;
+    return saveNewAuthor(authorDTO).id();
   }
 
   /**
@@ -2,6 +2,7 @@ package com.penrose.bibby.cli.command.book;
 
 import com.penrose.bibby.cli.prompt.application.CliPromptService;
 import com.penrose.bibby.cli.prompt.domain.PromptOptions;
+import com.penrose.bibby.config.metrics.LibraryMetrics;
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookDTO;
 import com.penrose.bibby.library.cataloging.book.core.port.inbound.BookFacade;
 import com.penrose.bibby.library.stacks.shelf.api.dtos.ShelfDTO;
@@ -17,16 +18,19 @@ public class BookPlacementCommands {
   private final ShelfQueryFacade shelfFacade;
   private final CliPromptService cliPrompt;
   private final PromptOptions promptOptions;
+  private final LibraryMetrics libraryMetrics;
 
   public BookPlacementCommands(
       BookFacade bookFacade,
       ShelfQueryFacade shelfFacade,
       CliPromptService cliPrompt,
-      PromptOptions promptOptions) {
+      PromptOptions promptOptions,
+      LibraryMetrics libraryMetrics) {
     this.bookFacade = bookFacade;
     this.shelfFacade = shelfFacade;
     this.cliPrompt = cliPrompt;
     this.promptOptions = promptOptions;
+    this.libraryMetrics = libraryMetrics;
   }
 
   @Command(
@@ -64,6 +68,7 @@ public class BookPlacementCommands {
                   });
 
       if (shelfDTO.get().bookCapacity() <= shelfDTO.get().bookIds().size()) {
+        libraryMetrics.shelfCapacityRejected();
         throw new IllegalStateException("Shelf is full");
       } else {
 
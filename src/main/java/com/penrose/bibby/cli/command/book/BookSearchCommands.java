@@ -5,12 +5,8 @@ import com.penrose.bibby.cli.ui.BookcardRenderer;
 import com.penrose.bibby.library.cataloging.author.api.dtos.AuthorDTO;
 import com.penrose.bibby.library.cataloging.author.core.ports.inbound.AuthorFacade;
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookDTO;
+import com.penrose.bibby.library.cataloging.book.api.dtos.BookLocationResponse;
 import com.penrose.bibby.library.cataloging.book.core.port.inbound.BookFacade;
-import com.penrose.bibby.library.stacks.bookcase.api.dtos.BookcaseDTO;
-import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.BookcaseFacade;
-import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfQueryFacade;
-import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.inboundPortModels.ShelfResponse;
-import com.penrose.bibby.web.controllers.stacks.bookcase.BookcaseMapper;
 import java.util.Optional;
 import java.util.Set;
 import org.slf4j.Logger;
@@ -23,8 +19,6 @@ public class BookSearchCommands {
   private final CliPromptService cliPrompt;
   private final BookcardRenderer bookcardRenderer;
   private final BookFacade bookFacade;
-  private final BookcaseFacade bookcaseFacade;
-  private final ShelfQueryFacade shelfFacade;
   private final AuthorFacade authorFacade;
   private final BookCreateCommands bookCreateCommands;
   Logger log = org.slf4j.LoggerFactory.getLogger(BookCreateCommands.class);
@@ -33,16 +27,12 @@ public class BookSearchCommands {
       CliPromptService cliPrompt,
       BookcardRenderer bookcardRenderer,
       BookFacade bookFacade,
-      BookcaseFacade bookcaseFacade,
-      ShelfQueryFacade shelfFacade,
       AuthorFacade authorFacade,
       BookCreateCommands bookCreateCommands) {
 
     this.cliPrompt = cliPrompt;
     this.bookcardRenderer = bookcardRenderer;
     this.bookFacade = bookFacade;
-    this.bookcaseFacade = bookcaseFacade;
-    this.shelfFacade = shelfFacade;
     this.authorFacade = authorFacade;
     this.bookCreateCommands = bookCreateCommands;
   }
@@ -82,11 +72,9 @@ public class BookSearchCommands {
         shelfLocation = "PENDING / NOT SET";
         bookcaseLocation = "PENDING / NOT SET";
       } else {
-        Optional<ShelfResponse> shelfDTO = shelfFacade.findShelfById(bookDTO.shelfId());
-        BookcaseDTO bookcaseDTO =
-            BookcaseMapper.toDTO(bookcaseFacade.findBookCaseById(shelfDTO.get().bookcaseId()));
-        bookcaseLocation = bookcaseDTO.location();
-        shelfLocation = shelfDTO.get().shelfLabel();
+        Optional<BookLocationResponse> location = bookFacade.findBookLocation(bookDTO.id());
+        bookcaseLocation = location.map(BookLocationResponse::bookcaseLocation).orElse("");
+        shelfLocation = location.map(BookLocationResponse::shelfLabel).orElse("");
       }
       Set<AuthorDTO> authors = authorFacade.findByBookId(bookDTO.id());
 
@@ -115,7 +103,14 @@ public class BookSearchCommands {
     BookDTO bookDTO = bookFacade.findBookByTitle(title);
 
     if (bookDTO == null) {
+      String suggestedTitle = cliPrompt.promptForTitleSuggestion(title);
+      if (suggestedTitle != null) {
+        title = suggestedTitle;
+        bookDTO = bookFacade.findBookByTitle(title);
+      }
+    }
 
+    if (bookDTO == null) {
       bookcardRenderer.printNotFound(title);
       return;
     } else if (bookDTO.shelfId() == null) {
@@ -131,9 +126,8 @@ public class BookSearchCommands {
       System.out.println("\n\u001B[36m</>\u001B[0m: Found it! Here are the details:\n");
       System.out.println(bookCard);
     } else {
-      Optional<ShelfResponse> shelfDTO = shelfFacade.findShelfById(bookDTO.shelfId());
-      BookcaseDTO bookcaseDTO =
-          BookcaseMapper.toDTO(bookcaseFacade.findBookCaseById(shelfDTO.get().bookcaseId()));
+      Optional<BookLocationResponse> location = bookFacade.findBookLocation(bookDTO.id());
+      String bookcaseLocation = location.map(BookLocationResponse::bookcaseLocation).orElse("");
       System.out.println(authorFacade.findByBookId(bookDTO.id()).toString());
       String bookCard =
           bookcardRenderer.createBookCard(
@@ -141,9 +135,9 @@ public class BookSearchCommands {
               bookDTO.isbn(),
               authorFacade.findByBookId(bookDTO.id()).toString(),
               bookDTO.publisher(),
-              bookcaseDTO.location(),
-              shelfDTO.get().shelfLabel(),
-              bookcaseDTO.location());
+              bookcaseLocation,
+              location.map(BookLocationResponse::shelfLabel).orElse(""),
+              bookcaseLocation);
       System.out.println("\n\u001B[36m</>\u001B[0m: Found it! Here are the details:\n");
       System.out.println(bookCard);
     }
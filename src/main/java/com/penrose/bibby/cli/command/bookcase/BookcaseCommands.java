@@ -3,19 +3,27 @@ package com.penrose.bibby.cli.command.bookcase;
 import com.penrose.bibby.cli.command.book.BookCirculationCommands;
 import com.penrose.bibby.cli.prompt.application.CliPromptService;
 import com.penrose.bibby.cli.prompt.domain.PromptOptions;
+import com.penrose.bibby.config.tenancy.LibraryTenantResolver;
+import com.penrose.bibby.identity.core.application.UserRegistrationService;
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookDTO;
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookDetailView;
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookSummary;
 import com.penrose.bibby.library.cataloging.book.core.port.inbound.BookFacade;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.BookcaseFacade;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.CreateBookcaseUseCasePort;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.ProvisionLayoutUseCasePort;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.ProvisionLayoutResult;
 import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfQueryFacade;
 import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.inboundPortModels.ShelfSummaryResponse;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import org.slf4j.Logger;
 import org.springframework.shell.command.annotation.Command;
 import org.springframework.shell.component.flow.ComponentFlow;
 import org.springframework.shell.standard.AbstractShellComponent;
+import org.springframework.shell.standard.ShellOption;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -29,6 +37,8 @@ public class BookcaseCommands extends AbstractShellComponent {
   private final CliPromptService cliPromptService;
   private final PromptOptions promptOptions;
   private final CreateBookcaseUseCasePort createBookcaseUseCasePort;
+  private final ProvisionLayoutUseCasePort provisionLayoutUseCasePort;
+  private final UserRegistrationService userRegistrationService;
   Logger log = org.slf4j.LoggerFactory.getLogger(BookcaseCommands.class);
 
   public BookcaseCommands(
@@ -38,7 +48,9 @@ public class BookcaseCommands extends AbstractShellComponent {
       BookcaseFacade bookcaseFacade,
       CliPromptService cliPromptService,
       PromptOptions promptOptions,
-      CreateBookcaseUseCasePort createBookcaseUseCasePort) {
+      CreateBookcaseUseCasePort createBookcaseUseCasePort,
+      ProvisionLayoutUseCasePort provisionLayoutUseCasePort,
+      UserRegistrationService userRegistrationService) {
     this.componentFlowBuilder = componentFlowBuilder;
     this.shelfFacade = shelfFacade;
     this.bookFacade = bookFacade;
@@ -46,6 +58,40 @@ public class BookcaseCommands extends AbstractShellComponent {
     this.cliPromptService = cliPromptService;
     this.promptOptions = promptOptions;
     this.createBookcaseUseCasePort = createBookcaseUseCasePort;
+    this.provisionLayoutUseCasePort = provisionLayoutUseCasePort;
+    this.userRegistrationService = userRegistrationService;
+  }
+
+  @Command(
+      command = "provision",
+      description =
+          "Create bookcases and their shelves in bulk from a library layout file, owned by a user.")
+  public void provisionLayout(
+      @ShellOption String file,
+      @ShellOption(help = "Email of the user who owns the new bookcases") String owner)
+      throws IOException {
+    Long ownerId = userRegistrationService.findUserId(owner).orElse(null);
+    if (ownerId == null) {
+      System.out.println("\u001B[38;5;197mNo user with email " + owner + "\u001B[0m");
+      return;
+    }
+    String layout = Files.readString(Path.of(file));
+    try {
+      // In the owner's tenant, so the new rows are the owner's and only their bookcases count
+      ProvisionLayoutResult result =
+          LibraryTenantResolver.callAs(
+              ownerId, () -> provisionLayoutUseCasePort.provision(ownerId, layout));
+      System.out.printf(
+          "\u001B[38;5;42mCreated %d bookcases with %d shelves.\u001B[0m%n",
+          result.bookcasesCreated(), result.shelvesCreated());
+      if (!result.skipped().isEmpty()) {
+        System.out.printf(
+            "Skipped %d existing bookcases: %s%n",
+            result.skipped().size(), String.join(", ", result.skipped()));
+      }
+    } catch (IllegalArgumentException e) {
+      System.out.println("\u001B[38;5;197m" + e.getMessage() + "\u001B[0m");
+    }
   }
 
   @Command(command = "create", description = "Create a new bookcase in the library.")
@@ -240,7 +286,9 @@ public class BookcaseCommands extends AbstractShellComponent {
 
     if (result.getContext().get("optionSelected").equals("1")) {
       Optional<BookDTO> bookDTO = bookFacade.findBookById(bookId);
-      bookFacade.checkOutBook(bookDTO.get());
+      if (!bookFacade.checkOutBook(bookDTO.get())) {
+        System.out.println("This book is no longer available.");
+      }
     }
   }
 }
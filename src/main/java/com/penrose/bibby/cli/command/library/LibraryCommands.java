@@ -12,8 +12,15 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.shell.command.annotation.Command;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellOption;
@@ -29,7 +36,9 @@ public class LibraryCommands {
   private final BookcaseFacade bookcaseFacade;
   private final ShelfQueryFacade shelfFacade;
   private final BookcardRenderer bookcardRenderer;
+  private final Executor importExecutor;
 
+  @Autowired
   public LibraryCommands(
       BookCreateIsbnCommands bookCreateIsbnCommands,
       CliPromptService cliPrompt,
@@ -37,7 +46,29 @@ public class LibraryCommands {
       BookFacade bookFacade,
       BookcaseFacade bookcaseFacade,
       ShelfQueryFacade shelfFacade,
-      BookcardRenderer bookcardRenderer) {
+      BookcardRenderer bookcardRenderer,
+      @Value("${bibby.import.concurrency:8}") int importConcurrency,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    this(
+        bookCreateIsbnCommands,
+        cliPrompt,
+        promptOptions,
+        bookFacade,
+        bookcaseFacade,
+        shelfFacade,
+        bookcardRenderer,
+        importExecutor(importConcurrency, virtualThreads));
+  }
+
+  LibraryCommands(
+      BookCreateIsbnCommands bookCreateIsbnCommands,
+      CliPromptService cliPrompt,
+      PromptOptions promptOptions,
+      BookFacade bookFacade,
+      BookcaseFacade bookcaseFacade,
+      ShelfQueryFacade shelfFacade,
+      BookcardRenderer bookcardRenderer,
+      Executor importExecutor) {
     this.bookCreateIsbnCommands = bookCreateIsbnCommands;
     this.cliPrompt = cliPrompt;
     this.promptOptions = promptOptions;
@@ -45,6 +76,19 @@ public class LibraryCommands {
     this.bookcaseFacade = bookcaseFacade;
     this.shelfFacade = shelfFacade;
     this.bookcardRenderer = bookcardRenderer;
+    this.importExecutor = importExecutor;
+  }
+
+  /**
+   * One thread per ISBN being imported, virtual when {@code spring.threads.virtual.enabled} is set,
+   * with at most {@code bibby.import.concurrency} at a time; reading the file waits for a free
+   * slot.
+   */
+  private static Executor importExecutor(int concurrency, boolean virtualThreads) {
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("csv-import-");
+    executor.setVirtualThreads(virtualThreads);
+    executor.setConcurrencyLimit(concurrency);
+    return executor;
   }
 
   // todo: implement csv import
@@ -58,17 +102,47 @@ public class LibraryCommands {
 
     log.info("Importing books from CSV...");
 
+    List<String> isbns = new ArrayList<>();
+    List<CompletableFuture<BookMetaDataResponse>> imports = new ArrayList<>();
     try (BufferedReader reader = Files.newBufferedReader(Path.of(filePath))) {
       String line;
       while ((line = reader.readLine()) != null) {
-        BookMetaDataResponse bookMetaDataResponse = bookCreateIsbnCommands.importBook(line);
+        String isbn = line.strip();
+        if (isbn.isEmpty()) {
+          continue;
+        }
+        isbns.add(isbn);
+        imports.add(
+            CompletableFuture.supplyAsync(
+                () -> bookCreateIsbnCommands.importBook(isbn), importExecutor));
       }
     } catch (IOException exception) {
       log.error("Error reading CSV file: {}", exception.getMessage());
       throw new IOException("Failed to read CSV file", exception);
     }
 
-    System.out.println("\033[38;5;42mBooks imported successfully from CSV.\033[0m");
+    List<String> failed = new ArrayList<>();
+    for (int i = 0; i < imports.size(); i++) {
+      try {
+        imports.get(i).join();
+      } catch (CompletionException exception) {
+        log.error("Could not import ISBN {}", isbns.get(i), exception.getCause());
+        failed.add(isbns.get(i));
+      }
+    }
+
+    if (failed.isEmpty()) {
+      System.out.println("\033[38;5;42mBooks imported successfully from CSV.\033[0m");
+    } else {
+      System.out.println(
+          "\u001B[31mImported "
+              + (isbns.size() - failed.size())
+              + " of "
+              + isbns.size()
+              + " books; could not import "
+              + String.join(", ", failed)
+              + ".\u001B[0m");
+    }
   }
 
   //    @Command(command = "library", description = "Scan a book's ISBN barcode to retrieve metadata
@@ -231,6 +231,32 @@ public class CliPromptService implements PromptFacade {
     return result.getContext().get("title", String.class);
   }
 
+  /**
+   * Offers "did you mean" suggestions for a title that did not match any book. Suggestions are
+   * typo-tolerant prefix matches, best first; nothing is shown when there are none.
+   *
+   * @param typedTitle the title as the user entered it
+   * @return the suggested title the user picked, or {@code null} if there were no suggestions or
+   *     the user picked none of them
+   */
+  public String promptForTitleSuggestion(String typedTitle) {
+    List<String> suggestions = bookFacade.suggestTitles(typedTitle, 5);
+    if (suggestions.isEmpty()) {
+      return null;
+    }
+    ComponentFlow flow =
+        componentFlowBuilder
+            .clone()
+            .withSingleItemSelector("titleSuggestion")
+            .name("Did you mean?")
+            .selectItems(promptOptions.titleSuggestionOptions(suggestions))
+            .and()
+            .build();
+    ComponentFlow.ComponentFlowResult result = flow.run();
+    String selected = result.getContext().get("titleSuggestion", String.class);
+    return selected == null || selected.isEmpty() ? null : selected;
+  }
+
   public String promptForBookIsbn() {
     ComponentFlow flow;
     flow = componentFlowBuilder.clone().withStringInput("isbn").name("ISBN:_").and().build();
@@ -0,0 +1,148 @@
+package com.penrose.bibby.cli.prompt.application;
+
+import com.penrose.bibby.library.cataloging.book.api.dtos.BookcaseBookCount;
+import com.penrose.bibby.library.cataloging.book.core.port.inbound.BookFacade;
+import com.penrose.bibby.library.shared.events.ChangeCounters;
+import com.penrose.bibby.library.stacks.bookcase.api.dtos.BookcaseDTO;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.BookcaseFacade;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfQueryFacade;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.inboundPortModels.ShelfResponse;
+import com.penrose.bibby.web.controllers.stacks.bookcase.BookcaseMapper;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory copy of the library layout (bookcases, their shelves and how many books each bookcase
+ * holds) used to render the shell's selection menus.
+ *
+ * <p>Everything is loaded lazily on first use: the bookcase list in one query, the shelves of a
+ * bookcase the first time that bookcase is opened, and the book counts in one grouped query. The
+ * stacks and cataloging contexts announce changes through domain events; {@link #layoutChanged()}
+ * and {@link #booksChanged()} only mark the affected part stale, and the next menu reloads it once.
+ * The marks are {@link ChangeCounters}, which every instance reads before serving a menu, because
+ * the event itself reaches only one of them. Events are delivered shortly after their transaction
+ * commits, so a menu can briefly lag behind a change made by another process.
+ */
+@Component
+public class LibraryLayoutCache {
+
+  static final String LAYOUT = "library-layout";
+  static final String BOOK_COUNTS = "library-book-counts";
+
+  private static final Logger log = LoggerFactory.getLogger(LibraryLayoutCache.class);
+
+  private final BookcaseFacade bookcaseFacade;
+  private final ShelfQueryFacade shelfQueryFacade;
+  private final BookFacade bookFacade;
+  private final ChangeCounters changeCounters;
+  private final Map<Long, Shelves> shelvesByBookcase = new ConcurrentHashMap<>();
+  private volatile Bookcases bookcases;
+  private volatile BookCounts bookCounts;
+
+  public LibraryLayoutCache(
+      BookcaseFacade bookcaseFacade,
+      ShelfQueryFacade shelfQueryFacade,
+      BookFacade bookFacade,
+      ChangeCounters changeCounters) {
+    this.bookcaseFacade = bookcaseFacade;
+    this.shelfQueryFacade = shelfQueryFacade;
+    this.bookFacade = bookFacade;
+    this.changeCounters = changeCounters;
+  }
+
+  /** Every bookcase, in the order the database returns them. */
+  public List<BookcaseDTO> bookcases() {
+    long expected = changeCounters.current(LAYOUT);
+    Bookcases snapshot = bookcases;
+    if (snapshot == null || snapshot.generation() != expected) {
+      snapshot = reloadBookcases(expected);
+    }
+    return snapshot.bookcases();
+  }
+
+  public List<BookcaseDTO> bookcasesAt(String location) {
+    return bookcases().stream().filter(b -> b.location().equals(location)).toList();
+  }
+
+  /** The location of every bookcase, one entry per bookcase. */
+  public List<String> locations() {
+    return bookcases().stream().map(BookcaseDTO::location).toList();
+  }
+
+  public List<ShelfResponse> shelves(Long bookcaseId) {
+    long expected = changeCounters.current(LAYOUT);
+    Shelves snapshot = shelvesByBookcase.get(bookcaseId);
+    if (snapshot == null || snapshot.generation() != expected) {
+      snapshot = new Shelves(expected, shelfQueryFacade.findShelvesByBookcaseId(bookcaseId));
+      shelvesByBookcase.put(bookcaseId, snapshot);
+    }
+    return snapshot.shelves();
+  }
+
+  public long bookCount(Long bookcaseId) {
+    return bookCounts().getOrDefault(bookcaseId, 0L);
+  }
+
+  /**
+   * Books per bookcase ID; bookcases without books are absent. Read this once per menu rather than
+   * calling {@link #bookCount} per bookcase, since each call checks the shared change counter.
+   */
+  public Map<Long, Long> bookCounts() {
+    long expected = changeCounters.current(BOOK_COUNTS);
+    BookCounts snapshot = bookCounts;
+    if (snapshot == null || snapshot.generation() != expected) {
+      snapshot = reloadBookCounts(expected);
+    }
+    return snapshot.counts();
+  }
+
+  /**
+   * Marks bookcases and shelves stale. Removing a shelf or bookcase also removes its books, so the
+   * book counts are marked stale too.
+   */
+  public void layoutChanged() {
+    changeCounters.increment(LAYOUT);
+    changeCounters.increment(BOOK_COUNTS);
+  }
+
+  /** Marks the book counts stale after a book was added or moved between shelves. */
+  public void booksChanged() {
+    changeCounters.increment(BOOK_COUNTS);
+  }
+
+  private synchronized Bookcases reloadBookcases(long expected) {
+    Bookcases current = bookcases;
+    if (current != null && current.generation() == expected) {
+      return current; // another caller reloaded it while we waited
+    }
+    List<BookcaseDTO> loaded =
+        bookcaseFacade.getAllBookcases().stream().map(BookcaseMapper::toDTO).toList();
+    log.debug("Loaded {} bookcases into the layout cache", loaded.size());
+    bookcases = new Bookcases(expected, loaded);
+    return bookcases;
+  }
+
+  private synchronized BookCounts reloadBookCounts(long expected) {
+    BookCounts current = bookCounts;
+    if (current != null && current.generation() == expected) {
+      return current;
+    }
+    Map<Long, Long> counts = new HashMap<>();
+    for (BookcaseBookCount count : bookFacade.countBooksPerBookcase()) {
+      counts.put(count.bookcaseId(), count.bookCount());
+    }
+    bookCounts = new BookCounts(expected, Map.copyOf(counts));
+    return bookCounts;
+  }
+
+  private record Bookcases(long generation, List<BookcaseDTO> bookcases) {}
+
+  private record Shelves(long generation, List<ShelfResponse> shelves) {}
+
+  private record BookCounts(long generation, Map<Long, Long> counts) {}
+}
@@ -1,34 +1,28 @@
 package com.penrose.bibby.cli.prompt.domain;
 
+import com.penrose.bibby.cli.prompt.application.LibraryLayoutCache;
 import com.penrose.bibby.library.cataloging.author.api.dtos.AuthorDTO;
 import com.penrose.bibby.library.cataloging.author.core.ports.inbound.AuthorFacade;
-import com.penrose.bibby.library.cataloging.book.api.dtos.BookDTO;
 import com.penrose.bibby.library.cataloging.book.core.port.inbound.BookFacade;
 import com.penrose.bibby.library.stacks.bookcase.api.dtos.BookcaseDTO;
-import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.BookcaseFacade;
-import com.penrose.bibby.library.stacks.shelf.api.dtos.ShelfDTO;
-import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfQueryFacade;
-import com.penrose.bibby.web.controllers.stacks.bookcase.BookcaseMapper;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.inboundPortModels.ShelfResponse;
 import java.util.*;
 import org.springframework.shell.component.flow.SelectItem;
 import org.springframework.stereotype.Component;
 
 @Component
 public class PromptOptions {
-  ShelfQueryFacade shelfFacade;
+  private static final int AUTHOR_TITLE_PREVIEWS = 3;
+
   AuthorFacade authorFacade;
   BookFacade bookFacade;
-  BookcaseFacade bookcaseFacade;
+  LibraryLayoutCache libraryLayoutCache;
 
   public PromptOptions(
-      ShelfQueryFacade shelfFacade,
-      AuthorFacade authorFacade,
-      BookFacade bookFacade,
-      BookcaseFacade bookcaseFacade) {
-    this.shelfFacade = shelfFacade;
+      AuthorFacade authorFacade, BookFacade bookFacade, LibraryLayoutCache libraryLayoutCache) {
     this.authorFacade = authorFacade;
     this.bookFacade = bookFacade;
-    this.bookcaseFacade = bookcaseFacade;
+    this.libraryLayoutCache = libraryLayoutCache;
   }
 
   public Map<String, String> yesNoOptions() {
@@ -39,26 +33,22 @@ public class PromptOptions {
     return options;
   }
 
+  public Map<String, String> titleSuggestionOptions(List<String> suggestions) {
+    // LinkedHashMap keeps insertion order so the best match is shown first
+    Map<String, String> options = new LinkedHashMap<>();
+    for (String suggestion : suggestions) {
+      options.put(suggestion, suggestion);
+    }
+    options.put("None of these", "");
+    return options;
+  }
+
   public Map<String, String> bookShelfOptions(Long bookcaseId) {
     // LinkedHashMap keeps insertion order so the menu shows in the order you add them
     Map<String, String> options = new LinkedHashMap<>();
     options.put("\u001B[38;5;202m[Cancel]\033[36m", "cancel");
-    List<ShelfDTO> shelfDTOS =
-        shelfFacade.findShelvesByBookcaseId(bookcaseId).stream()
-            .map(
-                shelf -> {
-                  return new ShelfDTO(
-                      shelf.id(),
-                      shelf.shelfLabel(),
-                      bookcaseId,
-                      shelf.shelfPosition(),
-                      shelf.bookCapacity(),
-                      shelf.bookIds());
-                })
-            .toList();
-
-    for (ShelfDTO s : shelfDTOS) {
-      options.put(s.shelfLabel(), String.valueOf(s.shelfId()));
+    for (ShelfResponse s : libraryLayoutCache.shelves(bookcaseId)) {
+      options.put(s.shelfLabel(), String.valueOf(s.id()));
     }
 
     return options;
@@ -90,6 +80,10 @@ public class PromptOptions {
     // return all author by first and last name
     List<AuthorDTO> authors =
         authorFacade.getAllAuthorsByName(author.firstName(), author.lastName());
+    // one query previews the books of every candidate instead of one query per author
+    Map<Long, List<String>> titlePreviews =
+        bookFacade.getTitlePreviewsByAuthorIds(
+            authors.stream().map(AuthorDTO::id).toList(), AUTHOR_TITLE_PREVIEWS);
     for (AuthorDTO a : authors) {
       options.add(
           SelectItem.of(
@@ -101,7 +95,7 @@ public class PromptOptions {
                   + " ID: "
                   + a.id()
                   + "\u001B[38;5;146m"
-                  + bookFacade.getBooksByAuthorId(a.id())
+                  + titlePreviews.getOrDefault(a.id(), List.of())
                   + "\u001B[0m",
               String.valueOf(a.id())));
     }
@@ -112,11 +106,7 @@ public class PromptOptions {
     // LinkedHashMap keeps insertion order so the menu shows in the order you add them
     Map<String, String> options = new LinkedHashMap<>();
     options.put("\u001B[38;5;202m[Cancel]\033[36m", "cancel");
-    List<BookcaseDTO> bookcaseDTOs =
-        bookcaseFacade.getAllBookcasesByLocation(location).stream()
-            .map(BookcaseMapper::toDTO)
-            .toList();
-    for (BookcaseDTO b : bookcaseDTOs) {
+    for (BookcaseDTO b : libraryLayoutCache.bookcasesAt(location)) {
       options.put(b.location(), b.bookcaseId().toString());
     }
     return options;
@@ -126,9 +116,7 @@ public class PromptOptions {
     // LinkedHashMap keeps insertion order so the menu shows in the order you add them
     Map<String, String> options = new LinkedHashMap<>();
     options.put("\u001B[38;5;202m[Cancel]\033[36m", "cancel");
-    List<BookcaseDTO> bookcaseDTOs =
-        bookcaseFacade.getAllBookcases().stream().map(BookcaseMapper::toDTO).toList();
-    for (BookcaseDTO b : bookcaseDTOs) {
+    for (BookcaseDTO b : libraryLayoutCache.bookcases()) {
       options.put(b.location(), b.bookcaseId().toString());
     }
     return options;
@@ -138,8 +126,7 @@ public class PromptOptions {
     Map<String, String> options = new LinkedHashMap<>();
     options.put("\u001B[38;5;202m[CANCEL]\033[36m", "cancel");
     options.put("\u001B[38;5;42m[CREATE NEW LOCATION]\u001B[0m", "new");
-    List<String> bookcaseLocations = bookcaseFacade.getAllBookcaseLocations();
-    for (String bookcase : bookcaseLocations) {
+    for (String bookcase : libraryLayoutCache.locations()) {
       options.put("\u001B[38;5;63m" + bookcase + "\u001B[0m", bookcase);
     }
     return options;
@@ -148,8 +135,7 @@ public class PromptOptions {
   public Map<String, String> bookcaseLocationOptionsBrowse() {
     Map<String, String> options = new LinkedHashMap<>();
     options.put("\u001B[38;5;202m[CANCEL]\033[36m", "cancel");
-    List<String> bookcaseLocations = bookcaseFacade.getAllBookcaseLocations();
-    for (String bookcase : bookcaseLocations) {
+    for (String bookcase : libraryLayoutCache.locations()) {
       options.put("\u001B[38;5;63m" + bookcase + "\u001B[0m", bookcase);
     }
     return options;
@@ -159,53 +145,10 @@ public class PromptOptions {
     // LinkedHashMap keeps insertion order so the menu shows in the order you add them
     Map<String, String> options = new LinkedHashMap<>();
     options.put("\u001B[38;5;202m [CANCEL]\033[36m", "cancel");
-    List<BookcaseDTO> bookcaseDTOs =
-        bookcaseFacade.getAllBookcases().stream().map(BookcaseMapper::toDTO).toList();
-    for (BookcaseDTO bookcaseDTO : bookcaseDTOs) {
-      int shelfBookCount = 0;
-      List<ShelfDTO> shelves =
-          shelfFacade.findShelvesByBookcaseId(bookcaseDTO.bookcaseId()).stream()
-              .map(
-                  shelf -> {
-                    return new ShelfDTO(
-                        shelf.id(),
-                        shelf.shelfLabel(),
-                        bookcaseDTO.bookcaseId(),
-                        shelf.shelfPosition(),
-                        shelf.bookCapacity(),
-                        shelf.bookIds());
-                  })
-              .toList();
-
-      for (ShelfDTO s : shelves) {
-        List<BookDTO> bookList =
-            bookFacade.findByShelfId(s.shelfId()).stream()
-                .map(
-                    book -> {
-                      return new BookDTO(
-                          book.getBookId().getId(),
-                          book.getEdition(),
-                          book.getTitle().title(),
-                          book.getAuthors().stream()
-                              .map(a -> a.getAuthorFirstName() + " " + a.getAuthorLastName())
-                              .toList(),
-                          book.getIsbn().isbn,
-                          book.getGenre(),
-                          book.getPublisher(),
-                          book.getPublicationYear(),
-                          book.getShelfId(),
-                          book.getDescription(),
-                          book.getAvailabilityStatus(),
-                          book.getCreatedAt(),
-                          book.getUpdatedAt(),
-                          book.getPublishedDate());
-                    })
-                .toList();
-
-        shelfBookCount += bookList.size();
-      }
-      options.put(
-          bookcaseRowFormater(bookcaseDTO, shelfBookCount), bookcaseDTO.bookcaseId().toString());
+    Map<Long, Long> bookCounts = libraryLayoutCache.bookCounts();
+    for (BookcaseDTO bookcaseDTO : libraryLayoutCache.bookcases()) {
+      int bookCount = bookCounts.getOrDefault(bookcaseDTO.bookcaseId(), 0L).intValue();
+      options.put(bookcaseRowFormater(bookcaseDTO, bookCount), bookcaseDTO.bookcaseId().toString());
     }
     return options;
   }
@@ -0,0 +1,60 @@
+package com.penrose.bibby.cli.prompt.infrastructure;
+
+import com.penrose.bibby.cli.prompt.application.LibraryLayoutCache;
+import com.penrose.bibby.library.cataloging.book.api.events.BookMoved;
+import com.penrose.bibby.library.cataloging.book.api.events.BookPlaced;
+import com.penrose.bibby.library.cataloging.book.api.events.BookRegistered;
+import com.penrose.bibby.library.shared.events.DomainEventSubscriber;
+import com.penrose.bibby.library.stacks.bookcase.api.events.BookcaseCreated;
+import com.penrose.bibby.library.stacks.bookcase.api.events.BookcaseDeleted;
+import com.penrose.bibby.library.stacks.shelf.api.events.ShelfDeleted;
+import com.penrose.bibby.library.stacks.shelf.api.events.ShelvesAdded;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Marks the cached prompt menus stale when the library layout or its book counts change. */
+@Configuration
+public class LibraryLayoutEventSubscribers {
+
+  @Bean
+  DomainEventSubscriber<BookcaseCreated> bookcaseCreatedLayoutSubscriber(
+      LibraryLayoutCache libraryLayoutCache) {
+    return DomainEventSubscriber.of(BookcaseCreated.class, e -> libraryLayoutCache.layoutChanged());
+  }
+
+  @Bean
+  DomainEventSubscriber<BookcaseDeleted> bookcaseDeletedLayoutSubscriber(
+      LibraryLayoutCache libraryLayoutCache) {
+    return DomainEventSubscriber.of(BookcaseDeleted.class, e -> libraryLayoutCache.layoutChanged());
+  }
+
+  @Bean
+  DomainEventSubscriber<ShelvesAdded> shelvesAddedLayoutSubscriber(
+      LibraryLayoutCache libraryLayoutCache) {
+    return DomainEventSubscriber.of(ShelvesAdded.class, e -> libraryLayoutCache.layoutChanged());
+  }
+
+  @Bean
+  DomainEventSubscriber<ShelfDeleted> shelfDeletedLayoutSubscriber(
+      LibraryLayoutCache libraryLayoutCache) {
+    return DomainEventSubscriber.of(ShelfDeleted.class, e -> libraryLayoutCache.layoutChanged());
+  }
+
+  @Bean
+  DomainEventSubscriber<BookRegistered> bookRegisteredLayoutSubscriber(
+      LibraryLayoutCache libraryLayoutCache) {
+    return DomainEventSubscriber.of(BookRegistered.class, e -> libraryLayoutCache.booksChanged());
+  }
+
+  @Bean
+  DomainEventSubscriber<BookPlaced> bookPlacedLayoutSubscriber(
+      LibraryLayoutCache libraryLayoutCache) {
+    return DomainEventSubscriber.of(BookPlaced.class, e -> libraryLayoutCache.booksChanged());
+  }
+
+  @Bean
+  DomainEventSubscriber<BookMoved> bookMovedLayoutSubscriber(
+      LibraryLayoutCache libraryLayoutCache) {
+    return DomainEventSubscriber.of(BookMoved.class, e -> libraryLayoutCache.booksChanged());
+  }
+}
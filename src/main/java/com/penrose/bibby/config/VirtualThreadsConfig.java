@@ -0,0 +1,31 @@
+package com.penrose.bibby.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Refuses to start with {@code spring.threads.virtual.enabled=true} on a runtime without virtual
+ * threads. Spring Boot quietly falls back to platform threads there, which would leave the bounded
+ * pools sized for a mode that is not running.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+  static final int FIRST_RUNTIME_WITH_VIRTUAL_THREADS = 21;
+
+  public VirtualThreadsConfig() {
+    requireVirtualThreads(Runtime.version().feature());
+  }
+
+  static void requireVirtualThreads(int runtimeVersion) {
+    if (runtimeVersion < FIRST_RUNTIME_WITH_VIRTUAL_THREADS) {
+      throw new IllegalStateException(
+          "spring.threads.virtual.enabled=true needs Java "
+              + FIRST_RUNTIME_WITH_VIRTUAL_THREADS
+              + " or later, but this is Java "
+              + runtimeVersion
+              + "; run on a newer JDK or set it to false");
+    }
+  }
+}
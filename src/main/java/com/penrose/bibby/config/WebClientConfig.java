@@ -1,14 +1,35 @@
 package com.penrose.bibby.config;
 
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+/**
+ * Outbound HTTP client for metadata lookups. Callers block on its responses, so with virtual
+ * threads nothing else caps how many lookups run at once: the connection pool does. At most {@code
+ * bibby.http.client.max-connections} requests are in flight, as many again may wait up to {@code
+ * pending-acquire-timeout} for a connection, and any further request fails straight away.
+ */
 @Configuration
 public class WebClientConfig {
 
   @Bean
-  public WebClient webClient() {
-    return WebClient.builder().build();
+  public WebClient webClient(
+      @Value("${bibby.http.client.max-connections:50}") int maxConnections,
+      @Value("${bibby.http.client.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+      @Value("${bibby.http.client.response-timeout:10s}") Duration responseTimeout) {
+    ConnectionProvider connections =
+        ConnectionProvider.builder("bibby-http-client")
+            .maxConnections(maxConnections)
+            .pendingAcquireMaxCount(maxConnections)
+            .pendingAcquireTimeout(pendingAcquireTimeout)
+            .build();
+    HttpClient httpClient = HttpClient.create(connections).responseTimeout(responseTimeout);
+    return WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient)).build();
   }
 }
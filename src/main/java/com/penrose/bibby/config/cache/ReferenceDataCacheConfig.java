@@ -0,0 +1,103 @@
+package com.penrose.bibby.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate second-level and query cache for reference data that is read on every prompt and book
+ * card but rarely changes: bookcases, shelves and authors.
+ *
+ * <p>Regions live in an in-process Caffeine cache (through the JCache API), each bounded by {@code
+ * bibby.cache.reference.max-entries} and expiring {@code bibby.cache.reference.ttl} after the last
+ * write. Hibernate keeps them consistent on its own: entity writes through the JPA adapters update
+ * or evict the cached entry, and bulk JPQL or native statements invalidate the affected regions and
+ * cached queries when the transaction commits. Only the entities annotated with {@code @Cache} are
+ * cached ({@code ENABLE_SELECTIVE}); an unknown region fails fast at startup instead of silently
+ * creating an unbounded cache.
+ */
+@Configuration
+public class ReferenceDataCacheConfig {
+
+  public static final String BOOKCASE_REGION = "bookcases";
+  public static final String SHELF_REGION = "shelves";
+  public static final String AUTHOR_REGION = "authors";
+  public static final List<String> ENTITY_REGIONS =
+      List.of(BOOKCASE_REGION, SHELF_REGION, AUTHOR_REGION);
+
+  /** Hibernate's default region for cached query results. */
+  public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+
+  /** Hibernate's region of last-write timestamps per table; must never expire or evict. */
+  public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+  private final boolean enabled;
+  private final long maxEntries;
+  private final long queryMaxEntries;
+  private final Duration ttl;
+
+  public ReferenceDataCacheConfig(
+      @Value("${bibby.cache.reference.enabled:true}") boolean enabled,
+      @Value("${bibby.cache.reference.max-entries:10000}") long maxEntries,
+      @Value("${bibby.cache.reference.query-max-entries:2000}") long queryMaxEntries,
+      @Value("${bibby.cache.reference.ttl:30m}") Duration ttl) {
+    this.enabled = enabled;
+    this.maxEntries = maxEntries;
+    this.queryMaxEntries = queryMaxEntries;
+    this.ttl = ttl;
+  }
+
+  @Bean(destroyMethod = "close")
+  public CacheManager referenceDataCacheManager() {
+    CacheManager cacheManager =
+        Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+    for (String region : ENTITY_REGIONS) {
+      createIfAbsent(cacheManager, region, bounded(maxEntries));
+    }
+    createIfAbsent(cacheManager, QUERY_RESULTS_REGION, bounded(queryMaxEntries));
+    createIfAbsent(cacheManager, UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>());
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer referenceDataCacheCustomizer(
+      CacheManager referenceDataCacheManager) {
+    return properties -> {
+      properties.put("hibernate.cache.use_second_level_cache", enabled);
+      properties.put("hibernate.cache.use_query_cache", enabled);
+      if (!enabled) {
+        return;
+      }
+      properties.put("hibernate.cache.region.factory_class", "jcache");
+      properties.put("hibernate.javax.cache.cache_manager", referenceDataCacheManager);
+      properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+      properties.put("jakarta.persistence.sharedCache.mode", "ENABLE_SELECTIVE");
+      // Needed for the per-region hit ratios published by ReferenceDataCacheMetrics
+      properties.put("hibernate.generate_statistics", true);
+    };
+  }
+
+  private CaffeineConfiguration<Object, Object> bounded(long maximumSize) {
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    configuration.setMaximumSize(OptionalLong.of(maximumSize));
+    configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+    return configuration;
+  }
+
+  private static void createIfAbsent(
+      CacheManager cacheManager, String region, CaffeineConfiguration<Object, Object> config) {
+    // The caching provider hands out one shared manager per class loader, so a second
+    // application context in the same JVM (e.g. tests) finds the regions already created.
+    if (cacheManager.getCache(region) == null) {
+      cacheManager.createCache(region, config);
+    }
+  }
+}
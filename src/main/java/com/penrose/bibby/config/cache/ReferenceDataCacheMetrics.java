@@ -0,0 +1,98 @@
+package com.penrose.bibby.config.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.function.ToDoubleFunction;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes hit, miss and hit-ratio meters for each reference-data cache region, tagged with the
+ * region name:
+ *
+ * <ul>
+ *   <li>{@code bibby.cache.reference.hits} / {@code bibby.cache.reference.misses}
+ *   <li>{@code bibby.cache.reference.hit.ratio} — hits / (hits + misses) since startup, or 0 before
+ *       the first lookup
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(
+    name = "bibby.cache.reference.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class ReferenceDataCacheMetrics implements MeterBinder {
+
+  private final Statistics statistics;
+
+  public ReferenceDataCacheMetrics(EntityManagerFactory entityManagerFactory) {
+    this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    for (String region : ReferenceDataCacheConfig.ENTITY_REGIONS) {
+      bindRegion(registry, region, this::entityRegion);
+    }
+    bindRegion(registry, ReferenceDataCacheConfig.QUERY_RESULTS_REGION, this::queryRegion);
+  }
+
+  /** Hit ratio of a region since startup, in the range 0..1. */
+  public double hitRatio(String region) {
+    CacheRegionStatistics stats =
+        ReferenceDataCacheConfig.QUERY_RESULTS_REGION.equals(region)
+            ? queryRegion(region)
+            : entityRegion(region);
+    return ratio(stats);
+  }
+
+  private void bindRegion(
+      MeterRegistry registry,
+      String region,
+      java.util.function.Function<String, CacheRegionStatistics> lookup) {
+    FunctionCounter.builder(
+            "bibby.cache.reference.hits", this, m -> count(lookup.apply(region), true))
+        .tag("region", region)
+        .description("Second-level cache hits")
+        .register(registry);
+    FunctionCounter.builder(
+            "bibby.cache.reference.misses", this, m -> count(lookup.apply(region), false))
+        .tag("region", region)
+        .description("Second-level cache misses")
+        .register(registry);
+    ToDoubleFunction<ReferenceDataCacheMetrics> ratio = m -> ratio(lookup.apply(region));
+    Gauge.builder("bibby.cache.reference.hit.ratio", this, ratio)
+        .tag("region", region)
+        .description("Second-level cache hit ratio since startup")
+        .register(registry);
+  }
+
+  private CacheRegionStatistics entityRegion(String region) {
+    return statistics.getDomainDataRegionStatistics(region);
+  }
+
+  private CacheRegionStatistics queryRegion(String region) {
+    return statistics.getQueryRegionStatistics(region);
+  }
+
+  private static double count(CacheRegionStatistics stats, boolean hits) {
+    if (stats == null) {
+      return 0;
+    }
+    return hits ? stats.getHitCount() : stats.getMissCount();
+  }
+
+  private static double ratio(CacheRegionStatistics stats) {
+    if (stats == null) {
+      return 0;
+    }
+    long lookups = stats.getHitCount() + stats.getMissCount();
+    return lookups == 0 ? 0 : (double) stats.getHitCount() / lookups;
+  }
+}
@@ -0,0 +1,77 @@
+package com.penrose.bibby.config.datasource;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections for read-only transactions to a replica and everything else to the primary.
+ *
+ * <p>Replicas are picked round-robin, skipping any the {@link ReplicaLagMonitor} considers stale.
+ * The primary also serves reads for a user who has just committed a write (see {@link
+ * ReadYourWritesTracker}), and any read when no replica is usable.
+ *
+ * <p>The routing decision depends on the transaction's read-only flag, which Spring only publishes
+ * after the transaction has begun, so this data source must be wrapped in a {@link
+ * org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  public static final String PRIMARY = "primary";
+
+  private static final Object WRITE_TRACKED = new Object();
+
+  private final List<String> replicaKeys;
+  private final ReplicaLagMonitor lagMonitor;
+  private final ReadYourWritesTracker readYourWrites;
+  private final AtomicInteger nextReplica = new AtomicInteger();
+
+  public ReadWriteRoutingDataSource(
+      List<String> replicaKeys,
+      ReplicaLagMonitor lagMonitor,
+      ReadYourWritesTracker readYourWrites) {
+    this.replicaKeys = List.copyOf(replicaKeys);
+    this.lagMonitor = lagMonitor;
+    this.readYourWrites = readYourWrites;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      trackWriteTransaction();
+      return PRIMARY;
+    }
+    if (readYourWrites.isSticky()) {
+      return PRIMARY;
+    }
+    int start = Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size());
+    for (int i = 0; i < replicaKeys.size(); i++) {
+      String key = replicaKeys.get((start + i) % replicaKeys.size());
+      if (lagMonitor.isUsable(key)) {
+        return key;
+      }
+    }
+    return PRIMARY;
+  }
+
+  /** Records the write for read-your-writes once the surrounding transaction commits. */
+  private void trackWriteTransaction() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()
+        || TransactionSynchronizationManager.hasResource(WRITE_TRACKED)) {
+      return;
+    }
+    TransactionSynchronizationManager.bindResource(WRITE_TRACKED, Boolean.TRUE);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_TRACKED);
+            if (status == STATUS_COMMITTED) {
+              readYourWrites.recordWrite();
+            }
+          }
+        });
+  }
+}
@@ -0,0 +1,53 @@
+package com.penrose.bibby.config.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Remembers when each user last committed a write, so that for a short window afterwards their
+ * reads are served by the primary and they always see their own changes, even while the replicas
+ * are still catching up.
+ *
+ * <p>Users are identified by the authenticated principal name; calls made outside a web request
+ * (the shell, background work) share a single {@value #LOCAL_USER} key.
+ */
+public class ReadYourWritesTracker {
+
+  static final String LOCAL_USER = "local";
+  private static final int PRUNE_THRESHOLD = 10_000;
+
+  private final Duration window;
+  private final Clock clock;
+  private final Map<String, Long> lastWriteMillis = new ConcurrentHashMap<>();
+
+  public ReadYourWritesTracker(Duration window, Clock clock) {
+    this.window = window;
+    this.clock = clock;
+  }
+
+  public void recordWrite() {
+    long now = clock.millis();
+    lastWriteMillis.put(currentUser(), now);
+    if (lastWriteMillis.size() > PRUNE_THRESHOLD) {
+      lastWriteMillis.values().removeIf(at -> now - at >= window.toMillis());
+    }
+  }
+
+  /** Whether the current user wrote recently enough that a replica might not have their change. */
+  public boolean isSticky() {
+    Long at = lastWriteMillis.get(currentUser());
+    return at != null && clock.millis() - at < window.toMillis();
+  }
+
+  private static String currentUser() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !authentication.isAuthenticated()) {
+      return LOCAL_USER;
+    }
+    return authentication.getName();
+  }
+}
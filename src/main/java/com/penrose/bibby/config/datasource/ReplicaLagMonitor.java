@@ -0,0 +1,121 @@
+package com.penrose.bibby.config.datasource;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Periodically measures how far each replica trails the primary and marks it usable only while the
+ * lag stays within {@code maxLag}. A replica that cannot be reached, or whose lag cannot be
+ * measured, is treated as stale; reads then fall back to the primary until it recovers.
+ *
+ * <p>The monitor owns the replica pools and closes them when it stops.
+ */
+public class ReplicaLagMonitor {
+
+  /**
+   * PostgreSQL streaming-replication lag in seconds. Reports 0 when the replica has replayed
+   * everything it received, so an idle primary does not make a caught-up replica look stale.
+   */
+  public static final String POSTGRES_LAG_QUERY =
+      """
+      SELECT CASE
+               WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+               ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+             END
+      """;
+
+  private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+  private final Map<String, DataSource> replicas;
+  private final Map<String, JdbcTemplate> probes = new ConcurrentHashMap<>();
+  private final Map<String, Boolean> healthy = new ConcurrentHashMap<>();
+  private final String lagQuery;
+  private final Duration maxLag;
+  private final Duration checkInterval;
+  private ScheduledExecutorService scheduler;
+
+  public ReplicaLagMonitor(
+      Map<String, DataSource> replicas, String lagQuery, Duration maxLag, Duration checkInterval) {
+    this.replicas = Collections.unmodifiableMap(new LinkedHashMap<>(replicas));
+    replicas.forEach((key, dataSource) -> probes.put(key, new JdbcTemplate(dataSource)));
+    this.lagQuery = lagQuery;
+    this.maxLag = maxLag;
+    this.checkInterval = checkInterval;
+  }
+
+  /** Runs a first check synchronously, then keeps checking in the background. */
+  public void start() {
+    checkAll();
+    scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "replica-lag-monitor");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long intervalMillis = checkInterval.toMillis();
+    scheduler.scheduleWithFixedDelay(
+        this::checkAll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  public void stop() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+    for (DataSource replica : replicas.values()) {
+      if (replica instanceof AutoCloseable closeable) {
+        try {
+          closeable.close();
+        } catch (Exception e) {
+          log.debug("Could not close replica pool: {}", e.getMessage());
+        }
+      }
+    }
+  }
+
+  /** The monitored replicas by routing key, in configuration order. */
+  public Map<String, DataSource> replicaDataSources() {
+    return replicas;
+  }
+
+  public boolean isUsable(String replicaKey) {
+    return healthy.getOrDefault(replicaKey, false);
+  }
+
+  void checkAll() {
+    probes.forEach(this::check);
+  }
+
+  private void check(String key, JdbcTemplate replica) {
+    boolean usable;
+    try {
+      Number lagSeconds = replica.queryForObject(lagQuery, Number.class);
+      double lag = lagSeconds == null ? 0 : lagSeconds.doubleValue();
+      usable = lag * 1000 <= maxLag.toMillis();
+      if (!usable) {
+        log.debug("Replica {} is {}s behind the primary", key, lag);
+      }
+    } catch (RuntimeException e) {
+      usable = false;
+      log.debug("Could not measure lag of replica {}: {}", key, e.getMessage());
+    }
+    Boolean previous = healthy.put(key, usable);
+    if (previous != null && previous != usable) {
+      if (usable) {
+        log.info("Replica {} caught up; serving reads again", key);
+      } else {
+        log.warn("Replica {} is stale; reading from the primary until it catches up", key);
+      }
+    }
+  }
+}
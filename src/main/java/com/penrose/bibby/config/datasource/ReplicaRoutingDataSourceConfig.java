@@ -0,0 +1,113 @@
+package com.penrose.bibby.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Replaces the single {@code spring.datasource} with a primary plus one or more read replicas when
+ * {@code bibby.datasource.replica.enabled=true}.
+ *
+ * <p>Transactions marked {@code readOnly} (the query use cases and finders) are routed to a replica
+ * whose lag is within {@code bibby.datasource.replica.max-lag}; everything else, and every read by
+ * a user who wrote within {@code bibby.datasource.replica.sticky-window}, goes to the primary.
+ * Replicas share the primary's driver, its pool size and, unless overridden, its credentials.
+ */
+@Configuration
+@ConditionalOnProperty(name = "bibby.datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingDataSourceConfig {
+
+  @Bean(initMethod = "start", destroyMethod = "stop")
+  public ReplicaLagMonitor replicaLagMonitor(
+      DataSourceProperties primaryProperties,
+      @Value("${bibby.datasource.replica.urls}") String replicaUrls,
+      @Value("${bibby.datasource.replica.username:${spring.datasource.username:}}") String username,
+      @Value("${bibby.datasource.replica.password:${spring.datasource.password:}}") String password,
+      @Value("${bibby.datasource.replica.lag-query:}") String lagQuery,
+      @Value("${bibby.datasource.replica.max-lag:5s}") Duration maxLag,
+      @Value("${bibby.datasource.replica.lag-check-interval:2s}") Duration checkInterval,
+      @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    List<String> urls = splitUrls(replicaUrls);
+    for (int i = 0; i < urls.size(); i++) {
+      HikariDataSource replica =
+          DataSourceBuilder.create()
+              .type(HikariDataSource.class)
+              .driverClassName(primaryProperties.determineDriverClassName())
+              .url(urls.get(i))
+              .username(username)
+              .password(password)
+              .build();
+      replica.setPoolName("replica-" + (i + 1));
+      replica.setReadOnly(true);
+      replica.setMaximumPoolSize(maximumPoolSize);
+      replicas.put(replica.getPoolName(), replica);
+    }
+    return new ReplicaLagMonitor(
+        replicas,
+        lagQuery.isBlank() ? ReplicaLagMonitor.POSTGRES_LAG_QUERY : lagQuery,
+        maxLag,
+        checkInterval);
+  }
+
+  @Bean
+  public ReadYourWritesTracker readYourWritesTracker(
+      @Value("${bibby.datasource.replica.sticky-window:5s}") Duration stickyWindow) {
+    return new ReadYourWritesTracker(stickyWindow, Clock.systemUTC());
+  }
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties primaryProperties) {
+    HikariDataSource primary =
+        primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    primary.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+    return primary;
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      HikariDataSource primaryDataSource,
+      ReplicaLagMonitor replicaLagMonitor,
+      ReadYourWritesTracker readYourWritesTracker) {
+    Map<Object, Object> targets = new HashMap<>(replicaLagMonitor.replicaDataSources());
+    targets.put(ReadWriteRoutingDataSource.PRIMARY, primaryDataSource);
+
+    ReadWriteRoutingDataSource routing =
+        new ReadWriteRoutingDataSource(
+            new ArrayList<>(replicaLagMonitor.replicaDataSources().keySet()),
+            replicaLagMonitor,
+            readYourWritesTracker);
+    routing.setTargetDataSources(targets);
+    routing.setDefaultTargetDataSource(primaryDataSource);
+    routing.afterPropertiesSet();
+    return new LazyConnectionDataSourceProxy(routing);
+  }
+
+  private static List<String> splitUrls(String replicaUrls) {
+    List<String> urls =
+        Arrays.stream(replicaUrls.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    if (urls.isEmpty()) {
+      throw new IllegalStateException(
+          "bibby.datasource.replica.urls must list at least one replica when replicas are enabled");
+    }
+    return urls;
+  }
+}
@@ -0,0 +1,117 @@
+package com.penrose.bibby.config.http;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Serves polled GET endpoints with ETag validation and a per-user response cache, both driven by
+ * {@link ResourceVersions}.
+ *
+ * <p>A request whose {@code If-None-Match} still matches the current version gets a 304 without
+ * running the query or serializing a body. The version counter is the only validator: no {@code
+ * Last-Modified} is sent, since a date with one-second precision cannot tell apart two changes made
+ * in the same second. Otherwise the response body is taken from the cache when it was built for the
+ * current version, and loaded (and cached) otherwise. Entries are keyed by user and request,
+ * bounded by {@code bibby.http.response-cache.max-entries} and dropped {@code
+ * bibby.http.response-cache.ttl} after being written; a version bump makes older entries unusable
+ * straight away.
+ *
+ * <p>Versions move when the outbox relays the change, which happens right after the writing
+ * transaction commits, so a read racing a write can briefly see the previous version.
+ */
+@Component
+public class ConditionalGetSupport implements MeterBinder {
+
+  private static final String ANONYMOUS = "anonymous";
+
+  private final ResourceVersions resourceVersions;
+  private final boolean cacheEnabled;
+  private final Cache<CacheKey, CachedBody> responses;
+
+  public ConditionalGetSupport(
+      ResourceVersions resourceVersions,
+      @Value("${bibby.http.response-cache.enabled:true}") boolean cacheEnabled,
+      @Value("${bibby.http.response-cache.max-entries:5000}") long maxEntries,
+      @Value("${bibby.http.response-cache.ttl:10m}") Duration ttl) {
+    this.resourceVersions = resourceVersions;
+    this.cacheEnabled = cacheEnabled;
+    this.responses =
+        Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).recordStats().build();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, responses, "http-responses");
+  }
+
+  /**
+   * Answers a GET for a representation of {@code resource}.
+   *
+   * @param request the current request, for its conditional headers
+   * @param resource the {@link ResourceVersions} key whose changes invalidate this response
+   * @param requestKey identifies the representation within the resource, e.g. the path and its
+   *     variables
+   * @param loader builds the body when neither a 304 nor a cached body can be used
+   */
+  public <T> ResponseEntity<T> respond(
+      WebRequest request, String resource, String requestKey, Supplier<T> loader) {
+    String user = currentUser();
+    long version = resourceVersions.current(resource);
+    String eTag = eTag(resource, user, version);
+
+    if (request.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .body(body(new CacheKey(user, resource, requestKey), version, loader));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T body(CacheKey key, long version, Supplier<T> loader) {
+    if (!cacheEnabled) {
+      return loader.get();
+    }
+    CachedBody cached = responses.getIfPresent(key);
+    if (cached != null && cached.version() == version) {
+      return (T) cached.body();
+    }
+    T body = loader.get();
+    responses.put(key, new CachedBody(version, body));
+    return body;
+  }
+
+  // The user is part of the tag so one user's validator never revalidates another user's copy
+  private static String eTag(String resource, String user, long version) {
+    return "W/\""
+        + resource
+        + "-"
+        + Long.toString(version, Character.MAX_RADIX)
+        + "-"
+        + Integer.toHexString(user.hashCode())
+        + "\"";
+  }
+
+  private static String currentUser() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    return authentication != null && authentication.isAuthenticated()
+        ? authentication.getName()
+        : ANONYMOUS;
+  }
+
+  private record CacheKey(String user, String resource, String requestKey) {}
+
+  private record CachedBody(long version, Object body) {}
+}
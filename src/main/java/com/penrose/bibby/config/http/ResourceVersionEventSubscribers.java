@@ -0,0 +1,74 @@
+package com.penrose.bibby.config.http;
+
+import static com.penrose.bibby.config.http.ResourceVersions.BOOKCASES;
+import static com.penrose.bibby.config.http.ResourceVersions.BOOKS;
+import static com.penrose.bibby.config.http.ResourceVersions.SHELVES;
+
+import com.penrose.bibby.library.cataloging.book.api.events.BookMoved;
+import com.penrose.bibby.library.cataloging.book.api.events.BookPlaced;
+import com.penrose.bibby.library.cataloging.book.api.events.BookRegistered;
+import com.penrose.bibby.library.cataloging.book.api.events.BookUpdated;
+import com.penrose.bibby.library.shared.events.DomainEventSubscriber;
+import com.penrose.bibby.library.stacks.bookcase.api.events.BookcaseCreated;
+import com.penrose.bibby.library.stacks.bookcase.api.events.BookcaseDeleted;
+import com.penrose.bibby.library.stacks.shelf.api.events.ShelfDeleted;
+import com.penrose.bibby.library.stacks.shelf.api.events.ShelvesAdded;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bumps the {@link ResourceVersions} counters from domain events. Shelf options show how many books
+ * each shelf holds, so book placements move the shelf version as well as the book version.
+ */
+@Configuration
+public class ResourceVersionEventSubscribers {
+
+  @Bean
+  DomainEventSubscriber<BookcaseCreated> bookcaseCreatedVersionSubscriber(
+      ResourceVersions resourceVersions) {
+    return DomainEventSubscriber.of(
+        BookcaseCreated.class, e -> resourceVersions.bump(BOOKCASES, SHELVES));
+  }
+
+  @Bean
+  DomainEventSubscriber<BookcaseDeleted> bookcaseDeletedVersionSubscriber(
+      ResourceVersions resourceVersions) {
+    return DomainEventSubscriber.of(
+        BookcaseDeleted.class, e -> resourceVersions.bump(BOOKCASES, SHELVES, BOOKS));
+  }
+
+  @Bean
+  DomainEventSubscriber<ShelvesAdded> shelvesAddedVersionSubscriber(
+      ResourceVersions resourceVersions) {
+    return DomainEventSubscriber.of(ShelvesAdded.class, e -> resourceVersions.bump(SHELVES));
+  }
+
+  @Bean
+  DomainEventSubscriber<ShelfDeleted> shelfDeletedVersionSubscriber(
+      ResourceVersions resourceVersions) {
+    return DomainEventSubscriber.of(ShelfDeleted.class, e -> resourceVersions.bump(SHELVES, BOOKS));
+  }
+
+  @Bean
+  DomainEventSubscriber<BookRegistered> bookRegisteredVersionSubscriber(
+      ResourceVersions resourceVersions) {
+    return DomainEventSubscriber.of(
+        BookRegistered.class, e -> resourceVersions.bump(SHELVES, BOOKS));
+  }
+
+  @Bean
+  DomainEventSubscriber<BookPlaced> bookPlacedVersionSubscriber(ResourceVersions resourceVersions) {
+    return DomainEventSubscriber.of(BookPlaced.class, e -> resourceVersions.bump(SHELVES, BOOKS));
+  }
+
+  @Bean
+  DomainEventSubscriber<BookMoved> bookMovedVersionSubscriber(ResourceVersions resourceVersions) {
+    return DomainEventSubscriber.of(BookMoved.class, e -> resourceVersions.bump(SHELVES, BOOKS));
+  }
+
+  @Bean
+  DomainEventSubscriber<BookUpdated> bookUpdatedVersionSubscriber(
+      ResourceVersions resourceVersions) {
+    return DomainEventSubscriber.of(BookUpdated.class, e -> resourceVersions.bump(BOOKS));
+  }
+}
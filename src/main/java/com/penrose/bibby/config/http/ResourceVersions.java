@@ -0,0 +1,40 @@
+package com.penrose.bibby.config.http;
+
+import com.penrose.bibby.library.shared.events.ChangeCounters;
+import org.springframework.stereotype.Component;
+
+/**
+ * Version counters for the aggregates behind the polled read endpoints. Each counter is bumped when
+ * a domain event reports a change to its aggregate; {@link ConditionalGetSupport} derives ETags
+ * from them.
+ *
+ * <p>The counters are {@link ChangeCounters} in the database rather than in memory: the event that
+ * bumps one is relayed on a single instance, and every instance must stop answering 304 for the old
+ * version. Reading a version costs one primary-key lookup.
+ */
+@Component
+public class ResourceVersions {
+
+  public static final String BOOKCASES = "bookcases";
+  public static final String SHELVES = "shelves";
+  public static final String BOOKS = "books";
+
+  private static final String COUNTER_PREFIX = "http-resource:";
+
+  private final ChangeCounters changeCounters;
+
+  public ResourceVersions(ChangeCounters changeCounters) {
+    this.changeCounters = changeCounters;
+  }
+
+  public long current(String resource) {
+    return changeCounters.current(COUNTER_PREFIX + resource);
+  }
+
+  /** Bumps each resource in the caller's transaction, which a subscriber always has. */
+  public void bump(String... resources) {
+    for (String resource : resources) {
+      changeCounters.increment(COUNTER_PREFIX + resource);
+    }
+  }
+}
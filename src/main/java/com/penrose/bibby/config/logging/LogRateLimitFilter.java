@@ -0,0 +1,83 @@
+package com.penrose.bibby.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.penrose.bibby.ratelimit.tokenbucket.TokenBucket;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Marker;
+
+/**
+ * Caps how fast the loggers under a name prefix may log at {@code INFO} and below, so a hot path
+ * that logs per request or per row cannot flood the appenders. Each {@code <limit>} in {@code
+ * logback-spring.xml} reads {@code prefix=burst/perSecond}; the longest matching prefix applies,
+ * all loggers under it share one {@link TokenBucket}, and events beyond the rate are dropped before
+ * they are formatted. Warnings and errors are never limited, and neither are loggers no limit
+ * matches.
+ *
+ * <p>Dropped events are counted per prefix; see {@link #dropped()}.
+ */
+public class LogRateLimitFilter extends TurboFilter {
+
+  private final List<Limit> limits = new ArrayList<>();
+  private final Map<String, Limit> limitByLogger = new ConcurrentHashMap<>();
+
+  /** Adds a limit in the form {@code prefix=burst/perSecond}, e.g. {@code com.acme.web=100/20}. */
+  public void addLimit(String spec) {
+    int eq = spec.indexOf('=');
+    int slash = spec.indexOf('/', eq + 1);
+    if (eq <= 0 || slash < 0) {
+      throw new IllegalArgumentException(
+          "Log limit must look like prefix=burst/perSecond: " + spec);
+    }
+    String prefix = spec.substring(0, eq).trim();
+    double burst = Double.parseDouble(spec.substring(eq + 1, slash).trim());
+    double perSecond = Double.parseDouble(spec.substring(slash + 1).trim());
+    limits.add(new Limit(prefix, new TokenBucket(burst, perSecond), new LongAdder()));
+    limits.sort(Comparator.comparingInt((Limit limit) -> limit.prefix().length()).reversed());
+    limitByLogger.clear();
+  }
+
+  @Override
+  public FilterReply decide(
+      Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    // Disabled levels are left to the normal check, so they never take a token
+    if (level == null
+        || level.isGreaterOrEqual(Level.WARN)
+        || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+      return FilterReply.NEUTRAL;
+    }
+    Limit limit = limitByLogger.computeIfAbsent(logger.getName(), this::limitFor);
+    if (limit == Limit.NONE || limit.bucket().isAllowed()) {
+      return FilterReply.NEUTRAL;
+    }
+    limit.dropped().increment();
+    return FilterReply.DENY;
+  }
+
+  /** Events dropped so far, by prefix. */
+  public Map<String, Long> dropped() {
+    Map<String, Long> dropped = new ConcurrentHashMap<>();
+    limits.forEach(limit -> dropped.put(limit.prefix(), limit.dropped().sum()));
+    return dropped;
+  }
+
+  private Limit limitFor(String loggerName) {
+    for (Limit limit : limits) {
+      if (loggerName.equals(limit.prefix()) || loggerName.startsWith(limit.prefix() + ".")) {
+        return limit;
+      }
+    }
+    return Limit.NONE;
+  }
+
+  private record Limit(String prefix, TokenBucket bucket, LongAdder dropped) {
+    static final Limit NONE = new Limit("", null, null);
+  }
+}
@@ -0,0 +1,54 @@
+package com.penrose.bibby.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counters for library events that latency alone does not show:
+ *
+ * <ul>
+ *   <li>{@code bibby.book.imports} — ISBN imports, tagged {@code outcome}: {@code fetched} or
+ *       {@code not_found} for a metadata lookup, {@code created} for a book saved from metadata
+ *   <li>{@code bibby.shelf.capacity.rejections} — placements refused because the shelf was full
+ * </ul>
+ *
+ * Cache hits and rate-limit rejections are published by the caches and limiters themselves.
+ */
+@Component
+public class LibraryMetrics {
+
+  private final Counter metadataFetched;
+  private final Counter metadataNotFound;
+  private final Counter booksCreated;
+  private final Counter shelfFull;
+
+  public LibraryMetrics(MeterRegistry meterRegistry) {
+    this.metadataFetched = importCounter(meterRegistry, "fetched");
+    this.metadataNotFound = importCounter(meterRegistry, "not_found");
+    this.booksCreated = importCounter(meterRegistry, "created");
+    this.shelfFull =
+        Counter.builder("bibby.shelf.capacity.rejections")
+            .description("Placements refused because the shelf was full")
+            .register(meterRegistry);
+  }
+
+  public void metadataLookedUp(boolean found) {
+    (found ? metadataFetched : metadataNotFound).increment();
+  }
+
+  public void bookCreatedFromMetadata() {
+    booksCreated.increment();
+  }
+
+  public void shelfCapacityRejected() {
+    shelfFull.increment();
+  }
+
+  private static Counter importCounter(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder("bibby.book.imports")
+        .description("ISBN metadata lookups and books created from them")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+}
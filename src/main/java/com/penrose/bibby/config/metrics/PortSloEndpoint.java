@@ -0,0 +1,172 @@
+package com.penrose.bibby.config.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties;
+import org.springframework.boot.actuate.autoconfigure.metrics.ServiceLevelObjectiveBoundary;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/slo}: for each port method timed by {@link PortTimingAspect}, how many calls it
+ * took, how long they took in total, and the share of recent calls that finished within each SLO
+ * threshold. Ports are listed by total time, longest first, so the top entries are where latency
+ * goes.
+ *
+ * <p>The thresholds are Boot's {@code management.metrics.distribution.slo.bibby.port.latency}
+ * (falling back to a shorter prefix of the name, then {@code all}); with none configured only the
+ * totals are reported. Shares come from the timer histograms, which cover the last {@code
+ * management.metrics.distribution.expiry} (two minutes by default) rather than all time.
+ */
+@Component
+@Endpoint(id = "slo")
+public class PortSloEndpoint {
+
+  private final MeterRegistry meterRegistry;
+  private final double[] thresholdNanos;
+
+  public PortSloEndpoint(
+      MeterRegistry meterRegistry, ObjectProvider<MetricsProperties> metricsProperties) {
+    this.meterRegistry = meterRegistry;
+    MetricsProperties properties = metricsProperties.getIfAvailable();
+    this.thresholdNanos =
+        properties == null
+            ? new double[0]
+            : Arrays.stream(lookup(properties.getDistribution().getSlo(), PortTimingAspect.TIMER))
+                .mapToDouble(boundary -> boundary.getValue(Meter.Type.TIMER))
+                .sorted()
+                .toArray();
+  }
+
+  @ReadOperation
+  public SloReport report() {
+    Map<String, Totals> byPortMethod = new TreeMap<>();
+    for (Timer timer : meterRegistry.find(PortTimingAspect.TIMER).timers()) {
+      Meter.Id id = timer.getId();
+      byPortMethod
+          .computeIfAbsent(
+              id.getTag("direction") + " " + id.getTag("port") + "." + id.getTag("method"),
+              key -> new Totals(id, thresholdNanos.length))
+          .add(timer, thresholdNanos);
+    }
+    List<PortLatency> ports =
+        byPortMethod.values().stream()
+            .map(totals -> totals.toLatency(thresholdNanos))
+            .sorted(Comparator.comparingDouble(PortLatency::totalMillis).reversed())
+            .toList();
+    return new SloReport(
+        Arrays.stream(thresholdNanos).mapToObj(PortSloEndpoint::label).toList(), ports);
+  }
+
+  /** SLO thresholds and the ports timed against them. */
+  public record SloReport(List<String> thresholds, List<PortLatency> ports) {}
+
+  /**
+   * Latency of one port method over all outcomes.
+   *
+   * @param withinThreshold the share of recent calls, 0..1, that finished within each threshold
+   */
+  public record PortLatency(
+      String direction,
+      String port,
+      String method,
+      long count,
+      long errors,
+      double totalMillis,
+      double meanMillis,
+      double maxMillis,
+      Map<String, Double> withinThreshold) {}
+
+  private static final class Totals {
+
+    private final Meter.Id id;
+    private final double[] withinThreshold;
+    private long count;
+    private long errors;
+    private double totalMillis;
+    private double maxMillis;
+    private double recent;
+
+    Totals(Meter.Id id, int thresholds) {
+      this.id = id;
+      this.withinThreshold = new double[thresholds];
+    }
+
+    void add(Timer timer, double[] thresholdNanos) {
+      HistogramSnapshot snapshot = timer.takeSnapshot();
+      count += snapshot.count();
+      if (!"none".equals(timer.getId().getTag("exception"))) {
+        errors += snapshot.count();
+      }
+      totalMillis += snapshot.total(TimeUnit.MILLISECONDS);
+      maxMillis = Math.max(maxMillis, snapshot.max(TimeUnit.MILLISECONDS));
+      CountAtBucket[] buckets = snapshot.histogramCounts();
+      if (buckets.length == 0) {
+        return;
+      }
+      // Bucket counts are cumulative, so the last one holds every recent call
+      recent += buckets[buckets.length - 1].count();
+      for (int i = 0; i < thresholdNanos.length; i++) {
+        for (CountAtBucket bucket : buckets) {
+          if (Math.abs(bucket.bucket(TimeUnit.NANOSECONDS) - thresholdNanos[i]) < 1) {
+            withinThreshold[i] += bucket.count();
+            break;
+          }
+        }
+      }
+    }
+
+    PortLatency toLatency(double[] thresholdNanos) {
+      Map<String, Double> shares = new LinkedHashMap<>();
+      if (recent > 0) {
+        for (int i = 0; i < thresholdNanos.length; i++) {
+          shares.put(label(thresholdNanos[i]), withinThreshold[i] / recent);
+        }
+      }
+      return new PortLatency(
+          id.getTag("direction"),
+          id.getTag("port"),
+          id.getTag("method"),
+          count,
+          errors,
+          totalMillis,
+          count == 0 ? 0 : totalMillis / count,
+          maxMillis,
+          shares);
+    }
+  }
+
+  // Boot looks distribution properties up by the meter name and then each shorter prefix of it
+  private static ServiceLevelObjectiveBoundary[] lookup(
+      Map<String, ServiceLevelObjectiveBoundary[]> values, String name) {
+    String key = name;
+    while (true) {
+      ServiceLevelObjectiveBoundary[] value = values.get(key);
+      if (value != null) {
+        return value;
+      }
+      int dot = key.lastIndexOf('.');
+      if (dot < 0) {
+        return values.getOrDefault("all", new ServiceLevelObjectiveBoundary[0]);
+      }
+      key = key.substring(0, dot);
+    }
+  }
+
+  private static String label(double nanos) {
+    long millis = Math.round(nanos / 1_000_000);
+    return millis % 1_000 == 0 && millis > 0 ? millis / 1_000 + "s" : millis + "ms";
+  }
+}
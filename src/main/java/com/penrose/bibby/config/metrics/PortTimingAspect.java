@@ -0,0 +1,145 @@
+package com.penrose.bibby.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Mono;
+
+/**
+ * Times every call into an inbound facade ({@code BookFacade}, {@code ShelfQueryFacade}, {@code
+ * BookcaseFacade}, {@code AuthorFacade}, ...) and out through an adapter (the JPA repositories and
+ * the Google Books lookup), as the {@value #TIMER} timer tagged with:
+ *
+ * <ul>
+ *   <li>{@code direction} — {@code inbound} or {@code outbound}
+ *   <li>{@code port} — the facade or repository interface, or the adapter class
+ *   <li>{@code method} — the method called
+ *   <li>{@code exception} — the simple name of the exception thrown, or {@code none}
+ * </ul>
+ *
+ * <p>A call that returns a {@link Mono} is timed from subscription until it completes or fails.
+ * Histogram buckets and SLO thresholds are configured with Boot's {@code
+ * management.metrics.distribution.*} properties; see {@link PortSloEndpoint}.
+ */
+@Aspect
+@Component
+public class PortTimingAspect {
+
+  public static final String TIMER = "bibby.port.latency";
+
+  static final String INBOUND = "inbound";
+  static final String OUTBOUND = "outbound";
+
+  private static final String PROJECT_PACKAGE = "com.penrose.bibby.";
+
+  private final MeterRegistry meterRegistry;
+  // Resolved once per target class and method; NONE marks methods that are not part of a port
+  private final Map<CallSite, Port> ports = new ConcurrentHashMap<>();
+
+  public PortTimingAspect(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Around("execution(public * com.penrose.bibby.library..inbound.*Facade+.*(..))")
+  public Object timeInbound(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(joinPoint, INBOUND);
+  }
+
+  @Around(
+      "execution(public * org.springframework.data.repository.Repository+.*(..))"
+          + " || execution(public * com.penrose.bibby.library.cataloging.book.core.application"
+          + ".IsbnLookupService.*(..))")
+  public Object timeOutbound(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(joinPoint, OUTBOUND);
+  }
+
+  private Object time(ProceedingJoinPoint joinPoint, String direction) throws Throwable {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    // A repository's target is Spring Data's own proxy, which implements the repository interface
+    Class<?> targetClass = joinPoint.getTarget().getClass();
+    Port port =
+        ports.computeIfAbsent(new CallSite(targetClass, method), site -> resolve(site, direction));
+    if (port == Port.NONE) {
+      return joinPoint.proceed();
+    }
+    long start = System.nanoTime();
+    Object result;
+    try {
+      result = joinPoint.proceed();
+    } catch (Throwable e) {
+      port.record(meterRegistry, start, e);
+      throw e;
+    }
+    if (result instanceof Mono<?> mono) {
+      return Mono.defer(
+          () -> {
+            long subscribed = System.nanoTime();
+            return mono.doOnSuccess(value -> port.record(meterRegistry, subscribed, null))
+                .doOnError(e -> port.record(meterRegistry, subscribed, e));
+          });
+    }
+    port.record(meterRegistry, start, null);
+    return result;
+  }
+
+  private Port resolve(CallSite site, String direction) {
+    String name = portName(site, direction);
+    if (name == null) {
+      return Port.NONE;
+    }
+    String methodName = site.method().getName();
+    Timer success = Port.timer(direction, name, methodName, "none").register(meterRegistry);
+    return new Port(direction, name, methodName, success);
+  }
+
+  /**
+   * The project interface through which {@code site} was called, or for an adapter without one its
+   * class; {@code null} for a facade implementation's own public methods.
+   */
+  private static String portName(CallSite site, String direction) {
+    Method method = site.method();
+    for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(site.targetClass())) {
+      if (type.getName().startsWith(PROJECT_PACKAGE)
+          && (OUTBOUND.equals(direction) || type.getSimpleName().endsWith("Facade"))
+          && ClassUtils.hasMethod(type, method.getName(), method.getParameterTypes())) {
+        return type.getSimpleName();
+      }
+    }
+    return OUTBOUND.equals(direction)
+        ? ClassUtils.getUserClass(site.targetClass()).getSimpleName()
+        : null;
+  }
+
+  private record CallSite(Class<?> targetClass, Method method) {}
+
+  private record Port(String direction, String name, String method, Timer success) {
+
+    static final Port NONE = new Port(null, null, null, null);
+
+    static Timer.Builder timer(String direction, String port, String method, String exception) {
+      return Timer.builder(TIMER)
+          .description("Latency of calls into inbound facades and out through adapters")
+          .tag("direction", direction)
+          .tag("port", port)
+          .tag("method", method)
+          .tag("exception", exception);
+    }
+
+    void record(MeterRegistry registry, long startNanos, Throwable error) {
+      Timer timer =
+          error == null
+              ? success
+              : timer(direction, name, method, error.getClass().getSimpleName()).register(registry);
+      timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.penrose.bibby.config.reactive;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Runs the blocking JPA reads behind the {@code /api/v2} endpoints on a small scheduler, so that a
+ * request gives its servlet thread back while its query runs.
+ *
+ * <p>The scheduler has at most {@code bibby.reactive.read-threads} threads, by default one per
+ * pooled database connection, since more would only wait for a connection. Up to {@code
+ * bibby.reactive.read-queue-capacity} further reads wait for a thread; beyond that a read fails
+ * with 503 instead of queueing without bound.
+ *
+ * <p>A read runs with its caller's security context and request bound, so the tenant filter (see
+ * {@code LibraryTenantResolver}) applies exactly as it does on the request thread.
+ */
+@Component
+public class ReactiveReads implements DisposableBean {
+
+  private final Scheduler scheduler;
+
+  public ReactiveReads(
+      @Value("${bibby.reactive.read-threads:${spring.datasource.hikari.maximum-pool-size:10}}")
+          int threads,
+      @Value("${bibby.reactive.read-queue-capacity:1000}") int queueCapacity) {
+    this.scheduler = Schedulers.newBoundedElastic(threads, queueCapacity, "reactive-read");
+  }
+
+  /** Runs {@code read} off the calling thread; a {@code null} result completes empty. */
+  public <T> Mono<T> mono(Callable<T> read) {
+    return Mono.fromCallable(withCallerContext(read))
+        .subscribeOn(scheduler)
+        .onErrorMap(
+            RejectedExecutionException.class,
+            e -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many reads", e));
+  }
+
+  /** Runs {@code read} off the calling thread and emits the elements it returns. */
+  public <T> Flux<T> flux(Callable<? extends Iterable<T>> read) {
+    return mono(read).flatMapIterable(elements -> elements);
+  }
+
+  @Override
+  public void destroy() {
+    scheduler.dispose();
+  }
+
+  // Captured when the read is assembled, i.e. on the request thread
+  private static <T> Callable<T> withCallerContext(Callable<T> read) {
+    SecurityContext securityContext = SecurityContextHolder.getContext();
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+    return () -> {
+      SecurityContextHolder.setContext(securityContext);
+      RequestContextHolder.setRequestAttributes(requestAttributes);
+      try {
+        return read.call();
+      } finally {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+      }
+    };
+  }
+}
@@ -0,0 +1,15 @@
+package com.penrose.bibby.config.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Thrown when a password cannot be hashed or verified because the hashing pool is saturated. It is
+ * an authentication exception so that a login hitting it reaches the form-login failure handler,
+ * which answers 503 rather than 401.
+ */
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+  public PasswordHashingBusyException(String message) {
+    super(message);
+  }
+}
@@ -1,17 +1,35 @@
 package com.penrose.bibby.config.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.penrose.bibby.config.security.throttle.LoginThrottle;
+import com.penrose.bibby.config.security.throttle.LoginThrottleFilter;
+import com.penrose.bibby.config.security.token.AccessTokenService;
+import com.penrose.bibby.config.security.token.BearerTokenAuthenticationFilter;
+import com.penrose.bibby.identity.infrastructure.AppUserImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -21,13 +39,29 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class WebSecurityConfigs {
 
   private final UserDetailsService userDetailsService;
+  private final UserDetailsPasswordService userDetailsPasswordService;
 
-  public WebSecurityConfigs(UserDetailsService userDetailsService) {
+  public WebSecurityConfigs(
+      UserDetailsService userDetailsService,
+      UserDetailsPasswordService userDetailsPasswordService) {
     this.userDetailsService = userDetailsService;
+    this.userDetailsPasswordService = userDetailsPasswordService;
   }
 
+  /**
+   * Session mode (the default) keeps the login in an HTTP session. With {@code
+   * bibby.security.auth-mode=stateless}, login answers with signed tokens instead, requests
+   * authenticate with {@code Authorization: Bearer} and no session is created, so any instance can
+   * serve any request.
+   */
   @Bean
-  public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+  public SecurityFilterChain securityFilterChain(
+      HttpSecurity http,
+      ObjectProvider<AccessTokenService> accessTokenService,
+      ObjectMapper objectMapper,
+      LoginThrottle loginThrottle)
+      throws Exception {
+    AccessTokenService tokens = accessTokenService.getIfAvailable();
     http.authorizeHttpRequests(
             authorize ->
                 authorize
@@ -35,6 +69,7 @@ public class WebSecurityConfigs {
                     .permitAll()
                     .requestMatchers(
                         "/api/v1/user/registration/register",
+                        "/api/v1/auth/refresh",
                         "/h2-console/**",
                         "/swagger-ui/**",
                         "/v3/api-docs/**",
@@ -54,10 +89,27 @@ public class WebSecurityConfigs {
                         (request, response, authentication) -> {
                           response.setStatus(200);
                           response.setContentType("application/json");
+                          if (tokens != null) {
+                            objectMapper.writeValue(
+                                response.getWriter(),
+                                tokens.issue((AppUserImpl) authentication.getPrincipal()));
+                            return;
+                          }
                           response.getWriter().write("{\"message\":\"Login successful\"}");
                         })
                     .failureHandler(
                         (request, response, exception) -> {
+                          if (isHashingBusy(exception)) {
+                            response.setStatus(503);
+                            response.setHeader("Retry-After", "1");
+                            response.setContentType("application/json");
+                            response.getWriter().write("{\"error\":\"Login is busy, retry\"}");
+                            return;
+                          }
+                          if (exception instanceof BadCredentialsException) {
+                            loginThrottle.recordFailure(
+                                request.getParameter("username"), request.getRemoteAddr());
+                          }
                           response.setStatus(401);
                           response.setContentType("application/json");
                           response.getWriter().write("{\"error\":\"Invalid credentials\"}");
@@ -71,7 +123,21 @@ public class WebSecurityConfigs {
                       response.setContentType("application/json");
                       response.getWriter().write("{\"message\":\"Logout successful\"}");
                     }))
-        .httpBasic(basic -> basic.disable());
+        .httpBasic(basic -> basic.disable())
+        .addFilterBefore(
+            new LoginThrottleFilter(loginThrottle, "/login"),
+            UsernamePasswordAuthenticationFilter.class);
+    if (tokens != null) {
+      http.sessionManagement(
+              session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+          .addFilterBefore(
+              new BearerTokenAuthenticationFilter(tokens),
+              UsernamePasswordAuthenticationFilter.class)
+          .exceptionHandling(
+              exceptions ->
+                  exceptions.authenticationEntryPoint(
+                      new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)));
+    }
     return http.build();
   }
 
@@ -92,15 +158,40 @@ public class WebSecurityConfigs {
     return source;
   }
 
+  /**
+   * BCrypt at {@code bibby.security.password.bcrypt-strength}, run on a bounded pool of its own.
+   * Raising the strength takes effect for existing users at their next login, when the provider
+   * re-hashes their password.
+   */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder(14);
+  public PasswordEncoder passwordEncoder(
+      @Value("${bibby.security.password.bcrypt-strength:14}") int strength,
+      @Value("${bibby.security.password.hash-threads:0}") int threads,
+      @Value("${bibby.security.password.queue-capacity:50}") int queueCapacity,
+      @Value("${bibby.security.password.max-wait:10s}") Duration maxWait,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    // By default leave half the cores for regular requests
+    int hashThreads =
+        threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    return new BoundedPasswordEncoder(
+        new BCryptPasswordEncoder(strength),
+        hashThreads,
+        queueCapacity,
+        maxWait,
+        meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
   }
 
   @Bean
-  public DaoAuthenticationProvider authenticationProvider() {
+  public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
     DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService);
-    authProvider.setPasswordEncoder(passwordEncoder());
+    authProvider.setPasswordEncoder(passwordEncoder);
+    authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
     return authProvider;
   }
+
+  // The provider wraps failures while loading the user, so look at the cause too
+  private static boolean isHashingBusy(AuthenticationException exception) {
+    return exception instanceof PasswordHashingBusyException
+        || exception.getCause() instanceof PasswordHashingBusyException;
+  }
 }
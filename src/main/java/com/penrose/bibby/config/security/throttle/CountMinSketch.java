@@ -0,0 +1,94 @@
+package com.penrose.bibby.config.security.throttle;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Fixed-size frequency estimator: {@code depth} rows of {@code width} counters, each row indexed by
+ * an independently seeded hash of the key. The estimate for a key is the smallest of its counters,
+ * so it can overcount (when every row collides) but never undercounts. Memory is {@code depth *
+ * width} ints whatever the number of distinct keys.
+ *
+ * <p>Increments are conservative (only the counters at the current minimum are raised), which keeps
+ * collision error low, and lock-free. {@link #halve()} ages all counts so old activity fades.
+ */
+class CountMinSketch {
+
+  private final int depth;
+  private final int width;
+  private final int mask;
+  private final long[] seeds;
+  private final AtomicIntegerArray counters;
+
+  /**
+   * @param width counters per row, rounded up to a power of two
+   * @param seed source of the row seeds; random in production so keys that collide cannot be
+   *     crafted in advance
+   */
+  CountMinSketch(int depth, int width, long seed) {
+    if (depth < 1 || width < 1) {
+      throw new IllegalArgumentException("depth and width must be positive");
+    }
+    this.depth = depth;
+    this.width = Integer.highestOneBit(Math.max(1, width - 1)) << (width > 1 ? 1 : 0);
+    this.mask = this.width - 1;
+    this.seeds = new long[depth];
+    long state = seed;
+    for (int row = 0; row < depth; row++) {
+      state += 0x9E3779B97F4A7C15L;
+      seeds[row] = mix(state);
+    }
+    this.counters = new AtomicIntegerArray(depth * this.width);
+  }
+
+  int estimate(String key) {
+    int min = Integer.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      min = Math.min(min, counters.get(slot(row, key)));
+    }
+    return min;
+  }
+
+  /** Counts one occurrence of {@code key} and returns its new estimate. */
+  int increment(String key) {
+    int[] slots = new int[depth];
+    int min = Integer.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      slots[row] = slot(row, key);
+      min = Math.min(min, counters.get(slots[row]));
+    }
+    int target = min == Integer.MAX_VALUE ? min : min + 1;
+    for (int slot : slots) {
+      counters.accumulateAndGet(slot, target, Math::max);
+    }
+    return target;
+  }
+
+  /** Halves every counter. */
+  void halve() {
+    for (int i = 0; i < counters.length(); i++) {
+      counters.updateAndGet(i, count -> count >>> 1);
+    }
+  }
+
+  int width() {
+    return width;
+  }
+
+  private int slot(int row, String key) {
+    long hash = seeds[row];
+    for (int i = 0; i < key.length(); i++) {
+      hash = (hash ^ key.charAt(i)) * 0x100000001B3L;
+    }
+    return row * width + (int) (mix(hash) & mask);
+  }
+
+  // Final mixing step of MurmurHash3's 64-bit variant
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xFF51AFD7ED558CCDL;
+    hash ^= hash >>> 33;
+    hash *= 0xC4CEB9FE1A85EC53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
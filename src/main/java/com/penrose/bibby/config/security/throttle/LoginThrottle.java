@@ -0,0 +1,228 @@
+package com.penrose.bibby.config.security.throttle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Brute-force protection for form login. Failed logins are counted per account and per client
+ * address in a {@link CountMinSketch}, so memory stays fixed however many usernames or addresses an
+ * attacker cycles through. Once either count reaches its limit, further attempts are refused before
+ * any password is checked.
+ *
+ * <p>Counts are halved every {@code bibby.security.login-throttle.decay-interval}, so a blocked
+ * account or address is let back in after a few intervals without failures. A sketch can only
+ * overcount, never undercount, so an attacker cannot slip under the limit through collisions; an
+ * innocent key can (rarely) be throttled early, which the width keeps unlikely.
+ *
+ * <p>The heaviest offenders are published as the {@code bibby.login.failures.top} gauge, tagged
+ * with {@code kind} ({@code account} or {@code address}) and {@code key}. Usernames are email
+ * addresses, so an account's key is only a short SHA-256 digest of it; hash the email the same way
+ * to check whether it is the one under attack.
+ */
+@Component
+public class LoginThrottle {
+
+  private static final String ACCOUNT = "account";
+  private static final String ADDRESS = "address";
+
+  private final CountMinSketch sketch;
+  private final int maxFailuresPerAccount;
+  private final int maxFailuresPerAddress;
+  private final long decayIntervalNanos;
+  private final int topOffenderCount;
+  private final LongSupplier nanoClock;
+  private final AtomicLong nextDecay;
+  private final Map<Offender, Boolean> topOffenders = new HashMap<>();
+  private final MultiGauge topOffenderGauge;
+  private final Counter failures;
+  private final Counter throttled;
+
+  @Autowired
+  public LoginThrottle(
+      @Value("${bibby.security.login-throttle.width:32768}") int width,
+      @Value("${bibby.security.login-throttle.depth:4}") int depth,
+      @Value("${bibby.security.login-throttle.decay-interval:5m}") Duration decayInterval,
+      @Value("${bibby.security.login-throttle.max-failures-per-account:10}")
+          int maxFailuresPerAccount,
+      @Value("${bibby.security.login-throttle.max-failures-per-address:50}")
+          int maxFailuresPerAddress,
+      @Value("${bibby.security.login-throttle.top-offenders:10}") int topOffenderCount,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this(
+        new CountMinSketch(depth, width, new SecureRandom().nextLong()),
+        decayInterval,
+        maxFailuresPerAccount,
+        maxFailuresPerAddress,
+        topOffenderCount,
+        meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+        System::nanoTime);
+  }
+
+  LoginThrottle(
+      CountMinSketch sketch,
+      Duration decayInterval,
+      int maxFailuresPerAccount,
+      int maxFailuresPerAddress,
+      int topOffenderCount,
+      MeterRegistry meterRegistry,
+      LongSupplier nanoClock) {
+    this.sketch = sketch;
+    this.maxFailuresPerAccount = maxFailuresPerAccount;
+    this.maxFailuresPerAddress = maxFailuresPerAddress;
+    this.decayIntervalNanos = decayInterval.toNanos();
+    this.topOffenderCount = topOffenderCount;
+    this.nanoClock = nanoClock;
+    this.nextDecay = new AtomicLong(nanoClock.getAsLong() + decayIntervalNanos);
+    this.topOffenderGauge =
+        MultiGauge.builder("bibby.login.failures.top")
+            .description("Estimated recent login failures of the heaviest offenders")
+            .register(meterRegistry);
+    this.failures =
+        Counter.builder("bibby.login.failures")
+            .description("Failed form logins")
+            .register(meterRegistry);
+    this.throttled =
+        Counter.builder("bibby.login.throttled")
+            .description("Login attempts refused by the login throttle")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Whether an attempt may go ahead.
+   *
+   * @return {@code 0} if it may, otherwise roughly how many seconds until the counts next decay
+   */
+  public long retryAfterSeconds(String username, String address) {
+    long now = nanoClock.getAsLong();
+    decayIfDue(now);
+    if (sketch.estimate(accountKey(username)) < maxFailuresPerAccount
+        && sketch.estimate(addressKey(address)) < maxFailuresPerAddress) {
+      return 0;
+    }
+    throttled.increment();
+    return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nextDecay.get() - now));
+  }
+
+  public void recordFailure(String username, String address) {
+    decayIfDue(nanoClock.getAsLong());
+    failures.increment();
+    String account = accountKey(username);
+    String client = addressKey(address);
+    int accountFailures = sketch.increment(account);
+    int addressFailures = sketch.increment(client);
+    synchronized (topOffenders) {
+      boolean changed = offer(new Offender(ACCOUNT, account.substring(2)), accountFailures);
+      changed |= offer(new Offender(ADDRESS, client.substring(2)), addressFailures);
+      if (changed) {
+        publishTopOffenders();
+      }
+    }
+  }
+
+  /** The tracked offenders, heaviest first, with their current estimates. */
+  public List<Map.Entry<Offender, Integer>> topOffenders() {
+    synchronized (topOffenders) {
+      return topOffenders.keySet().stream()
+          .map(offender -> Map.entry(offender, estimate(offender)))
+          .sorted(Map.Entry.<Offender, Integer>comparingByValue().reversed())
+          .toList();
+    }
+  }
+
+  private boolean offer(Offender offender, int count) {
+    if (topOffenders.containsKey(offender) || topOffenderCount <= 0) {
+      return false;
+    }
+    if (topOffenders.size() < topOffenderCount) {
+      topOffenders.put(offender, Boolean.TRUE);
+      return true;
+    }
+    Offender weakest =
+        topOffenders.keySet().stream().min(Comparator.comparingInt(this::estimate)).orElseThrow();
+    if (estimate(weakest) >= count) {
+      return false;
+    }
+    topOffenders.remove(weakest);
+    topOffenders.put(offender, Boolean.TRUE);
+    return true;
+  }
+
+  private void publishTopOffenders() {
+    topOffenderGauge.register(
+        topOffenders.keySet().stream()
+            .map(
+                offender ->
+                    MultiGauge.Row.of(
+                        Tags.of("kind", offender.kind(), "key", offender.publishedKey()),
+                        this,
+                        throttle -> throttle.estimate(offender)))
+            .toList(),
+        true);
+  }
+
+  private int estimate(Offender offender) {
+    return sketch.estimate(
+        ACCOUNT.equals(offender.kind()) ? accountKey(offender.key()) : addressKey(offender.key()));
+  }
+
+  // One thread wins the CAS per interval and ages the sketch; the others carry on
+  private void decayIfDue(long now) {
+    long due = nextDecay.get();
+    if (now - due < 0 || !nextDecay.compareAndSet(due, now + decayIntervalNanos)) {
+      return;
+    }
+    sketch.halve();
+    synchronized (topOffenders) {
+      if (topOffenders.keySet().removeIf(offender -> estimate(offender) == 0)) {
+        publishTopOffenders();
+      }
+    }
+  }
+
+  private static String accountKey(String username) {
+    return "a:" + (username == null ? "" : username.trim().toLowerCase(Locale.ROOT));
+  }
+
+  private static String addressKey(String address) {
+    return "i:" + (address == null ? "" : address);
+  }
+
+  /** An account or client address with many recent login failures. */
+  public record Offender(String kind, String key) {
+
+    /** The key as tagged on metrics: the address itself, or 12 hex digits of the account's hash. */
+    public String publishedKey() {
+      if (!ACCOUNT.equals(kind)) {
+        return key;
+      }
+      try {
+        byte[] digest =
+            MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest, 0, 6);
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("SHA-256 is not available", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.penrose.bibby.config.security.throttle;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Refuses login attempts for throttled accounts or addresses with a 429 before the password is
+ * checked, so a credential-stuffing run costs no hashing. Failures are recorded by the form-login
+ * failure handler.
+ */
+public class LoginThrottleFilter extends OncePerRequestFilter {
+
+  private final LoginThrottle loginThrottle;
+  private final String loginPath;
+
+  public LoginThrottleFilter(LoginThrottle loginThrottle, String loginPath) {
+    this.loginThrottle = loginThrottle;
+    this.loginPath = loginPath;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !"POST".equals(request.getMethod()) || !loginPath.equals(request.getServletPath());
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    long retryAfter =
+        loginThrottle.retryAfterSeconds(request.getParameter("username"), request.getRemoteAddr());
+    if (retryAfter > 0) {
+      response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      response.getWriter().write("{\"error\":\"Too many failed logins, try again later\"}");
+      return;
+    }
+    filterChain.doFilter(request, response);
+  }
+}
@@ -0,0 +1,158 @@
+package com.penrose.bibby.config.security.token;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.penrose.bibby.identity.infrastructure.AppUserImpl;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Issues and verifies the signed tokens used when {@code bibby.security.auth-mode=stateless}.
+ *
+ * <p>Tokens are compact JWTs signed with HMAC-SHA256 under {@code bibby.security.token.secret},
+ * which every instance must share. An access token carries the app user's ID and email, so a
+ * request is authenticated by checking the signature and expiry alone, with no session and no user
+ * lookup. Access tokens live for {@code access-ttl}; refresh tokens live for {@code refresh-ttl}
+ * and can only be exchanged for a new pair, never used to call the API.
+ *
+ * <p>Tokens are not tracked server-side, so one stays valid until it expires; keep the access TTL
+ * short.
+ */
+@Component
+@ConditionalOnProperty(name = "bibby.security.auth-mode", havingValue = "stateless")
+public class AccessTokenService {
+
+  static final String ACCESS = "access";
+  static final String REFRESH = "refresh";
+
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final int MIN_SECRET_BYTES = 32;
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+  private static final String HEADER =
+      ENCODER.encodeToString(
+          "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+  private final ObjectMapper objectMapper;
+  private final SecretKeySpec key;
+  private final Duration accessTtl;
+  private final Duration refreshTtl;
+  private final Clock clock;
+
+  @Autowired
+  public AccessTokenService(
+      ObjectMapper objectMapper,
+      @Value("${bibby.security.token.secret:}") String secret,
+      @Value("${bibby.security.token.access-ttl:15m}") Duration accessTtl,
+      @Value("${bibby.security.token.refresh-ttl:7d}") Duration refreshTtl) {
+    this(objectMapper, secret, accessTtl, refreshTtl, Clock.systemUTC());
+  }
+
+  AccessTokenService(
+      ObjectMapper objectMapper,
+      String secret,
+      Duration accessTtl,
+      Duration refreshTtl,
+      Clock clock) {
+    byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+    if (secretBytes.length < MIN_SECRET_BYTES) {
+      throw new IllegalStateException(
+          "bibby.security.token.secret must be at least "
+              + MIN_SECRET_BYTES
+              + " bytes in stateless auth mode");
+    }
+    this.objectMapper = objectMapper;
+    this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+    this.accessTtl = accessTtl;
+    this.refreshTtl = refreshTtl;
+    this.clock = clock;
+  }
+
+  public TokenPair issue(AppUserImpl user) {
+    return new TokenPair(
+        sign(user, ACCESS, accessTtl),
+        sign(user, REFRESH, refreshTtl),
+        "Bearer",
+        accessTtl.toSeconds());
+  }
+
+  /** The principal named by a valid, unexpired access token. */
+  public Optional<AppUserImpl> verifyAccessToken(String token) {
+    return verify(token, ACCESS);
+  }
+
+  /** The principal named by a valid, unexpired refresh token. */
+  public Optional<AppUserImpl> verifyRefreshToken(String token) {
+    return verify(token, REFRESH);
+  }
+
+  private String sign(AppUserImpl user, String type, Duration ttl) {
+    long now = clock.instant().getEpochSecond();
+    Map<String, Object> claims = new LinkedHashMap<>();
+    claims.put("sub", user.getAppUserId().toString());
+    claims.put("email", user.getUsername());
+    claims.put("typ", type);
+    claims.put("iat", now);
+    claims.put("exp", now + ttl.toSeconds());
+    claims.put("jti", UUID.randomUUID().toString());
+    String payload;
+    try {
+      payload = ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize token claims", e);
+    }
+    String signingInput = HEADER + "." + payload;
+    return signingInput + "." + ENCODER.encodeToString(mac(signingInput));
+  }
+
+  private Optional<AppUserImpl> verify(String token, String expectedType) {
+    int firstDot = token.indexOf('.');
+    int lastDot = token.lastIndexOf('.');
+    if (firstDot < 0 || firstDot == lastDot || !token.startsWith(HEADER + ".")) {
+      return Optional.empty();
+    }
+    try {
+      byte[] signature = DECODER.decode(token.substring(lastDot + 1));
+      if (!MessageDigest.isEqual(signature, mac(token.substring(0, lastDot)))) {
+        return Optional.empty();
+      }
+      JsonNode claims =
+          objectMapper.readTree(DECODER.decode(token.substring(firstDot + 1, lastDot)));
+      if (!expectedType.equals(claims.path("typ").asText())
+          || claims.path("exp").asLong() <= clock.instant().getEpochSecond()) {
+        return Optional.empty();
+      }
+      return Optional.of(
+          AppUserImpl.fromToken(
+              Long.valueOf(claims.path("sub").asText()), claims.path("email").asText()));
+    } catch (IllegalArgumentException | IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  private byte[] mac(String signingInput) {
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(key);
+      return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("HMAC-SHA256 is not available", e);
+    }
+  }
+}
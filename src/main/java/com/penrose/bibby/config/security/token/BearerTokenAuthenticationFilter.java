@@ -0,0 +1,50 @@
+package com.penrose.bibby.config.security.token;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Authenticates requests carrying {@code Authorization: Bearer <access token>}. A missing or
+ * invalid token leaves the request anonymous, so protected endpoints answer 401.
+ *
+ * <p>Added to the security filter chain by {@code WebSecurityConfigs} in stateless mode; it is not
+ * a bean, so it never runs outside that chain.
+ */
+public class BearerTokenAuthenticationFilter extends OncePerRequestFilter {
+
+  private static final String BEARER = "Bearer ";
+
+  private final AccessTokenService accessTokenService;
+
+  public BearerTokenAuthenticationFilter(AccessTokenService accessTokenService) {
+    this.accessTokenService = accessTokenService;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+    if (header != null && header.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+      accessTokenService
+          .verifyAccessToken(header.substring(BEARER.length()).trim())
+          .ifPresent(
+              user -> {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(
+                    UsernamePasswordAuthenticationToken.authenticated(
+                        user, null, user.getAuthorities()));
+                SecurityContextHolder.setContext(context);
+              });
+    }
+    filterChain.doFilter(request, response);
+  }
+}
@@ -0,0 +1,9 @@
+package com.penrose.bibby.config.security.token;
+
+/**
+ * Tokens issued at login or refresh.
+ *
+ * @param expiresIn lifetime of the access token, in seconds
+ */
+public record TokenPair(
+    String accessToken, String refreshToken, String tokenType, long expiresIn) {}
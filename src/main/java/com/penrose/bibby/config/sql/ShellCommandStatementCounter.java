@@ -0,0 +1,35 @@
+package com.penrose.bibby.config.sql;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/** Counts the SQL statements executed by each shell command. */
+@Aspect
+@Component
+public class ShellCommandStatementCounter {
+
+  private final StatementMetrics statementMetrics;
+
+  public ShellCommandStatementCounter(StatementMetrics statementMetrics) {
+    this.statementMetrics = statementMetrics;
+  }
+
+  @Around(
+      "@annotation(org.springframework.shell.command.annotation.Command)"
+          + " || @annotation(org.springframework.shell.standard.ShellMethod)")
+  public Object countStatements(ProceedingJoinPoint joinPoint) throws Throwable {
+    try (StatementCounter.Scope scope = StatementCounter.open()) {
+      try {
+        return joinPoint.proceed();
+      } finally {
+        String handler =
+            joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "."
+                + joinPoint.getSignature().getName();
+        statementMetrics.record("shell", handler, scope.count());
+      }
+    }
+  }
+}
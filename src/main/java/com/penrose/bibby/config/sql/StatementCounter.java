@@ -0,0 +1,62 @@
+package com.penrose.bibby.config.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a {@link Scope} is open.
+ *
+ * <p>Registered as Hibernate's statement inspector, so every statement issued through JPA is seen,
+ * including lazy loads triggered while mapping entities. Second-level cache hits never reach SQL
+ * and are not counted. Scopes nest: a statement counts towards every open scope on the thread.
+ *
+ * <pre>{@code
+ * try (StatementCounter.Scope scope = StatementCounter.open()) {
+ *   shelfFacade.findShelvesByBookcaseId(bookcaseId);
+ *   assert scope.count() <= 2;
+ * }
+ * }</pre>
+ */
+public class StatementCounter implements StatementInspector {
+
+  private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+  /** Starts counting statements on the current thread until the returned scope is closed. */
+  public static Scope open() {
+    Scope scope = new Scope(CURRENT.get());
+    CURRENT.set(scope);
+    return scope;
+  }
+
+  @Override
+  public String inspect(String sql) {
+    for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+      scope.count++;
+    }
+    return sql;
+  }
+
+  /** A counting window on one thread; close it in the same thread that opened it. */
+  public static final class Scope implements AutoCloseable {
+
+    private final Scope parent;
+    private long count;
+
+    private Scope(Scope parent) {
+      this.parent = parent;
+    }
+
+    /** Statements prepared since this scope was opened. */
+    public long count() {
+      return count;
+    }
+
+    @Override
+    public void close() {
+      if (parent == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(parent);
+      }
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.penrose.bibby.config.sql;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Installs {@link StatementCounter} as Hibernate's statement inspector. */
+@Configuration
+public class StatementCountingConfig {
+
+  @Bean
+  public HibernatePropertiesCustomizer statementCountingCustomizer() {
+    return properties ->
+        properties.put("hibernate.session_factory.statement_inspector", new StatementCounter());
+  }
+}
@@ -0,0 +1,40 @@
+package com.penrose.bibby.config.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/** Counts the SQL statements executed while handling each HTTP request. */
+@Component
+public class StatementCountingFilter extends OncePerRequestFilter {
+
+  // Optional so that sliced web tests, which have no meter registry, can still load the filter
+  private final ObjectProvider<StatementMetrics> statementMetrics;
+
+  public StatementCountingFilter(ObjectProvider<StatementMetrics> statementMetrics) {
+    this.statementMetrics = statementMetrics;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    try (StatementCounter.Scope scope = StatementCounter.open()) {
+      try {
+        filterChain.doFilter(request, response);
+      } finally {
+        // Tag with the route template rather than the raw URI to keep the tag set bounded
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String handler =
+            request.getMethod() + " " + (pattern != null ? pattern.toString() : "UNMAPPED");
+        statementMetrics.ifAvailable(metrics -> metrics.record("http", handler, scope.count()));
+      }
+    }
+  }
+}
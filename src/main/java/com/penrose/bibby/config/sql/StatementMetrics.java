@@ -0,0 +1,44 @@
+package com.penrose.bibby.config.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records how many SQL statements each HTTP request and shell command executed, as the {@code
+ * bibby.sql.statements} distribution tagged with {@code source} ({@code http} or {@code shell}) and
+ * {@code handler} (the matched URI pattern or the command method).
+ *
+ * <p>A unit of work above {@code bibby.sql.statement-warn-threshold} statements is also logged, as
+ * it usually means a query is being repeated per row.
+ */
+@Component
+public class StatementMetrics {
+
+  private static final Logger log = LoggerFactory.getLogger(StatementMetrics.class);
+
+  private final MeterRegistry meterRegistry;
+  private final long warnThreshold;
+
+  public StatementMetrics(
+      MeterRegistry meterRegistry,
+      @Value("${bibby.sql.statement-warn-threshold:50}") long warnThreshold) {
+    this.meterRegistry = meterRegistry;
+    this.warnThreshold = warnThreshold;
+  }
+
+  public void record(String source, String handler, long statements) {
+    DistributionSummary.builder("bibby.sql.statements")
+        .description("SQL statements executed per request or shell command")
+        .tag("source", source)
+        .tag("handler", handler)
+        .register(meterRegistry)
+        .record(statements);
+    if (statements > warnThreshold) {
+      log.warn("{} {} executed {} SQL statements", source, handler, statements);
+    }
+  }
+}
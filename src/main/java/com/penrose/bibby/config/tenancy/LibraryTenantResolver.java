@@ -0,0 +1,89 @@
+package com.penrose.bibby.config.tenancy;
+
+import com.penrose.bibby.identity.infrastructure.AppUserImpl;
+import java.util.function.Supplier;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Tells Hibernate which tenant a new session belongs to. The library tables carry a {@code
+ * tenant_id} column marked {@link org.hibernate.annotations.TenantId @TenantId}; Hibernate fills it
+ * in on insert and adds {@code tenant_id = ?} to every query, {@code find} and association load of
+ * a session that is not the root tenant.
+ *
+ * <ul>
+ *   <li>Work run through {@link #callAs} is in the tenant it names.
+ *   <li>A request authenticated as an app user works in that user's tenant, the user's id.
+ *   <li>Any other web request gets {@link #NO_TENANT}, which owns no rows.
+ *   <li>Everything outside a web request (the shell, the outbox relay, scheduled jobs) runs as the
+ *       {@link #ROOT} tenant, which is not filtered and owns the rows it inserts.
+ * </ul>
+ *
+ * <p>{@link TenancyConfig} hands Hibernate an instance when the session factory is built, so it
+ * only reads thread-bound state and is not a Spring bean. A session keeps the tenant it was opened
+ * with; web requests open theirs after the security filters have run.
+ */
+public class LibraryTenantResolver implements CurrentTenantIdentifierResolver<Long> {
+
+  public static final Long ROOT = 0L;
+  public static final Long NO_TENANT = -1L;
+
+  private static final ThreadLocal<Long> ACTING_TENANT = new ThreadLocal<>();
+
+  /** The tenant the current thread works in. */
+  public static Long currentTenant() {
+    Long acting = ACTING_TENANT.get();
+    if (acting != null) {
+      return acting;
+    }
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null
+        && authentication.isAuthenticated()
+        && authentication.getPrincipal() instanceof AppUserImpl user
+        && user.getAppUserId() != null) {
+      return user.getAppUserId();
+    }
+    return RequestContextHolder.getRequestAttributes() != null ? NO_TENANT : ROOT;
+  }
+
+  /**
+   * Runs {@code work} on this thread in {@code tenant}, for work done on one user's behalf outside
+   * a web request, such as a shell command. Sessions opened meanwhile only see that tenant's rows
+   * and stamp it on the rows they insert.
+   */
+  public static <T> T callAs(Long tenant, Supplier<T> work) {
+    Long previous = ACTING_TENANT.get();
+    ACTING_TENANT.set(tenant);
+    try {
+      return work.get();
+    } finally {
+      if (previous == null) {
+        ACTING_TENANT.remove();
+      } else {
+        ACTING_TENANT.set(previous);
+      }
+    }
+  }
+
+  /** Whether the current thread sees every tenant's rows. */
+  public static boolean isUnrestricted() {
+    return ROOT.equals(currentTenant());
+  }
+
+  @Override
+  public Long resolveCurrentTenantIdentifier() {
+    return currentTenant();
+  }
+
+  @Override
+  public boolean validateExistingCurrentSessions() {
+    return false;
+  }
+
+  @Override
+  public boolean isRoot(Long tenantId) {
+    return ROOT.equals(tenantId);
+  }
+}
@@ -0,0 +1,23 @@
+package com.penrose.bibby.config.tenancy;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Books, shelves, bookcases and placements are partitioned by {@code tenant_id}: web requests only
+ * see the signed-in user's rows; the shell and background jobs run as the unrestricted root tenant.
+ * The resolver is registered here rather than in a properties file so that it applies under every
+ * profile; a session factory with tenant-scoped entities cannot open a session without it.
+ */
+@Configuration
+public class TenancyConfig {
+
+  @Bean
+  public HibernatePropertiesCustomizer libraryTenantResolverCustomizer() {
+    return properties ->
+        properties.put(
+            AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, new LibraryTenantResolver());
+  }
+}
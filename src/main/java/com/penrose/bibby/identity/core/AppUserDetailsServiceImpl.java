@@ -4,24 +4,41 @@ import com.penrose.bibby.identity.infrastructure.AppUserImpl;
 import com.penrose.bibby.identity.infrastructure.entity.AppUserEntity;
 import com.penrose.bibby.identity.infrastructure.repository.UserRegistrationJpaRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
 @Component
-public class AppUserDetailsServiceImpl implements UserDetailsService {
+public class AppUserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
   UserRegistrationJpaRepository userRegistrationJpaRepository;
+  private final UserDetailsCache userDetailsCache;
 
-  public AppUserDetailsServiceImpl(UserRegistrationJpaRepository userRegistrationJpaRepository) {
+  public AppUserDetailsServiceImpl(
+      UserRegistrationJpaRepository userRegistrationJpaRepository,
+      UserDetailsCache userDetailsCache) {
     this.userRegistrationJpaRepository = userRegistrationJpaRepository;
+    this.userDetailsCache = userDetailsCache;
   }
 
   @Override
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-    AppUserEntity appUser = userRegistrationJpaRepository.findByEmail(username);
+    return userDetailsCache
+        .find(username, userRegistrationJpaRepository::findByEmail)
+        .map(AppUserImpl::new)
+        .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + username));
+  }
+
+  /** Stores a password re-hashed at the current strength after a successful login. */
+  @Override
+  public UserDetails updatePassword(UserDetails user, String newPassword) {
+    AppUserEntity appUser = userRegistrationJpaRepository.findByEmail(user.getUsername());
     if (appUser == null) {
-      throw new UsernameNotFoundException("User not found with email: " + username);
+      throw new UsernameNotFoundException("User not found with email: " + user.getUsername());
     }
-    return new AppUserImpl(appUser);
+    appUser.setPassword(newPassword);
+    AppUserEntity saved = userRegistrationJpaRepository.save(appUser);
+    userDetailsCache.evict(saved.getEmail());
+    return new AppUserImpl(saved);
   }
 }
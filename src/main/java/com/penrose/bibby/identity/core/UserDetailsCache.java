@@ -0,0 +1,114 @@
+package com.penrose.bibby.identity.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.penrose.bibby.identity.infrastructure.entity.AppUserEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of user lookups by email, so authenticating does not query the database each time.
+ * Keys are normalized (trimmed, lower-cased) so case variants share one entry, but a hit is only
+ * used when the stored email matches the requested one exactly, as the database lookup would.
+ *
+ * <p>Unknown emails are cached too, for {@code bibby.security.user-cache.negative-ttl}, so a
+ * credential-stuffing run over random usernames does not reach the database either. Registration
+ * and password changes evict the email's entry; other instances pick up a change within {@code
+ * bibby.security.user-cache.ttl}.
+ *
+ * <p>Published as the {@code users} cache through Micrometer's Caffeine binder ({@code cache.gets},
+ * {@code cache.size}, {@code cache.evictions}, ...).
+ */
+@Component
+public class UserDetailsCache implements MeterBinder {
+
+  private final boolean enabled;
+  private final Cache<String, Optional<CachedUser>> users;
+
+  public UserDetailsCache(
+      @Value("${bibby.security.user-cache.enabled:true}") boolean enabled,
+      @Value("${bibby.security.user-cache.max-entries:10000}") long maxEntries,
+      @Value("${bibby.security.user-cache.ttl:10m}") Duration ttl,
+      @Value("${bibby.security.user-cache.negative-ttl:30s}") Duration negativeTtl) {
+    this.enabled = enabled;
+    this.users =
+        Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfter(new FoundOrMissingExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+            .recordStats()
+            .build();
+  }
+
+  /**
+   * The user registered under {@code email}, from the cache or else from {@code loader}.
+   *
+   * <p>The returned entity is a fresh detached copy; callers may not use it to write.
+   */
+  public Optional<AppUserEntity> find(String email, Function<String, AppUserEntity> loader) {
+    if (!enabled || email == null) {
+      return Optional.ofNullable(loader.apply(email)).map(CachedUser::of).map(CachedUser::toEntity);
+    }
+    Optional<CachedUser> cached = users.getIfPresent(normalize(email));
+    if (cached == null || cached.isPresent() && !cached.get().email().equals(email)) {
+      cached = Optional.ofNullable(loader.apply(email)).map(CachedUser::of);
+      users.put(normalize(email), cached);
+    }
+    return cached.map(CachedUser::toEntity);
+  }
+
+  public void evict(String email) {
+    if (email != null) {
+      users.invalidate(normalize(email));
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, users, "users");
+  }
+
+  private static String normalize(String email) {
+    return email.trim().toLowerCase(Locale.ROOT);
+  }
+
+  /** What authentication needs of a user; entities are never shared across requests. */
+  private record CachedUser(Long id, String email, String password) {
+
+    static CachedUser of(AppUserEntity entity) {
+      return new CachedUser(entity.getId(), entity.getEmail(), entity.getPassword());
+    }
+
+    AppUserEntity toEntity() {
+      return new AppUserEntity(id, password, email, null, null);
+    }
+  }
+
+  private record FoundOrMissingExpiry(long foundNanos, long missingNanos)
+      implements Expiry<String, Optional<CachedUser>> {
+
+    @Override
+    public long expireAfterCreate(String key, Optional<CachedUser> value, long currentTime) {
+      return value.isPresent() ? foundNanos : missingNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, Optional<CachedUser> value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, Optional<CachedUser> value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -2,26 +2,42 @@ package com.penrose.bibby.identity.core.application;
 
 import com.penrose.bibby.identity.api.RegisterUserCommand;
 import com.penrose.bibby.identity.api.RegisterUserResult;
+import com.penrose.bibby.identity.core.UserDetailsCache;
 import com.penrose.bibby.identity.infrastructure.entity.AppUserEntity;
 import com.penrose.bibby.identity.infrastructure.mapping.AppUserMapper;
 import com.penrose.bibby.identity.infrastructure.repository.UserRegistrationJpaRepository;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.util.Optional;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
 public class UserRegistrationService {
 
   private final UserRegistrationJpaRepository userRegistrationJpaRepository;
-  private final BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(14);
+  private final PasswordEncoder passwordEncoder;
+  private final UserDetailsCache userDetailsCache;
 
-  public UserRegistrationService(UserRegistrationJpaRepository userRegistrationJpaRepository) {
+  public UserRegistrationService(
+      UserRegistrationJpaRepository userRegistrationJpaRepository,
+      PasswordEncoder passwordEncoder,
+      UserDetailsCache userDetailsCache) {
     this.userRegistrationJpaRepository = userRegistrationJpaRepository;
+    this.passwordEncoder = passwordEncoder;
+    this.userDetailsCache = userDetailsCache;
   }
 
   public RegisterUserResult registerUser(RegisterUserCommand registerUserCommand) {
     AppUserEntity appUserEntity = AppUserMapper.toEntity(registerUserCommand);
-    appUserEntity.setPassword(bCryptPasswordEncoder.encode(registerUserCommand.password()));
+    appUserEntity.setPassword(passwordEncoder.encode(registerUserCommand.password()));
     appUserEntity = userRegistrationJpaRepository.save(appUserEntity);
+    // Drops a cached "no such user" left by an earlier login attempt
+    userDetailsCache.evict(appUserEntity.getEmail());
     return new RegisterUserResult(appUserEntity.getId(), appUserEntity.getEmail());
   }
+
+  /** The ID of the registered user with this email, if there is one. */
+  public Optional<Long> findUserId(String email) {
+    return Optional.ofNullable(userRegistrationJpaRepository.findByEmail(email))
+        .map(AppUserEntity::getId);
+  }
 }
@@ -15,6 +15,14 @@ public class AppUserImpl implements UserDetails {
     this.appUserEntity = appUserEntity;
   }
 
+  /**
+   * Rebuilds the principal from the claims of a verified access token, without loading the user. It
+   * carries no password.
+   */
+  public static AppUserImpl fromToken(Long appUserId, String email) {
+    return new AppUserImpl(new AppUserEntity(appUserId, null, email, null, null));
+  }
+
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
     return Collections.singleton(new SimpleGrantedAuthority("USER"));
@@ -0,0 +1,8 @@
+package com.penrose.bibby.library.cataloging.author.api.events;
+
+/**
+ * Authors were created or renamed. Published in-process through Spring's event publisher, not the
+ * outbox, for caches of author names on this instance; listeners react after the writing
+ * transaction commits.
+ */
+public record AuthorsChanged(int count) {}
@@ -1,5 +1,7 @@
 package com.penrose.bibby.library.cataloging.author.core.domain;
 
+import java.util.Locale;
+
 public class AuthorName {
     String authorName;
 
@@ -59,6 +61,16 @@ public class AuthorName {
         return result;
     }
 
+    /**
+     * Builds the key that identifies an author by name regardless of case, stray whitespace or
+     * periods, e.g. "J.R.R.  Tolkien" and "jrr tolkien" share the key "jrr tolkien".
+     */
+    public static String normalizedKey(String firstName, String lastName) {
+        String first = firstName == null ? "" : firstName;
+        String last = lastName == null ? "" : lastName;
+        return new AuthorName(first + " " + last).getAuthorName().toLowerCase(Locale.ROOT);
+    }
+
     @Override
     public String toString() {
         return authorName;
@@ -18,6 +18,23 @@ public interface AuthorFacade {
    */
   AuthorDTO findOrCreateAuthor(String namePart, String namePart1);
 
+  /**
+   * Resolves every name in the batch to an Author, creating missing Authors in a single batch.
+   *
+   * @param fullNames author names in "First [Middle] Last" form; blank entries are ignored
+   * @return one AuthorDTO per non-blank input name, in input order
+   */
+  List<AuthorDTO> findOrCreateAll(List<String> fullNames);
+
+  /**
+   * Returns the names in the batch that match more than one existing Author, so the caller can ask
+   * which one is meant instead of letting {@link #findOrCreateAll} pick.
+   *
+   * @param fullNames author names in "First [Middle] Last" form; blank entries are ignored
+   * @return the ambiguous input names
+   */
+  Set<String> findNamesWithNamesakes(List<String> fullNames);
+
   void registerAuthor(AuthorDTO authorDTO);
 
   void updateAuthor(AuthorDTO authorDTO);
@@ -44,4 +61,11 @@ public interface AuthorFacade {
   List<AuthorDTO> getAllAuthorsByName(String firstName, String lastName);
 
   AuthorDTO getAuthorById(Long authId);
+
+  /**
+   * Returns the full name of every Author, used to build name autocomplete indexes.
+   *
+   * @return all author full names, one per Author
+   */
+  List<String> getAllAuthorNames();
 }
@@ -62,4 +62,35 @@ public interface AuthorRepository {
   Optional<AuthorDTO> getByFirstNameAndLastNameDTO(String firstName, String lastName);
 
   AuthorEntity getAuthorById(Long authId);
+
+  /**
+   * Returns the full name ("First Last") of every Author, one entry per Author row.
+   *
+   * @return all author full names; never {@code null}
+   */
+  List<String> findAllAuthorNames();
+
+  /**
+   * Resolves a batch of author full names to Authors, creating the ones that do not exist yet.
+   *
+   * <p>Names are matched on their normalized key (see {@code AuthorName#normalizedKey}). Existing
+   * authors are read with one query and all missing ones are inserted as one batch. The unique key
+   * makes this safe when two imports race to create the same author: the loser re-reads the
+   * winner's row instead of creating a duplicate.
+   *
+   * @param fullNames author names in "First [Middle] Last" form; blank entries are ignored. Middle
+   *     names are part of the key and are stored with the first name
+   * @return one Author per non-blank input name, in input order; duplicates resolve to the same
+   *     Author
+   */
+  List<Author> findOrCreateAll(List<String> fullNames);
+
+  /**
+   * Returns the names that match more than one existing Author, i.e. names with deliberate
+   * namesakes, which {@link #findOrCreateAll} would otherwise resolve to just one of them.
+   *
+   * @param fullNames author names in "First [Middle] Last" form; blank entries are ignored
+   * @return the input names that are ambiguous; never {@code null}
+   */
+  Set<String> findNamesWithNamesakes(List<String> fullNames);
 }
@@ -82,6 +82,16 @@ public class AuthorFacadeImpl implements AuthorFacade {
     return AuthorMapper.toDTO(author.get());
   }
 
+  @Override
+  public List<AuthorDTO> findOrCreateAll(List<String> fullNames) {
+    return authorRepository.findOrCreateAll(fullNames).stream().map(AuthorMapper::toDTO).toList();
+  }
+
+  @Override
+  public Set<String> findNamesWithNamesakes(List<String> fullNames) {
+    return authorRepository.findNamesWithNamesakes(fullNames);
+  }
+
   @Override
   public void registerAuthor(AuthorDTO authorDTO) {
     authorRepository.createAuthor(authorDTO.firstName(), authorDTO.lastName());
@@ -116,4 +126,9 @@ public class AuthorFacadeImpl implements AuthorFacade {
     AuthorEntity authorEntity = authorRepository.getAuthorById(authId);
     return AuthorMapper.toDTOFromEntity(authorEntity);
   }
+
+  @Override
+  public List<String> getAllAuthorNames() {
+    return authorRepository.findAllAuthorNames();
+  }
 }
@@ -1,12 +1,17 @@
 package com.penrose.bibby.library.cataloging.author.infrastructure.entity;
 
+import com.penrose.bibby.config.cache.ReferenceDataCacheConfig;
 import com.penrose.bibby.library.cataloging.book.infrastructure.entity.BookEntity;
 import jakarta.persistence.*;
 import java.util.HashSet;
 import java.util.Set;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "authors")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceDataCacheConfig.AUTHOR_REGION)
 public class AuthorEntity {
   @Id
   @GeneratedValue(strategy = GenerationType.AUTO)
@@ -15,6 +20,14 @@ public class AuthorEntity {
   private String firstName;
   private String lastName;
 
+  /**
+   * Case- and punctuation-insensitive name key used to resolve authors by name. Unique, so
+   * concurrent imports cannot create the same author twice; {@code null} for authors that were
+   * deliberately added as a namesake of an existing author.
+   */
+  @Column(unique = true)
+  private String normalizedName;
+
   @Override
   public String toString() {
     return firstName + " " + lastName;
@@ -54,6 +67,14 @@ public class AuthorEntity {
     this.lastName = lastName;
   }
 
+  public String getNormalizedName() {
+    return normalizedName;
+  }
+
+  public void setNormalizedName(String normalizedName) {
+    this.normalizedName = normalizedName;
+  }
+
   public Long getAuthorId() {
     return authorId;
   }
@@ -1,11 +1,13 @@
 package com.penrose.bibby.library.cataloging.author.infrastructure.repository;
 
 import com.penrose.bibby.library.cataloging.author.infrastructure.entity.AuthorEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -21,4 +23,24 @@ public interface AuthorJpaRepository extends JpaRepository <AuthorEntity, Long>
     List<AuthorEntity> getAllByFirstNameAndLastName(String firstName, String lastName);
 
     List<AuthorEntity> findByFirstNameAndLastName(String firstName, String lastName);
+
+    @Query("SELECT CONCAT(a.firstName, ' ', a.lastName) FROM AuthorEntity a")
+    List<String> findAllFullNames();
+
+    boolean existsByNormalizedName(String normalizedName);
+
+    List<AuthorEntity> findAllByNormalizedNameIn(Collection<String> keys);
+
+    /**
+     * Finds the authors that own one of the given name keys, plus every author without a key. A
+     * keyless row is a namesake of the key's owner, or was written before the key existed and has
+     * not been backfilled yet (see {@link AuthorNameKeyBackfill}); the caller matches those on
+     * {@link com.penrose.bibby.library.cataloging.author.core.domain.AuthorName#normalizedKey}, so
+     * they are compared with the same normalisation as the key.
+     */
+    List<AuthorEntity> findAllByNormalizedNameInOrNormalizedNameIsNull(Collection<String> keys);
+
+    /** Authors without a name key, lowest ID first, for backfilling the key in batches. */
+    List<AuthorEntity> findByNormalizedNameIsNullAndAuthorIdGreaterThanOrderByAuthorId(
+            Long authorId, Limit limit);
 }
@@ -0,0 +1,117 @@
+package com.penrose.bibby.library.cataloging.author.infrastructure.repository;
+
+import com.penrose.bibby.library.cataloging.author.core.domain.AuthorName;
+import com.penrose.bibby.library.cataloging.author.infrastructure.entity.AuthorEntity;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Gives authors written before the normalized name key existed (and rows loaded straight into the
+ * table, such as the demo seed) their key when the application starts.
+ *
+ * <p>Keyless authors are read in batches of {@value #BATCH_SIZE}, lowest ID first, and each batch
+ * commits on its own. The oldest author with a given name claims its key unless another author
+ * already owns it; the rest stay keyless as namesakes, the same rule new authors follow. Until an
+ * author is keyed, lookups still match it by computing its key from its name.
+ */
+@Component
+public class AuthorNameKeyBackfill implements SmartLifecycle {
+
+  static final int BATCH_SIZE = 500;
+
+  private static final Logger log = LoggerFactory.getLogger(AuthorNameKeyBackfill.class);
+
+  private final AuthorJpaRepository authorJpaRepository;
+  private final TransactionTemplate batchTransaction;
+  private volatile boolean running;
+
+  public AuthorNameKeyBackfill(
+      AuthorJpaRepository authorJpaRepository, PlatformTransactionManager transactionManager) {
+    this.authorJpaRepository = authorJpaRepository;
+    this.batchTransaction = new TransactionTemplate(transactionManager);
+    this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Keys every keyless author that is not a namesake.
+   *
+   * @return the number of authors that were given a key
+   */
+  public int backfill() {
+    int keyed = 0;
+    long after = 0;
+    while (true) {
+      long from = after;
+      Batch batch = batchTransaction.execute(status -> keyBatch(from));
+      if (batch.lastAuthorId() == null) {
+        break;
+      }
+      keyed += batch.keyed();
+      after = batch.lastAuthorId();
+    }
+    if (keyed > 0) {
+      log.info("Backfilled the normalized name of {} authors", keyed);
+    }
+    return keyed;
+  }
+
+  private Batch keyBatch(long after) {
+    List<AuthorEntity> authors =
+        authorJpaRepository.findByNormalizedNameIsNullAndAuthorIdGreaterThanOrderByAuthorId(
+            after, Limit.of(BATCH_SIZE));
+    if (authors.isEmpty()) {
+      return new Batch(0, null);
+    }
+    Map<String, AuthorEntity> claims = new LinkedHashMap<>();
+    for (AuthorEntity author : authors) {
+      claims.putIfAbsent(
+          AuthorName.normalizedKey(author.getFirstName(), author.getLastName()), author);
+    }
+    Set<String> owned =
+        authorJpaRepository.findAllByNormalizedNameIn(claims.keySet()).stream()
+            .map(AuthorEntity::getNormalizedName)
+            .collect(Collectors.toSet());
+    int keyed = 0;
+    for (Map.Entry<String, AuthorEntity> claim : claims.entrySet()) {
+      if (!owned.contains(claim.getKey())) {
+        claim.getValue().setNormalizedName(claim.getKey());
+        keyed++;
+      }
+    }
+    return new Batch(keyed, authors.get(authors.size() - 1).getAuthorId());
+  }
+
+  private record Batch(int keyed, Long lastAuthorId) {}
+
+  @Override
+  public void start() {
+    running = true;
+    try {
+      backfill();
+    } catch (RuntimeException e) {
+      // Keyless authors are still matched by name, so this only costs lookup speed
+      log.warn("Could not backfill author name keys; retrying on the next start", e);
+    }
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+}
@@ -1,24 +1,50 @@
 package com.penrose.bibby.library.cataloging.author.infrastructure.repository;
 
 import com.penrose.bibby.library.cataloging.author.api.dtos.AuthorDTO;
+import com.penrose.bibby.library.cataloging.author.api.events.AuthorsChanged;
 import com.penrose.bibby.library.cataloging.author.core.domain.Author;
+import com.penrose.bibby.library.cataloging.author.core.domain.AuthorName;
 import com.penrose.bibby.library.cataloging.author.core.ports.outbound.AuthorRepository;
 import com.penrose.bibby.library.cataloging.author.infrastructure.entity.AuthorEntity;
 import com.penrose.bibby.library.cataloging.author.infrastructure.mapping.AuthorMapper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.slf4j.Logger;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Repository
 public class AuthorRepositoryImpl implements AuthorRepository {
 
+  static final int MAX_INSERT_ATTEMPTS = 3;
+
   private final AuthorJpaRepository authorJpaRepository;
+  private final TransactionTemplate insertTransaction;
+  private final ApplicationEventPublisher eventPublisher;
   Logger logger = org.slf4j.LoggerFactory.getLogger(AuthorRepositoryImpl.class);
 
-  public AuthorRepositoryImpl(AuthorJpaRepository authorJpaRepository) {
+  public AuthorRepositoryImpl(
+      AuthorJpaRepository authorJpaRepository,
+      PlatformTransactionManager transactionManager,
+      ApplicationEventPublisher eventPublisher) {
     this.authorJpaRepository = authorJpaRepository;
+    this.eventPublisher = eventPublisher;
+    // New authors are inserted in their own transaction: a unique-key conflict with a concurrent
+    // import must not mark the caller's transaction rollback-only.
+    this.insertTransaction = new TransactionTemplate(transactionManager);
+    this.insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
   }
 
   /**
@@ -92,23 +118,21 @@ public class AuthorRepositoryImpl implements AuthorRepository {
   @Override
   public Optional<Author> createAuthor(String authorFirstName, String authorLastName) {
     AuthorEntity authorEntity = new AuthorEntity(authorFirstName, authorLastName);
+    claimNormalizedName(authorEntity);
     logger.info("Creating author: {} {}", authorFirstName, authorLastName);
-    authorJpaRepository.save(authorEntity);
+    authorEntity = authorJpaRepository.save(authorEntity);
+    eventPublisher.publishEvent(new AuthorsChanged(1));
     logger.info("Created author with ID: {}", authorEntity.getAuthorId());
-    // todo remove mapper and return entity letting client map to domain
-    Optional<AuthorEntity> newAuthorEntity =
-        authorJpaRepository.getByFirstNameAndLastName(authorFirstName, authorLastName);
     return Optional.of(
         AuthorMapper.toDomain(
-            newAuthorEntity.get().getAuthorId(),
-            newAuthorEntity.get().getFirstName(),
-            newAuthorEntity.get().getLastName()));
+            authorEntity.getAuthorId(), authorEntity.getFirstName(), authorEntity.getLastName()));
   }
 
   @Override
   public void updateAuthor(Author author) {
     AuthorEntity authorEntity = AuthorMapper.toEntity(author);
     authorJpaRepository.save(authorEntity);
+    eventPublisher.publishEvent(new AuthorsChanged(1));
   }
 
   @Override
@@ -127,6 +151,7 @@ public class AuthorRepositoryImpl implements AuthorRepository {
   public void saveAll(List<AuthorDTO> authors) {
     List<AuthorEntity> authorEntities = AuthorMapper.toEntityList(authors);
     authorJpaRepository.saveAll(authorEntities);
+    eventPublisher.publishEvent(new AuthorsChanged(authorEntities.size()));
   }
 
   @Override
@@ -134,7 +159,9 @@ public class AuthorRepositoryImpl implements AuthorRepository {
     AuthorEntity authorEntity = new AuthorEntity();
     authorEntity.setFirstName(author.getFirstName());
     authorEntity.setLastName(author.getLastName());
-    authorJpaRepository.save(authorEntity);
+    claimNormalizedName(authorEntity);
+    authorEntity = authorJpaRepository.save(authorEntity);
+    eventPublisher.publishEvent(new AuthorsChanged(1));
     logger.info("Saved author with ID: {}", authorEntity.getAuthorId());
     return AuthorMapper.toDTO(
         AuthorMapper.toDomain(
@@ -144,13 +171,8 @@ public class AuthorRepositoryImpl implements AuthorRepository {
   @Override
   public Set<AuthorEntity> getAuthorsById(List<String> authors) {
     logger.info("Fetching authors by IDs: {}", authors);
-    Set<AuthorEntity> authorEntities = new java.util.HashSet<>();
-    for (String authorIdStr : authors) {
-      Long authorId = Long.parseLong(authorIdStr);
-      logger.info("Fetching author with ID: {}", authorId);
-      authorEntities.add(authorJpaRepository.findById(authorId).get());
-    }
-    return authorEntities;
+    List<Long> authorIds = authors.stream().map(Long::parseLong).toList();
+    return new HashSet<>(authorJpaRepository.findAllById(authorIds));
   }
 
   @Override
@@ -182,4 +204,161 @@ public class AuthorRepositoryImpl implements AuthorRepository {
   public AuthorEntity getAuthorById(Long authId) {
     return authorJpaRepository.findById(authId).get();
   }
+
+  @Override
+  public List<String> findAllAuthorNames() {
+    return authorJpaRepository.findAllFullNames();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Missing authors are inserted with {@code saveAllAndFlush} in a separate transaction. If a
+   * concurrent import inserts one of the same names first, the unique constraint rejects the batch;
+   * the winner's rows are then re-read and only the names still missing are retried.
+   */
+  @Override
+  public List<Author> findOrCreateAll(List<String> fullNames) {
+    List<String> keys = new ArrayList<>(fullNames.size());
+    Map<String, String[]> requested = new LinkedHashMap<>();
+    for (String fullName : fullNames) {
+      if (fullName == null || fullName.isBlank()) {
+        continue;
+      }
+      String[] name = splitFullName(fullName);
+      String key = AuthorName.normalizedKey(name[0], name[1]);
+      keys.add(key);
+      requested.putIfAbsent(key, name);
+    }
+    if (keys.isEmpty()) {
+      return List.of();
+    }
+
+    Map<String, AuthorEntity> resolved = findByNormalizedNames(requested.keySet());
+    for (int attempt = 1; resolved.size() < requested.size(); attempt++) {
+      List<AuthorEntity> missing = new ArrayList<>();
+      requested.forEach(
+          (key, name) -> {
+            if (!resolved.containsKey(key)) {
+              AuthorEntity entity = new AuthorEntity(name[0], name[1]);
+              entity.setNormalizedName(key);
+              missing.add(entity);
+            }
+          });
+      try {
+        // Published inside the insert transaction, so listeners run once it commits
+        List<AuthorEntity> saved =
+            insertTransaction.execute(
+                status -> {
+                  List<AuthorEntity> inserted = authorJpaRepository.saveAllAndFlush(missing);
+                  eventPublisher.publishEvent(new AuthorsChanged(inserted.size()));
+                  return inserted;
+                });
+        saved.forEach(entity -> resolved.put(entity.getNormalizedName(), entity));
+        logger.info("Created {} authors", saved.size());
+      } catch (DataIntegrityViolationException e) {
+        if (attempt >= MAX_INSERT_ATTEMPTS) {
+          throw e;
+        }
+        logger.info("Concurrent author insert detected; re-reading {} names", missing.size());
+        resolved.putAll(
+            findByNormalizedNames(missing.stream().map(AuthorEntity::getNormalizedName).toList()));
+      }
+    }
+
+    return keys.stream()
+        .map(resolved::get)
+        .map(
+            entity ->
+                AuthorMapper.toDomain(
+                    entity.getAuthorId(), entity.getFirstName(), entity.getLastName()))
+        .toList();
+  }
+
+  @Override
+  public Set<String> findNamesWithNamesakes(List<String> fullNames) {
+    Map<String, String> keysByName = new HashMap<>();
+    for (String fullName : fullNames) {
+      if (fullName != null && !fullName.isBlank()) {
+        String[] name = splitFullName(fullName);
+        keysByName.put(fullName, AuthorName.normalizedKey(name[0], name[1]));
+      }
+    }
+    if (keysByName.isEmpty()) {
+      return Set.of();
+    }
+    Map<String, Integer> matches = new HashMap<>();
+    for (AuthorEntity entity : findAllByKeys(keysByName.values())) {
+      matches.merge(keyOf(entity), 1, Integer::sum);
+    }
+    Set<String> ambiguous = new HashSet<>();
+    keysByName.forEach(
+        (fullName, key) -> {
+          if (matches.getOrDefault(key, 0) > 1) {
+            ambiguous.add(fullName);
+          }
+        });
+    return ambiguous;
+  }
+
+  /**
+   * Splits a full name into the stored first and last name. The last word is the last name and
+   * every word before it, middle names included, is kept as the first name, so "John Ronald Reuel
+   * Tolkien" and "John Tolkien" are different authors.
+   */
+  private static String[] splitFullName(String fullName) {
+    String[] parts = fullName.trim().split("\\s+");
+    if (parts.length == 1) {
+      return new String[] {parts[0], ""};
+    }
+    return new String[] {
+      String.join(" ", Arrays.copyOf(parts, parts.length - 1)), parts[parts.length - 1]
+    };
+  }
+
+  /**
+   * Looks up authors by normalized name. When several rows share a name, the row that owns the key
+   * wins over namesakes, and otherwise the oldest row wins.
+   */
+  private Map<String, AuthorEntity> findByNormalizedNames(Collection<String> keys) {
+    Map<String, AuthorEntity> byKey = new HashMap<>();
+    for (AuthorEntity entity : findAllByKeys(keys)) {
+      byKey.merge(keyOf(entity), entity, AuthorRepositoryImpl::preferredAuthor);
+    }
+    return byKey;
+  }
+
+  /**
+   * Authors whose key, stored or (for keyless rows) computed from their name, is in {@code keys}.
+   */
+  private List<AuthorEntity> findAllByKeys(Collection<String> keys) {
+    Set<String> wanted = new HashSet<>(keys);
+    return authorJpaRepository.findAllByNormalizedNameInOrNormalizedNameIsNull(wanted).stream()
+        .filter(entity -> wanted.contains(keyOf(entity)))
+        .toList();
+  }
+
+  private static String keyOf(AuthorEntity entity) {
+    return entity.getNormalizedName() != null
+        ? entity.getNormalizedName()
+        : AuthorName.normalizedKey(entity.getFirstName(), entity.getLastName());
+  }
+
+  private static AuthorEntity preferredAuthor(AuthorEntity a, AuthorEntity b) {
+    if ((a.getNormalizedName() != null) != (b.getNormalizedName() != null)) {
+      return a.getNormalizedName() != null ? a : b;
+    }
+    return a.getAuthorId() <= b.getAuthorId() ? a : b;
+  }
+
+  /**
+   * Gives a newly created author the normalized name key unless another author already owns it, in
+   * which case the new author is a namesake and stays keyless.
+   */
+  private void claimNormalizedName(AuthorEntity authorEntity) {
+    String key = AuthorName.normalizedKey(authorEntity.getFirstName(), authorEntity.getLastName());
+    if (!authorJpaRepository.existsByNormalizedName(key)) {
+      authorEntity.setNormalizedName(key);
+    }
+  }
 }
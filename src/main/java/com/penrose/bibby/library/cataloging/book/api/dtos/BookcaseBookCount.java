@@ -0,0 +1,3 @@
+package com.penrose.bibby.library.cataloging.book.api.dtos;
+
+public record BookcaseBookCount(Long bookcaseId, Long bookCount) {}
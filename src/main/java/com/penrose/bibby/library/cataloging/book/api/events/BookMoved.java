@@ -0,0 +1,12 @@
+package com.penrose.bibby.library.cataloging.book.api.events;
+
+import com.penrose.bibby.library.shared.events.DomainEvent;
+
+/** A book moved from one shelf to another; {@code fromShelfId} is null if it had no shelf. */
+public record BookMoved(Long bookId, Long fromShelfId, Long toShelfId) implements DomainEvent {
+
+  @Override
+  public Long aggregateId() {
+    return bookId;
+  }
+}
@@ -0,0 +1,12 @@
+package com.penrose.bibby.library.cataloging.book.api.events;
+
+import com.penrose.bibby.library.shared.events.DomainEvent;
+
+/** A book was put on a shelf. */
+public record BookPlaced(Long bookId, Long shelfId) implements DomainEvent {
+
+  @Override
+  public Long aggregateId() {
+    return bookId;
+  }
+}
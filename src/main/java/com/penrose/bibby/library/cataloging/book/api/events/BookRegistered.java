@@ -0,0 +1,12 @@
+package com.penrose.bibby.library.cataloging.book.api.events;
+
+import com.penrose.bibby.library.shared.events.DomainEvent;
+
+/** A new book was added to the catalog, optionally straight onto a shelf. */
+public record BookRegistered(Long bookId, String title, Long shelfId) implements DomainEvent {
+
+  @Override
+  public Long aggregateId() {
+    return bookId;
+  }
+}
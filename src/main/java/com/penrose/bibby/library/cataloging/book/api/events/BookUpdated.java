@@ -0,0 +1,12 @@
+package com.penrose.bibby.library.cataloging.book.api.events;
+
+import com.penrose.bibby.library.shared.events.DomainEvent;
+
+/** A book's details or availability changed while it stayed on the same shelf. */
+public record BookUpdated(Long bookId) implements DomainEvent {
+
+  @Override
+  public Long aggregateId() {
+    return bookId;
+  }
+}
@@ -0,0 +1,164 @@
+package com.penrose.bibby.library.cataloging.book.core.application;
+
+import com.penrose.bibby.config.tenancy.LibraryTenantResolver;
+import com.penrose.bibby.library.cataloging.book.core.domain.location.BookLocationEntry;
+import com.penrose.bibby.library.cataloging.book.core.domain.location.BookLocationIndex;
+import com.penrose.bibby.library.cataloging.book.core.port.outbound.BookDomainRepository;
+import com.penrose.bibby.library.shared.events.ChangeCounters;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Answers "where is this book" from an in-memory {@link BookLocationIndex}.
+ *
+ * <p>The index is loaded with a single query on first use. Placement events relayed from the outbox
+ * ({@code BookRegistered}, {@code BookPlaced}, {@code BookMoved}, {@code ShelfDeleted}, {@code
+ * BookcaseDeleted}) each move the shared {@value #LOCATIONS} {@link ChangeCounters counter}, and
+ * every lookup compares it with the value the index was built at, so an instance that did not relay
+ * the event still notices it. The relaying instance applies the change to its index in place; any
+ * other instance, or one that missed a step, drops its index and rebuilds it on the next lookup.
+ * Events arrive shortly after their transaction commits, so a lookup right after a move can briefly
+ * return the previous shelf. A book the index does not know yet is looked up in the database once
+ * and then cached.
+ *
+ * <p>Shelf labels and bookcase locations have no update path that publishes an event, so the index
+ * is also rebuilt once it is older than {@code bibby.books.location-index.max-age}; that bounds how
+ * long a label changed behind the application's back stays visible.
+ *
+ * <p>The index holds every tenant's books, so only unrestricted callers (the shell, event
+ * subscribers) use it. A caller confined to one tenant (see {@link LibraryTenantResolver}) is
+ * answered from the database, where the tenant filter applies, and never loads or fills the index.
+ */
+@Service
+public class BookLocationService {
+
+  static final String LOCATIONS = "book-locations";
+
+  private static final Logger log = LoggerFactory.getLogger(BookLocationService.class);
+
+  private final BookDomainRepository bookDomainRepository;
+  private final ChangeCounters changeCounters;
+  private final Duration maxAge;
+  private final Clock clock;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private BookLocationIndex index;
+  private long generation;
+  private Instant builtAt;
+
+  @Autowired
+  public BookLocationService(
+      BookDomainRepository bookDomainRepository,
+      ChangeCounters changeCounters,
+      @Value("${bibby.books.location-index.max-age:10m}") Duration maxAge) {
+    this(bookDomainRepository, changeCounters, maxAge, Clock.systemUTC());
+  }
+
+  BookLocationService(
+      BookDomainRepository bookDomainRepository,
+      ChangeCounters changeCounters,
+      Duration maxAge,
+      Clock clock) {
+    this.bookDomainRepository = bookDomainRepository;
+    this.changeCounters = changeCounters;
+    this.maxAge = maxAge;
+    this.clock = clock;
+  }
+
+  public Optional<BookLocationEntry> findLocation(Long bookId) {
+    if (!LibraryTenantResolver.isUnrestricted()) {
+      return bookDomainRepository.findBookLocation(bookId);
+    }
+    long current = changeCounters.current(LOCATIONS);
+    lock.readLock().lock();
+    try {
+      if (isCurrent(current)) {
+        Optional<BookLocationEntry> location = index.find(bookId);
+        if (location.isPresent()) {
+          return location;
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return loadLocation(bookId, current);
+  }
+
+  /**
+   * Applies a placement; a book put on a shelf new to the index is dropped from it and read from
+   * the database on its next lookup.
+   */
+  public void bookPlaced(Long bookId, Long shelfId) {
+    changed(
+        index -> {
+          if (shelfId == null || !index.place(bookId, shelfId)) {
+            index.removeBook(bookId);
+          }
+        });
+  }
+
+  public void shelfDeleted(Long shelfId) {
+    changed(index -> index.removeShelf(shelfId));
+  }
+
+  public void bookcaseDeleted(Long bookcaseId) {
+    changed(index -> index.removeBookcase(bookcaseId));
+  }
+
+  private Optional<BookLocationEntry> loadLocation(Long bookId, long current) {
+    lock.writeLock().lock();
+    try {
+      if (!isCurrent(current)) {
+        long start = System.nanoTime();
+        index = BookLocationIndex.of(bookDomainRepository.findAllBookLocations());
+        generation = current;
+        builtAt = clock.instant();
+        log.debug(
+            "Built book location index with {} books in {} ms",
+            index.size(),
+            (System.nanoTime() - start) / 1_000_000);
+        return index.find(bookId);
+      }
+      Optional<BookLocationEntry> location = bookDomainRepository.findBookLocation(bookId);
+      location.ifPresent(index::put);
+      return location;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Moves the shared counter and, when this index was current just before the move, applies the
+   * change in place. The counter's row stays locked until the subscriber's transaction ends, so no
+   * other change can slip in between.
+   */
+  private void changed(Consumer<BookLocationIndex> change) {
+    long next = changeCounters.increment(LOCATIONS);
+    lock.writeLock().lock();
+    try {
+      if (isCurrent(next - 1)) {
+        change.accept(index);
+        generation = next;
+      } else {
+        index = null;
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private boolean isCurrent(long expectedGeneration) {
+    return index != null
+        && generation == expectedGeneration
+        && builtAt.plus(maxAge).isAfter(clock.instant());
+  }
+}
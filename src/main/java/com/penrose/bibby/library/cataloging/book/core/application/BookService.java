@@ -1,24 +1,27 @@
 package com.penrose.bibby.library.cataloging.book.core.application;
 
+import com.penrose.bibby.config.metrics.LibraryMetrics;
 import com.penrose.bibby.library.cataloging.book.api.dtos.*;
+import com.penrose.bibby.library.cataloging.book.api.events.BookMoved;
+import com.penrose.bibby.library.cataloging.book.api.events.BookPlaced;
+import com.penrose.bibby.library.cataloging.book.api.events.BookRegistered;
+import com.penrose.bibby.library.cataloging.book.api.events.BookUpdated;
 import com.penrose.bibby.library.cataloging.book.core.application.usecases.BookCommandUseCases;
+import com.penrose.bibby.library.cataloging.book.core.domain.AvailabilityStatus;
 import com.penrose.bibby.library.cataloging.book.core.domain.BookBuilder;
 import com.penrose.bibby.library.cataloging.book.core.domain.model.Book;
 import com.penrose.bibby.library.cataloging.book.core.domain.valueObject.Isbn;
 import com.penrose.bibby.library.cataloging.book.core.domain.valueObject.Title;
 import com.penrose.bibby.library.cataloging.book.core.port.inbound.BookFacade;
 import com.penrose.bibby.library.cataloging.book.core.port.outbound.BookDomainRepository;
-import com.penrose.bibby.library.cataloging.book.core.port.outbound.ShelfAccessPort;
+import com.penrose.bibby.library.cataloging.book.core.port.outbound.CirculationLogPort;
 import com.penrose.bibby.library.cataloging.book.infrastructure.adapter.mapping.BookMapper;
 import com.penrose.bibby.library.cataloging.book.infrastructure.entity.BookEntity;
 import com.penrose.bibby.library.cataloging.book.infrastructure.external.GoogleBooksResponse;
 import com.penrose.bibby.library.cataloging.book.infrastructure.repository.BookJpaRepository;
-import com.penrose.bibby.library.stacks.bookcase.infrastructure.persistence.entity.BookcaseEntity;
-import com.penrose.bibby.library.stacks.bookcase.infrastructure.persistence.repository.BookcaseJpaRepository;
-import com.penrose.bibby.library.stacks.shelf.api.dtos.ShelfDTO;
+import com.penrose.bibby.library.shared.events.DomainEventPublisher;
 import java.util.*;
 import org.slf4j.Logger;
-import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,9 +36,12 @@ public class BookService implements BookFacade {
   private final IsbnLookupService isbnLookupService;
   private final IsbnEnrichmentService isbnEnrichmentService;
   private final BookDomainRepository bookDomainRepository;
-  private final ShelfAccessPort shelfAccessPort;
-  private final BookcaseJpaRepository bookcaseJpaRepository;
   private final BookCommandUseCases bookCommandUseCases;
+  private final BookSuggestionService bookSuggestionService;
+  private final BookLocationService bookLocationService;
+  private final CirculationLogPort circulationLogPort;
+  private final DomainEventPublisher domainEventPublisher;
+  private final LibraryMetrics libraryMetrics;
   Logger logger = org.slf4j.LoggerFactory.getLogger(BookService.class);
 
   public BookService(
@@ -45,18 +51,24 @@ public class BookService implements BookFacade {
       BookMapper bookMapper,
       IsbnLookupService isbnLookupService,
       BookDomainRepository bookDomainRepository,
-      @Lazy ShelfAccessPort shelfAccessPort,
-      BookcaseJpaRepository bookcaseJpaRepository,
-      BookCommandUseCases bookCommandUseCases) {
+      BookCommandUseCases bookCommandUseCases,
+      BookSuggestionService bookSuggestionService,
+      BookLocationService bookLocationService,
+      CirculationLogPort circulationLogPort,
+      DomainEventPublisher domainEventPublisher,
+      LibraryMetrics libraryMetrics) {
     this.isbnEnrichmentService = isbnEnrichmentService;
     this.bookJpaRepository = bookJpaRepository;
     this.BookBuilder = bookBuilder;
     this.bookMapper = bookMapper;
     this.isbnLookupService = isbnLookupService;
     this.bookDomainRepository = bookDomainRepository;
-    this.shelfAccessPort = shelfAccessPort;
-    this.bookcaseJpaRepository = bookcaseJpaRepository;
     this.bookCommandUseCases = bookCommandUseCases;
+    this.bookSuggestionService = bookSuggestionService;
+    this.bookLocationService = bookLocationService;
+    this.circulationLogPort = circulationLogPort;
+    this.domainEventPublisher = domainEventPublisher;
+    this.libraryMetrics = libraryMetrics;
   }
 
   private void validateBookDoesNotExist(BookRequestDTO bookDTO) {
@@ -71,6 +83,7 @@ public class BookService implements BookFacade {
   //      READ Operations
   // ============================================================
   @Override
+  @Transactional(readOnly = true)
   public Optional<BookDTO> findBookById(Long bookId) {
     Optional<BookEntity> bookEntity = bookJpaRepository.findById(bookId);
     return bookEntity.map(BookDTO::fromEntity);
@@ -80,6 +93,7 @@ public class BookService implements BookFacade {
     return findByShelfId(id);
   }
 
+  @Transactional(readOnly = true)
   public Optional<BookDTO> findBookByTitleIgnoreCase(String title) {
     Optional<BookEntity> bookEntity = bookJpaRepository.findByTitleIgnoreCase(title);
     return Optional.of(BookDTO.fromEntity(bookEntity.orElse(null)));
@@ -93,7 +107,7 @@ public class BookService implements BookFacade {
    * @return the book entity with the specified title, or null if no such book exists
    */
   @Override
-  @Transactional
+  @Transactional(readOnly = true)
   public BookDTO findBookByTitle(String title) {
     Optional<BookEntity> bookEntity = bookJpaRepository.findByTitleIgnoreCase(title);
     if (bookEntity.isEmpty()) {
@@ -102,15 +116,13 @@ public class BookService implements BookFacade {
     return bookMapper.toDTOfromEntity(bookEntity.orElse(null));
   }
 
+  @Transactional(readOnly = true)
   public List<BookEntity> findBookByKeyword(String keyword) {
-    List<BookEntity> bookEntities = bookJpaRepository.findByTitleContaining(keyword);
-    for (BookEntity book : bookEntities) {
-      System.out.println(book.getTitle());
-    }
-    return bookEntities;
+    return bookJpaRepository.findByTitleContaining(keyword);
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<BookSummary> getBooksForShelf(Long shelfId) {
     return bookJpaRepository.findBookSummariesByShelfIdOrderByTitleAsc(shelfId);
   }
@@ -119,21 +131,55 @@ public class BookService implements BookFacade {
   // UPDATE Operations
   // ============================================================
 
+  @Transactional
   public Book assignBookToShelf(Long bookId, Long shelfId) {
-    return bookDomainRepository.placeBookOnShelf(bookId, shelfId);
+    Book book = bookDomainRepository.placeBookOnShelf(bookId, shelfId);
+    domainEventPublisher.publish(new BookPlaced(bookId, shelfId));
+    circulationLogPort.placed(bookId, shelfId);
+    return book;
   }
 
   @Override
-  public void checkOutBook(BookDTO bookDTO) {
-    bookDomainRepository.updateAvailabilityStatus(bookDTO.title());
+  @Transactional
+  public boolean checkOutBook(BookDTO bookDTO) {
+    boolean checkedOut =
+        bookDomainRepository.transitionAvailability(
+            bookDTO.id(), AvailabilityStatus.AVAILABLE, AvailabilityStatus.CHECKED_OUT);
+    if (checkedOut) {
+      domainEventPublisher.publish(new BookUpdated(bookDTO.id()));
+      circulationLogPort.checkedOut(bookDTO.id());
+    }
+    return checkedOut;
+  }
+
+  @Override
+  @Transactional
+  public boolean checkInBook(Long bookId) {
+    boolean checkedIn =
+        bookDomainRepository.transitionAvailability(
+            bookId, AvailabilityStatus.CHECKED_OUT, AvailabilityStatus.AVAILABLE);
+    if (checkedIn) {
+      domainEventPublisher.publish(new BookUpdated(bookId));
+      circulationLogPort.checkedIn(bookId);
+    }
+    return checkedIn;
   }
 
   @Override
-  public void checkInBook(String bookTitle) {
-    bookDomainRepository.updateAvailabilityStatus(bookTitle);
+  @Transactional
+  public boolean renewBook(Long bookId) {
+    boolean renewed =
+        bookDomainRepository.transitionAvailability(
+            bookId, AvailabilityStatus.CHECKED_OUT, AvailabilityStatus.CHECKED_OUT);
+    if (renewed) {
+      domainEventPublisher.publish(new BookUpdated(bookId));
+      circulationLogPort.renewed(bookId);
+    }
+    return renewed;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public BookDTO findBookByIsbn(String isbn) {
     BookEntity bookEntity = bookJpaRepository.findByIsbn(isbn);
     if (bookEntity == null) {
@@ -143,8 +189,9 @@ public class BookService implements BookFacade {
     return bookMapper.toDTOfromEntity(bookEntity);
   }
 
+  @Transactional(readOnly = true)
   public List<BookDTO> getBooksByShelfId(Long shelfId) {
-    List<BookEntity> bookEntities = bookJpaRepository.findByShelfId(shelfId);
+    List<BookEntity> bookEntities = bookJpaRepository.findWithAuthorsByShelfId(shelfId);
     List<BookDTO> bookDTOs = new ArrayList<>();
     for (BookEntity bookEntity : bookEntities) {
       bookDTOs.add(bookMapper.toDTOfromEntity(bookEntity));
@@ -152,34 +199,31 @@ public class BookService implements BookFacade {
     return bookDTOs;
   }
 
+  /**
+   * Returns where a book is shelved, from the in-memory location index.
+   *
+   * @throws IllegalArgumentException if there is no such book
+   * @throws IllegalStateException if the book is not on a shelf
+   */
   public BookLocationResponse getBookLocation(Long bookId) {
-    BookEntity bookEntity =
-        bookJpaRepository
-            .findById(bookId)
-            .orElseThrow(() -> new IllegalArgumentException("Book not found: " + bookId));
-    if (bookEntity.getShelfId() == null) {
-      throw new IllegalStateException("Book is not currently assigned to a shelf");
-    }
-    ShelfDTO shelf =
-        shelfAccessPort
-            .findShelfById(bookEntity.getShelfId())
-            .orElseThrow(
-                () ->
-                    new IllegalStateException(
-                        "Shelf not found for shelf ID: " + bookEntity.getShelfId()));
-
-    BookcaseEntity bookcaseEntity =
-        bookcaseJpaRepository
-            .findById(shelf.bookcaseId())
-            .orElseThrow(
-                () ->
-                    new IllegalStateException(
-                        "Bookcase not found for bookcase ID: " + shelf.bookcaseId()));
-
-    return new BookLocationResponse(
-        bookcaseEntity.getBookcaseLocation(),
-        bookcaseEntity.getBookcaseLocation(),
-        shelf.shelfLabel());
+    return findBookLocation(bookId)
+        .orElseThrow(
+            () ->
+                bookJpaRepository.existsById(bookId)
+                    ? new IllegalStateException("Book is not currently assigned to a shelf")
+                    : new IllegalArgumentException("Book not found: " + bookId));
+  }
+
+  @Override
+  public Optional<BookLocationResponse> findBookLocation(Long bookId) {
+    return bookLocationService
+        .findLocation(bookId)
+        .map(
+            location ->
+                new BookLocationResponse(
+                    location.bookcaseLocation(),
+                    location.bookcaseLocation(),
+                    location.shelfLabel()));
   }
 
   // ============================================================
@@ -187,10 +231,13 @@ public class BookService implements BookFacade {
   // ============================================================
 
   @Override
+  @Transactional
   public void updateTheBooksShelf(BookDTO bookDTO, Long newShelfId) {
     Book book = bookMapper.toDomainFromDTO(bookDTO);
     Long bookId = bookDTO.id();
     bookDomainRepository.updateTheBooksShelf(book, bookId, newShelfId);
+    domainEventPublisher.publish(new BookMoved(bookId, bookDTO.shelfId(), newShelfId));
+    circulationLogPort.placed(bookId, newShelfId);
     logger.info("Updated book with title {} to shelf with id {}", bookDTO.title(), newShelfId);
   }
 
@@ -202,17 +249,27 @@ public class BookService implements BookFacade {
   @Override
   public BookMetaDataResponse findBookMetaDataByIsbn(String isbn) {
     GoogleBooksResponse googleBooksResponse = isbnLookupService.lookupBook(isbn).block();
+    libraryMetrics.metadataLookedUp(
+        googleBooksResponse != null
+            && googleBooksResponse.items() != null
+            && !googleBooksResponse.items().isEmpty());
     logger.info("Fetched book metadata for ISBN: {}", isbn);
     return bookMapper.toBookMetaDataResponseFromGoogleBooksResponse(googleBooksResponse, isbn);
   }
 
   @Override
+  @Transactional
   public void createBookFromMetaData(
       BookMetaDataResponse bookMetaDataResponse, List<Long> authorIds, String isbn, Long shelfId) {
-    bookDomainRepository.createBookFromMetaData(bookMetaDataResponse, authorIds, isbn, shelfId);
+    Long bookId =
+        bookDomainRepository.createBookFromMetaData(bookMetaDataResponse, authorIds, isbn, shelfId);
+    domainEventPublisher.publish(new BookRegistered(bookId, bookMetaDataResponse.title(), shelfId));
+    bookSuggestionService.invalidate();
+    libraryMetrics.bookCreatedFromMetadata();
   }
 
   @Override
+  @Transactional
   public void createNewBook(BookRequestDTO bookRequestDTO) {
     logger.info("Creating new book with title: {}", bookRequestDTO.title());
     Book book = bookMapper.toDomainFromBookRequestDTO(bookRequestDTO);
@@ -221,32 +278,43 @@ public class BookService implements BookFacade {
     book.setShelfId(bookRequestDTO.bookshelfId());
     book.setPublisher(bookRequestDTO.publisher());
     logger.info("Mapped BookRequestDTO to Book domain object: {}", book);
-    bookDomainRepository.registerBook(book);
+    Long bookId = bookDomainRepository.registerBook(book);
+    domainEventPublisher.publish(
+        new BookRegistered(bookId, bookRequestDTO.title(), bookRequestDTO.bookshelfId()));
+    bookSuggestionService.invalidate();
     logger.info("Book registered successfully in the repository.");
   }
 
   @Override
+  @Transactional(readOnly = true)
   public BookDetailView getBookDetails(Long bookId) {
     return bookDomainRepository.getBookDetailView(bookId);
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<String> getBooksByAuthorId(Long id) {
-    List<BookEntity> bookEntities = bookDomainRepository.getThreeBooksByAuthorId(id);
-    logger.info(bookEntities.size() + " books found for author id: " + id);
-    List<String> bookTitles = bookEntities.stream().limit(3).map(BookEntity::getTitle).toList();
-    logger.info("Book titles: " + bookTitles);
-    return bookTitles;
+    return getTitlePreviewsByAuthorIds(List.of(id), 3).getOrDefault(id, List.of());
   }
 
   @Override
+  @Transactional(readOnly = true)
+  public Map<Long, List<String>> getTitlePreviewsByAuthorIds(
+      Collection<Long> authorIds, int perAuthor) {
+    return bookDomainRepository.findTitlePreviewsByAuthorIds(authorIds, perAuthor);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
   public List<BriefBibliographicRecord> getBriefBibliographicRecordsByShelfId(Long shelfId) {
     return bookMapper.toBookBriefListFromBookDTOs(bookDomainRepository.getBooksByShelfId(shelfId));
   }
 
   @Override
+  @Transactional
   public void updatePublisher(String isbn, String newPublisher) {
-    bookDomainRepository.updatePublisher(isbn, newPublisher);
+    Long bookId = bookDomainRepository.updatePublisher(isbn, newPublisher);
+    domainEventPublisher.publish(new BookUpdated(bookId));
   }
 
   @Override
@@ -255,11 +323,14 @@ public class BookService implements BookFacade {
   }
 
   @Override
-  public void deleteByShelfIdIn(List<Long> shelfIds) {
-    bookDomainRepository.deleteByShelfId(shelfIds);
+  public int deleteByShelfIdIn(List<Long> shelfIds) {
+    int deleted = bookDomainRepository.deleteByShelfId(shelfIds);
+    bookSuggestionService.invalidate();
+    return deleted;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<Book> findByShelfId(Long shelfId) {
     List<BookEntity> entities = bookJpaRepository.findByShelfId(shelfId);
     List<Book> books = new ArrayList<>();
@@ -275,12 +346,31 @@ public class BookService implements BookFacade {
   }
 
   @Override
-  public void deleteByShelfId(List<Long> shelfIds) {
-    bookDomainRepository.deleteByShelfId(shelfIds);
+  public int deleteByShelfId(List<Long> shelfIds) {
+    int deleted = bookDomainRepository.deleteByShelfId(shelfIds);
+    bookSuggestionService.invalidate();
+    return deleted;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<Long> getBookIdsByShelfId(Long shelfId) {
     return bookDomainRepository.getBookIdsByShelfId(shelfId);
   }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<BookcaseBookCount> countBooksPerBookcase() {
+    return bookDomainRepository.countBooksPerBookcase();
+  }
+
+  @Override
+  public List<String> suggestTitles(String query, int limit) {
+    return bookSuggestionService.suggestTitles(query, limit);
+  }
+
+  @Override
+  public List<String> suggestAuthors(String query, int limit) {
+    return bookSuggestionService.suggestAuthors(query, limit);
+  }
 }
@@ -0,0 +1,149 @@
+package com.penrose.bibby.library.cataloging.book.core.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.penrose.bibby.config.tenancy.LibraryTenantResolver;
+import com.penrose.bibby.library.cataloging.author.api.events.AuthorsChanged;
+import com.penrose.bibby.library.cataloging.author.core.ports.inbound.AuthorFacade;
+import com.penrose.bibby.library.cataloging.book.core.domain.search.SuggestionIndex;
+import com.penrose.bibby.library.cataloging.book.core.port.outbound.BookDomainRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Serves autocomplete suggestions for book titles and author names.
+ *
+ * <p>Both indexes are built lazily from the database on first use and kept in memory, so a lookup
+ * never touches the database. Any write that can change titles calls {@link #invalidate()}, and the
+ * author module publishes {@link AuthorsChanged}; either marks the indexes stale once the write has
+ * committed, and the next lookup then rebuilds the affected index once.
+ *
+ * <p>Books belong to a tenant, so titles are indexed per tenant (see {@link
+ * LibraryTenantResolver}); indexes of tenants that stop asking are dropped after a while. Authors
+ * are shared by every tenant and have a single index.
+ */
+@Service
+public class BookSuggestionService implements MeterBinder {
+
+  private static final Logger log = LoggerFactory.getLogger(BookSuggestionService.class);
+
+  private final BookDomainRepository bookDomainRepository;
+  private final AuthorFacade authorFacade;
+  private static final int MAX_TITLE_INDEXES = 1_000;
+  private static final Duration TITLE_INDEX_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+  private final AtomicLong generation = new AtomicLong();
+  // A lock rather than synchronized: rebuilds query the database, which would pin a virtual thread
+  private final ReentrantLock rebuildLock = new ReentrantLock();
+  private final Cache<Long, Snapshot> titles =
+      Caffeine.newBuilder()
+          .maximumSize(MAX_TITLE_INDEXES)
+          .expireAfterAccess(TITLE_INDEX_IDLE_TIMEOUT)
+          .recordStats()
+          .build();
+  private volatile Snapshot authors;
+
+  public BookSuggestionService(
+      BookDomainRepository bookDomainRepository, AuthorFacade authorFacade) {
+    this.bookDomainRepository = bookDomainRepository;
+    this.authorFacade = authorFacade;
+  }
+
+  public List<String> suggestTitles(String query, int limit) {
+    Long tenant = LibraryTenantResolver.currentTenant();
+    Snapshot snapshot = titles.getIfPresent(tenant);
+    if (snapshot == null || snapshot.generation() != generation.get()) {
+      snapshot = rebuildTitles(tenant);
+    }
+    return snapshot.index().suggest(query, limit);
+  }
+
+  public List<String> suggestAuthors(String query, int limit) {
+    Snapshot snapshot = authors;
+    if (snapshot == null || snapshot.generation() != generation.get()) {
+      snapshot = rebuildAuthors();
+    }
+    return snapshot.index().suggest(query, limit);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, titles, "book-title-suggestions");
+  }
+
+  /**
+   * Marks every index stale once the caller's transaction commits, or straight away outside one;
+   * each is rebuilt on its next lookup. Marking them before the commit would let a lookup in
+   * between rebuild from the old rows and keep them as current.
+   */
+  public void invalidate() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              generation.incrementAndGet();
+            }
+          });
+    } else {
+      generation.incrementAndGet();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAuthorsChanged(AuthorsChanged event) {
+    generation.incrementAndGet();
+  }
+
+  // findAllTitles runs in the caller's session and so only returns the caller's tenant's titles
+  private Snapshot rebuildTitles(Long tenant) {
+    rebuildLock.lock();
+    try {
+      Snapshot snapshot =
+          rebuild(titles.getIfPresent(tenant), "title", bookDomainRepository::findAllTitles);
+      titles.put(tenant, snapshot);
+      return snapshot;
+    } finally {
+      rebuildLock.unlock();
+    }
+  }
+
+  private Snapshot rebuildAuthors() {
+    rebuildLock.lock();
+    try {
+      authors = rebuild(authors, "author", authorFacade::getAllAuthorNames);
+      return authors;
+    } finally {
+      rebuildLock.unlock();
+    }
+  }
+
+  private Snapshot rebuild(Snapshot current, String kind, Supplier<List<String>> source) {
+    long expected = generation.get();
+    if (current != null && current.generation() == expected) {
+      return current; // another caller rebuilt it while we waited
+    }
+    long start = System.nanoTime();
+    SuggestionIndex index = SuggestionIndex.build(source.get());
+    log.debug(
+        "Built {} suggestion index with {} terms in {} ms",
+        kind,
+        index.size(),
+        (System.nanoTime() - start) / 1_000_000);
+    return new Snapshot(expected, index);
+  }
+
+  private record Snapshot(long generation, SuggestionIndex index) {}
+}
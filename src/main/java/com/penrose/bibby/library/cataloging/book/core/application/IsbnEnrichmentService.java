@@ -12,7 +12,6 @@ import com.penrose.bibby.library.cataloging.book.infrastructure.entity.BookEntit
 import com.penrose.bibby.library.cataloging.book.infrastructure.external.GoogleBooksResponse;
 import java.time.LocalDate;
 import java.util.HashSet;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -40,30 +39,10 @@ public class IsbnEnrichmentService {
     }
 
     Book book = bookMapper.toDomainFromJSON(googleBooksResponse);
-    var pretty =
-        """
-        -------------------------------------------
-        📚  Enriched Book Details
-        -------------------------------------------
-        Title       : %s
-        Author(s)   : %s
-        Publisher   : %s
-        ISBN-13     : %s
-
-        Description :
-        %s
-        -------------------------------------------
-        """
-            .formatted(
-                book.getTitle(),
-                book.getAuthors().stream()
-                    .map(a -> a.getAuthorFirstName() + " " + a.getAuthorLastName())
-                    .collect(Collectors.joining(", ")),
-                book.getPublisher(),
-                isbn,
-                wrapText(book.getDescription(), 80));
-
-    log.info("\n{}", pretty);
+    log.atDebug()
+        .addKeyValue("isbn", isbn)
+        .addKeyValue("authors", book.getAuthors().size())
+        .log("Enriched book metadata");
     HashSet<AuthorEntity> authors = new HashSet<>();
     for (AuthorRef author : book.getAuthors()) {
       AuthorDTO authorDTO =
@@ -82,16 +61,7 @@ public class IsbnEnrichmentService {
     bookEntity.setPublisher(book.getPublisher());
     //
     // bookEntity.setPublicationYear(Integer.parseInt(book.getPublishedDate().split("-")[0]));
-    System.out.println("book = " + bookEntity);
     //        bookRepository.save(bookEntity);
     return bookEntity;
   }
-
-  private String wrapText(String text, int width) {
-    if (text == null) {
-      return ""; // or null, or some placeholder
-    }
-
-    return text.replaceAll("(.{1," + width + "})(\\s+|$)", "$1\n");
-  }
 }
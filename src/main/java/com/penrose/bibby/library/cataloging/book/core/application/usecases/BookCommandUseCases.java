@@ -1,11 +1,16 @@
 package com.penrose.bibby.library.cataloging.book.core.application.usecases;
 
+import com.penrose.bibby.config.metrics.LibraryMetrics;
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookShelfAssignmentRequest;
+import com.penrose.bibby.library.cataloging.book.api.events.BookPlaced;
 import com.penrose.bibby.library.cataloging.book.core.port.outbound.BookDomainRepository;
+import com.penrose.bibby.library.cataloging.book.core.port.outbound.CirculationLogPort;
 import com.penrose.bibby.library.cataloging.book.core.port.outbound.ShelfAccessPort;
+import com.penrose.bibby.library.shared.events.DomainEventPublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class BookCommandUseCases {
@@ -13,13 +18,24 @@ public class BookCommandUseCases {
   private static final Logger log = LoggerFactory.getLogger(BookCommandUseCases.class);
   private final BookDomainRepository bookDomainRepository;
   private final ShelfAccessPort shelfAccessPort;
+  private final CirculationLogPort circulationLogPort;
+  private final DomainEventPublisher domainEventPublisher;
+  private final LibraryMetrics libraryMetrics;
 
   public BookCommandUseCases(
-      BookDomainRepository bookDomainRepository, ShelfAccessPort shelfAccessPort) {
+      BookDomainRepository bookDomainRepository,
+      ShelfAccessPort shelfAccessPort,
+      CirculationLogPort circulationLogPort,
+      DomainEventPublisher domainEventPublisher,
+      LibraryMetrics libraryMetrics) {
     this.bookDomainRepository = bookDomainRepository;
     this.shelfAccessPort = shelfAccessPort;
+    this.circulationLogPort = circulationLogPort;
+    this.domainEventPublisher = domainEventPublisher;
+    this.libraryMetrics = libraryMetrics;
   }
 
+  @Transactional
   public void placeBookOnShelf(Long bookId, BookShelfAssignmentRequest shelfAssignmentRequest) {
     if (shelfAssignmentRequest == null || shelfAssignmentRequest.shelfId() == null) {
       throw new IllegalStateException("Shelf id is required");
@@ -31,11 +47,14 @@ public class BookCommandUseCases {
     }
 
     if (shelfAccessPort.isFull(shelfAssignmentRequest.shelfId())) {
+      libraryMetrics.shelfCapacityRejected();
       throw new IllegalStateException(
           "Shelf with id " + shelfAssignmentRequest.shelfId() + " is full");
     }
 
     bookDomainRepository.placeBookOnShelf(bookId, shelfAssignmentRequest.shelfId());
+    domainEventPublisher.publish(new BookPlaced(bookId, shelfAssignmentRequest.shelfId()));
+    circulationLogPort.placed(bookId, shelfAssignmentRequest.shelfId());
     log.info(
         "Placed book with id {} on shelf with id {}", bookId, shelfAssignmentRequest.shelfId());
   }
@@ -0,0 +1,5 @@
+package com.penrose.bibby.library.cataloging.book.core.domain.location;
+
+/** Where one book sits: its shelf and that shelf's bookcase, with their display labels. */
+public record BookLocationEntry(
+    long bookId, long shelfId, String shelfLabel, long bookcaseId, String bookcaseLocation) {}
@@ -0,0 +1,141 @@
+package com.penrose.bibby.library.cataloging.book.core.domain.location;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compact in-memory map from book ID to its shelf and bookcase.
+ *
+ * <p>Shelves are stored once each in a slot table and books only point at a slot, so a book costs
+ * one primitive map entry however long its labels are. Label strings are interned within the index,
+ * which shares the bookcase location across all of that bookcase's shelves. The index is not
+ * thread-safe; callers guard it.
+ */
+public final class BookLocationIndex {
+
+  private final LongIntHashMap bookToSlot;
+  private final LongIntHashMap shelfToSlot = new LongIntHashMap(64);
+  private final List<ShelfSlot> slots = new ArrayList<>();
+  private final List<Integer> freeSlots = new ArrayList<>();
+  private final Map<String, String> labels = new HashMap<>();
+
+  public BookLocationIndex(int expectedBooks) {
+    this.bookToSlot = new LongIntHashMap(expectedBooks);
+  }
+
+  public static BookLocationIndex of(List<BookLocationEntry> entries) {
+    BookLocationIndex index = new BookLocationIndex(entries.size());
+    entries.forEach(index::put);
+    return index;
+  }
+
+  public Optional<BookLocationEntry> find(long bookId) {
+    int slot = bookToSlot.get(bookId);
+    if (slot == LongIntHashMap.MISSING) {
+      return Optional.empty();
+    }
+    ShelfSlot shelf = slots.get(slot);
+    return Optional.of(
+        new BookLocationEntry(
+            bookId,
+            shelf.shelfId(),
+            shelf.shelfLabel(),
+            shelf.bookcaseId(),
+            shelf.bookcaseLabel()));
+  }
+
+  /** Records the book at the entry's shelf, adding or refreshing the shelf itself. */
+  public void put(BookLocationEntry entry) {
+    ShelfSlot shelf =
+        new ShelfSlot(
+            entry.shelfId(),
+            intern(entry.shelfLabel()),
+            entry.bookcaseId(),
+            intern(entry.bookcaseLocation()));
+    int slot = shelfToSlot.get(entry.shelfId());
+    if (slot == LongIntHashMap.MISSING) {
+      slot = freeSlots.isEmpty() ? slots.size() : freeSlots.remove(freeSlots.size() - 1);
+      if (slot == slots.size()) {
+        slots.add(shelf);
+      } else {
+        slots.set(slot, shelf);
+      }
+      shelfToSlot.put(entry.shelfId(), slot);
+    } else {
+      slots.set(slot, shelf);
+    }
+    bookToSlot.put(entry.bookId(), slot);
+  }
+
+  /**
+   * Moves a book to a shelf the index already knows.
+   *
+   * @return {@code false} if the shelf is unknown, in which case nothing changes
+   */
+  public boolean place(long bookId, long shelfId) {
+    int slot = shelfToSlot.get(shelfId);
+    if (slot == LongIntHashMap.MISSING) {
+      return false;
+    }
+    bookToSlot.put(bookId, slot);
+    return true;
+  }
+
+  public void removeBook(long bookId) {
+    bookToSlot.remove(bookId);
+  }
+
+  /** Forgets a shelf and every book on it. */
+  public void removeShelf(long shelfId) {
+    int slot = shelfToSlot.remove(shelfId);
+    if (slot != LongIntHashMap.MISSING) {
+      removeSlots(slot);
+    }
+  }
+
+  /** Forgets every shelf of a bookcase and every book on them. */
+  public void removeBookcase(long bookcaseId) {
+    List<Integer> removed = new ArrayList<>();
+    for (int slot = 0; slot < slots.size(); slot++) {
+      ShelfSlot shelf = slots.get(slot);
+      if (shelf != null && shelf.bookcaseId() == bookcaseId) {
+        shelfToSlot.remove(shelf.shelfId());
+        removed.add(slot);
+      }
+    }
+    if (!removed.isEmpty()) {
+      removeSlots(removed.stream().mapToInt(Integer::intValue).toArray());
+    }
+  }
+
+  public int size() {
+    return bookToSlot.size();
+  }
+
+  private void removeSlots(int... removedSlots) {
+    boolean[] removed = new boolean[slots.size()];
+    for (int slot : removedSlots) {
+      removed[slot] = true;
+      slots.set(slot, null);
+      freeSlots.add(slot);
+    }
+    List<Long> orphans = new ArrayList<>();
+    bookToSlot.forEach(
+        (bookId, slot) -> {
+          if (removed[slot]) {
+            orphans.add(bookId);
+          }
+        });
+    orphans.forEach(bookToSlot::remove);
+  }
+
+  private String intern(String label) {
+    return label == null ? null : labels.computeIfAbsent(label, l -> l);
+  }
+
+  private record ShelfSlot(
+      long shelfId, String shelfLabel, long bookcaseId, String bookcaseLabel) {}
+}
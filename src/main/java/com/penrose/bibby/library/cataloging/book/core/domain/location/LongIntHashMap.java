@@ -0,0 +1,133 @@
+package com.penrose.bibby.library.cataloging.book.core.domain.location;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from {@code long} to {@code int} with linear probing, so lookups need no
+ * boxing and each entry costs 12 bytes plus load-factor slack. {@link Long#MIN_VALUE} marks a free
+ * slot and cannot be used as a key; database IDs never are.
+ */
+final class LongIntHashMap {
+
+  static final int MISSING = -1;
+
+  private static final long FREE = Long.MIN_VALUE;
+  private static final int MIN_CAPACITY = 16;
+
+  private long[] keys;
+  private int[] values;
+  private int size;
+
+  LongIntHashMap(int expectedSize) {
+    int capacity = MIN_CAPACITY;
+    while (capacity * 3L / 4 < expectedSize) {
+      capacity <<= 1;
+    }
+    allocate(capacity);
+  }
+
+  int get(long key) {
+    int mask = keys.length - 1;
+    for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+      long k = keys[i];
+      if (k == key) {
+        return values[i];
+      }
+      if (k == FREE) {
+        return MISSING;
+      }
+    }
+  }
+
+  void put(long key, int value) {
+    if (key == FREE) {
+      throw new IllegalArgumentException("Unsupported key: " + key);
+    }
+    int mask = keys.length - 1;
+    int i = slot(key, mask);
+    while (keys[i] != FREE && keys[i] != key) {
+      i = (i + 1) & mask;
+    }
+    if (keys[i] == FREE) {
+      keys[i] = key;
+      size++;
+    }
+    values[i] = value;
+    if (size * 4L > keys.length * 3L) {
+      rehash(keys.length << 1);
+    }
+  }
+
+  /** Removes the key, shifting later entries of the probe chain back so lookups stay correct. */
+  int remove(long key) {
+    int mask = keys.length - 1;
+    int i = slot(key, mask);
+    while (keys[i] != key) {
+      if (keys[i] == FREE) {
+        return MISSING;
+      }
+      i = (i + 1) & mask;
+    }
+    int removed = values[i];
+    size--;
+    int gap = i;
+    for (int j = (gap + 1) & mask; keys[j] != FREE; j = (j + 1) & mask) {
+      int home = slot(keys[j], mask);
+      // Move j into the gap unless its home slot lies cyclically in (gap, j]
+      boolean movable = gap <= j ? (home <= gap || home > j) : (home <= gap && home > j);
+      if (movable) {
+        keys[gap] = keys[j];
+        values[gap] = values[j];
+        gap = j;
+      }
+    }
+    keys[gap] = FREE;
+    return removed;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /** Calls {@code action} for every entry; the map must not be modified meanwhile. */
+  void forEach(Entry action) {
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != FREE) {
+        action.accept(keys[i], values[i]);
+      }
+    }
+  }
+
+  private void rehash(int capacity) {
+    long[] oldKeys = keys;
+    int[] oldValues = values;
+    allocate(capacity);
+    int mask = capacity - 1;
+    for (int j = 0; j < oldKeys.length; j++) {
+      if (oldKeys[j] != FREE) {
+        int i = slot(oldKeys[j], mask);
+        while (keys[i] != FREE) {
+          i = (i + 1) & mask;
+        }
+        keys[i] = oldKeys[j];
+        values[i] = oldValues[j];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new int[capacity];
+    Arrays.fill(keys, FREE);
+  }
+
+  private static int slot(long key, int mask) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32)) & mask;
+  }
+
+  @FunctionalInterface
+  interface Entry {
+    void accept(long key, int value);
+  }
+}
@@ -0,0 +1,280 @@
+package com.penrose.bibby.library.cataloging.book.core.domain.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable, typo-tolerant prefix index used to autocomplete book titles and author names.
+ *
+ * <p>Terms are normalized (case, accents and punctuation folded) and inserted into a character trie
+ * once from the start of the term and once from the start of each following word, so that "hobbit"
+ * finds "The Hobbit". Every node keeps a small, pre-ranked list of the best terms below it, so a
+ * node whose prefix matches the query contributes its candidates without the lookup enumerating the
+ * terms in its subtree.
+ *
+ * <p>Fuzzy matching walks the trie while maintaining a row of the Damerau-Levenshtein matrix per
+ * node. It does not stop at the first matching prefix: it keeps descending while any longer prefix
+ * could still fall within the edit budget, and prunes any branch whose row minimum exceeds it. The
+ * budget grows with the query length: exact for one or two characters, one edit up to five
+ * characters, two edits beyond.
+ *
+ * <p>Ranking, best first: fewer edits, matches at the start of the term, more occurrences of the
+ * same term, shorter terms, then alphabetical order.
+ */
+public final class SuggestionIndex {
+
+  /** Upper bound on suggestions returned by a single lookup. */
+  public static final int MAX_SUGGESTIONS = 16;
+
+  private static final int MAX_WORD_OFFSETS = 8;
+  private static final SuggestionIndex EMPTY = new SuggestionIndex(new String[0], new int[0], null);
+
+  private final String[] terms;
+  private final int[] weights;
+  private final Node root;
+
+  private SuggestionIndex(String[] terms, int[] weights, Node root) {
+    this.terms = terms;
+    this.weights = weights;
+    this.root = root;
+  }
+
+  public static SuggestionIndex empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Builds an index from raw display values. Duplicate values (after normalization) are collapsed
+   * into a single suggestion whose weight is the number of occurrences.
+   *
+   * @param values display strings such as book titles or author full names; nulls are ignored
+   * @return a new immutable index
+   */
+  public static SuggestionIndex build(Collection<String> values) {
+    Map<String, Integer> termIds = new HashMap<>();
+    List<String> displayTerms = new ArrayList<>();
+    List<Integer> counts = new ArrayList<>();
+    List<String> keys = new ArrayList<>();
+
+    for (String value : values) {
+      if (value == null) {
+        continue;
+      }
+      String key = normalize(value);
+      if (key.isEmpty()) {
+        continue;
+      }
+      Integer termId = termIds.get(key);
+      if (termId == null) {
+        termIds.put(key, displayTerms.size());
+        displayTerms.add(value.trim());
+        counts.add(1);
+        keys.add(key);
+      } else {
+        counts.set(termId, counts.get(termId) + 1);
+      }
+    }
+    if (displayTerms.isEmpty()) {
+      return EMPTY;
+    }
+
+    String[] terms = displayTerms.toArray(new String[0]);
+    int[] weights = counts.stream().mapToInt(Integer::intValue).toArray();
+
+    BuildNode buildRoot = new BuildNode();
+    for (int termId = 0; termId < keys.size(); termId++) {
+      String key = keys.get(termId);
+      buildRoot.insert(key, encode(termId, false));
+      int offsets = 0;
+      for (int i = 1; i < key.length() && offsets < MAX_WORD_OFFSETS; i++) {
+        if (key.charAt(i - 1) == ' ') {
+          buildRoot.insert(key.substring(i), encode(termId, true));
+          offsets++;
+        }
+      }
+    }
+
+    Comparator<Integer> ranking = entryRanking(terms, weights);
+    return new SuggestionIndex(terms, weights, buildRoot.freeze(ranking));
+  }
+
+  /**
+   * Returns up to {@code limit} ranked suggestions for the given (possibly misspelled) prefix.
+   *
+   * @param query what the user has typed so far
+   * @param limit maximum number of suggestions; clamped to {@link #MAX_SUGGESTIONS}
+   * @return suggested display values, best first; never {@code null}
+   */
+  public List<String> suggest(String query, int limit) {
+    if (root == null || query == null || limit <= 0) {
+      return List.of();
+    }
+    char[] q = normalize(query).toCharArray();
+    if (q.length == 0) {
+      return List.of();
+    }
+    int maxEdits = q.length <= 2 ? 0 : q.length <= 5 ? 1 : 2;
+
+    int[] firstRow = new int[q.length + 1];
+    for (int j = 0; j <= q.length; j++) {
+      firstRow[j] = j;
+    }
+
+    // termId -> best score, where score = edits * 2 + (1 if only an inner word matched)
+    Map<Integer, Integer> best = new LinkedHashMap<>();
+    for (int i = 0; i < root.labels.length; i++) {
+      walk(root.children[i], root.labels[i], (char) 0, q, firstRow, null, maxEdits, best);
+    }
+
+    return best.entrySet().stream()
+        .sorted(
+            Comparator.comparingInt((Map.Entry<Integer, Integer> e) -> e.getValue())
+                .thenComparing(Map.Entry::getKey, termRanking(terms, weights)))
+        .limit(Math.min(limit, MAX_SUGGESTIONS))
+        .map(e -> terms[e.getKey()])
+        .toList();
+  }
+
+  /** Number of distinct terms in the index. */
+  public int size() {
+    return terms.length;
+  }
+
+  private void walk(
+      Node node,
+      char c,
+      char previousChar,
+      char[] q,
+      int[] previousRow,
+      int[] rowBeforePrevious,
+      int maxEdits,
+      Map<Integer, Integer> best) {
+    int columns = q.length + 1;
+    int[] row = new int[columns];
+    row[0] = previousRow[0] + 1;
+    int rowMin = row[0];
+
+    for (int j = 1; j < columns; j++) {
+      int substitution = previousRow[j - 1] + (q[j - 1] == c ? 0 : 1);
+      int value = Math.min(Math.min(row[j - 1] + 1, previousRow[j] + 1), substitution);
+      if (rowBeforePrevious != null
+          && j > 1
+          && q[j - 1] == previousChar
+          && q[j - 2] == c) {
+        value = Math.min(value, rowBeforePrevious[j - 2] + 1);
+      }
+      row[j] = value;
+      rowMin = Math.min(rowMin, value);
+    }
+
+    int edits = row[q.length];
+    if (edits <= maxEdits) {
+      for (int entry : node.top) {
+        int termId = entry >>> 1;
+        int score = edits * 2 + (entry & 1);
+        best.merge(termId, score, Math::min);
+      }
+    }
+    if (rowMin > maxEdits) {
+      return;
+    }
+    for (int i = 0; i < node.labels.length; i++) {
+      walk(node.children[i], node.labels[i], c, q, row, previousRow, maxEdits, best);
+    }
+  }
+
+  /**
+   * Folds a value to the form used as a trie key: lower case, accents stripped, any run of
+   * characters that is not a letter or digit collapsed to a single space.
+   */
+  static String normalize(String value) {
+    String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+    StringBuilder sb = new StringBuilder(decomposed.length());
+    boolean pendingSpace = false;
+    for (int i = 0; i < decomposed.length(); i++) {
+      char ch = decomposed.charAt(i);
+      if (Character.getType(ch) == Character.NON_SPACING_MARK) {
+        continue;
+      }
+      if (Character.isLetterOrDigit(ch)) {
+        if (pendingSpace && sb.length() > 0) {
+          sb.append(' ');
+        }
+        pendingSpace = false;
+        sb.append(Character.toLowerCase(ch));
+      } else if (ch != '\'') {
+        pendingSpace = true;
+      }
+    }
+    return sb.toString().toLowerCase(Locale.ROOT);
+  }
+
+  private static int encode(int termId, boolean innerWord) {
+    return (termId << 1) | (innerWord ? 1 : 0);
+  }
+
+  private static Comparator<Integer> termRanking(String[] terms, int[] weights) {
+    return Comparator.<Integer>comparingInt(id -> -weights[id])
+        .thenComparingInt(id -> terms[id].length())
+        .thenComparing(id -> terms[id], String.CASE_INSENSITIVE_ORDER);
+  }
+
+  private static Comparator<Integer> entryRanking(String[] terms, int[] weights) {
+    Comparator<Integer> byTerm = termRanking(terms, weights);
+    return Comparator.<Integer>comparingInt(entry -> entry & 1)
+        .thenComparing(entry -> entry >>> 1, byTerm);
+  }
+
+  /** Frozen trie node with children sorted by label and a pre-ranked candidate list. */
+  private record Node(char[] labels, Node[] children, int[] top) {}
+
+  /** Mutable node used only while building. */
+  private static final class BuildNode {
+    private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+    private final List<Integer> entries = new ArrayList<>(1);
+
+    void insert(String key, int entry) {
+      BuildNode node = this;
+      for (int i = 0; i < key.length(); i++) {
+        node = node.children.computeIfAbsent(key.charAt(i), k -> new BuildNode());
+      }
+      node.entries.add(entry);
+    }
+
+    Node freeze(Comparator<Integer> ranking) {
+      char[] labels = new char[children.size()];
+      Node[] frozen = new Node[children.size()];
+      // termId -> best entry seen below this node (prefix matches win over inner-word matches)
+      Map<Integer, Integer> candidates = new HashMap<>();
+      for (int entry : entries) {
+        candidates.merge(entry >>> 1, entry, Math::min);
+      }
+
+      int i = 0;
+      for (Map.Entry<Character, BuildNode> child : children.entrySet()) {
+        labels[i] = child.getKey();
+        frozen[i] = child.getValue().freeze(ranking);
+        for (int entry : frozen[i].top()) {
+          candidates.merge(entry >>> 1, entry, Math::min);
+        }
+        i++;
+      }
+
+      int[] top =
+          candidates.values().stream()
+              .sorted(ranking)
+              .limit(MAX_SUGGESTIONS)
+              .mapToInt(Integer::intValue)
+              .toArray();
+      return new Node(labels, frozen, top);
+    }
+  }
+}
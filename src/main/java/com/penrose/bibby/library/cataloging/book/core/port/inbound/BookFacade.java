@@ -2,13 +2,15 @@ package com.penrose.bibby.library.cataloging.book.core.port.inbound;
 
 import com.penrose.bibby.library.cataloging.book.api.dtos.*;
 import com.penrose.bibby.library.cataloging.book.core.domain.model.Book;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface BookFacade {
   List<BookDTO> getBooksByShelfId(Long shelfId);
 
-  void deleteByShelfId(List<Long> shelfIds);
+  int deleteByShelfId(List<Long> shelfIds);
 
   void updateTheBooksShelf(BookDTO bookDTO, Long newShelfId);
 
@@ -46,9 +48,27 @@ public interface BookFacade {
 
   void createNewBook(BookRequestDTO bookRequestDTO);
 
-  void checkOutBook(BookDTO bookDTO);
+  /**
+   * Checks out a book if it is still available.
+   *
+   * @return {@code true} if the book was checked out; {@code false} if it was not available, for
+   *     instance because someone else checked it out first
+   */
+  boolean checkOutBook(BookDTO bookDTO);
 
-  void checkInBook(String bookTitle);
+  /**
+   * Returns a checked-out book to the library.
+   *
+   * @return {@code true} if the book was checked in; {@code false} if it was not checked out
+   */
+  boolean checkInBook(Long bookId);
+
+  /**
+   * Extends the loan of a checked-out book.
+   *
+   * @return {@code true} if the loan was renewed; {@code false} if the book is not checked out
+   */
+  boolean renewBook(Long bookId);
 
   List<BookSummary> getBooksForShelf(Long shelfId);
 
@@ -56,8 +76,24 @@ public interface BookFacade {
 
   Optional<BookDTO> findBookById(Long bookId);
 
+  /**
+   * Looks up where a book is shelved without loading the book, its shelf or its bookcase.
+   *
+   * @return the bookcase and shelf labels, or empty if the book is unknown or not on a shelf
+   */
+  Optional<BookLocationResponse> findBookLocation(Long bookId);
+
   List<String> getBooksByAuthorId(Long id);
 
+  /**
+   * Previews the books of several authors at once, for menus that list candidate authors.
+   *
+   * @param authorIds the authors to preview
+   * @param perAuthor the maximum number of titles per author
+   * @return titles keyed by author id; authors without books are absent
+   */
+  Map<Long, List<String>> getTitlePreviewsByAuthorIds(Collection<Long> authorIds, int perAuthor);
+
   /**
    * Retrieves a list of brief bibliographic records associated with the specified shelf ID. Each
    * record provides a summary of key bibliographic details for books located on the shelf.
@@ -72,11 +108,36 @@ public interface BookFacade {
 
   boolean isDuplicate(String isbn);
 
-  void deleteByShelfIdIn(List<Long> shelfIds);
+  int deleteByShelfIdIn(List<Long> shelfIds);
 
   List<Book> findByShelfId(Long shelfId);
 
   void placeBookOnShelf(Long bookId, BookShelfAssignmentRequest shelfAssignmentRequest);
 
   List<Long> getBookIdsByShelfId(Long shelfId);
+
+  /**
+   * Counts the shelved books in every bookcase with a single grouped query.
+   *
+   * @return one entry per bookcase that holds at least one book
+   */
+  List<BookcaseBookCount> countBooksPerBookcase();
+
+  /**
+   * Suggests book titles for a partial, possibly misspelled, title.
+   *
+   * @param query the characters typed so far
+   * @param limit the maximum number of suggestions to return
+   * @return matching titles, best match first
+   */
+  List<String> suggestTitles(String query, int limit);
+
+  /**
+   * Suggests author names for a partial, possibly misspelled, name.
+   *
+   * @param query the characters typed so far
+   * @param limit the maximum number of suggestions to return
+   * @return matching author full names, best match first
+   */
+  List<String> suggestAuthors(String query, int limit);
 }
@@ -3,15 +3,26 @@ package com.penrose.bibby.library.cataloging.book.core.port.outbound;
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookDTO;
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookDetailView;
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookMetaDataResponse;
+import com.penrose.bibby.library.cataloging.book.api.dtos.BookcaseBookCount;
+import com.penrose.bibby.library.cataloging.book.core.domain.AvailabilityStatus;
+import com.penrose.bibby.library.cataloging.book.core.domain.location.BookLocationEntry;
 import com.penrose.bibby.library.cataloging.book.core.domain.model.Book;
 import com.penrose.bibby.library.cataloging.book.infrastructure.entity.BookEntity;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface BookDomainRepository {
 
   List<BookDTO> getBooksByShelfId(Long shelfId);
 
-  void registerBook(Book book);
+  /**
+   * Persists a new book.
+   *
+   * @return the generated book ID
+   */
+  Long registerBook(Book book);
 
   void updateBook(Book book);
 
@@ -21,7 +32,13 @@ public interface BookDomainRepository {
 
   void updateTheBooksShelf(Book book, Long bookId, Long newShelfId);
 
-  void updateAvailabilityStatus(String bookTitle);
+  /**
+   * Atomically moves a book from {@code from} to {@code to}; a no-op unless the book is currently
+   * in {@code from}, so two concurrent check-outs of the same copy cannot both succeed.
+   *
+   * @return {@code true} if this call performed the transition
+   */
+  boolean transitionAvailability(Long bookId, AvailabilityStatus from, AvailabilityStatus to);
 
   void registerBookFromMetaData(
       BookMetaDataResponse bookMetaDataResponse, String isbn, Long shelfId);
@@ -38,19 +55,47 @@ public interface BookDomainRepository {
    * @param authorIds List of IDs corresponding to the authors of the book.
    * @param isbn The ISBN of the book, used as a unique identifier.
    * @param shelfId The ID of the shelf where the book is to be placed.
+   * @return the generated book ID
    */
-  void createBookFromMetaData(
+  Long createBookFromMetaData(
       BookMetaDataResponse bookMetaDataResponse, List<Long> authorIds, String isbn, Long shelfId);
 
-  List<BookEntity> getThreeBooksByAuthorId(Long id);
+  /**
+   * Returns up to {@code perAuthor} titles for each of the given authors, keyed by author id.
+   * Authors without books are absent from the map.
+   */
+  Map<Long, List<String>> findTitlePreviewsByAuthorIds(Collection<Long> authorIds, int perAuthor);
 
-  void updatePublisher(String isbn, String newPublisher);
+  /**
+   * Sets the publisher of the book with the given ISBN.
+   *
+   * @return the id of the updated book
+   */
+  Long updatePublisher(String isbn, String newPublisher);
 
-  void deleteByShelfId(List<Long> shelfIds);
+  /**
+   * Deletes all books on the given shelves, including their author associations.
+   *
+   * @param shelfIds IDs of the shelves whose books should be removed
+   * @return the number of books deleted
+   */
+  int deleteByShelfId(List<Long> shelfIds);
 
   Book getBookDomainById(Long bookId);
 
   Book placeBookOnShelf(Long bookId, Long shelfId);
 
   List<Long> getBookIdsByShelfId(Long shelfId);
+
+  /** Returns the title of every book, one entry per copy, for building the title suggest index. */
+  List<String> findAllTitles();
+
+  /** Returns the shelf and bookcase of every book that is on a shelf. */
+  List<BookLocationEntry> findAllBookLocations();
+
+  /** Returns the book's shelf and bookcase, or empty if it is missing or not on a shelf. */
+  Optional<BookLocationEntry> findBookLocation(Long bookId);
+
+  /** Returns the number of shelved books in each bookcase; empty bookcases are left out. */
+  List<BookcaseBookCount> countBooksPerBookcase();
 }
@@ -0,0 +1,18 @@
+package com.penrose.bibby.library.cataloging.book.core.port.outbound;
+
+/**
+ * Records what happened to a book in the circulation event log. Implementations must not block on
+ * the log's storage, so calling these after a successful state change adds no noticeable latency.
+ * Called inside a transaction, an event is only recorded if that transaction commits.
+ */
+public interface CirculationLogPort {
+
+  void checkedOut(Long bookId);
+
+  void checkedIn(Long bookId);
+
+  void renewed(Long bookId);
+
+  /** Only placements record a shelf: the one the book was put on. */
+  void placed(Long bookId, Long shelfId);
+}
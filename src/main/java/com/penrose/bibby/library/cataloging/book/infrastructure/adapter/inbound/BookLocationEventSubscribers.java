@@ -0,0 +1,51 @@
+package com.penrose.bibby.library.cataloging.book.infrastructure.adapter.inbound;
+
+import com.penrose.bibby.library.cataloging.book.api.events.BookMoved;
+import com.penrose.bibby.library.cataloging.book.api.events.BookPlaced;
+import com.penrose.bibby.library.cataloging.book.api.events.BookRegistered;
+import com.penrose.bibby.library.cataloging.book.core.application.BookLocationService;
+import com.penrose.bibby.library.shared.events.DomainEventSubscriber;
+import com.penrose.bibby.library.stacks.bookcase.api.events.BookcaseDeleted;
+import com.penrose.bibby.library.stacks.shelf.api.events.ShelfDeleted;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Keeps the book location index in step with placement events from the outbox. */
+@Configuration
+public class BookLocationEventSubscribers {
+
+  @Bean
+  DomainEventSubscriber<BookRegistered> bookRegisteredLocationSubscriber(
+      BookLocationService bookLocationService) {
+    return DomainEventSubscriber.of(
+        BookRegistered.class, e -> bookLocationService.bookPlaced(e.bookId(), e.shelfId()));
+  }
+
+  @Bean
+  DomainEventSubscriber<BookPlaced> bookPlacedLocationSubscriber(
+      BookLocationService bookLocationService) {
+    return DomainEventSubscriber.of(
+        BookPlaced.class, e -> bookLocationService.bookPlaced(e.bookId(), e.shelfId()));
+  }
+
+  @Bean
+  DomainEventSubscriber<BookMoved> bookMovedLocationSubscriber(
+      BookLocationService bookLocationService) {
+    return DomainEventSubscriber.of(
+        BookMoved.class, e -> bookLocationService.bookPlaced(e.bookId(), e.toShelfId()));
+  }
+
+  @Bean
+  DomainEventSubscriber<ShelfDeleted> shelfDeletedLocationSubscriber(
+      BookLocationService bookLocationService) {
+    return DomainEventSubscriber.of(
+        ShelfDeleted.class, e -> bookLocationService.shelfDeleted(e.shelfId()));
+  }
+
+  @Bean
+  DomainEventSubscriber<BookcaseDeleted> bookcaseDeletedLocationSubscriber(
+      BookLocationService bookLocationService) {
+    return DomainEventSubscriber.of(
+        BookcaseDeleted.class, e -> bookLocationService.bookcaseDeleted(e.bookcaseId()));
+  }
+}
@@ -349,15 +349,12 @@ public class BookMapper {
     //        log.info("Fetching AuthorEntities for authors: " + String.join(", ",
     // authorDTOS.toString()));
 
-    Set<AuthorEntity> authorEntities = new HashSet<>();
+    // The join table only needs author IDs, so reference the authors without loading them
 
+    Set<AuthorEntity> authorEntities = new HashSet<>();
     for (Long authId : authorIds) {
-      AuthorDTO authorDTO = authorFacade.getAuthorById(authId);
-      log.info(authorDTO + " fetched for author ID: " + authId);
       AuthorEntity authorEntity = new AuthorEntity();
-      authorEntity.setAuthorId(authorDTO.id());
-      authorEntity.setFirstName(authorDTO.firstName());
-      authorEntity.setLastName(authorDTO.lastName());
+      authorEntity.setAuthorId(authId);
       authorEntities.add(authorEntity);
     }
 
@@ -5,6 +5,9 @@ import com.penrose.bibby.library.cataloging.author.infrastructure.entity.AuthorE
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookDTO;
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookDetailView;
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookMetaDataResponse;
+import com.penrose.bibby.library.cataloging.book.api.dtos.BookcaseBookCount;
+import com.penrose.bibby.library.cataloging.book.core.domain.AvailabilityStatus;
+import com.penrose.bibby.library.cataloging.book.core.domain.location.BookLocationEntry;
 import com.penrose.bibby.library.cataloging.book.core.domain.model.Book;
 import com.penrose.bibby.library.cataloging.book.core.port.outbound.BookDomainRepository;
 import com.penrose.bibby.library.cataloging.book.infrastructure.adapter.mapping.BookMapper;
@@ -13,27 +16,43 @@ import com.penrose.bibby.library.cataloging.book.infrastructure.repository.BookJ
 import com.penrose.bibby.library.stacks.shelf.api.dtos.ShelfDTO;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.slf4j.Logger;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Component
 public class BookDomainRepositoryAdaptor implements BookDomainRepository {
+  public static final int DELETE_CHUNK_SIZE = 500;
   private final BookMapper bookMapper;
   private final BookJpaRepository bookJpaRepository;
+  private final TransactionTemplate deleteChunkTransaction;
   Logger log = org.slf4j.LoggerFactory.getLogger(BookDomainRepositoryAdaptor.class);
 
-  public BookDomainRepositoryAdaptor(BookMapper bookMapper, BookJpaRepository bookJpaRepository) {
+  public BookDomainRepositoryAdaptor(
+      BookMapper bookMapper,
+      BookJpaRepository bookJpaRepository,
+      PlatformTransactionManager transactionManager) {
 
     this.bookMapper = bookMapper;
     this.bookJpaRepository = bookJpaRepository;
+    // Each delete chunk commits on its own, so its locks are released before the next one starts
+    this.deleteChunkTransaction = new TransactionTemplate(transactionManager);
+    this.deleteChunkTransaction.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
   }
 
   @Override
   public List<BookDTO> getBooksByShelfId(Long shelfId) {
-    List<BookEntity> bookEntities = bookJpaRepository.findByShelfId(shelfId);
+    List<BookEntity> bookEntities = bookJpaRepository.findWithAuthorsByShelfId(shelfId);
     List<BookDTO> books = new ArrayList<>();
 
     Set<AuthorDTO> authorDTO = null;
@@ -50,7 +69,7 @@ public class BookDomainRepositoryAdaptor implements BookDomainRepository {
   // todo: looks like isbn and title are different value types, need to fix
   // todo(Leo): create a factory for BookEntity creation
   @Override
-  public void registerBook(Book book) {
+  public Long registerBook(Book book) {
     log.info("Mapping book domain to entity for book: {}", book.getTitle().title());
     BookEntity bookEntity = new BookEntity();
     bookEntity.setPublisher(book.getPublisher());
@@ -72,6 +91,7 @@ public class BookDomainRepositoryAdaptor implements BookDomainRepository {
         book.getTitle(),
         book.getIsbn(),
         book.getPublisher());
+    return bookEntity.getBookId();
   }
 
   @Override
@@ -110,6 +130,7 @@ public class BookDomainRepositoryAdaptor implements BookDomainRepository {
       log.error("Book with id {} not found", bookId);
       throw new RuntimeException("Book not found with id: " + bookId);
     }
+    requireVisibleShelf(newShelfId);
 
     bookEntity.get().setShelfId(newShelfId);
     log.info("Updated shelf id for book: {} to {}", book.getTitle(), newShelfId);
@@ -120,7 +141,19 @@ public class BookDomainRepositoryAdaptor implements BookDomainRepository {
   }
 
   @Override
-  public void updateAvailabilityStatus(String bookTitle) {}
+  public boolean transitionAvailability(
+      Long bookId, AvailabilityStatus from, AvailabilityStatus to) {
+    int updated =
+        bookJpaRepository.transitionAvailability(
+            bookId, from.toString(), to.toString(), LocalDate.now());
+    log.info(
+        "Availability of book {} {} -> {}: {}",
+        bookId,
+        from,
+        to,
+        updated == 1 ? "applied" : "rejected");
+    return updated == 1;
+  }
 
   @Override
   public void registerBookFromMetaData(
@@ -147,46 +180,96 @@ public class BookDomainRepositoryAdaptor implements BookDomainRepository {
    * @param shelfId the ID of the shelf where the book will be located
    */
   @Override
-  public void createBookFromMetaData(
+  public Long createBookFromMetaData(
       BookMetaDataResponse bookMetaDataResponse, List<Long> authorIds, String isbn, Long shelfId) {
     BookEntity bookEntity =
         bookMapper.toEntityFromBookMetaDataResponse(bookMetaDataResponse, authorIds, isbn, shelfId);
     bookJpaRepository.save(bookEntity);
-    System.out.println("\u001B[32mSaved\u001B[0m\n");
-    log.info("--------------------------------");
-    log.info(" Title  : {}}%n", bookEntity.getTitle());
-    log.info(" Author : {}%n", bookMetaDataResponse.authors());
-    log.info(" ISBN   : {}%n", isbn);
-    log.info("--------------------------------");
-    log.info("Created book from metadata with title: {} and ISBN: {}", bookEntity.getTitle(), isbn);
+    log.atInfo()
+        .addKeyValue("bookId", bookEntity.getBookId())
+        .addKeyValue("isbn", isbn)
+        .addKeyValue("shelfId", shelfId)
+        .log("Book created from metadata");
+    return bookEntity.getBookId();
   }
 
   @Override
-  public List<BookEntity> getThreeBooksByAuthorId(Long id) {
-    return bookJpaRepository.findByAuthorsAuthorId(id);
+  public Map<Long, List<String>> findTitlePreviewsByAuthorIds(
+      Collection<Long> authorIds, int perAuthor) {
+    if (authorIds.isEmpty() || perAuthor <= 0) {
+      return Map.of();
+    }
+    Map<Long, List<String>> previews = new LinkedHashMap<>();
+    for (Object[] row : bookJpaRepository.findTopTitlesByAuthorIds(authorIds, perAuthor)) {
+      Long authorId = ((Number) row[0]).longValue();
+      previews.computeIfAbsent(authorId, id -> new ArrayList<>()).add((String) row[1]);
+    }
+    return previews;
   }
 
   @Override
-  public void updatePublisher(String isbn, String newPublisher) {
+  public Long updatePublisher(String isbn, String newPublisher) {
     BookEntity bookEntity = bookJpaRepository.findByIsbn(isbn);
     if (bookEntity != null) {
       bookEntity.setPublisher(newPublisher);
       bookEntity.setUpdatedAt(LocalDate.now());
       bookJpaRepository.save(bookEntity);
       log.info("Updated publisher for book with ISBN: {} to {}", isbn, newPublisher);
+      return bookEntity.getBookId();
     } else {
       log.error("Book with ISBN: {} not found", isbn);
       throw new RuntimeException("Book not found with ISBN: " + isbn);
     }
   }
 
+  /**
+   * Deletes every book on the given shelves, together with its author links, using set-based
+   * statements. Books are deleted by ID, {@value #DELETE_CHUNK_SIZE} at a time, and each chunk
+   * commits in its own transaction, so the rows locked and the work held uncommitted are bounded by
+   * the chunk rather than by the number of books on the shelves. No book rows are loaded into
+   * memory.
+   *
+   * <p>Because chunks commit as they go, a failure part way through leaves the earlier chunks
+   * deleted even if the caller's transaction rolls back; calling again deletes the rest.
+   *
+   * @return the number of book rows deleted
+   */
   @Override
-  public void deleteByShelfId(List<Long> shelfIds) {
-    List<BookEntity> booksToDelete = bookJpaRepository.findByShelfIdIn(shelfIds);
-    bookJpaRepository.deleteAll(booksToDelete);
-    log.info("Deleted {} books with shelf IDs in {}", booksToDelete.size(), shelfIds);
+  public int deleteByShelfId(List<Long> shelfIds) {
+    int linksDeleted = 0;
+    int booksDeleted = 0;
+    for (int from = 0; from < shelfIds.size(); from += DELETE_CHUNK_SIZE) {
+      List<Long> shelfChunk =
+          shelfIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, shelfIds.size()));
+      while (true) {
+        List<Long> bookIds =
+            bookJpaRepository.findBookIdsByShelfIdIn(shelfChunk, Limit.of(DELETE_CHUNK_SIZE));
+        if (bookIds.isEmpty()) {
+          break;
+        }
+        DeletedChunk deleted =
+            deleteChunkTransaction.execute(
+                status ->
+                    new DeletedChunk(
+                        bookJpaRepository.deleteAuthorLinksByBookIdIn(bookIds),
+                        bookJpaRepository.deleteAllByBookIdIn(bookIds)));
+        linksDeleted += deleted.links();
+        booksDeleted += deleted.books();
+        if (bookIds.size() < DELETE_CHUNK_SIZE || deleted.books() == 0) {
+          break;
+        }
+      }
+    }
+    log.info(
+        "Deleted {} books and {} author links on {} shelves",
+        booksDeleted,
+        linksDeleted,
+        shelfIds.size());
+    return booksDeleted;
   }
 
+  private record DeletedChunk(int links, int books) {}
+
   @Override
   public Book getBookDomainById(Long bookId) {
     BookEntity bookEntity =
@@ -203,6 +286,7 @@ public class BookDomainRepositoryAdaptor implements BookDomainRepository {
       log.error("Book with id {} not found", bookId);
       throw new RuntimeException("Book not found with id: " + bookId);
     }
+    requireVisibleShelf(shelfId);
 
     bookEntity.get().setShelfId(shelfId);
     bookJpaRepository.save(bookEntity.get());
@@ -210,8 +294,36 @@ public class BookDomainRepositoryAdaptor implements BookDomainRepository {
     return bookMapper.toDomainFromEntity(bookEntity.get());
   }
 
+  // Shelf ids come from the caller, so one tenant could otherwise shelve a book in another's
+  // bookcase
+  private void requireVisibleShelf(Long shelfId) {
+    if (shelfId != null && !bookJpaRepository.isShelfVisible(shelfId)) {
+      throw new IllegalStateException("Shelf not found with id: " + shelfId);
+    }
+  }
+
   @Override
   public List<Long> getBookIdsByShelfId(Long shelfId) {
-    return bookJpaRepository.findByShelfId(shelfId).stream().map(BookEntity::getBookId).toList();
+    return bookJpaRepository.findBookIdsByShelfId(shelfId);
+  }
+
+  @Override
+  public List<String> findAllTitles() {
+    return bookJpaRepository.findAllTitles();
+  }
+
+  @Override
+  public List<BookLocationEntry> findAllBookLocations() {
+    return bookJpaRepository.findAllBookLocations();
+  }
+
+  @Override
+  public Optional<BookLocationEntry> findBookLocation(Long bookId) {
+    return bookJpaRepository.findBookLocation(bookId);
+  }
+
+  @Override
+  public List<BookcaseBookCount> countBooksPerBookcase() {
+    return bookJpaRepository.countBooksPerBookcase();
   }
 }
@@ -0,0 +1,57 @@
+package com.penrose.bibby.library.cataloging.book.infrastructure.adapter.outbound;
+
+import com.penrose.bibby.library.cataloging.book.core.port.outbound.CirculationLogPort;
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEventType;
+import com.penrose.bibby.library.cataloging.circulation.core.ports.inbound.CirculationEventFacade;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Records circulation events once the caller's transaction commits, so a check-out or placement
+ * that rolls back leaves nothing in the append-only log. Outside a transaction the event is
+ * recorded straight away.
+ */
+@Component
+public class CirculationLogPortAdapter implements CirculationLogPort {
+
+  private final CirculationEventFacade circulationEventFacade;
+
+  public CirculationLogPortAdapter(CirculationEventFacade circulationEventFacade) {
+    this.circulationEventFacade = circulationEventFacade;
+  }
+
+  @Override
+  public void checkedOut(Long bookId) {
+    recordAfterCommit(CirculationEventType.CHECK_OUT, bookId, null);
+  }
+
+  @Override
+  public void checkedIn(Long bookId) {
+    recordAfterCommit(CirculationEventType.CHECK_IN, bookId, null);
+  }
+
+  @Override
+  public void renewed(Long bookId) {
+    recordAfterCommit(CirculationEventType.RENEW, bookId, null);
+  }
+
+  @Override
+  public void placed(Long bookId, Long shelfId) {
+    recordAfterCommit(CirculationEventType.PLACE, bookId, shelfId);
+  }
+
+  private void recordAfterCommit(CirculationEventType type, Long bookId, Long shelfId) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              circulationEventFacade.record(type, bookId, shelfId);
+            }
+          });
+    } else {
+      circulationEventFacade.record(type, bookId, shelfId);
+    }
+  }
+}
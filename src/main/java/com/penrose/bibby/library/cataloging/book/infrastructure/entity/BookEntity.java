@@ -3,13 +3,21 @@ package com.penrose.bibby.library.cataloging.book.infrastructure.entity;
 import com.penrose.bibby.library.cataloging.author.infrastructure.entity.AuthorEntity;
 import com.penrose.bibby.library.cataloging.book.core.domain.AvailabilityStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
 
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "books")
+@Table(
+        name = "books",
+        indexes = {
+            @Index(name = "idx_books_tenant_title", columnList = "tenant_id, title"),
+            @Index(name = "idx_books_tenant_isbn", columnList = "tenant_id, isbn"),
+            @Index(name = "idx_books_tenant_shelf", columnList = "tenant_id, shelf_id")
+        })
 public class BookEntity {
 
     @Id
@@ -28,6 +36,18 @@ public class BookEntity {
     private java.time.LocalDate createdAt;
     private java.time.LocalDate updatedAt;
 
+    /** Optimistic-lock version; bumped by every update, including circulation transitions. */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    /** Owning tenant, filled in by Hibernate; see {@code LibraryTenantResolver}. */
+    @TenantId
+    @ColumnDefault("0")
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private Long tenantId;
+
     public BookEntity() {
     }
 
@@ -139,15 +159,12 @@ public class BookEntity {
         this.updatedAt = updatedAt;
     }
 
-    public void checkIn(){
-        if(availabilityStatus == null){
-            throw new IllegalStateException("Book has no availability status");
-        }
-        if(availabilityStatus.equals(AvailabilityStatus.CHECKED_OUT.toString())){
-            setAvailabilityStatus(AvailabilityStatus.AVAILABLE.toString());
-        }else{
-            throw new IllegalStateException("Book is not checked out");
-        }
+    public Long getTenantId() {
+        return tenantId;
+    }
+
+    public long getVersion() {
+        return version;
     }
 
     public Set<AuthorEntity> getAuthors() {
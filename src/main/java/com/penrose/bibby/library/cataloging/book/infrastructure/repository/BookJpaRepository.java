@@ -1,13 +1,27 @@
 package com.penrose.bibby.library.cataloging.book.infrastructure.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+import com.penrose.bibby.config.tenancy.LibraryTenantResolver;
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookDetailView;
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookSummary;
+import com.penrose.bibby.library.cataloging.book.api.dtos.BookcaseBookCount;
+import com.penrose.bibby.library.cataloging.book.core.domain.location.BookLocationEntry;
 import com.penrose.bibby.library.cataloging.book.infrastructure.entity.BookEntity;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface BookJpaRepository extends JpaRepository<BookEntity, Long> {
@@ -22,32 +36,146 @@ public interface BookJpaRepository extends JpaRepository<BookEntity, Long> {
 
   List<BookEntity> findByShelfId(Long id);
 
+  /** Books on a shelf with their authors fetched in the same query, for mapping to DTOs. */
+  @EntityGraph(attributePaths = "authors")
+  List<BookEntity> findWithAuthorsByShelfId(Long shelfId);
+
+  @Query("SELECT b.bookId FROM BookEntity b WHERE b.shelfId = :shelfId")
+  List<Long> findBookIdsByShelfId(@Param("shelfId") Long shelfId);
+
   List<BookSummary> findBookSummariesByShelfIdOrderByTitleAsc(Long shelfId);
 
+  /**
+   * Moves a book from one availability status to another in a single conditional update, bumping
+   * its version. Concurrent callers race on the row lock; only the first sees the expected status.
+   *
+   * @return 1 if the transition was applied, 0 if the book is missing or not in {@code fromStatus}
+   */
+  @Transactional
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      """
+      UPDATE BookEntity b
+      SET b.availabilityStatus = :toStatus, b.updatedAt = :today, b.version = b.version + 1
+      WHERE b.bookId = :bookId AND b.availabilityStatus = :fromStatus
+      """)
+  int transitionAvailability(
+      @Param("bookId") Long bookId,
+      @Param("fromStatus") String fromStatus,
+      @Param("toStatus") String toStatus,
+      @Param("today") LocalDate today);
+
   @Query(
       value =
           """
-        SELECT b.book_id, b.title,
-               STRING_AGG(CONCAT(a.first_name, ' ', a.last_name), ', ') as authors,
-               bc.bookcase_location, s.shelf_label, b.availability_status
-        FROM books b
-        JOIN book_authors ba ON b.book_id = ba.book_id
-        JOIN authors a ON ba.author_id = a.author_id
-        JOIN shelves s ON s.shelf_id = b.shelf_id
-        JOIN bookcases bc ON bc.bookcase_id = s.bookcase_id
-        WHERE b.book_id = :bookId
-        GROUP BY b.book_id, b.title, bc.bookcase_location, s.shelf_label, b.availability_status
-    """,
+    SELECT b.book_id, b.title,
+           STRING_AGG(CONCAT(a.first_name, ' ', a.last_name), ', ') as authors,
+           bc.bookcase_location, s.shelf_label, b.availability_status
+    FROM books b
+    JOIN book_authors ba ON b.book_id = ba.book_id
+    JOIN authors a ON ba.author_id = a.author_id
+    JOIN shelves s ON s.shelf_id = b.shelf_id
+    JOIN bookcases bc ON bc.bookcase_id = s.bookcase_id
+    WHERE b.book_id = :bookId
+      AND (:tenantId = 0 OR b.tenant_id = :tenantId)
+      AND (:tenantId = 0 OR s.tenant_id = :tenantId)
+      AND (:tenantId = 0 OR bc.tenant_id = :tenantId)
+    GROUP BY b.book_id, b.title, bc.bookcase_location, s.shelf_label, b.availability_status
+""",
       nativeQuery = true)
-  BookDetailView getBookDetailView(Long bookId);
+  BookDetailView getBookDetailView(@Param("bookId") Long bookId, @Param("tenantId") Long tenantId);
+
+  // Native queries bypass Hibernate's tenant filter, so the current tenant is passed explicitly
+  default BookDetailView getBookDetailView(Long bookId) {
+    return getBookDetailView(bookId, LibraryTenantResolver.currentTenant());
+  }
 
   long countByShelfId(Long shelfId);
 
   BookEntity findByIsbn(String isbn);
 
-  List<BookEntity> findByAuthorsAuthorId(Long id);
+  /**
+   * Returns the first {@code perAuthor} titles, by book id, of each given author as {@code
+   * [author_id, title]} rows ordered by author, in a single statement.
+   */
+  @Query(
+      value =
+          """
+              SELECT ranked.author_id, ranked.title
+              FROM (
+                SELECT ba.author_id, b.title,
+                       ROW_NUMBER() OVER (PARTITION BY ba.author_id ORDER BY b.book_id) AS rn
+                FROM book_authors ba
+                JOIN books b ON b.book_id = ba.book_id
+                WHERE ba.author_id IN (:authorIds)
+                  AND (:tenantId = 0 OR b.tenant_id = :tenantId)
+              ) ranked
+              WHERE ranked.rn <= :perAuthor
+              ORDER BY ranked.author_id, ranked.rn
+          """,
+      nativeQuery = true)
+  List<Object[]> findTopTitlesByAuthorIds(
+      @Param("authorIds") Collection<Long> authorIds,
+      @Param("perAuthor") int perAuthor,
+      @Param("tenantId") Long tenantId);
+
+  default List<Object[]> findTopTitlesByAuthorIds(Collection<Long> authorIds, int perAuthor) {
+    return findTopTitlesByAuthorIds(authorIds, perAuthor, LibraryTenantResolver.currentTenant());
+  }
 
   void deleteByShelfIdIn(List<Long> shelfIds);
 
   List<BookEntity> findByShelfIdIn(List<Long> shelfIds);
+
+  /** IDs of the books on the given shelves, lowest first, for deleting them in chunks. */
+  @Query("SELECT b.bookId FROM BookEntity b WHERE b.shelfId IN :shelfIds ORDER BY b.bookId")
+  List<Long> findBookIdsByShelfIdIn(@Param("shelfIds") List<Long> shelfIds, Limit limit);
+
+  // Declares the only table touched, so the native delete does not evict every cached region.
+  // The book IDs were read through the tenant filter, so no tenant condition is needed here.
+  @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "book_authors"))
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(value = "DELETE FROM book_authors WHERE book_id IN (:bookIds)", nativeQuery = true)
+  int deleteAuthorLinksByBookIdIn(@Param("bookIds") List<Long> bookIds);
+
+  /** Whether the shelf exists and the current tenant may see it; the tenant filter applies. */
+  @Query("SELECT COUNT(s) > 0 FROM ShelfEntity s WHERE s.shelfId = :shelfId")
+  boolean isShelfVisible(@Param("shelfId") Long shelfId);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM BookEntity b WHERE b.bookId IN :bookIds")
+  int deleteAllByBookIdIn(@Param("bookIds") List<Long> bookIds);
+
+  @Query("SELECT b.title FROM BookEntity b WHERE b.title IS NOT NULL")
+  List<String> findAllTitles();
+
+  /** Shelf and bookcase of every shelved book, in one query, for the location index. */
+  @Query(
+      """
+      SELECT new com.penrose.bibby.library.cataloging.book.core.domain.location.BookLocationEntry(
+          b.bookId, s.shelfId, s.shelfLabel, bc.bookcaseId, bc.bookcaseLocation)
+      FROM BookEntity b, ShelfEntity s, BookcaseEntity bc
+      WHERE s.shelfId = b.shelfId AND bc.bookcaseId = s.bookcaseId
+      """)
+  List<BookLocationEntry> findAllBookLocations();
+
+  @Query(
+      """
+      SELECT new com.penrose.bibby.library.cataloging.book.core.domain.location.BookLocationEntry(
+          b.bookId, s.shelfId, s.shelfLabel, bc.bookcaseId, bc.bookcaseLocation)
+      FROM BookEntity b, ShelfEntity s, BookcaseEntity bc
+      WHERE s.shelfId = b.shelfId AND bc.bookcaseId = s.bookcaseId
+        AND b.bookId = :bookId
+      """)
+  Optional<BookLocationEntry> findBookLocation(@Param("bookId") Long bookId);
+
+  @Query(
+      """
+      SELECT new com.penrose.bibby.library.cataloging.book.api.dtos.BookcaseBookCount(
+          s.bookcaseId, COUNT(b))
+      FROM BookEntity b, ShelfEntity s
+      WHERE s.shelfId = b.shelfId
+      GROUP BY s.bookcaseId
+      """)
+  List<BookcaseBookCount> countBooksPerBookcase();
 }
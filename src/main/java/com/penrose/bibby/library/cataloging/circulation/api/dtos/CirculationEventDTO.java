@@ -0,0 +1,13 @@
+package com.penrose.bibby.library.cataloging.circulation.api.dtos;
+
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEvent;
+import java.time.Instant;
+
+public record CirculationEventDTO(
+    Long bookId, String eventType, Long shelfId, String actor, Instant occurredAt) {
+
+  public static CirculationEventDTO fromDomain(CirculationEvent event) {
+    return new CirculationEventDTO(
+        event.bookId(), event.type().name(), event.shelfId(), event.actor(), event.occurredAt());
+  }
+}
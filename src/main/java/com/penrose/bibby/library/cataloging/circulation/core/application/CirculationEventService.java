@@ -0,0 +1,323 @@
+package com.penrose.bibby.library.cataloging.circulation.core.application;
+
+import com.penrose.bibby.config.tenancy.LibraryTenantResolver;
+import com.penrose.bibby.library.cataloging.circulation.api.dtos.CirculationEventDTO;
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEvent;
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEventType;
+import com.penrose.bibby.library.cataloging.circulation.core.ports.inbound.CirculationEventFacade;
+import com.penrose.bibby.library.cataloging.circulation.core.ports.outbound.CirculationEventSpill;
+import com.penrose.bibby.library.cataloging.circulation.core.ports.outbound.CirculationEventStore;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Records circulation events off the caller's thread and serves loan-history queries.
+ *
+ * <p>{@link #record} only timestamps the event and puts it on a bounded in-memory queue, so check-
+ * out and check-in never wait on the event log. A background thread drains the queue every {@code
+ * bibby.circulation.events.flush-interval} and appends up to {@code batch-size} events per
+ * statement batch. If the queue is full the event goes to the {@link CirculationEventSpill} instead
+ * and the flusher is woken; the caller never writes to the store, so a store error or a new
+ * partition cannot touch the caller's transaction. Pending events are flushed before each history
+ * query and when the application shuts down.
+ *
+ * <p>A batch the store rejects is kept and retried first on the next flush, which stops there so a
+ * failing store is not hammered with the rest of the queue. After {@code max-attempts} failures it
+ * is spilled, as is anything still unwritten at shutdown. Spilled events are appended again by the
+ * next flush that reaches the store, including the first one after a restart.
+ *
+ * <p>Each event carries the tenant it was recorded in (see {@link LibraryTenantResolver}). History
+ * queries from a caller confined to one tenant only return that tenant's events, so one user never
+ * sees another's loans or who made them; the root tenant sees them all.
+ *
+ * <p>When {@code retention-months} is positive, months older than that are dropped once a day.
+ */
+@Service
+public class CirculationEventService implements CirculationEventFacade, SmartLifecycle {
+
+  static final String LOCAL_ACTOR = "local";
+
+  private static final Logger log = LoggerFactory.getLogger(CirculationEventService.class);
+
+  private final CirculationEventStore store;
+  private final CirculationEventSpill spill;
+  private final Clock clock;
+  private final int batchSize;
+  private final Duration flushInterval;
+  private final int maxAttempts;
+  private final int retentionMonths;
+  private final BlockingQueue<CirculationEvent> queue;
+  private final ReentrantLock flushLock = new ReentrantLock();
+  // Guarded by flushLock: the batch the store last rejected and how often it has
+  private final List<CirculationEvent> unwritten = new ArrayList<>();
+  private int failedAttempts;
+  // Starts set so the first flush replays whatever a previous run spilled
+  private volatile boolean spilled = true;
+  private ScheduledExecutorService flusher;
+
+  @Autowired
+  public CirculationEventService(
+      CirculationEventStore store,
+      CirculationEventSpill spill,
+      @Value("${bibby.circulation.events.batch-size:500}") int batchSize,
+      @Value("${bibby.circulation.events.flush-interval:1s}") Duration flushInterval,
+      @Value("${bibby.circulation.events.queue-capacity:10000}") int queueCapacity,
+      @Value("${bibby.circulation.events.max-attempts:5}") int maxAttempts,
+      @Value("${bibby.circulation.events.retention-months:0}") int retentionMonths) {
+    this(
+        store,
+        spill,
+        Clock.systemUTC(),
+        batchSize,
+        flushInterval,
+        queueCapacity,
+        maxAttempts,
+        retentionMonths);
+  }
+
+  CirculationEventService(
+      CirculationEventStore store,
+      CirculationEventSpill spill,
+      Clock clock,
+      int batchSize,
+      Duration flushInterval,
+      int queueCapacity,
+      int maxAttempts,
+      int retentionMonths) {
+    this.store = store;
+    this.spill = spill;
+    this.clock = clock;
+    this.batchSize = batchSize;
+    this.flushInterval = flushInterval;
+    this.maxAttempts = Math.max(1, maxAttempts);
+    this.retentionMonths = retentionMonths;
+    this.queue = new LinkedBlockingQueue<>(queueCapacity);
+  }
+
+  @Override
+  public void record(CirculationEventType type, Long bookId, Long shelfId) {
+    Long destination = type == CirculationEventType.PLACE ? shelfId : null;
+    CirculationEvent event =
+        new CirculationEvent(
+            bookId,
+            type,
+            destination,
+            currentActor(),
+            clock.instant(),
+            LibraryTenantResolver.currentTenant());
+    if (!queue.offer(event)) {
+      spill(List.of(event));
+      wakeFlusher();
+    }
+  }
+
+  @Override
+  public List<CirculationEventDTO> historyOfBook(Long bookId, int limit) {
+    flush();
+    return store.findByBookId(visibleTenant(), bookId, limit).stream()
+        .map(CirculationEventDTO::fromDomain)
+        .toList();
+  }
+
+  @Override
+  public List<CirculationEventDTO> recentActivity(int days, int limit) {
+    flush();
+    Instant since = clock.instant().minus(Duration.ofDays(days));
+    return store.findSince(visibleTenant(), since, limit).stream()
+        .map(CirculationEventDTO::fromDomain)
+        .toList();
+  }
+
+  /**
+   * Writes every queued event, in batches of at most {@code batchSize}. Request threads call this
+   * too, so writers queue on a lock rather than a monitor, which would pin a virtual thread.
+   */
+  public void flush() {
+    writeQueued();
+  }
+
+  /** Returns {@code false} when the store rejected a batch, leaving the rest queued. */
+  private boolean writeQueued() {
+    flushLock.lock();
+    try {
+      if (!unwritten.isEmpty() && !writeUnwritten()) {
+        return false;
+      }
+      while (queue.drainTo(unwritten, batchSize) > 0) {
+        if (!writeUnwritten()) {
+          return false;
+        }
+      }
+      if (spilled) {
+        replaySpilled();
+      }
+      return unwritten.isEmpty();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private boolean writeUnwritten() {
+    try {
+      store.appendAll(unwritten);
+      unwritten.clear();
+      failedAttempts = 0;
+      return true;
+    } catch (RuntimeException e) {
+      failedAttempts++;
+      if (failedAttempts < maxAttempts) {
+        log.warn(
+            "Could not write {} circulation events (attempt {} of {}); retrying on the next flush",
+            unwritten.size(),
+            failedAttempts,
+            maxAttempts,
+            e);
+      } else {
+        log.error(
+            "Could not write {} circulation events after {} attempts; spilling them",
+            unwritten.size(),
+            failedAttempts,
+            e);
+        spill(unwritten);
+        unwritten.clear();
+        failedAttempts = 0;
+      }
+      return false;
+    }
+  }
+
+  private void replaySpilled() {
+    spilled = false;
+    List<CirculationEvent> events;
+    try {
+      events = spill.takeAll();
+    } catch (RuntimeException e) {
+      log.warn("Could not read spilled circulation events; they are replayed on restart", e);
+      return;
+    }
+    for (int from = 0; from < events.size(); from += batchSize) {
+      unwritten.addAll(events.subList(from, Math.min(from + batchSize, events.size())));
+      if (!writeUnwritten()) {
+        spill(events.subList(Math.min(from + batchSize, events.size()), events.size()));
+        return;
+      }
+    }
+    if (!events.isEmpty()) {
+      log.info("Replayed {} spilled circulation events", events.size());
+    }
+  }
+
+  private void spill(List<CirculationEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    try {
+      spill.write(events);
+      spilled = true;
+    } catch (RuntimeException e) {
+      log.error("Could not spill {} circulation events; they are lost", events.size(), e);
+    }
+  }
+
+  // At shutdown there is no next flush, so anything the store would not take is spilled
+  private void spillUnwritten() {
+    flushLock.lock();
+    try {
+      queue.drainTo(unwritten);
+      spill(unwritten);
+      unwritten.clear();
+      failedAttempts = 0;
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  void dropExpiredMonths() {
+    if (retentionMonths <= 0) {
+      return;
+    }
+    YearMonth cutoff = YearMonth.now(clock.withZone(ZoneOffset.UTC)).minusMonths(retentionMonths);
+    try {
+      int dropped = store.dropBefore(cutoff);
+      if (dropped > 0) {
+        log.info("Dropped circulation events before {} ({})", cutoff, dropped);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Could not drop circulation events before {}", cutoff, e);
+    }
+  }
+
+  @Override
+  public synchronized void start() {
+    flusher =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "circulation-event-flusher");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long intervalMillis = flushInterval.toMillis();
+    flusher.scheduleWithFixedDelay(
+        this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    flusher.scheduleWithFixedDelay(this::dropExpiredMonths, 0, 1, TimeUnit.DAYS);
+  }
+
+  @Override
+  public void stop() {
+    ScheduledExecutorService running;
+    synchronized (this) {
+      running = flusher;
+      flusher = null;
+    }
+    if (running != null) {
+      running.shutdown();
+    }
+    if (!writeQueued()) {
+      spillUnwritten();
+    }
+  }
+
+  private synchronized void wakeFlusher() {
+    if (flusher != null) {
+      flusher.execute(this::flush);
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return flusher != null;
+  }
+
+  // null lets the root tenant see every tenant's events
+  private static Long visibleTenant() {
+    Long tenant = LibraryTenantResolver.currentTenant();
+    return LibraryTenantResolver.ROOT.equals(tenant) ? null : tenant;
+  }
+
+  private static String currentActor() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !authentication.isAuthenticated()) {
+      return LOCAL_ACTOR;
+    }
+    return authentication.getName();
+  }
+}
@@ -0,0 +1,24 @@
+package com.penrose.bibby.library.cataloging.circulation.core.domain;
+
+import java.time.Instant;
+
+/**
+ * Something that happened to a physical copy of a book. Events are immutable and only ever
+ * appended.
+ *
+ * @param bookId the book the event is about
+ * @param type what happened
+ * @param shelfId the destination shelf for {@link CirculationEventType#PLACE}; otherwise {@code
+ *     null}
+ * @param actor the user who triggered the event
+ * @param occurredAt when it happened
+ * @param tenantId the library tenant the event was recorded in; only that tenant and the root
+ *     tenant see it
+ */
+public record CirculationEvent(
+    Long bookId,
+    CirculationEventType type,
+    Long shelfId,
+    String actor,
+    Instant occurredAt,
+    Long tenantId) {}
@@ -0,0 +1,8 @@
+package com.penrose.bibby.library.cataloging.circulation.core.domain;
+
+public enum CirculationEventType {
+  CHECK_OUT,
+  CHECK_IN,
+  RENEW,
+  PLACE
+}
@@ -0,0 +1,34 @@
+package com.penrose.bibby.library.cataloging.circulation.core.ports.inbound;
+
+import com.penrose.bibby.library.cataloging.circulation.api.dtos.CirculationEventDTO;
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEventType;
+import java.util.List;
+
+public interface CirculationEventFacade {
+
+  /**
+   * Records an event without waiting for it to be stored; events are written in batches in the
+   * background.
+   *
+   * @param type what happened
+   * @param bookId the book it happened to
+   * @param shelfId the destination shelf for placements; {@code null} otherwise
+   */
+  void record(CirculationEventType type, Long bookId, Long shelfId);
+
+  /**
+   * Loan history of one book, most recent first.
+   *
+   * @param bookId the book
+   * @param limit maximum number of events to return
+   */
+  List<CirculationEventDTO> historyOfBook(Long bookId, int limit);
+
+  /**
+   * All circulation activity in the last {@code days} days, most recent first.
+   *
+   * @param days how far back to look
+   * @param limit maximum number of events to return
+   */
+  List<CirculationEventDTO> recentActivity(int days, int limit);
+}
@@ -0,0 +1,17 @@
+package com.penrose.bibby.library.cataloging.circulation.core.ports.outbound;
+
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEvent;
+import java.util.List;
+
+/**
+ * Durable overflow for circulation events the {@link CirculationEventStore} would not take, kept
+ * until they can be appended again.
+ */
+public interface CirculationEventSpill {
+
+  /** Keeps the events durably, after any spilled earlier. */
+  void write(List<CirculationEvent> events);
+
+  /** Removes and returns every spilled event, oldest first. */
+  List<CirculationEvent> takeAll();
+}
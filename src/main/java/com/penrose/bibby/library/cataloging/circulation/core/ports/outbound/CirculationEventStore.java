@@ -0,0 +1,36 @@
+package com.penrose.bibby.library.cataloging.circulation.core.ports.outbound;
+
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEvent;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+
+/** Append-only storage for circulation events, partitioned by the month they occurred in. */
+public interface CirculationEventStore {
+
+  /** Appends the events in a single batch. */
+  void appendAll(List<CirculationEvent> events);
+
+  /**
+   * Events for one book, most recent first.
+   *
+   * @param tenantId only events recorded in this tenant, or every tenant's when {@code null}
+   */
+  List<CirculationEvent> findByBookId(Long tenantId, Long bookId, int limit);
+
+  /**
+   * Events that occurred at or after {@code since}, most recent first.
+   *
+   * @param tenantId only events recorded in this tenant, or every tenant's when {@code null}
+   */
+  List<CirculationEvent> findSince(Long tenantId, Instant since, int limit);
+
+  /**
+   * Removes every event from months before {@code month}. Whole monthly partitions are dropped
+   * where the database supports them.
+   *
+   * @return the number of partitions dropped, or of events deleted when the store is not
+   *     partitioned
+   */
+  int dropBefore(YearMonth month);
+}
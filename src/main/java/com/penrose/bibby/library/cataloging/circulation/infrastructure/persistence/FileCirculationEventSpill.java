@@ -0,0 +1,107 @@
+package com.penrose.bibby.library.cataloging.circulation.infrastructure.persistence;
+
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEvent;
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEventType;
+import com.penrose.bibby.library.cataloging.circulation.core.ports.outbound.CirculationEventSpill;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spills circulation events to an append-only file ({@code bibby.circulation.events.spill-file}),
+ * one tab-separated line per event: book ID, type, shelf ID (empty when there is none), timestamp,
+ * tenant ID and actor. Each write is forced to disk before it returns. Taking the events deletes
+ * the file.
+ */
+@Component
+public class FileCirculationEventSpill implements CirculationEventSpill {
+
+  private static final String SEPARATOR = "\t";
+
+  private final Path file;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  public FileCirculationEventSpill(
+      @Value("${bibby.circulation.events.spill-file:circulation-events.spill}") Path file) {
+    this.file = file;
+  }
+
+  @Override
+  public void write(List<CirculationEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    StringBuilder lines = new StringBuilder();
+    for (CirculationEvent event : events) {
+      lines.append(format(event)).append('\n');
+    }
+    lock.lock();
+    try {
+      Files.write(
+          file,
+          lines.toString().getBytes(StandardCharsets.UTF_8),
+          StandardOpenOption.CREATE,
+          StandardOpenOption.APPEND,
+          StandardOpenOption.WRITE,
+          StandardOpenOption.SYNC);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not spill circulation events to " + file, e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public List<CirculationEvent> takeAll() {
+    lock.lock();
+    try {
+      if (!Files.exists(file)) {
+        return List.of();
+      }
+      List<CirculationEvent> events = new ArrayList<>();
+      for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+        if (!line.isBlank()) {
+          events.add(parse(line));
+        }
+      }
+      Files.delete(file);
+      return events;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read spilled circulation events from " + file, e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static String format(CirculationEvent event) {
+    return String.join(
+        SEPARATOR,
+        String.valueOf(event.bookId()),
+        event.type().name(),
+        event.shelfId() == null ? "" : String.valueOf(event.shelfId()),
+        event.occurredAt().toString(),
+        String.valueOf(event.tenantId()),
+        event.actor());
+  }
+
+  // The actor is last, so a tab in a user name cannot shift the other fields
+  private static CirculationEvent parse(String line) {
+    String[] fields = line.split(SEPARATOR, 6);
+    return new CirculationEvent(
+        Long.valueOf(fields[0]),
+        CirculationEventType.valueOf(fields[1]),
+        fields[2].isEmpty() ? null : Long.valueOf(fields[2]),
+        fields[5],
+        Instant.parse(fields[3]),
+        Long.valueOf(fields[4]));
+  }
+}
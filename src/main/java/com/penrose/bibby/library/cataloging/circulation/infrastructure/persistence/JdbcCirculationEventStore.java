@@ -0,0 +1,265 @@
+package com.penrose.bibby.library.cataloging.circulation.infrastructure.persistence;
+
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEvent;
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEventType;
+import com.penrose.bibby.library.cataloging.circulation.core.ports.outbound.CirculationEventStore;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores circulation events with plain JDBC batches in the {@value #TABLE} table, which is kept out
+ * of the JPA model so the event log never loads into a persistence context.
+ *
+ * <p>On PostgreSQL the table is range-partitioned by month on {@code occurred_at}; the partition
+ * for a month is created the first time an event for that month is written, and expiring old data
+ * is a {@code DROP TABLE} of whole partitions (detach a partition first to archive it instead). On
+ * other databases (H2 in tests) it is a plain table and expiry falls back to a range delete.
+ *
+ * <p>Both query shapes are indexed: {@code (book_id, occurred_at)} for the history of one book, and
+ * {@code (tenant_id, occurred_at)} and {@code (occurred_at)} for recent activity of one tenant or
+ * of all of them, which on PostgreSQL also prunes to the partitions in range. Rows written before
+ * the {@code tenant_id} column existed belong to the root tenant.
+ */
+@Component
+public class JdbcCirculationEventStore implements CirculationEventStore {
+
+  static final String TABLE = "circulation_events";
+
+  private static final Logger log = LoggerFactory.getLogger(JdbcCirculationEventStore.class);
+  private static final Pattern PARTITION_NAME = Pattern.compile(TABLE + "_y(\\d{4})m(\\d{2})");
+
+  private static final String COLUMNS =
+      "book_id, event_type, shelf_id, actor, occurred_at, tenant_id";
+
+  private static final RowMapper<CirculationEvent> ROW_MAPPER = JdbcCirculationEventStore::mapRow;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Set<YearMonth> knownPartitions = ConcurrentHashMap.newKeySet();
+  private volatile Boolean partitioned;
+
+  public JdbcCirculationEventStore(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public void appendAll(List<CirculationEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    if (isPartitioned()) {
+      events.stream().map(e -> monthOf(e.occurredAt())).distinct().forEach(this::ensurePartition);
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO " + TABLE + " (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?)",
+        events,
+        events.size(),
+        (ps, event) -> {
+          ps.setLong(1, event.bookId());
+          ps.setString(2, event.type().name());
+          ps.setObject(3, event.shelfId());
+          ps.setString(4, event.actor());
+          ps.setObject(5, event.occurredAt().atOffset(ZoneOffset.UTC));
+          ps.setLong(6, event.tenantId());
+        });
+  }
+
+  @Override
+  public List<CirculationEvent> findByBookId(Long tenantId, Long bookId, int limit) {
+    ensureSchema();
+    if (tenantId == null) {
+      return jdbcTemplate.query(
+          "SELECT "
+              + COLUMNS
+              + " FROM "
+              + TABLE
+              + " WHERE book_id = ? ORDER BY occurred_at DESC LIMIT ?",
+          ROW_MAPPER,
+          bookId,
+          limit);
+    }
+    return jdbcTemplate.query(
+        "SELECT "
+            + COLUMNS
+            + " FROM "
+            + TABLE
+            + " WHERE book_id = ? AND tenant_id = ? ORDER BY occurred_at DESC LIMIT ?",
+        ROW_MAPPER,
+        bookId,
+        tenantId,
+        limit);
+  }
+
+  @Override
+  public List<CirculationEvent> findSince(Long tenantId, Instant since, int limit) {
+    ensureSchema();
+    if (tenantId == null) {
+      return jdbcTemplate.query(
+          "SELECT "
+              + COLUMNS
+              + " FROM "
+              + TABLE
+              + " WHERE occurred_at >= ? ORDER BY occurred_at DESC LIMIT ?",
+          ROW_MAPPER,
+          since.atOffset(ZoneOffset.UTC),
+          limit);
+    }
+    return jdbcTemplate.query(
+        "SELECT "
+            + COLUMNS
+            + " FROM "
+            + TABLE
+            + " WHERE tenant_id = ? AND occurred_at >= ? ORDER BY occurred_at DESC LIMIT ?",
+        ROW_MAPPER,
+        tenantId,
+        since.atOffset(ZoneOffset.UTC),
+        limit);
+  }
+
+  @Override
+  public int dropBefore(YearMonth month) {
+    if (!isPartitioned()) {
+      return jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE occurred_at < ?", startOf(month));
+    }
+    List<String> partitions =
+        jdbcTemplate.queryForList(
+            """
+            SELECT c.relname FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = ?
+            """,
+            String.class,
+            TABLE);
+    int dropped = 0;
+    for (String partition : new TreeSet<>(partitions)) {
+      Matcher matcher = PARTITION_NAME.matcher(partition);
+      if (!matcher.matches()) {
+        continue;
+      }
+      YearMonth partitionMonth =
+          YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+      if (partitionMonth.isBefore(month)) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+        knownPartitions.remove(partitionMonth);
+        dropped++;
+      }
+    }
+    return dropped;
+  }
+
+  private boolean isPartitioned() {
+    ensureSchema();
+    return partitioned;
+  }
+
+  /** Creates the table and its indexes on first use. */
+  private void ensureSchema() {
+    if (partitioned != null) {
+      return;
+    }
+    synchronized (this) {
+      if (partitioned != null) {
+        return;
+      }
+      boolean postgres =
+          Boolean.TRUE.equals(
+              jdbcTemplate.execute(
+                  (ConnectionCallback<Boolean>)
+                      connection ->
+                          connection
+                              .getMetaData()
+                              .getDatabaseProductName()
+                              .equalsIgnoreCase("PostgreSQL")));
+      if (postgres) {
+        jdbcTemplate.execute(
+            """
+            CREATE TABLE IF NOT EXISTS circulation_events (
+              event_id BIGSERIAL,
+              book_id BIGINT NOT NULL,
+              event_type VARCHAR(16) NOT NULL,
+              shelf_id BIGINT,
+              actor VARCHAR(255),
+              occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+              tenant_id BIGINT NOT NULL DEFAULT 0,
+              PRIMARY KEY (event_id, occurred_at)
+            ) PARTITION BY RANGE (occurred_at)
+            """);
+      } else {
+        jdbcTemplate.execute(
+            """
+            CREATE TABLE IF NOT EXISTS circulation_events (
+              event_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+              book_id BIGINT NOT NULL,
+              event_type VARCHAR(16) NOT NULL,
+              shelf_id BIGINT,
+              actor VARCHAR(255),
+              occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+              tenant_id BIGINT NOT NULL DEFAULT 0
+            )
+            """);
+      }
+      // Tables created before events carried a tenant
+      jdbcTemplate.execute(
+          "ALTER TABLE circulation_events"
+              + " ADD COLUMN IF NOT EXISTS tenant_id BIGINT NOT NULL DEFAULT 0");
+      jdbcTemplate.execute(
+          "CREATE INDEX IF NOT EXISTS idx_circulation_events_book"
+              + " ON circulation_events (book_id, occurred_at)");
+      jdbcTemplate.execute(
+          "CREATE INDEX IF NOT EXISTS idx_circulation_events_time"
+              + " ON circulation_events (occurred_at)");
+      jdbcTemplate.execute(
+          "CREATE INDEX IF NOT EXISTS idx_circulation_events_tenant"
+              + " ON circulation_events (tenant_id, occurred_at)");
+      partitioned = postgres;
+    }
+  }
+
+  private void ensurePartition(YearMonth month) {
+    if (knownPartitions.contains(month)) {
+      return;
+    }
+    String partition =
+        String.format("%s_y%04dm%02d", TABLE, month.getYear(), month.getMonthValue());
+    jdbcTemplate.execute(
+        String.format(
+            "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+            partition, TABLE, startOf(month), startOf(month.plusMonths(1))));
+    knownPartitions.add(month);
+    log.debug("Ensured circulation event partition {}", partition);
+  }
+
+  private static YearMonth monthOf(Instant instant) {
+    return YearMonth.from(instant.atOffset(ZoneOffset.UTC));
+  }
+
+  private static OffsetDateTime startOf(YearMonth month) {
+    return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+  }
+
+  private static CirculationEvent mapRow(ResultSet rs, int rowNum) throws SQLException {
+    return new CirculationEvent(
+        rs.getLong("book_id"),
+        CirculationEventType.valueOf(rs.getString("event_type")),
+        rs.getObject("shelf_id", Long.class),
+        rs.getString("actor"),
+        rs.getObject("occurred_at", OffsetDateTime.class).toInstant(),
+        rs.getLong("tenant_id"));
+  }
+}
@@ -0,0 +1,24 @@
+package com.penrose.bibby.library.shared.events;
+
+/**
+ * Named counters kept in the application database, so that every instance sees the same values.
+ *
+ * <p>They are how an event reaches the in-memory caches of all instances when the outbox delivers
+ * it to only one of them (see {@link DomainEventSubscriber}): the subscriber increments a counter,
+ * and each cache remembers the value it was loaded at and reloads once the counter has moved on. A
+ * counter that was never incremented reads as zero. A new counter starts from the time it was
+ * created in milliseconds, so one recreated along with its table (the schema is dropped on every
+ * start) does not hand out the values its predecessor did.
+ */
+public interface ChangeCounters {
+
+  long current(String name);
+
+  /**
+   * Increments the counter as part of the caller's transaction, which holds the counter's row lock
+   * until it ends.
+   *
+   * @return the new value
+   */
+  long increment(String name);
+}
@@ -0,0 +1,16 @@
+package com.penrose.bibby.library.shared.events;
+
+/**
+ * A fact that one bounded context publishes for others to react to. Events are immutable records
+ * serialized to JSON in the outbox, so they must only hold identifiers and plain values.
+ */
+public interface DomainEvent {
+
+  /**
+   * ID of the aggregate the event is about. Events with the same ID are delivered in the order they
+   * were published, and a later one waits while an earlier one is being retried. IDs are not unique
+   * across aggregate kinds, so a book and a shelf that share an ID are ordered together; that can
+   * delay an event but never reorders one.
+   */
+  Long aggregateId();
+}
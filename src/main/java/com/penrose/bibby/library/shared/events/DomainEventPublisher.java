@@ -0,0 +1,13 @@
+package com.penrose.bibby.library.shared.events;
+
+/**
+ * Publishes domain events through the transactional outbox.
+ *
+ * <p>Call it inside the transaction that makes the change: the event is stored with that change and
+ * only becomes visible to subscribers once the transaction commits. If the transaction rolls back,
+ * so does the event.
+ */
+public interface DomainEventPublisher {
+
+  void publish(DomainEvent event);
+}
@@ -0,0 +1,36 @@
+package com.penrose.bibby.library.shared.events;
+
+import java.util.function.Consumer;
+
+/**
+ * Receives domain events of one type after the publishing transaction has committed.
+ *
+ * <p>Delivery is asynchronous and at-least-once: an event is redelivered to every subscriber of its
+ * type if any of them throws, so {@link #on} must be idempotent. Each call runs in its own
+ * transaction.
+ *
+ * <p>Every event is delivered on exactly one application instance, whichever relays it first. A
+ * subscriber that keeps state in memory would therefore miss the events relayed elsewhere; it
+ * should record the change in {@link ChangeCounters} instead, which every instance reads.
+ */
+public interface DomainEventSubscriber<E extends DomainEvent> {
+
+  Class<E> eventType();
+
+  void on(E event);
+
+  /** Adapts a callback to a subscriber, for declaring subscribers as {@code @Bean} methods. */
+  static <E extends DomainEvent> DomainEventSubscriber<E> of(Class<E> type, Consumer<E> handler) {
+    return new DomainEventSubscriber<>() {
+      @Override
+      public Class<E> eventType() {
+        return type;
+      }
+
+      @Override
+      public void on(E event) {
+        handler.accept(event);
+      }
+    };
+  }
+}
@@ -0,0 +1,52 @@
+package com.penrose.bibby.library.shared.events.infrastructure.counters;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Table(name = "change_counters")
+public class ChangeCounterEntity implements Persistable<String> {
+
+  @Id
+  @Column(length = 64)
+  private String name;
+
+  @Column(nullable = false)
+  private long generation;
+
+  // Saving a new counter must insert it, never merge over a row another instance just created
+  @Transient private boolean isNew = true;
+
+  protected ChangeCounterEntity() {}
+
+  public ChangeCounterEntity(String name, long generation) {
+    this.name = name;
+    this.generation = generation;
+  }
+
+  @Override
+  public String getId() {
+    return name;
+  }
+
+  public long getGeneration() {
+    return generation;
+  }
+
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.isNew = false;
+  }
+}
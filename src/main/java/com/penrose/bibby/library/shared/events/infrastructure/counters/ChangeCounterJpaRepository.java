@@ -0,0 +1,19 @@
+package com.penrose.bibby.library.shared.events.infrastructure.counters;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChangeCounterJpaRepository extends JpaRepository<ChangeCounterEntity, String> {
+
+  @Query("SELECT c.generation FROM ChangeCounterEntity c WHERE c.name = :name")
+  Optional<Long> findGeneration(@Param("name") String name);
+
+  @Modifying
+  @Query("UPDATE ChangeCounterEntity c SET c.generation = c.generation + 1 WHERE c.name = :name")
+  int incrementGeneration(@Param("name") String name);
+}
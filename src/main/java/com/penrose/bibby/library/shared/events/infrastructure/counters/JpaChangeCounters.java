@@ -0,0 +1,54 @@
+package com.penrose.bibby.library.shared.events.infrastructure.counters;
+
+import com.penrose.bibby.library.shared.events.ChangeCounters;
+import java.time.Clock;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** {@link ChangeCounters} stored one row per counter in {@code change_counters}. */
+@Component
+public class JpaChangeCounters implements ChangeCounters {
+
+  private final ChangeCounterJpaRepository changeCounterJpaRepository;
+  private final TransactionTemplate createTransaction;
+  private final Clock clock = Clock.systemUTC();
+
+  public JpaChangeCounters(
+      ChangeCounterJpaRepository changeCounterJpaRepository,
+      PlatformTransactionManager transactionManager) {
+    this.changeCounterJpaRepository = changeCounterJpaRepository;
+    this.createTransaction = new TransactionTemplate(transactionManager);
+    // A failed insert must not mark the caller's transaction rollback-only
+    this.createTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @Override
+  public long current(String name) {
+    return changeCounterJpaRepository.findGeneration(name).orElse(0L);
+  }
+
+  @Override
+  @Transactional
+  public long increment(String name) {
+    if (changeCounterJpaRepository.incrementGeneration(name) == 0) {
+      create(name);
+      changeCounterJpaRepository.incrementGeneration(name);
+    }
+    return current(name);
+  }
+
+  private void create(String name) {
+    try {
+      createTransaction.executeWithoutResult(
+          status ->
+              changeCounterJpaRepository.saveAndFlush(
+                  new ChangeCounterEntity(name, clock.millis())));
+    } catch (DataIntegrityViolationException e) {
+      // Another instance created the row first, which is all we needed
+    }
+  }
+}
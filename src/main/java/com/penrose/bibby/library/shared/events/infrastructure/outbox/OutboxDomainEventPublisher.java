@@ -0,0 +1,59 @@
+package com.penrose.bibby.library.shared.events.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.penrose.bibby.library.shared.events.DomainEvent;
+import com.penrose.bibby.library.shared.events.DomainEventPublisher;
+import java.time.Clock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Writes each event as a row in {@code domain_event_outbox} using the caller's transaction, then
+ * nudges the {@link OutboxRelay} once that transaction commits so delivery does not wait for the
+ * next poll.
+ */
+@Component
+public class OutboxDomainEventPublisher implements DomainEventPublisher {
+
+  private final OutboxEventJpaRepository outboxEventJpaRepository;
+  private final ObjectMapper objectMapper;
+  private final ObjectProvider<OutboxRelay> outboxRelay;
+  private final Clock clock = Clock.systemUTC();
+
+  public OutboxDomainEventPublisher(
+      OutboxEventJpaRepository outboxEventJpaRepository,
+      ObjectMapper objectMapper,
+      ObjectProvider<OutboxRelay> outboxRelay) {
+    this.outboxEventJpaRepository = outboxEventJpaRepository;
+    this.objectMapper = objectMapper;
+    this.outboxRelay = outboxRelay;
+  }
+
+  @Override
+  public void publish(DomainEvent event) {
+    String payload;
+    try {
+      payload = objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize " + event, e);
+    }
+    outboxEventJpaRepository.save(
+        new OutboxEventEntity(
+            event.getClass().getName(), event.aggregateId(), payload, clock.instant()));
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              outboxRelay.ifAvailable(OutboxRelay::wakeUp);
+            }
+          });
+    } else {
+      outboxRelay.ifAvailable(OutboxRelay::wakeUp);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.penrose.bibby.library.shared.events.infrastructure.outbox;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity
+@Table(
+    name = "domain_event_outbox",
+    indexes = {
+      @Index(name = "idx_outbox_pending", columnList = "dispatched_at, id"),
+      @Index(name = "idx_outbox_aggregate", columnList = "aggregate_id, id")
+    })
+public class OutboxEventEntity {
+
+  static final int MAX_ERROR_LENGTH = 1000;
+
+  @Id
+  // One value per row rather than pooled blocks, so IDs follow insertion order across instances
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_seq")
+  @SequenceGenerator(
+      name = "outbox_seq",
+      sequenceName = "domain_event_outbox_seq",
+      allocationSize = 1)
+  private Long id;
+
+  @Column(nullable = false)
+  private String eventType;
+
+  private Long aggregateId;
+
+  @Column(nullable = false, length = 4000)
+  private String payload;
+
+  @Column(nullable = false)
+  private Instant createdAt;
+
+  private Instant dispatchedAt;
+
+  private int attempts;
+
+  private Instant nextAttemptAt;
+
+  @Column(length = MAX_ERROR_LENGTH)
+  private String lastError;
+
+  protected OutboxEventEntity() {}
+
+  public OutboxEventEntity(String eventType, Long aggregateId, String payload, Instant createdAt) {
+    this.eventType = eventType;
+    this.aggregateId = aggregateId;
+    this.payload = payload;
+    this.createdAt = createdAt;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getEventType() {
+    return eventType;
+  }
+
+  public Long getAggregateId() {
+    return aggregateId;
+  }
+
+  public String getPayload() {
+    return payload;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public Instant getDispatchedAt() {
+    return dispatchedAt;
+  }
+
+  public int getAttempts() {
+    return attempts;
+  }
+
+  public Instant getNextAttemptAt() {
+    return nextAttemptAt;
+  }
+
+  public String getLastError() {
+    return lastError;
+  }
+
+  void markDispatched(Instant when) {
+    this.dispatchedAt = when;
+    this.lastError = null;
+  }
+
+  void markFailed(String error, Instant retryAt) {
+    this.attempts++;
+    this.nextAttemptAt = retryAt;
+    this.lastError =
+        error != null && error.length() > MAX_ERROR_LENGTH
+            ? error.substring(0, MAX_ERROR_LENGTH)
+            : error;
+  }
+}
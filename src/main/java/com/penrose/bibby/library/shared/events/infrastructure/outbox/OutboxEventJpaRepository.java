@@ -0,0 +1,49 @@
+package com.penrose.bibby.library.shared.events.infrastructure.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+  /**
+   * Locks the oldest undelivered events for the current transaction. Rows another relay already
+   * holds are skipped (lock timeout -2 is Hibernate's SKIP LOCKED), so several application
+   * instances can drain the outbox side by side without delivering the same event twice at once.
+   *
+   * <p>Events still backing off after a failure are left out, and so is every event with an earlier
+   * one for the same aggregate still pending, whether that one is backing off or locked by another
+   * relay. Events that used up their attempts no longer hold anything back.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query(
+      """
+      SELECT e FROM OutboxEventEntity e
+      WHERE e.dispatchedAt IS NULL AND e.attempts < :maxAttempts
+        AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now)
+        AND NOT EXISTS (
+          SELECT 1 FROM OutboxEventEntity earlier
+          WHERE earlier.aggregateId = e.aggregateId AND earlier.id < e.id
+            AND earlier.dispatchedAt IS NULL AND earlier.attempts < :maxAttempts)
+      ORDER BY e.id
+      """)
+  List<OutboxEventEntity> lockPending(
+      @Param("maxAttempts") int maxAttempts, @Param("now") Instant now, Limit limit);
+
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM OutboxEventEntity e WHERE e.dispatchedAt < :before")
+  int deleteDispatchedBefore(@Param("before") Instant before);
+}
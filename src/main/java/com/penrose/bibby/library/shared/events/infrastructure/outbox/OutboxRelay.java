@@ -0,0 +1,251 @@
+package com.penrose.bibby.library.shared.events.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.penrose.bibby.library.shared.events.DomainEvent;
+import com.penrose.bibby.library.shared.events.DomainEventSubscriber;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Delivers committed outbox events to the {@link DomainEventSubscriber} beans on a background
+ * thread.
+ *
+ * <p>Each pass locks up to {@code bibby.events.outbox.batch-size} pending rows in id order, hands
+ * every event to the subscribers of its type (each in its own transaction) and marks it dispatched.
+ * A pass runs every {@code poll-interval}, and right after any transaction that published events
+ * commits; it keeps taking batches while they come back full and free of failures. If a subscriber
+ * throws, the event stays pending and is retried after {@code retry-backoff}, doubling with each
+ * failure up to {@code max-retry-backoff}; later events for the same aggregate wait for it. After
+ * {@code max-attempts} failures it is left in the table with its last error for inspection.
+ * Dispatched rows are purged after {@code retention}.
+ *
+ * <p>Every instance runs a relay and they compete for rows, so each event reaches the subscribers
+ * of one instance only.
+ */
+@Component
+public class OutboxRelay implements SmartLifecycle {
+
+  private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+  private final OutboxEventJpaRepository outboxEventJpaRepository;
+  private final ObjectMapper objectMapper;
+  private final ObjectProvider<DomainEventSubscriber<?>> subscriberProvider;
+  private final TransactionTemplate batchTransaction;
+  private final TransactionTemplate subscriberTransaction;
+  private final int batchSize;
+  private final Duration pollInterval;
+  private final int maxAttempts;
+  private final Duration retryBackoff;
+  private final Duration maxRetryBackoff;
+  private final Duration retention;
+  private final Clock clock = Clock.systemUTC();
+  private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+  private volatile List<DomainEventSubscriber<?>> subscribers;
+  private ScheduledExecutorService executor;
+
+  public OutboxRelay(
+      OutboxEventJpaRepository outboxEventJpaRepository,
+      ObjectMapper objectMapper,
+      ObjectProvider<DomainEventSubscriber<?>> subscriberProvider,
+      PlatformTransactionManager transactionManager,
+      @Value("${bibby.events.outbox.batch-size:100}") int batchSize,
+      @Value("${bibby.events.outbox.poll-interval:1s}") Duration pollInterval,
+      @Value("${bibby.events.outbox.max-attempts:10}") int maxAttempts,
+      @Value("${bibby.events.outbox.retry-backoff:1s}") Duration retryBackoff,
+      @Value("${bibby.events.outbox.max-retry-backoff:10m}") Duration maxRetryBackoff,
+      @Value("${bibby.events.outbox.retention:7d}") Duration retention) {
+    this.outboxEventJpaRepository = outboxEventJpaRepository;
+    this.objectMapper = objectMapper;
+    this.subscriberProvider = subscriberProvider;
+    this.batchTransaction = new TransactionTemplate(transactionManager);
+    this.subscriberTransaction = new TransactionTemplate(transactionManager);
+    this.subscriberTransaction.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.batchSize = batchSize;
+    this.pollInterval = pollInterval;
+    this.maxAttempts = maxAttempts;
+    this.retryBackoff = retryBackoff;
+    this.maxRetryBackoff = maxRetryBackoff;
+    this.retention = retention;
+  }
+
+  /**
+   * Relays pending events until the outbox is drained or a batch has a failure; the failed events
+   * are not due again yet, so another batch would only find what is left behind them.
+   *
+   * @return the number of events handled, whether delivered or failed
+   */
+  public int relayPending() {
+    int total = 0;
+    Batch batch;
+    do {
+      batch = batchTransaction.execute(status -> relayBatch());
+      total += batch.handled();
+    } while (batch.handled() == batchSize && batch.failed() == 0);
+    return total;
+  }
+
+  /** Schedules a relay pass as soon as possible; calls made while one is queued are coalesced. */
+  public void wakeUp() {
+    ScheduledExecutorService running = executor;
+    if (running != null && wakeUpPending.compareAndSet(false, true)) {
+      running.execute(
+          () -> {
+            wakeUpPending.set(false);
+            relaySafely();
+          });
+    }
+  }
+
+  private Batch relayBatch() {
+    List<OutboxEventEntity> batch =
+        outboxEventJpaRepository.lockPending(maxAttempts, clock.instant(), Limit.of(batchSize));
+    int failed = 0;
+    for (OutboxEventEntity entry : batch) {
+      String error = deliver(entry);
+      if (error == null) {
+        entry.markDispatched(clock.instant());
+      } else {
+        failed++;
+        entry.markFailed(error, clock.instant().plus(backoff(entry.getAttempts() + 1)));
+        if (entry.getAttempts() >= maxAttempts) {
+          log.error(
+              "Giving up on outbox event {} ({}) after {} attempts: {}",
+              entry.getId(),
+              entry.getEventType(),
+              entry.getAttempts(),
+              error);
+        }
+      }
+    }
+    return new Batch(batch.size(), failed);
+  }
+
+  /** The wait before the next attempt once {@code attempts} have failed. */
+  Duration backoff(int attempts) {
+    Duration backoff = retryBackoff;
+    for (int i = 1; i < attempts && backoff.compareTo(maxRetryBackoff) < 0; i++) {
+      backoff = backoff.multipliedBy(2);
+    }
+    return backoff.compareTo(maxRetryBackoff) < 0 ? backoff : maxRetryBackoff;
+  }
+
+  /** Hands the event to every subscriber of its type; returns the first error, or null. */
+  private String deliver(OutboxEventEntity entry) {
+    DomainEvent event;
+    try {
+      Class<? extends DomainEvent> type =
+          Class.forName(entry.getEventType()).asSubclass(DomainEvent.class);
+      event = objectMapper.readValue(entry.getPayload(), type);
+    } catch (Exception e) {
+      return "Unreadable event: " + e.getMessage();
+    }
+    String error = null;
+    for (DomainEventSubscriber<?> subscriber : subscribers()) {
+      if (!subscriber.eventType().isInstance(event)) {
+        continue;
+      }
+      try {
+        subscriberTransaction.executeWithoutResult(status -> notify(subscriber, event));
+      } catch (RuntimeException e) {
+        log.warn(
+            "{} failed on outbox event {}; it will be redelivered",
+            subscriber.getClass().getSimpleName(),
+            entry.getId(),
+            e);
+        if (error == null) {
+          error = subscriber.getClass().getSimpleName() + ": " + e;
+        }
+      }
+    }
+    return error;
+  }
+
+  private static <E extends DomainEvent> void notify(
+      DomainEventSubscriber<E> subscriber, DomainEvent event) {
+    subscriber.on(subscriber.eventType().cast(event));
+  }
+
+  private List<DomainEventSubscriber<?>> subscribers() {
+    List<DomainEventSubscriber<?>> resolved = subscribers;
+    if (resolved == null) {
+      resolved = subscriberProvider.orderedStream().toList();
+      subscribers = resolved;
+    }
+    return resolved;
+  }
+
+  private void relaySafely() {
+    try {
+      relayPending();
+    } catch (RuntimeException e) {
+      log.error("Outbox relay pass failed", e);
+    }
+  }
+
+  private void purgeDispatched() {
+    try {
+      int purged =
+          outboxEventJpaRepository.deleteDispatchedBefore(clock.instant().minus(retention));
+      if (purged > 0) {
+        log.info("Purged {} dispatched outbox events", purged);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Could not purge dispatched outbox events", e);
+    }
+  }
+
+  @Override
+  public synchronized void start() {
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "outbox-relay");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long intervalMillis = pollInterval.toMillis();
+    executor.scheduleWithFixedDelay(this::relaySafely, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    executor.scheduleWithFixedDelay(this::purgeDispatched, 1, 1, TimeUnit.HOURS);
+  }
+
+  @Override
+  public void stop() {
+    ScheduledExecutorService running;
+    synchronized (this) {
+      running = executor;
+      executor = null;
+    }
+    if (running == null) {
+      return;
+    }
+    running.shutdown();
+    try {
+      running.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return executor != null;
+  }
+
+  private record Batch(int handled, int failed) {}
+}
@@ -0,0 +1,13 @@
+package com.penrose.bibby.library.stacks.bookcase.api.events;
+
+import com.penrose.bibby.library.shared.events.DomainEvent;
+
+/** A bookcase was created together with its initial set of shelves. */
+public record BookcaseCreated(Long bookcaseId, String location, int shelfCount)
+    implements DomainEvent {
+
+  @Override
+  public Long aggregateId() {
+    return bookcaseId;
+  }
+}
@@ -0,0 +1,12 @@
+package com.penrose.bibby.library.stacks.bookcase.api.events;
+
+import com.penrose.bibby.library.shared.events.DomainEvent;
+
+/** A bookcase was deleted together with all of its shelves. */
+public record BookcaseDeleted(Long bookcaseId) implements DomainEvent {
+
+  @Override
+  public Long aggregateId() {
+    return bookcaseId;
+  }
+}
@@ -6,6 +6,7 @@ import com.penrose.bibby.library.stacks.bookcase.core.application.usecases.Query
 import com.penrose.bibby.library.stacks.bookcase.core.domain.model.Bookcase;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.BookcaseFacade;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.CreateBookcaseResult;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.DeleteBookcaseResult;
 import java.util.List;
 import org.springframework.stereotype.Service;
 
@@ -69,7 +70,7 @@ public class BookcaseService implements BookcaseFacade {
   }
 
   @Override
-  public void deleteBookcase(Long bookcaseId) {
-    deleteBookcaseUseCase.deleteBookcase(bookcaseId);
+  public DeleteBookcaseResult deleteBookcase(Long bookcaseId) {
+    return deleteBookcaseUseCase.deleteBookcase(bookcaseId);
   }
 }
@@ -1,5 +1,7 @@
 package com.penrose.bibby.library.stacks.bookcase.core.application.usecases;
 
+import com.penrose.bibby.library.shared.events.DomainEventPublisher;
+import com.penrose.bibby.library.stacks.bookcase.api.events.BookcaseCreated;
 import com.penrose.bibby.library.stacks.bookcase.core.domain.model.Bookcase;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.CreateBookcaseUseCasePort;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.outbound.BookcaseRepository;
@@ -8,6 +10,7 @@ import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.CreateBook
 import org.slf4j.Logger;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
@@ -17,16 +20,25 @@ public class CreateBookcaseUseCase implements CreateBookcaseUseCasePort {
       org.slf4j.LoggerFactory.getLogger(CreateBookcaseUseCase.class);
   private final BookcaseRepository bookcaseRepository;
   private final ShelfAccessPort shelfAccessPort;
+  private final DomainEventPublisher domainEventPublisher;
 
   private final ResponseStatusException existingRecordError =
       new ResponseStatusException(HttpStatus.CONFLICT, "Bookcase with the label already exist");
 
   public CreateBookcaseUseCase(
-      BookcaseRepository bookcaseRepository, ShelfAccessPort shelfAccessPort) {
+      BookcaseRepository bookcaseRepository,
+      ShelfAccessPort shelfAccessPort,
+      DomainEventPublisher domainEventPublisher) {
     this.bookcaseRepository = bookcaseRepository;
     this.shelfAccessPort = shelfAccessPort;
+    this.domainEventPublisher = domainEventPublisher;
   }
 
+  /**
+   * Creates a bookcase together with all of its shelves. The bookcase and shelf inserts run in one
+   * transaction, and the shelves are written as a single batch.
+   */
+  @Transactional
   public CreateBookcaseResult createNewBookCase(
       Long userId,
       String label,
@@ -56,10 +68,16 @@ public class CreateBookcaseUseCase implements CreateBookcaseUseCasePort {
 
     bookcase = bookcaseRepository.save(bookcase);
 
-    for (int i = 1; i <= bookcase.getShelfCapacity(); i++) {
-      shelfAccessPort.createShelf(bookcase.getBookcaseId(), i, "Shelf " + i, bookCapacity);
-    }
-    logger.info("Shelves created successfully for bookcase ID: {}", bookcase.getBookcaseId());
+    int shelvesCreated =
+        shelfAccessPort.createShelves(
+            bookcase.getBookcaseId(), bookcase.getShelfCapacity(), bookCapacity);
+    logger.info(
+        "{} shelves created successfully for bookcase ID: {}",
+        shelvesCreated,
+        bookcase.getBookcaseId());
+    domainEventPublisher.publish(
+        new BookcaseCreated(
+            bookcase.getBookcaseId(), bookcase.getBookcaseLocation(), shelvesCreated));
 
     return new CreateBookcaseResult(bookcase.getBookcaseId());
   }
@@ -1,7 +1,11 @@
 package com.penrose.bibby.library.stacks.bookcase.core.application.usecases;
 
+import com.penrose.bibby.library.shared.events.DomainEventPublisher;
+import com.penrose.bibby.library.stacks.bookcase.api.events.BookcaseDeleted;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.outbound.BookcaseRepository;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.outbound.ShelfAccessPort;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.DeleteBookcaseResult;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.ShelfDeletionCounts;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,16 +14,42 @@ public class DeleteBookcaseUseCase {
 
   private final BookcaseRepository bookcaseRepository;
   private final ShelfAccessPort shelfAccessPort;
+  private final DomainEventPublisher domainEventPublisher;
 
   public DeleteBookcaseUseCase(
-      BookcaseRepository bookcaseRepository, ShelfAccessPort shelfAccessPort) {
+      BookcaseRepository bookcaseRepository,
+      ShelfAccessPort shelfAccessPort,
+      DomainEventPublisher domainEventPublisher) {
     this.bookcaseRepository = bookcaseRepository;
     this.shelfAccessPort = shelfAccessPort;
+    this.domainEventPublisher = domainEventPublisher;
   }
 
+  /**
+   * Deletes a bookcase and everything on it: books, placements, shelves and finally the bookcase.
+   *
+   * <p>The books go first, in chunks that each commit in their own transaction so no single
+   * transaction locks every book in the bookcase. The rest runs in this method's transaction. If a
+   * later chunk or step fails, the books already deleted stay deleted while the bookcase, its
+   * shelves and the remaining books are kept. Every step only deletes what is still there, so
+   * calling this again for the same bookcase finishes the job; its counts then cover only what that
+   * call deleted.
+   *
+   * @param bookcaseId the ID of the bookcase to delete
+   * @return the number of rows deleted at each level
+   */
   @Transactional
-  public void deleteBookcase(Long bookcaseId) {
-    shelfAccessPort.deleteAllShelvesInBookcase(bookcaseId);
-    bookcaseRepository.deleteById(bookcaseId);
+  public DeleteBookcaseResult deleteBookcase(Long bookcaseId) {
+    ShelfDeletionCounts counts = shelfAccessPort.deleteAllShelvesInBookcase(bookcaseId);
+    int bookcasesDeleted = bookcaseRepository.deleteById(bookcaseId);
+    if (bookcasesDeleted > 0) {
+      domainEventPublisher.publish(new BookcaseDeleted(bookcaseId));
+    }
+    return new DeleteBookcaseResult(
+        bookcaseId,
+        bookcasesDeleted > 0,
+        counts.shelvesDeleted(),
+        counts.booksDeleted(),
+        counts.placementsDeleted());
   }
 }
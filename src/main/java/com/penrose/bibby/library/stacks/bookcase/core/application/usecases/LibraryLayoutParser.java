@@ -0,0 +1,137 @@
+package com.penrose.bibby.library.stacks.bookcase.core.application.usecases;
+
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.BookcaseLayoutEntry;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses a library layout file into individual bookcase definitions.
+ *
+ * <p>Each non-blank line that does not start with {@code #} describes one or more bookcases:
+ *
+ * <pre>
+ * # location, zone, index, shelves, books per shelf
+ * Warehouse, Aisle1, 01-12, 5, 30
+ * Office,    NorthWall, A-C, 4, 20
+ * Office,    Desk, 1, 2, 15
+ * </pre>
+ *
+ * <p>The index column may be a single value or an inclusive range of numbers or single letters.
+ * Numeric ranges keep the zero padding of the start value, so {@code 01-12} yields {@code 01} to
+ * {@code 12}.
+ */
+public final class LibraryLayoutParser {
+
+  /** Upper bound on the bookcases a single layout may expand to. */
+  public static final int MAX_BOOKCASES = 10_000;
+
+  private LibraryLayoutParser() {}
+
+  /**
+   * Parses the layout text.
+   *
+   * @param layout the layout file contents
+   * @return one entry per bookcase, in file order
+   * @throws IllegalArgumentException if a line is malformed; the message names the line number
+   */
+  public static List<BookcaseLayoutEntry> parse(String layout) {
+    if (layout == null || layout.isBlank()) {
+      throw new IllegalArgumentException("Layout is empty");
+    }
+    List<BookcaseLayoutEntry> entries = new ArrayList<>();
+    String[] lines = layout.split("\\R");
+    for (int i = 0; i < lines.length; i++) {
+      String line = lines[i].strip();
+      if (line.isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+      parseLine(line, i + 1, entries);
+      if (entries.size() > MAX_BOOKCASES) {
+        throw new IllegalArgumentException(
+            "Layout expands to more than " + MAX_BOOKCASES + " bookcases");
+      }
+    }
+    if (entries.isEmpty()) {
+      throw new IllegalArgumentException("Layout does not define any bookcases");
+    }
+    return entries;
+  }
+
+  private static void parseLine(String line, int lineNumber, List<BookcaseLayoutEntry> entries) {
+    String[] columns = line.split(",", -1);
+    if (columns.length != 5) {
+      throw lineError(lineNumber, "expected 5 columns but found " + columns.length);
+    }
+    String location = columns[0].strip();
+    String zone = columns[1].strip();
+    if (location.isEmpty() || zone.isEmpty()) {
+      throw lineError(lineNumber, "location and zone are required");
+    }
+    int shelfCount = parseInt(columns[3], "shelf count", 1, lineNumber);
+    int bookCapacity = parseInt(columns[4], "books per shelf", 1, lineNumber);
+    for (String index : expandIndex(columns[2].strip(), lineNumber)) {
+      entries.add(new BookcaseLayoutEntry(location, zone, index, shelfCount, bookCapacity));
+    }
+  }
+
+  private static List<String> expandIndex(String index, int lineNumber) {
+    if (index.isEmpty()) {
+      throw lineError(lineNumber, "index is required");
+    }
+    int dash = index.indexOf('-', 1);
+    if (dash < 0) {
+      return List.of(index);
+    }
+    String from = index.substring(0, dash).strip();
+    String to = index.substring(dash + 1).strip();
+
+    if (isLetter(from) && isLetter(to)) {
+      char start = Character.toUpperCase(from.charAt(0));
+      char end = Character.toUpperCase(to.charAt(0));
+      if (start > end) {
+        throw lineError(lineNumber, "index range " + index + " is reversed");
+      }
+      List<String> indexes = new ArrayList<>();
+      for (char c = start; c <= end; c++) {
+        indexes.add(String.valueOf(c));
+      }
+      return indexes;
+    }
+
+    int start = parseInt(from, "index range start", 0, lineNumber);
+    int end = parseInt(to, "index range end", 0, lineNumber);
+    if (start > end) {
+      throw lineError(lineNumber, "index range " + index + " is reversed");
+    }
+    if (end - start >= MAX_BOOKCASES) {
+      throw lineError(lineNumber, "index range " + index + " is too large");
+    }
+    String format = from.startsWith("0") ? "%0" + from.length() + "d" : "%d";
+    List<String> indexes = new ArrayList<>(end - start + 1);
+    for (int i = start; i <= end; i++) {
+      indexes.add(String.format(format, i));
+    }
+    return indexes;
+  }
+
+  private static boolean isLetter(String value) {
+    return value.length() == 1 && Character.isLetter(value.charAt(0));
+  }
+
+  private static int parseInt(String value, String column, int min, int lineNumber) {
+    int parsed;
+    try {
+      parsed = Integer.parseInt(value.strip());
+    } catch (NumberFormatException e) {
+      throw lineError(lineNumber, column + " '" + value.strip() + "' is not a number");
+    }
+    if (parsed < min) {
+      throw lineError(lineNumber, column + " must be at least " + min);
+    }
+    return parsed;
+  }
+
+  private static IllegalArgumentException lineError(int lineNumber, String message) {
+    return new IllegalArgumentException("Layout line " + lineNumber + ": " + message);
+  }
+}
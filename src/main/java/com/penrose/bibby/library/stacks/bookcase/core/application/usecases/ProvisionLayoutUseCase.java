@@ -0,0 +1,138 @@
+package com.penrose.bibby.library.stacks.bookcase.core.application.usecases;
+
+import com.penrose.bibby.library.shared.events.DomainEventPublisher;
+import com.penrose.bibby.library.stacks.bookcase.api.events.BookcaseCreated;
+import com.penrose.bibby.library.stacks.bookcase.core.domain.model.Bookcase;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.ProvisionLayoutUseCasePort;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.outbound.BookcaseRepository;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.outbound.ShelfAccessPort;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.BookcaseLayoutEntry;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.ProvisionLayoutResult;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Creates many bookcases, each with its full set of shelves, from a single library layout file.
+ *
+ * <p>Bookcases that already exist for the user (same location, zone and index) are skipped, so a
+ * layout can be re-applied after it has been extended. New bookcases are written in chunks of
+ * {@value #CHUNK_SIZE}; each chunk is one transaction whose bookcase and shelf inserts go to the
+ * database as JDBC batches. A failing chunk rolls back on its own and stops the run, leaving
+ * earlier chunks committed; re-running the same layout then picks up where it stopped.
+ */
+@Service
+public class ProvisionLayoutUseCase implements ProvisionLayoutUseCasePort {
+
+  static final int CHUNK_SIZE = 100;
+
+  private static final Logger logger = LoggerFactory.getLogger(ProvisionLayoutUseCase.class);
+  private final BookcaseRepository bookcaseRepository;
+  private final ShelfAccessPort shelfAccessPort;
+  private final TransactionOperations transactionOperations;
+  private final DomainEventPublisher domainEventPublisher;
+
+  public ProvisionLayoutUseCase(
+      BookcaseRepository bookcaseRepository,
+      ShelfAccessPort shelfAccessPort,
+      TransactionOperations transactionOperations,
+      DomainEventPublisher domainEventPublisher) {
+    this.bookcaseRepository = bookcaseRepository;
+    this.shelfAccessPort = shelfAccessPort;
+    this.transactionOperations = transactionOperations;
+    this.domainEventPublisher = domainEventPublisher;
+  }
+
+  /**
+   * Provisions every bookcase described by the layout.
+   *
+   * @param userId the owner of the new bookcases
+   * @param layout the layout file contents, see {@link LibraryLayoutParser}
+   * @return how many bookcases and shelves were created and which bookcases were skipped
+   * @throws IllegalArgumentException if there is no owner or the layout cannot be parsed
+   */
+  @Override
+  public ProvisionLayoutResult provision(Long userId, String layout) {
+    if (userId == null) {
+      // Ownerless bookcases belong to no user, and a re-run could not tell which already exist
+      throw new IllegalArgumentException("Provisioned bookcases need an owner");
+    }
+    List<BookcaseLayoutEntry> entries = LibraryLayoutParser.parse(layout);
+
+    Set<String> existing = new HashSet<>();
+    for (Bookcase bookcase : bookcaseRepository.findByAppUserId(userId)) {
+      existing.add(
+          key(
+              bookcase.getBookcaseLocation(),
+              bookcase.getBookcaseZone(),
+              bookcase.getBookcaseIndex()));
+    }
+
+    List<BookcaseLayoutEntry> toCreate = new ArrayList<>();
+    List<String> skipped = new ArrayList<>();
+    for (BookcaseLayoutEntry entry : entries) {
+      if (existing.add(key(entry.location(), entry.zone(), entry.index()))) {
+        toCreate.add(entry);
+      } else {
+        skipped.add(entry.location() + "/" + entry.label());
+      }
+    }
+
+    int bookcasesCreated = 0;
+    int shelvesCreated = 0;
+    for (int from = 0; from < toCreate.size(); from += CHUNK_SIZE) {
+      List<BookcaseLayoutEntry> chunk =
+          toCreate.subList(from, Math.min(from + CHUNK_SIZE, toCreate.size()));
+      Integer shelves = transactionOperations.execute(status -> createChunk(userId, chunk));
+      bookcasesCreated += chunk.size();
+      shelvesCreated += shelves == null ? 0 : shelves;
+    }
+
+    logger.info(
+        "Provisioned {} bookcases with {} shelves for user {} ({} skipped)",
+        bookcasesCreated,
+        shelvesCreated,
+        userId,
+        skipped.size());
+    return new ProvisionLayoutResult(bookcasesCreated, shelvesCreated, skipped);
+  }
+
+  private int createChunk(Long userId, List<BookcaseLayoutEntry> chunk) {
+    List<Bookcase> bookcases = new ArrayList<>(chunk.size());
+    for (BookcaseLayoutEntry entry : chunk) {
+      bookcases.add(
+          new Bookcase(
+              null,
+              userId,
+              entry.shelfCount(),
+              entry.shelfCount() * entry.bookCapacity(),
+              entry.location(),
+              entry.zone(),
+              entry.index()));
+    }
+    List<Bookcase> saved = bookcaseRepository.saveAll(bookcases);
+
+    int shelves = 0;
+    for (int i = 0; i < saved.size(); i++) {
+      BookcaseLayoutEntry entry = chunk.get(i);
+      Bookcase bookcase = saved.get(i);
+      int created =
+          shelfAccessPort.createShelves(
+              bookcase.getBookcaseId(), entry.shelfCount(), entry.bookCapacity());
+      domainEventPublisher.publish(
+          new BookcaseCreated(bookcase.getBookcaseId(), bookcase.getBookcaseLocation(), created));
+      shelves += created;
+    }
+    return shelves;
+  }
+
+  private static String key(String location, String zone, String index) {
+    return (location + "\u0000" + zone + "\u0000" + index).toLowerCase(Locale.ROOT);
+  }
+}
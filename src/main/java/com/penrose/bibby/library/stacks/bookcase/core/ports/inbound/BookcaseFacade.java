@@ -3,6 +3,7 @@ package com.penrose.bibby.library.stacks.bookcase.core.ports.inbound;
 import com.penrose.bibby.library.stacks.bookcase.api.dtos.BookcaseDTO;
 import com.penrose.bibby.library.stacks.bookcase.core.domain.model.Bookcase;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.CreateBookcaseResult;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.DeleteBookcaseResult;
 import com.penrose.bibby.library.stacks.bookcase.infrastructure.persistence.entity.BookcaseEntity;
 import java.util.List;
 import java.util.Optional;
@@ -80,6 +81,7 @@ public interface BookcaseFacade {
    * Deletes a bookcase by its unique identifier.
    *
    * @param bookcaseId the unique identifier of the bookcase to delete.
+   * @return the number of shelves, books and placements removed along with the bookcase.
    */
-  void deleteBookcase(Long bookcaseId);
+  DeleteBookcaseResult deleteBookcase(Long bookcaseId);
 }
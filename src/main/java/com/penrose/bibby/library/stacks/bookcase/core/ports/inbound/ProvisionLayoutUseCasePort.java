@@ -0,0 +1,7 @@
+package com.penrose.bibby.library.stacks.bookcase.core.ports.inbound;
+
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.ProvisionLayoutResult;
+
+public interface ProvisionLayoutUseCasePort {
+  ProvisionLayoutResult provision(Long userId, String layout);
+}
@@ -12,11 +12,13 @@ public interface BookcaseRepository {
 
   Bookcase save(Bookcase bookcase);
 
+  List<Bookcase> saveAll(List<Bookcase> bookcases);
+
   Bookcase findById(Long id);
 
   List<Bookcase> findByLocation(String location);
 
   List<Bookcase> findByAppUserId(Long appUserId);
 
-  void deleteById(Long bookcaseId);
+  int deleteById(Long bookcaseId);
 }
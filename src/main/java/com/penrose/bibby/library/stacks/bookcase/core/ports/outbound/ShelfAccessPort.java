@@ -1,7 +1,9 @@
 package com.penrose.bibby.library.stacks.bookcase.core.ports.outbound;
 
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.ShelfDeletionCounts;
+
 public interface ShelfAccessPort {
-  void deleteAllShelvesInBookcase(Long bookcaseId);
+  ShelfDeletionCounts deleteAllShelvesInBookcase(Long bookcaseId);
 
-  void createShelf(Long bookcaseId, int position, String shelfLabel, int bookCapacity);
+  int createShelves(Long bookcaseId, int shelfCount, int bookCapacity);
 }
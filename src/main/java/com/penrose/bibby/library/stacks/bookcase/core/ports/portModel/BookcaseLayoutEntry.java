@@ -0,0 +1,18 @@
+package com.penrose.bibby.library.stacks.bookcase.core.ports.portModel;
+
+/**
+ * One bookcase to be provisioned from a library layout file.
+ *
+ * @param location the room or area the bookcase stands in (e.g. "Warehouse")
+ * @param zone the zone within the location (e.g. "Aisle1")
+ * @param index the bookcase index within the zone (e.g. "07")
+ * @param shelfCount the number of shelves to create
+ * @param bookCapacity the number of books each shelf holds
+ */
+public record BookcaseLayoutEntry(
+    String location, String zone, String index, int shelfCount, int bookCapacity) {
+
+  public String label() {
+    return zone + "-" + index;
+  }
+}
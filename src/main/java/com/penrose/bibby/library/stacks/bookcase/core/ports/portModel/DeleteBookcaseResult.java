@@ -0,0 +1,8 @@
+package com.penrose.bibby.library.stacks.bookcase.core.ports.portModel;
+
+public record DeleteBookcaseResult(
+    Long bookcaseId,
+    boolean bookcaseDeleted,
+    int shelvesDeleted,
+    int booksDeleted,
+    int placementsDeleted) {}
@@ -0,0 +1,13 @@
+package com.penrose.bibby.library.stacks.bookcase.core.ports.portModel;
+
+import java.util.List;
+
+/**
+ * Outcome of provisioning a library layout.
+ *
+ * @param bookcasesCreated the number of bookcases inserted
+ * @param shelvesCreated the number of shelves inserted across all new bookcases
+ * @param skipped labels of bookcases that already existed and were left untouched
+ */
+public record ProvisionLayoutResult(
+    int bookcasesCreated, int shelvesCreated, List<String> skipped) {}
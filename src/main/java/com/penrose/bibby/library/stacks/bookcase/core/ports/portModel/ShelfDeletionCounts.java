@@ -0,0 +1,3 @@
+package com.penrose.bibby.library.stacks.bookcase.core.ports.portModel;
+
+public record ShelfDeletionCounts(int shelvesDeleted, int booksDeleted, int placementsDeleted) {}
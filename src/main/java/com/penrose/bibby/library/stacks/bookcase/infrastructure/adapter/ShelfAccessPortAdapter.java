@@ -1,9 +1,11 @@
 package com.penrose.bibby.library.stacks.bookcase.infrastructure.adapter;
 
 import com.penrose.bibby.library.stacks.bookcase.core.ports.outbound.ShelfAccessPort;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.ShelfDeletionCounts;
 import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.CreateShelfUseCasePort;
 import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.DeleteShelvesUseCasePort;
 import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfCommandFacade;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.inboundPortModels.DeleteShelvesResult;
 import org.springframework.stereotype.Component;
 
 @Component("bookcaseShelfAccessPortAdapter")
@@ -20,12 +22,14 @@ public class ShelfAccessPortAdapter implements ShelfAccessPort {
   }
 
   @Override
-  public void deleteAllShelvesInBookcase(Long bookcaseId) {
-    deleteShelvesUseCasePort.execute(bookcaseId);
+  public ShelfDeletionCounts deleteAllShelvesInBookcase(Long bookcaseId) {
+    DeleteShelvesResult result = deleteShelvesUseCasePort.execute(bookcaseId);
+    return new ShelfDeletionCounts(
+        result.shelvesDeleted(), result.booksDeleted(), result.placementsDeleted());
   }
 
   @Override
-  public void createShelf(Long bookcaseId, int position, String shelfLabel, int bookCapacity) {
-    createShelfUseCasePort.execute(shelfLabel, position, bookCapacity, bookcaseId);
+  public int createShelves(Long bookcaseId, int shelfCount, int bookCapacity) {
+    return createShelfUseCasePort.createShelves(bookcaseId, shelfCount, bookCapacity);
   }
 }
@@ -2,6 +2,7 @@ package com.penrose.bibby.library.stacks.bookcase.infrastructure.persistence.ada
 
 import com.penrose.bibby.library.stacks.bookcase.core.domain.model.Bookcase;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.outbound.BookcaseRepository;
+import com.penrose.bibby.library.stacks.bookcase.infrastructure.persistence.entity.BookcaseEntity;
 import com.penrose.bibby.library.stacks.bookcase.infrastructure.persistence.mapping.BookcaseMapper;
 import com.penrose.bibby.library.stacks.bookcase.infrastructure.persistence.repository.BookcaseJpaRepository;
 import java.util.ArrayList;
@@ -21,14 +22,13 @@ public class BookcaseRepositoryAdapter implements BookcaseRepository {
 
   @Override
   public Bookcase findBookcaseByBookcaseLocation(String bookcaseLocation) {
-    if (bookcaseJpaRepository.findBookcaseEntityByBookcaseLocation(bookcaseLocation) != null) {
-      ;
-      return BookcaseMapper.toDomain(
-          bookcaseJpaRepository.findBookcaseEntityByBookcaseLocation(bookcaseLocation));
-    } else {
+    BookcaseEntity entity =
+        bookcaseJpaRepository.findBookcaseEntityByBookcaseLocation(bookcaseLocation);
+    if (entity == null) {
       logger.warn("No bookcase found at location: {}", bookcaseLocation);
       return null;
     }
+    return BookcaseMapper.toDomain(entity);
   }
 
   @Override
@@ -55,6 +55,15 @@ public class BookcaseRepositoryAdapter implements BookcaseRepository {
     return savedBookcase;
   }
 
+  @Override
+  public List<Bookcase> saveAll(List<Bookcase> bookcases) {
+    List<BookcaseEntity> entities = bookcases.stream().map(BookcaseMapper::toEntity).toList();
+    List<Bookcase> saved =
+        bookcaseJpaRepository.saveAll(entities).stream().map(BookcaseMapper::toDomain).toList();
+    logger.info("Saved {} bookcases", saved.size());
+    return saved;
+  }
+
   @Override
   public Bookcase findById(Long id) {
     return Optional.ofNullable(bookcaseJpaRepository.findById(id).orElse(null))
@@ -77,8 +86,9 @@ public class BookcaseRepositoryAdapter implements BookcaseRepository {
   }
 
   @Override
-  public void deleteById(Long bookcaseId) {
-    bookcaseJpaRepository.deleteById(bookcaseId);
+  public int deleteById(Long bookcaseId) {
+    int deleted = bookcaseJpaRepository.deleteBookcaseById(bookcaseId);
     logger.info("Deleted bookcase with Id: {}", bookcaseId);
+    return deleted;
   }
 }
@@ -1,9 +1,23 @@
 package com.penrose.bibby.library.stacks.bookcase.infrastructure.persistence.entity;
 
+import com.penrose.bibby.config.cache.ReferenceDataCacheConfig;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
 
 @Entity
-@Table(name = "bookcases")
+@Table(
+    name = "bookcases",
+    indexes = {
+      @Index(name = "idx_bookcases_tenant_location", columnList = "tenant_id, bookcase_location"),
+      @Index(name = "idx_bookcases_tenant_user", columnList = "tenant_id, user_id")
+    })
+@Cacheable
+@Cache(
+    usage = CacheConcurrencyStrategy.READ_WRITE,
+    region = ReferenceDataCacheConfig.BOOKCASE_REGION)
 public class BookcaseEntity {
   @Id
   @GeneratedValue(strategy = GenerationType.AUTO)
@@ -16,6 +30,12 @@ public class BookcaseEntity {
   private int shelfCapacity;
   private int bookCapacity;
 
+  /** Owning tenant, filled in by Hibernate; see {@code LibraryTenantResolver}. */
+  @TenantId
+  @ColumnDefault("0")
+  @Column(name = "tenant_id", nullable = false, updatable = false)
+  private Long tenantId;
+
   public BookcaseEntity() {}
 
   public BookcaseEntity(
@@ -111,4 +131,8 @@ public class BookcaseEntity {
         + bookCapacity
         + '}';
   }
+
+  public Long getTenantId() {
+    return tenantId;
+  }
 }
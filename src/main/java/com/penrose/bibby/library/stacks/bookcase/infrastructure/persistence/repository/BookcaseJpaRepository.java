@@ -1,15 +1,35 @@
 package com.penrose.bibby.library.stacks.bookcase.infrastructure.persistence.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 import com.penrose.bibby.library.stacks.bookcase.infrastructure.persistence.entity.BookcaseEntity;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface BookcaseJpaRepository extends JpaRepository<BookcaseEntity, Long> {
+  // The lookups behind the shell menus are served from the query cache; any write to the
+  // bookcases table invalidates their cached results.
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   BookcaseEntity findBookcaseEntityByBookcaseLocation(String s);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<BookcaseEntity> findAllByBookcaseLocation(String s);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<BookcaseEntity> findAllByUserId(Long userId);
+
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+  @Override
+  List<BookcaseEntity> findAll();
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM BookcaseEntity b WHERE b.bookcaseId = :bookcaseId")
+  int deleteBookcaseById(@Param("bookcaseId") Long bookcaseId);
 }
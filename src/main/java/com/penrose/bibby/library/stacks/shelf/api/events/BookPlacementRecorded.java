@@ -0,0 +1,16 @@
+package com.penrose.bibby.library.stacks.shelf.api.events;
+
+import com.penrose.bibby.library.shared.events.DomainEvent;
+
+/**
+ * A placement of a book on a shelf was recorded in the shelf module's own placement history. The
+ * book's current shelf, which locations are read from, is not changed by it; that is {@code
+ * BookPlaced}.
+ */
+public record BookPlacementRecorded(Long bookId, Long shelfId) implements DomainEvent {
+
+  @Override
+  public Long aggregateId() {
+    return bookId;
+  }
+}
@@ -0,0 +1,12 @@
+package com.penrose.bibby.library.stacks.shelf.api.events;
+
+import com.penrose.bibby.library.shared.events.DomainEvent;
+
+/** A shelf was deleted together with the books and placements on it. */
+public record ShelfDeleted(Long shelfId, Long bookcaseId) implements DomainEvent {
+
+  @Override
+  public Long aggregateId() {
+    return shelfId;
+  }
+}
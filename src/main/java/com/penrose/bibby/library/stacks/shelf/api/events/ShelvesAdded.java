@@ -0,0 +1,12 @@
+package com.penrose.bibby.library.stacks.shelf.api.events;
+
+import com.penrose.bibby.library.shared.events.DomainEvent;
+
+/** One or more empty shelves were added to a bookcase. */
+public record ShelvesAdded(Long bookcaseId, int shelfCount) implements DomainEvent {
+
+  @Override
+  public Long aggregateId() {
+    return bookcaseId;
+  }
+}
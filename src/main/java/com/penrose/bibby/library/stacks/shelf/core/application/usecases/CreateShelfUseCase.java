@@ -1,10 +1,14 @@
 package com.penrose.bibby.library.stacks.shelf.core.application.usecases;
 
+import com.penrose.bibby.library.shared.events.DomainEventPublisher;
+import com.penrose.bibby.library.stacks.shelf.api.events.ShelvesAdded;
 import com.penrose.bibby.library.stacks.shelf.core.domain.model.Shelf;
 import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.CreateShelfUseCasePort;
 import com.penrose.bibby.library.stacks.shelf.core.ports.outbound.ShelfDomainRepositoryPort;
+import java.util.ArrayList;
 import java.util.List;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service class responsible for handling the creation of shelves. This use case interacts with the
@@ -14,14 +18,19 @@ import org.springframework.stereotype.Service;
 public class CreateShelfUseCase implements CreateShelfUseCasePort {
 
   private final ShelfDomainRepositoryPort shelfDomainRepositoryPort;
+  private final DomainEventPublisher domainEventPublisher;
 
   /**
    * Constructor for CreateShelfUseCase.
    *
    * @param shelfDomainRepositoryPort the repository used to persist shelf data
+   * @param domainEventPublisher records a {@link ShelvesAdded} event with each change
    */
-  public CreateShelfUseCase(ShelfDomainRepositoryPort shelfDomainRepositoryPort) {
+  public CreateShelfUseCase(
+      ShelfDomainRepositoryPort shelfDomainRepositoryPort,
+      DomainEventPublisher domainEventPublisher) {
     this.shelfDomainRepositoryPort = shelfDomainRepositoryPort;
+    this.domainEventPublisher = domainEventPublisher;
   }
 
   /**
@@ -32,8 +41,32 @@ public class CreateShelfUseCase implements CreateShelfUseCasePort {
    * @param bookCapacity the capacity of the shelf to be created
    * @param bookcaseId the ID of the bookcase to be created
    */
+  @Transactional
   public void execute(String shelfLabel, int shelfPosition, int bookCapacity, Long bookcaseId) {
     Shelf shelf = new Shelf(shelfLabel, shelfPosition, bookCapacity, null, List.of(), bookcaseId);
     shelfDomainRepositoryPort.createNewShelfInBookcase(shelf);
+    domainEventPublisher.publish(new ShelvesAdded(bookcaseId, 1));
+  }
+
+  /**
+   * Creates a full set of shelves for a bookcase in one batch. Shelves are numbered from 1 and
+   * labelled "Shelf 1", "Shelf 2", and so on.
+   *
+   * @param bookcaseId the ID of the bookcase that owns the shelves
+   * @param shelfCount the number of shelves to create
+   * @param bookCapacity the capacity of each shelf
+   * @return the number of shelves created
+   */
+  @Override
+  @Transactional
+  public int createShelves(Long bookcaseId, int shelfCount, int bookCapacity) {
+    List<Shelf> shelves = new ArrayList<>(shelfCount);
+    for (int position = 1; position <= shelfCount; position++) {
+      shelves.add(
+          new Shelf("Shelf " + position, position, bookCapacity, null, List.of(), bookcaseId));
+    }
+    shelfDomainRepositoryPort.createNewShelves(shelves);
+    domainEventPublisher.publish(new ShelvesAdded(bookcaseId, shelves.size()));
+    return shelves.size();
   }
 }
@@ -1,8 +1,11 @@
 package com.penrose.bibby.library.stacks.shelf.core.application.usecases;
 
-import com.penrose.bibby.library.stacks.shelf.core.domain.model.Shelf;
+import com.penrose.bibby.library.shared.events.DomainEventPublisher;
+import com.penrose.bibby.library.stacks.shelf.api.events.ShelfDeleted;
 import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.DeleteShelvesUseCasePort;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.inboundPortModels.DeleteShelvesResult;
 import com.penrose.bibby.library.stacks.shelf.core.ports.outbound.BookAccessPort;
+import com.penrose.bibby.library.stacks.shelf.core.ports.outbound.PlacementRepositoryPort;
 import com.penrose.bibby.library.stacks.shelf.core.ports.outbound.ShelfDomainRepositoryPort;
 import java.util.List;
 import org.slf4j.Logger;
@@ -13,14 +16,17 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Use case responsible for deleting all shelves and their associated books from a given bookcase.
  *
- * <p>This operation first removes all books on the shelves via {@link BookAccessPort}, then deletes
- * the shelves themselves from the repository.
+ * <p>This operation first removes all books on the shelves via {@link BookAccessPort}, then their
+ * placements, then the shelves themselves. Every step is a set-based delete, so no shelf or book
+ * rows are loaded into memory.
  */
 @Service
 public class DeleteShelvesUseCase implements DeleteShelvesUseCasePort {
 
   private final ShelfDomainRepositoryPort shelfDomainRepositoryPort;
   private final BookAccessPort bookAccessPort;
+  private final PlacementRepositoryPort placementRepositoryPort;
+  private final DomainEventPublisher domainEventPublisher;
   private final Logger logger = LoggerFactory.getLogger(DeleteShelvesUseCase.class);
 
   /**
@@ -28,28 +34,46 @@ public class DeleteShelvesUseCase implements DeleteShelvesUseCasePort {
    *
    * @param shelfDomainRepositoryPort the repository port for shelf persistence operations
    * @param bookAccessPort the port for book-related operations across shelf boundaries
+   * @param placementRepositoryPort the repository port for placement persistence operations
+   * @param domainEventPublisher publishes a {@link ShelfDeleted} event for every deleted shelf
    */
   public DeleteShelvesUseCase(
-      ShelfDomainRepositoryPort shelfDomainRepositoryPort, BookAccessPort bookAccessPort) {
+      ShelfDomainRepositoryPort shelfDomainRepositoryPort,
+      BookAccessPort bookAccessPort,
+      PlacementRepositoryPort placementRepositoryPort,
+      DomainEventPublisher domainEventPublisher) {
     this.shelfDomainRepositoryPort = shelfDomainRepositoryPort;
     this.bookAccessPort = bookAccessPort;
+    this.placementRepositoryPort = placementRepositoryPort;
+    this.domainEventPublisher = domainEventPublisher;
   }
 
   /**
    * Deletes all shelves belonging to the specified bookcase, including their books.
    *
-   * <p>Executes within a transaction to ensure atomicity: books are deleted first, followed by the
-   * shelves.
+   * <p>Books are deleted first, in chunks that each commit on their own to bound lock time.
+   * Placements and shelves are then deleted within this method's transaction. If that step fails,
+   * the books are already gone and running the delete again removes the rest.
    *
    * @param bookcaseId the ID of the bookcase whose shelves should be deleted
+   * @return the number of shelves, books and placements deleted
    */
   @Transactional
-  public void execute(Long bookcaseId) {
-    List<Shelf> shelves = shelfDomainRepositoryPort.findByBookcaseId(bookcaseId);
-    List<Long> shelfIds = shelves.stream().map(shelf -> shelf.getShelfId().shelfId()).toList();
-    bookAccessPort.deleteBooksOnShelves(shelfIds);
-    logger.info("Deleted all shelves in bookcase with ID: {}", bookcaseId);
-    shelfDomainRepositoryPort.deleteByBookcaseId(bookcaseId);
-    logger.info("Bookcase with ID: {} has been cleared of shelves", bookcaseId);
+  public DeleteShelvesResult execute(Long bookcaseId) {
+    List<Long> shelfIds = shelfDomainRepositoryPort.findShelfIdsByBookcaseId(bookcaseId);
+    int booksDeleted = shelfIds.isEmpty() ? 0 : bookAccessPort.deleteBooksOnShelves(shelfIds);
+    int placementsDeleted =
+        shelfIds.isEmpty() ? 0 : placementRepositoryPort.deleteByShelfIds(shelfIds);
+    int shelvesDeleted = shelfDomainRepositoryPort.deleteByBookcaseId(bookcaseId);
+    for (Long shelfId : shelfIds) {
+      domainEventPublisher.publish(new ShelfDeleted(shelfId, bookcaseId));
+    }
+    logger.info(
+        "Bookcase with ID: {} has been cleared of {} shelves, {} books and {} placements",
+        bookcaseId,
+        shelvesDeleted,
+        booksDeleted,
+        placementsDeleted);
+    return new DeleteShelvesResult(shelvesDeleted, booksDeleted, placementsDeleted);
   }
 }
@@ -1,28 +1,37 @@
 package com.penrose.bibby.library.stacks.shelf.core.application.usecases;
 
+import com.penrose.bibby.library.shared.events.DomainEventPublisher;
+import com.penrose.bibby.library.stacks.shelf.api.events.BookPlacementRecorded;
 import com.penrose.bibby.library.stacks.shelf.core.domain.model.Placement;
 import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.PlaceBookOnShelfUseCasePort;
 import com.penrose.bibby.library.stacks.shelf.core.ports.outbound.BookAccessPort;
 import com.penrose.bibby.library.stacks.shelf.core.ports.outbound.PlacementRepositoryPort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class PlaceBookOnShelfUseCase implements PlaceBookOnShelfUseCasePort {
 
   private final PlacementRepositoryPort placementRepositoryPort;
   private final BookAccessPort bookAccessPort;
+  private final DomainEventPublisher domainEventPublisher;
 
   public PlaceBookOnShelfUseCase(
-      PlacementRepositoryPort placementRepositoryPort, BookAccessPort bookAccessPort) {
+      PlacementRepositoryPort placementRepositoryPort,
+      BookAccessPort bookAccessPort,
+      DomainEventPublisher domainEventPublisher) {
     this.placementRepositoryPort = placementRepositoryPort;
     this.bookAccessPort = bookAccessPort;
+    this.domainEventPublisher = domainEventPublisher;
   }
 
+  @Transactional
   public void execute(Long bookId, Long shelfId) {
     if (bookAccessPort.getBookById(bookId) == null) {
       throw new IllegalArgumentException("Book with id " + bookId + " does not exist.");
     }
     Placement placement = new Placement(bookId, shelfId);
     placementRepositoryPort.placeBookOnShelf(placement);
+    domainEventPublisher.publish(new BookPlacementRecorded(bookId, shelfId));
   }
 }
@@ -19,8 +19,12 @@ import org.springframework.transaction.annotation.Transactional;
  * from the {@link ShelfDomainRepositoryPort} are mapped to inbound port models ({@link
  * ShelfResponse}, {@link ShelfSummaryResponse}) before crossing the application boundary, keeping
  * domain internals encapsulated.
+ *
+ * <p>Every query runs in a read-only transaction, which lets it be served by a read replica when
+ * replica routing is enabled.
  */
 @Service
+@Transactional(readOnly = true)
 public class QueryShelfUseCase {
 
   private final ShelfDomainRepositoryPort shelfDomainRepositoryPort;
@@ -52,7 +56,6 @@ public class QueryShelfUseCase {
    * @return the matching {@link ShelfResponse} wrapped in an {@link Optional}, or {@link
    *     Optional#empty()} when no shelf exists for the given ID
    */
-  @Transactional
   public Optional<ShelfResponse> findShelfById(Long shelfId) {
     Shelf shelf = shelfDomainRepositoryPort.getShelfByShelfId(new ShelfId(shelfId));
     if (shelf == null) {
@@ -2,4 +2,6 @@ package com.penrose.bibby.library.stacks.shelf.core.ports.inbound;
 
 public interface CreateShelfUseCasePort {
   void execute(String shelfLabel, int shelfPosition, int bookCapacity, Long bookcaseId);
+
+  int createShelves(Long bookcaseId, int shelfCount, int bookCapacity);
 }
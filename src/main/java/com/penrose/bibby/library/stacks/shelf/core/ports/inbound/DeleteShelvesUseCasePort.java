@@ -1,5 +1,7 @@
 package com.penrose.bibby.library.stacks.shelf.core.ports.inbound;
 
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.inboundPortModels.DeleteShelvesResult;
+
 public interface DeleteShelvesUseCasePort {
-  void execute(Long bookcaseId);
+  DeleteShelvesResult execute(Long bookcaseId);
 }
@@ -0,0 +1,10 @@
+package com.penrose.bibby.library.stacks.shelf.core.ports.inbound.inboundPortModels;
+
+/**
+ * Row counts reported after deleting every shelf in a bookcase.
+ *
+ * @param shelvesDeleted number of shelf rows removed
+ * @param booksDeleted number of book rows removed from those shelves
+ * @param placementsDeleted number of placement rows removed for those shelves
+ */
+public record DeleteShelvesResult(int shelvesDeleted, int booksDeleted, int placementsDeleted) {}
@@ -21,7 +21,13 @@ public interface BookAccessPort {
    */
   List<Long> getBookIdsByShelfId(Long shelfId);
 
-  void deleteBooksOnShelves(List<Long> shelfIds);
+  /**
+   * Deletes every book on the given shelves.
+   *
+   * @param shelfIds the IDs of the shelves to clear
+   * @return the number of books deleted
+   */
+  int deleteBooksOnShelves(List<Long> shelfIds);
 
   /**
    * Looks up a book by its ID.
@@ -1,7 +1,16 @@
 package com.penrose.bibby.library.stacks.shelf.core.ports.outbound;
 
 import com.penrose.bibby.library.stacks.shelf.core.domain.model.Placement;
+import java.util.List;
 
 public interface PlacementRepositoryPort {
   void placeBookOnShelf(Placement placement);
+
+  /**
+   * Deletes every placement recorded against the given shelves.
+   *
+   * @param shelfIds the IDs of the shelves whose placements should be removed
+   * @return the number of placements deleted
+   */
+  int deleteByShelfIds(List<Long> shelfIds);
 }
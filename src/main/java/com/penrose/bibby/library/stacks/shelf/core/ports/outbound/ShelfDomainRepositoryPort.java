@@ -10,7 +10,22 @@ public interface ShelfDomainRepositoryPort {
 
   void createNewShelfInBookcase(Shelf shelf);
 
-  void deleteByBookcaseId(Long bookcaseId);
+  /**
+   * Persists several new shelves at once so the inserts can be sent as a single JDBC batch.
+   *
+   * @param shelves the shelves to create
+   */
+  void createNewShelves(List<Shelf> shelves);
+
+  int deleteByBookcaseId(Long bookcaseId);
+
+  /**
+   * Returns the IDs of the shelves in a bookcase without loading the shelves themselves.
+   *
+   * @param bookcaseId the ID of the bookcase
+   * @return the shelf IDs, possibly empty
+   */
+  List<Long> findShelfIdsByBookcaseId(Long bookcaseId);
 
   List<Shelf> findByBookcaseId(Long bookcaseId);
 
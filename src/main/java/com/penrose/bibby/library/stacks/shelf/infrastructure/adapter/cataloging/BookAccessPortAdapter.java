@@ -30,8 +30,8 @@ public class BookAccessPortAdapter implements BookAccessPort {
   }
 
   @Override
-  public void deleteBooksOnShelves(List<Long> shelfIds) {
-    bookFacade.deleteByShelfId(shelfIds);
+  public int deleteBooksOnShelves(List<Long> shelfIds) {
+    return bookFacade.deleteByShelfId(shelfIds);
   }
 
   @Override
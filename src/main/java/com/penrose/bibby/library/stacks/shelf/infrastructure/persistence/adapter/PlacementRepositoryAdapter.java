@@ -4,12 +4,14 @@ import com.penrose.bibby.library.stacks.shelf.core.domain.model.Placement;
 import com.penrose.bibby.library.stacks.shelf.core.ports.outbound.PlacementRepositoryPort;
 import com.penrose.bibby.library.stacks.shelf.infrastructure.persistence.mapping.PlacementMapper;
 import com.penrose.bibby.library.stacks.shelf.infrastructure.persistence.repository.PlacementJpaRepository;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class PlacementRepositoryAdapter implements PlacementRepositoryPort {
+  static final int DELETE_CHUNK_SIZE = 500;
 
   private final PlacementJpaRepository placementJpaRepository;
   private final Logger logger = LoggerFactory.getLogger(PlacementRepositoryAdapter.class);
@@ -26,4 +28,16 @@ public class PlacementRepositoryAdapter implements PlacementRepositoryPort {
         placement.getBookId(),
         placement.getShelfId());
   }
+
+  @Override
+  public int deleteByShelfIds(List<Long> shelfIds) {
+    int deleted = 0;
+    for (int from = 0; from < shelfIds.size(); from += DELETE_CHUNK_SIZE) {
+      deleted +=
+          placementJpaRepository.deleteAllByShelfIdIn(
+              shelfIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, shelfIds.size())));
+    }
+    logger.info("Deleted {} placements on {} shelves", deleted, shelfIds.size());
+    return deleted;
+  }
 }
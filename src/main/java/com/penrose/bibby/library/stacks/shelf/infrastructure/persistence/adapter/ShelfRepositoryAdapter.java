@@ -59,12 +59,31 @@ public class ShelfRepositoryAdapter implements ShelfDomainRepositoryPort {
   /**
    * {@inheritDoc}
    *
-   * <p>Deletes all shelf rows matching the bookcase ID and logs the operation.
+   * <p>Uses {@code saveAll} so Hibernate can group the inserts into JDBC batches.
    */
   @Override
-  public void deleteByBookcaseId(Long bookcaseId) {
-    jpaRepository.deleteByBookcaseId(bookcaseId);
-    logger.info("Deleted shelves for bookcase with ID: {}", bookcaseId);
+  public void createNewShelves(List<Shelf> shelves) {
+    List<ShelfEntity> entities = shelves.stream().map(shelfMapper::toEntity).toList();
+    jpaRepository.saveAll(entities);
+    logger.info("Created {} shelves", entities.size());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Deletes all shelf rows matching the bookcase ID with a single statement and logs the
+   * operation.
+   */
+  @Override
+  public int deleteByBookcaseId(Long bookcaseId) {
+    int deleted = jpaRepository.deleteByBookcaseId(bookcaseId);
+    logger.info("Deleted {} shelves for bookcase with ID: {}", deleted, bookcaseId);
+    return deleted;
+  }
+
+  @Override
+  public List<Long> findShelfIdsByBookcaseId(Long bookcaseId) {
+    return jpaRepository.findShelfIdsByBookcaseId(bookcaseId);
   }
 
   /**
@@ -1,9 +1,16 @@
 package com.penrose.bibby.library.stacks.shelf.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
 
 @Entity
-@Table(name = "placements")
+@Table(
+    name = "placements",
+    indexes = {
+      @Index(name = "idx_placements_tenant_shelf", columnList = "tenant_id, shelf_id"),
+      @Index(name = "idx_placements_tenant_book", columnList = "tenant_id, book_id")
+    })
 public class PlacementEntity {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -12,6 +19,12 @@ public class PlacementEntity {
   private Long bookId;
   private Long shelfId;
 
+  /** Owning tenant, filled in by Hibernate; see {@code LibraryTenantResolver}. */
+  @TenantId
+  @ColumnDefault("0")
+  @Column(name = "tenant_id", nullable = false, updatable = false)
+  private Long tenantId;
+
   public PlacementEntity() {}
 
   public PlacementEntity(Long bookId, Long shelfId) {
@@ -42,4 +55,8 @@ public class PlacementEntity {
   public void setShelfId(Long shelfId) {
     this.shelfId = shelfId;
   }
+
+  public Long getTenantId() {
+    return tenantId;
+  }
 }
@@ -1,13 +1,25 @@
 package com.penrose.bibby.library.stacks.shelf.infrastructure.persistence.entity;
 
+import com.penrose.bibby.config.cache.ReferenceDataCacheConfig;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.TenantId;
 
 @Entity
-@Table(name = "shelves")
+@Table(
+    name = "shelves",
+    indexes = @Index(name = "idx_shelves_tenant_bookcase", columnList = "tenant_id, bookcase_id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceDataCacheConfig.SHELF_REGION)
 public class ShelfEntity {
 
   @Id
@@ -19,6 +31,12 @@ public class ShelfEntity {
   private int shelfPosition;
   private int bookCapacity;
 
+  /** Owning tenant, filled in by Hibernate; see {@code LibraryTenantResolver}. */
+  @TenantId
+  @ColumnDefault("0")
+  @Column(name = "tenant_id", nullable = false, updatable = false)
+  private Long tenantId;
+
   public ShelfEntity() {}
 
   public ShelfEntity(Long bookcaseId, int shelfPosition, String shelfLabel, int bookCapacity) {
@@ -69,4 +87,8 @@ public class ShelfEntity {
   public void setBookCapacity(int shelfCapacity) {
     this.bookCapacity = shelfCapacity;
   }
+
+  public Long getTenantId() {
+    return tenantId;
+  }
 }
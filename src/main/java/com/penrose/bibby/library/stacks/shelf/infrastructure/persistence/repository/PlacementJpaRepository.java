@@ -1,6 +1,15 @@
 package com.penrose.bibby.library.stacks.shelf.infrastructure.persistence.repository;
 
 import com.penrose.bibby.library.stacks.shelf.infrastructure.persistence.entity.PlacementEntity;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface PlacementJpaRepository extends JpaRepository<PlacementEntity, Long> {}
+public interface PlacementJpaRepository extends JpaRepository<PlacementEntity, Long> {
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM PlacementEntity p WHERE p.shelfId IN :shelfIds")
+  int deleteAllByShelfIdIn(@Param("shelfIds") List<Long> shelfIds);
+}
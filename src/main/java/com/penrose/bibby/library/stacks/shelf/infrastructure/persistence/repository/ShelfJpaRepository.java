@@ -1,16 +1,31 @@
 package com.penrose.bibby.library.stacks.shelf.infrastructure.persistence.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 import com.penrose.bibby.library.stacks.shelf.infrastructure.persistence.entity.ShelfEntity;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ShelfJpaRepository extends JpaRepository<ShelfEntity, Long> {
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<ShelfEntity> findByBookcaseId(Long bookcaseId);
 
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
   List<ShelfEntity> getShelfEntitiesByBookcaseId(Long bookcaseId);
 
-  void deleteByBookcaseId(Long bookcaseId);
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM ShelfEntity s WHERE s.bookcaseId = :bookcaseId")
+  int deleteByBookcaseId(@Param("bookcaseId") Long bookcaseId);
+
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+  @Query("SELECT s.shelfId FROM ShelfEntity s WHERE s.bookcaseId = :bookcaseId")
+  List<Long> findShelfIdsByBookcaseId(@Param("bookcaseId") Long bookcaseId);
 }
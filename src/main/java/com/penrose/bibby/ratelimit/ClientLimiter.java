@@ -0,0 +1,10 @@
+package com.penrose.bibby.ratelimit;
+
+/** Admits or refuses one client's requests on one route. */
+interface ClientLimiter {
+
+  /**
+   * @return {@code 0} if the request may proceed, otherwise how many nanoseconds until it could
+   */
+  long tryAcquire();
+}
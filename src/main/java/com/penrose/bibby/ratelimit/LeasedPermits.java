@@ -0,0 +1,120 @@
+package com.penrose.bibby.ratelimit;
+
+import com.penrose.bibby.ratelimit.store.RateLimitStore;
+import com.penrose.bibby.ratelimit.tokenbucket.TokenBucket;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * One client's permits on one route when the bucket lives in a shared {@link RateLimitStore}.
+ *
+ * <p>Permits are leased from the store in batches of up to {@code leaseSize} and handed out locally
+ * without touching the store again. Leased permits are only good for {@code leaseTtlNanos}, so a
+ * node that stops seeing a client does not sit on permits the rest of the cluster could use; the
+ * next lease hands the unused ones back to the store, so a client that comes back slower than the
+ * lease lifetime still gets its whole burst. After a refusal the store is not asked again until the
+ * next permit is due.
+ *
+ * <p>If the store cannot be reached, requests are limited by a local bucket with the route's
+ * policy, i.e. per instance, until it comes back.
+ *
+ * <p>Callers that find no leased permit queue on a {@link ReentrantLock} rather than a monitor: the
+ * holder waits on the store, and a virtual thread blocked inside {@code synchronized} would pin its
+ * carrier thread for that long.
+ */
+final class LeasedPermits implements ClientLimiter {
+
+  private static final Logger log = LoggerFactory.getLogger(LeasedPermits.class);
+
+  private final RateLimitStore store;
+  private final String key;
+  private final RateLimitPolicy policy;
+  private final int leaseSize;
+  private final long leaseTtlNanos;
+  private final LongSupplier nanoClock;
+  private final AtomicInteger remaining = new AtomicInteger();
+  private final ReentrantLock leaseLock = new ReentrantLock();
+  private volatile long leaseExpiresAt;
+  private volatile long retryAt;
+  private TokenBucket fallback;
+
+  LeasedPermits(
+      RateLimitStore store,
+      String key,
+      RateLimitPolicy policy,
+      int leaseSize,
+      long leaseTtlNanos,
+      LongSupplier nanoClock) {
+    this.store = store;
+    this.key = key;
+    this.policy = policy;
+    this.leaseSize = (int) Math.max(1, Math.min(leaseSize, Math.floor(policy.burst())));
+    this.leaseTtlNanos = leaseTtlNanos;
+    this.nanoClock = nanoClock;
+    long now = nanoClock.getAsLong();
+    this.leaseExpiresAt = now;
+    this.retryAt = now;
+  }
+
+  @Override
+  public long tryAcquire() {
+    if (takeLeased(nanoClock.getAsLong())) {
+      return 0;
+    }
+    leaseLock.lock();
+    try {
+      long now = nanoClock.getAsLong();
+      if (takeLeased(now)) {
+        return 0;
+      }
+      if (now - retryAt < 0) {
+        return retryAt - now;
+      }
+      // The lease has expired or run out; whatever is left of it goes back to the store
+      int unused = Math.max(0, remaining.getAndSet(0));
+      RateLimitStore.Lease lease;
+      try {
+        lease =
+            store.lease(
+                key,
+                leaseSize,
+                unused,
+                policy.emissionIntervalNanos(),
+                policy.capacityNanos());
+      } catch (RuntimeException e) {
+        if (fallback == null) {
+          log.warn("Rate limit store unavailable, limiting {} locally: {}", key, e.getMessage());
+          fallback = new TokenBucket(policy.burst(), policy.refillPerSecond(), nanoClock);
+        }
+        return fallback.tryAcquire();
+      }
+      if (lease.granted() == 0) {
+        retryAt = now + lease.retryAfterNanos();
+        return lease.retryAfterNanos();
+      }
+      remaining.set(lease.granted() - 1);
+      leaseExpiresAt = now + leaseTtlNanos;
+      return 0;
+    } finally {
+      leaseLock.unlock();
+    }
+  }
+
+  private boolean takeLeased(long now) {
+    if (now - leaseExpiresAt >= 0) {
+      return false;
+    }
+    while (true) {
+      int left = remaining.get();
+      if (left <= 0) {
+        return false;
+      }
+      if (remaining.compareAndSet(left, left - 1)) {
+        return true;
+      }
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.penrose.bibby.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Applies {@link RateLimitService} to incoming requests, keyed by client address. A rejected
+ * request gets a 429 with a {@code Retry-After} header and never reaches a controller.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  // Retry-After for routes that never refill; long enough that clients give up
+  private static final long MAX_RETRY_AFTER_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+  // Optional so that sliced web tests, which do not scan this package's services, still load
+  private final ObjectProvider<RateLimitService> rateLimitService;
+  private final boolean enabled;
+
+  public RateLimitFilter(
+      ObjectProvider<RateLimitService> rateLimitService,
+      @Value("${bibby.ratelimit.enabled:true}") boolean enabled) {
+    this.rateLimitService = rateLimitService;
+    this.enabled = enabled;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !enabled;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    RateLimitService service = rateLimitService.getIfAvailable();
+    long waitNanos =
+        service == null
+            ? 0
+            : service.tryAcquire(
+                request.getMethod(), request.getRequestURI(), clientAddress(request));
+    if (waitNanos > 0) {
+      long seconds = TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1);
+      long retryAfter = Math.min(MAX_RETRY_AFTER_SECONDS, seconds);
+      response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+      response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many requests");
+      return;
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  /**
+   * The address the request came from. Forwarding headers are never read here, since any client
+   * can send them; behind a proxy, {@code server.forward-headers-strategy} rewrites the remote
+   * address from the proxy's headers before this filter runs.
+   */
+  public static String clientAddress(HttpServletRequest request) {
+    return request.getRemoteAddr();
+  }
+}
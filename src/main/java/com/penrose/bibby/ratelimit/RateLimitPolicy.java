@@ -0,0 +1,75 @@
+package com.penrose.bibby.ratelimit;
+
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Rate limit applied to one route: requests matching {@code method} (any method when {@code null})
+ * and {@code pattern} may burst up to {@code burst} and are then admitted at {@code
+ * refillPerSecond}.
+ *
+ * <p>Policies are written as {@code [METHOD ]pattern=burst/refillPerSecond}, for example {@code
+ * POST /api/v1/books/fetchbookmetadata=5/0.05}, several separated by commas.
+ */
+public record RateLimitPolicy(
+    String method, PathPattern pattern, double burst, double refillPerSecond) {
+
+  public RateLimitPolicy {
+    if (burst < 1) {
+      throw new IllegalArgumentException("burst must be at least 1: " + pattern);
+    }
+    if (refillPerSecond < 0) {
+      throw new IllegalArgumentException("refillPerSecond must not be negative: " + pattern);
+    }
+  }
+
+  /** Time one token takes to refill; effectively forever when the route never refills. */
+  public long emissionIntervalNanos() {
+    // Capped so that burst * interval cannot overflow, as in TokenBucket
+    long never = Long.MAX_VALUE / 4 / ((long) Math.ceil(burst) + 1);
+    return refillPerSecond > 0 ? Math.min(never, Math.round(1e9 / refillPerSecond)) : never;
+  }
+
+  /** Time a drained bucket takes to refill completely. */
+  public long capacityNanos() {
+    return (long) (burst * emissionIntervalNanos());
+  }
+
+  /** Identifies the route in keys shared between instances. */
+  public String routeKey() {
+    return (method == null ? "*" : method.toUpperCase()) + " " + pattern.getPatternString();
+  }
+
+  public boolean matches(String requestMethod, PathContainer path) {
+    return (method == null || method.equalsIgnoreCase(requestMethod)) && pattern.matches(path);
+  }
+
+  public static RateLimitPolicy parse(String spec) {
+    int eq = spec.lastIndexOf('=');
+    int slash = spec.lastIndexOf('/');
+    if (eq < 0 || slash < eq) {
+      throw new IllegalArgumentException(
+          "Rate limit must look like '[METHOD ]pattern=burst/refillPerSecond': " + spec);
+    }
+    String route = spec.substring(0, eq).trim();
+    int space = route.indexOf(' ');
+    String method = space < 0 ? null : route.substring(0, space);
+    String path = space < 0 ? route : route.substring(space + 1).trim();
+    return new RateLimitPolicy(
+        method,
+        PathPatternParser.defaultInstance.parse(path),
+        Double.parseDouble(spec.substring(eq + 1, slash).trim()),
+        Double.parseDouble(spec.substring(slash + 1).trim()));
+  }
+
+  public static List<RateLimitPolicy> parseAll(String specs) {
+    return Arrays.stream(specs.split(","))
+        .map(String::trim)
+        .filter(spec -> !spec.isEmpty())
+        .map(RateLimitPolicy::parse)
+        .toList();
+  }
+}
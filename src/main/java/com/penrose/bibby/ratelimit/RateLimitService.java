@@ -1,19 +1,165 @@
 package com.penrose.bibby.ratelimit;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.penrose.bibby.ratelimit.store.RateLimitStore;
 import com.penrose.bibby.ratelimit.tokenbucket.TokenBucket;
-import java.util.concurrent.ConcurrentHashMap;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.PathContainer;
 import org.springframework.stereotype.Service;
 
+/**
+ * Per-client token buckets for the routes configured in {@code bibby.ratelimit.routes}.
+ *
+ * <p>Each route keeps its buckets in a cache bounded by {@code bibby.ratelimit.max-clients}, so a
+ * flood of distinct client addresses cannot grow memory without limit. A bucket that has not been
+ * used for {@code bibby.ratelimit.idle-timeout} is evicted; the timeout is never shorter than the
+ * time a drained bucket takes to refill, so an evicted bucket was full and recreating it later
+ * grants nothing the client did not already have.
+ *
+ * <p>With {@code bibby.ratelimit.shared-store} set, the buckets themselves live in a {@link
+ * RateLimitStore} shared by all instances and each instance leases up to {@code
+ * bibby.ratelimit.lease.size} permits at a time from it (see {@link LeasedPermits}). A larger lease
+ * means fewer store round trips but lets one instance hold permits another could have used.
+ *
+ * <p>Rejected requests are counted per route as {@code bibby.ratelimit.rejections}.
+ */
 @Service
-public class RateLimitService {
-  private final ConcurrentHashMap<String, TokenBucket> buckets;
+public class RateLimitService implements MeterBinder {
+
+  static final String DEFAULT_ROUTES = "POST /api/v1/books/fetchbookmetadata=5/0.05";
+
+  private final List<Route> routes;
 
   public RateLimitService() {
-    this.buckets = new ConcurrentHashMap<>();
+    this(DEFAULT_ROUTES, 10_000, Duration.ofMinutes(10));
+  }
+
+  public RateLimitService(String routes, long maxClients, Duration idleTimeout) {
+    this(routes, maxClients, idleTimeout, (RateLimitStore) null, 1, Duration.ZERO);
+  }
+
+  @Autowired
+  public RateLimitService(
+      @Value("${bibby.ratelimit.routes:" + DEFAULT_ROUTES + "}") String routes,
+      @Value("${bibby.ratelimit.max-clients:10000}") long maxClients,
+      @Value("${bibby.ratelimit.idle-timeout:10m}") Duration idleTimeout,
+      ObjectProvider<RateLimitStore> store,
+      @Value("${bibby.ratelimit.lease.size:2}") int leaseSize,
+      @Value("${bibby.ratelimit.lease.ttl:1s}") Duration leaseTtl) {
+    this(routes, maxClients, idleTimeout, store.getIfAvailable(), leaseSize, leaseTtl);
+  }
+
+  /**
+   * @param store shared bucket store, or {@code null} to keep buckets in this instance
+   */
+  public RateLimitService(
+      String routes,
+      long maxClients,
+      Duration idleTimeout,
+      RateLimitStore store,
+      int leaseSize,
+      Duration leaseTtl) {
+    this.routes =
+        RateLimitPolicy.parseAll(routes).stream()
+            .map(
+                policy ->
+                    new Route(
+                        policy,
+                        maxClients,
+                        idleTimeout,
+                        limiterFactory(policy, store, leaseSize, leaseTtl)))
+            .toList();
+  }
+
+  private static Function<String, ClientLimiter> limiterFactory(
+      RateLimitPolicy policy, RateLimitStore store, int leaseSize, Duration leaseTtl) {
+    if (store == null) {
+      return client -> new TokenBucket(policy.burst(), policy.refillPerSecond())::tryAcquire;
+    }
+    String routeKey = policy.routeKey();
+    return client ->
+        new LeasedPermits(
+            store,
+            routeKey + " " + client,
+            policy,
+            leaseSize,
+            leaseTtl.toNanos(),
+            System::nanoTime);
   }
 
-  public boolean isAllowed(String ipAddress) {
-    buckets.putIfAbsent(ipAddress, new TokenBucket(5, .05));
-    return buckets.get(ipAddress).isAllowed();
+  /** Takes a token for {@code client} from the first configured route. */
+  public boolean isAllowed(String client) {
+    return routes.isEmpty() || routes.get(0).tryAcquire(client) == 0;
+  }
+
+  /**
+   * Takes a token for {@code client} from the first route matching the request.
+   *
+   * @return {@code 0} if the request may proceed (including when no route matches), otherwise how
+   *     many nanoseconds until the client's next token
+   */
+  public long tryAcquire(String method, String path, String client) {
+    if (routes.isEmpty()) {
+      return 0;
+    }
+    PathContainer pathContainer = PathContainer.parsePath(path);
+    for (Route route : routes) {
+      if (route.policy.matches(method, pathContainer)) {
+        return route.tryAcquire(client);
+      }
+    }
+    return 0;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    for (Route route : routes) {
+      FunctionCounter.builder("bibby.ratelimit.rejections", route.rejected, LongAdder::sum)
+          .description("Requests rejected by the rate limiter")
+          .tag("route", route.policy.routeKey())
+          .register(registry);
+    }
+  }
+
+  private static final class Route {
+
+    private final RateLimitPolicy policy;
+    private final Cache<String, ClientLimiter> limiters;
+    // Held in a field so that looking up an existing limiter allocates nothing
+    private final Function<String, ClientLimiter> newLimiter;
+    private final LongAdder rejected = new LongAdder();
+
+    Route(
+        RateLimitPolicy policy,
+        long maxClients,
+        Duration idleTimeout,
+        Function<String, ClientLimiter> newLimiter) {
+      this.policy = policy;
+      this.newLimiter = newLimiter;
+      Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maxClients);
+      if (policy.refillPerSecond() > 0) {
+        Duration refill = Duration.ofNanos(policy.capacityNanos());
+        builder.expireAfterAccess(refill.compareTo(idleTimeout) > 0 ? refill : idleTimeout);
+      }
+      this.limiters = builder.build();
+    }
+
+    long tryAcquire(String client) {
+      long waitNanos = limiters.get(client, newLimiter).tryAcquire();
+      if (waitNanos > 0) {
+        rejected.increment();
+      }
+      return waitNanos;
+    }
   }
 }
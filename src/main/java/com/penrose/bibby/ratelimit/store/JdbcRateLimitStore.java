@@ -0,0 +1,161 @@
+package com.penrose.bibby.ratelimit.store;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link RateLimitStore} kept in the application database, in the {@value #TABLE} table.
+ *
+ * <p>A lease locks the bucket's row for one short transaction and reads the database clock, so
+ * instances with skewed clocks still agree on time. Rows for buckets that have refilled completely
+ * carry no information and are purged every {@code bibby.ratelimit.jdbc.purge-interval}.
+ */
+@Component
+@ConditionalOnProperty(name = "bibby.ratelimit.shared-store", havingValue = "jdbc")
+public class JdbcRateLimitStore implements RateLimitStore, SmartLifecycle {
+
+  static final String TABLE = "rate_limit_buckets";
+
+  private static final Logger log = LoggerFactory.getLogger(JdbcRateLimitStore.class);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate leaseTransaction;
+  private final Duration purgeInterval;
+  private volatile boolean schemaReady;
+  private ScheduledExecutorService executor;
+
+  public JdbcRateLimitStore(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${bibby.ratelimit.jdbc.purge-interval:10m}") Duration purgeInterval) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.leaseTransaction = new TransactionTemplate(transactionManager);
+    // Never join a caller's transaction; the row lock must be released as soon as possible
+    this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.purgeInterval = purgeInterval;
+  }
+
+  @Override
+  public Lease lease(
+      String key, int permits, int returned, long emissionIntervalNanos, long capacityNanos) {
+    ensureSchema();
+    try {
+      return leaseTransaction.execute(
+          status -> leaseLocked(key, permits, returned, emissionIntervalNanos, capacityNanos));
+    } catch (DuplicateKeyException e) {
+      // Another instance created the row first; it exists now, so this attempt locks it
+      return leaseTransaction.execute(
+          status -> leaseLocked(key, permits, returned, emissionIntervalNanos, capacityNanos));
+    }
+  }
+
+  private Lease leaseLocked(
+      String key, int permits, int returned, long emissionIntervalNanos, long capacityNanos) {
+    long now = databaseNanos();
+    List<Long> current =
+        jdbcTemplate.queryForList(
+            "SELECT theoretical_arrival FROM " + TABLE + " WHERE bucket_key = ? FOR UPDATE",
+            Long.class,
+            key);
+    long theoreticalArrival = current.isEmpty() ? 0 : current.get(0);
+    Lease lease =
+        Lease.take(
+            theoreticalArrival, now, permits, returned, emissionIntervalNanos, capacityNanos);
+    if (current.isEmpty()) {
+      jdbcTemplate.update(
+          "INSERT INTO " + TABLE + " (bucket_key, theoretical_arrival) VALUES (?, ?)",
+          key,
+          lease.theoreticalArrival());
+    } else if (lease.theoreticalArrival() != theoreticalArrival) {
+      jdbcTemplate.update(
+          "UPDATE " + TABLE + " SET theoretical_arrival = ? WHERE bucket_key = ?",
+          lease.theoreticalArrival(),
+          key);
+    }
+    return lease;
+  }
+
+  /** Deletes the rows of buckets that are full again. */
+  int purgeFull() {
+    ensureSchema();
+    return jdbcTemplate.update(
+        "DELETE FROM " + TABLE + " WHERE theoretical_arrival <= ?", databaseNanos());
+  }
+
+  private void purgeSafely() {
+    try {
+      int purged = purgeFull();
+      log.debug("Purged {} full rate limit buckets", purged);
+    } catch (RuntimeException e) {
+      log.warn("Could not purge rate limit buckets", e);
+    }
+  }
+
+  private long databaseNanos() {
+    OffsetDateTime now =
+        jdbcTemplate.queryForObject("SELECT CURRENT_TIMESTAMP", OffsetDateTime.class);
+    return TimeUnit.SECONDS.toNanos(now.toEpochSecond()) + now.getNano();
+  }
+
+  /** Creates the table on first use. */
+  private void ensureSchema() {
+    if (schemaReady) {
+      return;
+    }
+    synchronized (this) {
+      if (schemaReady) {
+        return;
+      }
+      jdbcTemplate.execute(
+          """
+          CREATE TABLE IF NOT EXISTS rate_limit_buckets (
+            bucket_key VARCHAR(512) PRIMARY KEY,
+            theoretical_arrival BIGINT NOT NULL
+          )
+          """);
+      schemaReady = true;
+    }
+  }
+
+  @Override
+  public synchronized void start() {
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "rate-limit-purge");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long intervalMillis = purgeInterval.toMillis();
+    executor.scheduleWithFixedDelay(
+        this::purgeSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return executor != null;
+  }
+}
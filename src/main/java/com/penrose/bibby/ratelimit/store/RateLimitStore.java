@@ -0,0 +1,57 @@
+package com.penrose.bibby.ratelimit.store;
+
+/**
+ * Token buckets shared by every Bibby instance, so that a client spreading requests across nodes is
+ * still held to one rate.
+ *
+ * <p>Buckets use the same generic cell rate algorithm as {@link
+ * com.penrose.bibby.ratelimit.tokenbucket.TokenBucket}: each key maps to a theoretical arrival time
+ * in nanoseconds, and taking {@code n} permits advances it by {@code n} emission intervals as long
+ * as it stays within {@code capacity} of now. Instances take permits in batches (leases) so the
+ * store is not consulted on every request, and hand back what they did not use of the previous
+ * lease in the same call, which moves the theoretical arrival time back again.
+ */
+public interface RateLimitStore {
+
+  /**
+   * Returns {@code returned} unused permits to the bucket stored under {@code key}, then takes up
+   * to {@code permits} from it, creating a full bucket if there is none.
+   *
+   * @param returned permits left over from this caller's previous lease, which expired unused
+   * @param emissionIntervalNanos time one permit takes to refill
+   * @param capacityNanos burst size times the emission interval
+   */
+  Lease lease(
+      String key, int permits, int returned, long emissionIntervalNanos, long capacityNanos);
+
+  /**
+   * Result of a lease.
+   *
+   * @param granted permits taken, possibly fewer than asked for; {@code 0} when the bucket is empty
+   * @param retryAfterNanos when nothing was granted, how long until the next permit
+   * @param theoreticalArrival the bucket's new theoretical arrival time, for the store to persist
+   */
+  record Lease(int granted, long retryAfterNanos, long theoreticalArrival) {
+
+    /**
+     * Puts back {@code returned} permits, then takes as many of {@code permits} as fit from a
+     * bucket at {@code theoreticalArrival}.
+     */
+    public static Lease take(
+        long theoreticalArrival,
+        long now,
+        int permits,
+        int returned,
+        long emissionIntervalNanos,
+        long capacityNanos) {
+      long arrival = theoreticalArrival - returned * emissionIntervalNanos;
+      long base = Math.max(arrival, now);
+      long room = capacityNanos - (base - now);
+      long granted = room < 0 ? 0 : Math.min(permits, room / emissionIntervalNanos);
+      if (granted == 0) {
+        return new Lease(0, base + emissionIntervalNanos - now - capacityNanos, arrival);
+      }
+      return new Lease((int) granted, 0, base + granted * emissionIntervalNanos);
+    }
+  }
+}
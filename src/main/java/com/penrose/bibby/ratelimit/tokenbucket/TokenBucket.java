@@ -1,49 +1,81 @@
 package com.penrose.bibby.ratelimit.tokenbucket;
 
-import java.util.Date;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
+/**
+ * Token bucket implemented as a generic cell rate algorithm (GCRA).
+ *
+ * <p>Instead of a token count and a refill timestamp, the bucket keeps a single "theoretical
+ * arrival time" (TAT): the instant at which it would be full again. A request is allowed when
+ * advancing the TAT by one emission interval keeps it within {@code maxTokens} intervals of now.
+ * The TAT is one {@link AtomicLong} updated by compare-and-set, so concurrent callers never block
+ * and never over-admit, and a check allocates nothing.
+ *
+ * <p>Time comes from a monotonic nanosecond clock, relative to the bucket's creation.
+ */
 public class TokenBucket {
-  private final double maxTokens;
-  private double currentTokens;
-  private final double refillRate;
-  private long lastRefilledTime;
-  private final Logger logger = LoggerFactory.getLogger(TokenBucket.class);
 
-  public TokenBucket(double maxTokens, double refillRate) {
-    this.maxTokens = maxTokens;
-    this.currentTokens = maxTokens;
-    this.refillRate = refillRate;
-    this.lastRefilledTime = new Date().getTime();
-    logger.info(
-        "TokenBucket Created with {} Tokens and {} refill tokens per second",
-        maxTokens,
-        refillRate);
-  }
-
-  public void refill() {
-    long now = new Date().getTime();
-    long elapsedTime = now - lastRefilledTime;
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
 
-    double newTokens = elapsedTime / 1000.0 * refillRate;
-    logger.info("Tokens added {}", newTokens);
+  private final long emissionInterval;
+  private final long capacity;
+  private final LongSupplier nanoClock;
+  private final long origin;
+  private final AtomicLong theoreticalArrival = new AtomicLong();
 
-    currentTokens = Math.min(maxTokens, currentTokens + newTokens);
+  /**
+   * @param maxTokens how many requests may be made back to back from a full bucket
+   * @param refillRate tokens added per second; zero means the bucket never refills
+   */
+  public TokenBucket(double maxTokens, double refillRate) {
+    this(maxTokens, refillRate, System::nanoTime);
+  }
 
-    logger.info("Current Tokens: {}", currentTokens);
-    lastRefilledTime = now;
+  public TokenBucket(double maxTokens, double refillRate, LongSupplier nanoClock) {
+    if (maxTokens < 1) {
+      throw new IllegalArgumentException("maxTokens must be at least 1");
+    }
+    if (refillRate < 0) {
+      throw new IllegalArgumentException("refillRate must not be negative");
+    }
+    // A bucket that never refills behaves like one whose interval is so long it never elapses;
+    // the interval is capped so that capacity * interval cannot overflow.
+    long never = Long.MAX_VALUE / 4 / ((long) Math.ceil(maxTokens) + 1);
+    this.emissionInterval =
+        refillRate > 0 ? Math.min(never, Math.round(NANOS_PER_SECOND / refillRate)) : never;
+    this.capacity = (long) (maxTokens * emissionInterval);
+    this.nanoClock = nanoClock;
+    this.origin = nanoClock.getAsLong();
   }
 
   public boolean isAllowed() {
-    refill();
-    if (currentTokens >= 1) {
-      currentTokens -= 1;
-      logger.info("Request: Allowed");
-      return true;
+    return tryAcquire() == 0;
+  }
+
+  /**
+   * Takes one token if available.
+   *
+   * @return {@code 0} if the request is allowed, otherwise how many nanoseconds until the next
+   *     token becomes available
+   */
+  public long tryAcquire() {
+    long now = nanoClock.getAsLong() - origin;
+    while (true) {
+      long tat = theoreticalArrival.get();
+      long next = Math.max(tat, now) + emissionInterval;
+      long ahead = next - now;
+      if (ahead > capacity) {
+        return ahead - capacity;
+      }
+      if (theoreticalArrival.compareAndSet(tat, next)) {
+        return 0;
+      }
     }
-    logger.info("Request: Blocked");
+  }
 
-    return false;
+  /** Nanoseconds a drained bucket takes to refill completely. */
+  public long refillNanos() {
+    return capacity;
   }
 }
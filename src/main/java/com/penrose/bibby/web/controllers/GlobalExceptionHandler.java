@@ -1,6 +1,8 @@
 package com.penrose.bibby.web.controllers;
 
+import com.penrose.bibby.config.security.PasswordHashingBusyException;
 import java.util.Map;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,4 +15,12 @@ public class GlobalExceptionHandler {
   public ResponseEntity<Map<String, String>> handleIllegalArgument(IllegalArgumentException ex) {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", ex.getMessage()));
   }
+
+  @ExceptionHandler(PasswordHashingBusyException.class)
+  public ResponseEntity<Map<String, String>> handlePasswordHashingBusy(
+      PasswordHashingBusyException ex) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(Map.of("error", ex.getMessage()));
+  }
 }
@@ -0,0 +1,62 @@
+package com.penrose.bibby.web.controllers.auth;
+
+import com.penrose.bibby.config.security.token.AccessTokenService;
+import com.penrose.bibby.config.security.token.TokenPair;
+import com.penrose.bibby.identity.infrastructure.AppUserImpl;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Exchanges a refresh token for a new token pair in stateless auth mode. Unlike API requests, a
+ * refresh re-reads the user, so a deleted account cannot keep refreshing.
+ */
+@RestController
+@RequestMapping("/api/v1/auth")
+@ConditionalOnProperty(name = "bibby.security.auth-mode", havingValue = "stateless")
+public class TokenRefreshController {
+
+  private final AccessTokenService accessTokenService;
+  private final UserDetailsService userDetailsService;
+
+  public TokenRefreshController(
+      AccessTokenService accessTokenService, UserDetailsService userDetailsService) {
+    this.accessTokenService = accessTokenService;
+    this.userDetailsService = userDetailsService;
+  }
+
+  @PostMapping("/refresh")
+  public ResponseEntity<TokenPair> refresh(@RequestBody RefreshTokenRequest request) {
+    if (request == null || request.refreshToken() == null) {
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+    return accessTokenService
+        .verifyRefreshToken(request.refreshToken())
+        .flatMap(this::currentUser)
+        .map(user -> ResponseEntity.ok(accessTokenService.issue(user)))
+        .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+  }
+
+  private Optional<AppUserImpl> currentUser(AppUserImpl fromToken) {
+    try {
+      UserDetails user = userDetailsService.loadUserByUsername(fromToken.getUsername());
+      return user instanceof AppUserImpl appUser
+              && Objects.equals(appUser.getAppUserId(), fromToken.getAppUserId())
+          ? Optional.of(appUser)
+          : Optional.empty();
+    } catch (UsernameNotFoundException e) {
+      return Optional.empty();
+    }
+  }
+
+  public record RefreshTokenRequest(String refreshToken) {}
+}
@@ -1,6 +1,7 @@
 package com.penrose.bibby.web.controllers.cataloging.book;
 
-import com.penrose.bibby.cli.ui.BookcardRenderer;
+import com.penrose.bibby.config.http.ConditionalGetSupport;
+import com.penrose.bibby.config.http.ResourceVersions;
 import com.penrose.bibby.library.cataloging.author.api.dtos.AuthorDTO;
 import com.penrose.bibby.library.cataloging.author.core.ports.inbound.AuthorFacade;
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookDTO;
@@ -19,6 +20,8 @@ import org.slf4j.Logger;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Mono;
 
 @RestController
@@ -31,18 +34,21 @@ public class BookController {
   final IsbnLookupService isbnLookupService;
   private final AuthorFacade authorFacade;
   private final PlaceBookOnShelfUseCasePort placeBookOnShelf;
+  private final ConditionalGetSupport conditionalGet;
 
   public BookController(
       BookService bookService,
       BookFacade bookFacade,
       IsbnLookupService isbnLookupService,
       AuthorFacade authorFacade,
-      PlaceBookOnShelfUseCasePort placeBookOnShelf) {
+      PlaceBookOnShelfUseCasePort placeBookOnShelf,
+      ConditionalGetSupport conditionalGet) {
     this.bookService = bookService;
     this.bookFacade = bookFacade;
     this.isbnLookupService = isbnLookupService;
     this.authorFacade = authorFacade;
     this.placeBookOnShelf = placeBookOnShelf;
+    this.conditionalGet = conditionalGet;
   }
 
   //  // todo: remove commented code after testing
@@ -54,45 +60,38 @@ public class BookController {
 
   @GetMapping("/lookup/{isbn}")
   public Mono<GoogleBooksResponse> getBookInfo(@PathVariable String isbn) {
-    System.out.println("Controller Lookup For " + isbn);
+    log.atDebug().addKeyValue("isbn", isbn).log("Looking up book metadata");
     return isbnLookupService
         .lookupBook(isbn)
         .doOnNext(
-            body -> {
-              System.out.println("Received response for ISBN " + isbn + ": " + body);
-            });
+            body ->
+                log.atDebug()
+                    .addKeyValue("isbn", isbn)
+                    .addKeyValue("items", body.items() == null ? 0 : body.items().size())
+                    .log("Received book metadata"));
   }
 
   @GetMapping("/findBookByTitle")
   public void findBookByTitle(@RequestBody BookRequestDTO requestDTO) {
-    System.out.println("Controller Search For " + requestDTO.title());
     BookDTO bookDTO = bookService.findBookByTitle(requestDTO.title());
-    System.out.println(bookDTO);
-    BookcardRenderer bookcardRenderer = new BookcardRenderer();
-    System.out.println(
-        bookcardRenderer.bookImportCard(
-            bookDTO.title(), bookDTO.isbn(), bookDTO.authors().toString(), bookDTO.publisher()));
+    log.atDebug()
+        .addKeyValue("title", requestDTO.title())
+        .addKeyValue("found", bookDTO != null)
+        .log("Searched book by title");
   }
 
   @CrossOrigin(origins = "*")
   @GetMapping("/search/{isbn}")
   public ResponseEntity<BookDTO> findBookByIsbn(@PathVariable String isbn) {
-    System.out.println("Controller Search For " + isbn);
-    System.out.println("Now searching for ISBN in database...");
     BookDTO bookDTO = bookService.findBookByIsbn(isbn);
-    System.out.println(bookDTO);
+    log.atDebug()
+        .addKeyValue("isbn", isbn)
+        .addKeyValue("found", bookDTO != null)
+        .log("Searched book by ISBN");
 
     if (bookDTO == null) {
-      System.out.println("Book not found in database. Returning 404 response.");
       return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
     }
-
-    BookcardRenderer bookcardRenderer = new BookcardRenderer();
-    System.out.println(
-        bookcardRenderer.bookImportCard(
-            bookDTO.title(), bookDTO.isbn(), bookDTO.authors().toString(), bookDTO.publisher()));
-    System.out.println("Returning book data as response...");
-    System.out.println();
     return ResponseEntity.ok(bookDTO);
   }
 
@@ -106,10 +105,8 @@ public class BookController {
   @CrossOrigin(origins = "*")
   @PostMapping("/addnewbook")
   public ResponseEntity<Map<String, Object>> addNewBook(@RequestBody BookDTO bookDTO) {
-    log.info("Received BookDTO: {}", bookDTO);
     List<AuthorDTO> authorDTOS = new ArrayList<>();
     for (String author : bookDTO.authors()) {
-      System.out.println(author);
       AuthorDTO authorDTO = new AuthorDTO(null, author.split(" ")[0], author.split(" ")[1]);
       authorDTOS.add(authorFacade.saveAuthor(authorDTO));
     }
@@ -121,15 +118,38 @@ public class BookController {
     placeBookOnShelf.execute(
         bookFacade.findBookByIsbn(bookRequestDTO.isbn()).id(), bookDTO.shelfId());
 
-    System.out.println("Book added");
+    log.atInfo()
+        .addKeyValue("isbn", bookDTO.isbn())
+        .addKeyValue("shelfId", bookDTO.shelfId())
+        .log("Book added");
     return ResponseEntity.status(HttpStatus.CREATED)
         .body(Map.of("message", "Book Added", "title", bookDTO.title(), "isbn", bookDTO.isbn()));
   }
 
   @GetMapping("/shelf/{shelfId}")
-  public ResponseEntity<List<BookDTO>> getBooksByShelf(@PathVariable Long shelfId) {
-    List<BookDTO> books = bookService.getBooksByShelfId(shelfId);
-    return ResponseEntity.ok(books);
+  public ResponseEntity<List<BookDTO>> getBooksByShelf(
+      @PathVariable Long shelfId, WebRequest request) {
+    return conditionalGet.respond(
+        request,
+        ResourceVersions.BOOKS,
+        "shelf/" + shelfId,
+        () -> bookService.getBooksByShelfId(shelfId));
+  }
+
+  @GetMapping("/suggest")
+  public ResponseEntity<List<String>> suggest(
+      @RequestParam("q") String query,
+      @RequestParam(defaultValue = "title") String type,
+      @RequestParam(defaultValue = "10") int limit) {
+    List<String> suggestions =
+        switch (type.toLowerCase()) {
+          case "title" -> bookFacade.suggestTitles(query, limit);
+          case "author" -> bookFacade.suggestAuthors(query, limit);
+          default ->
+              throw new ResponseStatusException(
+                  HttpStatus.BAD_REQUEST, "Unknown suggestion type: " + type);
+        };
+    return ResponseEntity.ok(suggestions);
   }
 
   @GetMapping("/booklocation")
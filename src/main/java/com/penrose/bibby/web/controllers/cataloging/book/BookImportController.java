@@ -1,11 +1,10 @@
 package com.penrose.bibby.web.controllers.cataloging.book;
 
+import com.penrose.bibby.config.metrics.LibraryMetrics;
 import com.penrose.bibby.library.cataloging.book.core.application.IsbnLookupService;
 import com.penrose.bibby.library.cataloging.book.infrastructure.external.BookImportRequest;
 import com.penrose.bibby.library.cataloging.book.infrastructure.external.GoogleBookResponseBrief;
 import com.penrose.bibby.library.cataloging.book.infrastructure.external.GoogleBooksResponse;
-import com.penrose.bibby.ratelimit.RateLimitService;
-import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,40 +18,25 @@ public class BookImportController {
   Logger log = org.slf4j.LoggerFactory.getLogger(BookImportController.class);
 
   private final IsbnLookupService isbnLookupService;
-  private final RateLimitService rateLimitService;
+  private final LibraryMetrics libraryMetrics;
 
-  public BookImportController(
-      IsbnLookupService isbnLookupService, RateLimitService rateLimitService) {
+  // Requests are rate limited per client by RateLimitFilter before they get here
+  public BookImportController(IsbnLookupService isbnLookupService, LibraryMetrics libraryMetrics) {
     this.isbnLookupService = isbnLookupService;
-    this.rateLimitService = rateLimitService;
+    this.libraryMetrics = libraryMetrics;
   }
 
   @PostMapping("/api/v1/books/fetchbookmetadata")
   public ResponseEntity<GoogleBookResponseBrief> importBook(
-      @RequestBody BookImportRequest request, HttpServletRequest servletRequest) {
+      @RequestBody BookImportRequest request) {
     if (request == null || request.isbn() == null || request.isbn().isBlank()) {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ISBN is required");
     }
-    String xff = servletRequest.getHeader("X-Forwarded-For");
-
-    String clientIp;
-    if (xff != null && !xff.isBlank()) {
-      clientIp = xff.split(",")[0].trim();
-    } else {
-      clientIp = servletRequest.getRemoteAddr();
-    }
-
-    log.info("USER IP Address: {} ", clientIp);
-
-    if (!rateLimitService.isAllowed(clientIp)) {
-      throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS);
-    }
-    log.info("Import request for ISBN {}", request.isbn());
-
     GoogleBooksResponse lookupResponse = isbnLookupService.lookupBook(request.isbn()).block();
     if (lookupResponse == null
         || lookupResponse.items() == null
         || lookupResponse.items().isEmpty()) {
+      libraryMetrics.metadataLookedUp(false);
       throw new ResponseStatusException(
           HttpStatus.NOT_FOUND, "No book found for ISBN " + request.isbn());
     }
@@ -63,7 +47,11 @@ public class BookImportController {
             lookupResponse.items().get(0).volumeInfo().title(),
             lookupResponse.items().get(0).volumeInfo().authors(),
             lookupResponse.items().get(0).volumeInfo().publisher());
-    log.info("Found book metadata for ISBN {}: {}", request.isbn(), googleBookResponseBrief);
+    libraryMetrics.metadataLookedUp(true);
+    log.atInfo()
+        .addKeyValue("isbn", request.isbn())
+        .addKeyValue("title", googleBookResponseBrief.title())
+        .log("Fetched book metadata");
 
     //        BookEntity savedBook = isbnEnrichmentService.enrichIsbn(lookupResponse,
     // request.isbn());
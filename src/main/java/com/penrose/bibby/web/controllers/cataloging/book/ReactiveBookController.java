@@ -0,0 +1,38 @@
+package com.penrose.bibby.web.controllers.cataloging.book;
+
+import com.penrose.bibby.config.reactive.ReactiveReads;
+import com.penrose.bibby.library.cataloging.book.api.dtos.BookDTO;
+import com.penrose.bibby.library.cataloging.book.core.application.BookService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking versions of the hot book reads. Each query runs on {@link ReactiveReads}; the
+ * request thread is released until it completes. Writes stay on {@code /api/v1}.
+ */
+@RestController
+@RequestMapping("/api/v2/books")
+public class ReactiveBookController {
+
+  private final BookService bookService;
+  private final ReactiveReads reactiveReads;
+
+  public ReactiveBookController(BookService bookService, ReactiveReads reactiveReads) {
+    this.bookService = bookService;
+    this.reactiveReads = reactiveReads;
+  }
+
+  @GetMapping("/search/{isbn}")
+  public Mono<BookDTO> findBookByIsbn(@PathVariable String isbn) {
+    return reactiveReads.mono(() -> bookService.findBookByIsbn(isbn));
+  }
+
+  @GetMapping("/shelf/{shelfId}")
+  public Flux<BookDTO> getBooksByShelf(@PathVariable Long shelfId) {
+    return reactiveReads.flux(() -> bookService.getBooksByShelfId(shelfId));
+  }
+}
@@ -0,0 +1,39 @@
+package com.penrose.bibby.web.controllers.cataloging.circulation;
+
+import com.penrose.bibby.library.cataloging.circulation.api.dtos.CirculationEventDTO;
+import com.penrose.bibby.library.cataloging.circulation.core.ports.inbound.CirculationEventFacade;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/circulation")
+public class CirculationController {
+
+  private static final int MAX_LIMIT = 500;
+
+  private final CirculationEventFacade circulationEventFacade;
+
+  public CirculationController(CirculationEventFacade circulationEventFacade) {
+    this.circulationEventFacade = circulationEventFacade;
+  }
+
+  @GetMapping("/books/{bookId}/events")
+  public List<CirculationEventDTO> getBookHistory(
+      @PathVariable Long bookId, @RequestParam(defaultValue = "50") int limit) {
+    return circulationEventFacade.historyOfBook(bookId, clamp(limit));
+  }
+
+  @GetMapping("/events")
+  public List<CirculationEventDTO> getRecentActivity(
+      @RequestParam(defaultValue = "7") int days, @RequestParam(defaultValue = "100") int limit) {
+    return circulationEventFacade.recentActivity(Math.max(days, 1), clamp(limit));
+  }
+
+  private static int clamp(int limit) {
+    return Math.max(1, Math.min(limit, MAX_LIMIT));
+  }
+}
@@ -1,19 +1,26 @@
 package com.penrose.bibby.web.controllers.stacks.bookcase;
 
+import com.penrose.bibby.config.http.ConditionalGetSupport;
+import com.penrose.bibby.config.http.ResourceVersions;
 import com.penrose.bibby.identity.infrastructure.AppUserImpl;
 import com.penrose.bibby.library.stacks.bookcase.api.dtos.BookcaseDTO;
 import com.penrose.bibby.library.stacks.bookcase.api.dtos.CreateBookcaseRequest;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.BookcaseFacade;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.CreateBookcaseUseCasePort;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.ProvisionLayoutUseCasePort;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.CreateBookcaseResult;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.DeleteBookcaseResult;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.ProvisionLayoutResult;
 import java.util.List;
 import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/bookcase")
@@ -21,12 +28,19 @@ public class BookCaseController {
 
   private final BookcaseFacade bookcaseFacade;
   private final CreateBookcaseUseCasePort createBookcaseUseCasePort;
+  private final ProvisionLayoutUseCasePort provisionLayoutUseCasePort;
+  private final ConditionalGetSupport conditionalGet;
   Logger logger = LoggerFactory.getLogger(BookCaseController.class);
 
   public BookCaseController(
-      BookcaseFacade bookcaseFacade, CreateBookcaseUseCasePort createBookcaseUseCasePort) {
+      BookcaseFacade bookcaseFacade,
+      CreateBookcaseUseCasePort createBookcaseUseCasePort,
+      ProvisionLayoutUseCasePort provisionLayoutUseCasePort,
+      ConditionalGetSupport conditionalGet) {
     this.bookcaseFacade = bookcaseFacade;
     this.createBookcaseUseCasePort = createBookcaseUseCasePort;
+    this.provisionLayoutUseCasePort = provisionLayoutUseCasePort;
+    this.conditionalGet = conditionalGet;
   }
 
   @PostMapping("/create")
@@ -48,17 +62,36 @@ public class BookCaseController {
     return ResponseEntity.status(HttpStatus.CREATED).body(createBookcaseResult);
   }
 
+  /**
+   * Creates every bookcase and shelf described by a layout file sent as the plain-text request
+   * body. Bookcases that already exist are reported as skipped.
+   */
+  @PostMapping(value = "/layout", consumes = MediaType.TEXT_PLAIN_VALUE)
+  public ResponseEntity<ProvisionLayoutResult> provisionLayout(
+      @AuthenticationPrincipal AppUserImpl principal, @RequestBody String layout) {
+    logger.info("Received request to provision a library layout");
+    ProvisionLayoutResult result =
+        provisionLayoutUseCasePort.provision(principal.getAppUserId(), layout);
+    return ResponseEntity.status(HttpStatus.CREATED).body(result);
+  }
+
   @DeleteMapping("/delete/{bookcaseId}")
-  public ResponseEntity<HttpStatus> deleteBookcase(@PathVariable Long bookcaseId) {
-    bookcaseFacade.deleteBookcase(bookcaseId);
-    return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+  public ResponseEntity<DeleteBookcaseResult> deleteBookcase(@PathVariable Long bookcaseId) {
+    DeleteBookcaseResult result = bookcaseFacade.deleteBookcase(bookcaseId);
+    if (!result.bookcaseDeleted()) {
+      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+    }
+    return ResponseEntity.ok(result);
   }
 
   @GetMapping("/locations")
-  public ResponseEntity<Set<String>> getAllBookcaseLocations() {
+  public ResponseEntity<Set<String>> getAllBookcaseLocations(WebRequest request) {
     logger.info("Received request to get all bookcase locations");
-    Set<String> locations = Set.copyOf(bookcaseFacade.getAllBookcaseLocations());
-    return ResponseEntity.ok(locations);
+    return conditionalGet.respond(
+        request,
+        ResourceVersions.BOOKCASES,
+        "locations",
+        () -> Set.copyOf(bookcaseFacade.getAllBookcaseLocations()));
   }
 
   @GetMapping("/location/{location}")
@@ -73,14 +106,17 @@ public class BookCaseController {
 
   @GetMapping("/all")
   public ResponseEntity<List<BookcaseDTO>> getAllBookcases(
-      @AuthenticationPrincipal AppUserImpl principal) {
+      @AuthenticationPrincipal AppUserImpl principal, WebRequest request) {
 
     logger.info(
         "Received request to get all bookcases for user with ID: {}", principal.getAppUserId());
-    List<BookcaseDTO> bookcases =
-        bookcaseFacade.getAllBookcasesByUserId(principal.getAppUserId()).stream()
-            .map(BookcaseMapper::toDTO)
-            .toList();
-    return ResponseEntity.ok(bookcases);
+    return conditionalGet.respond(
+        request,
+        ResourceVersions.BOOKCASES,
+        "all",
+        () ->
+            bookcaseFacade.getAllBookcasesByUserId(principal.getAppUserId()).stream()
+                .map(BookcaseMapper::toDTO)
+                .toList());
   }
 }
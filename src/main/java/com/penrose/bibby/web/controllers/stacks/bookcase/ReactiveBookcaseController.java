@@ -0,0 +1,47 @@
+package com.penrose.bibby.web.controllers.stacks.bookcase;
+
+import com.penrose.bibby.config.reactive.ReactiveReads;
+import com.penrose.bibby.identity.infrastructure.AppUserImpl;
+import com.penrose.bibby.library.stacks.bookcase.api.dtos.BookcaseDTO;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.BookcaseFacade;
+import java.util.Set;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Non-blocking versions of the bookcase listings, run on {@link ReactiveReads}. */
+@RestController
+@RequestMapping("/api/v2/bookcase")
+public class ReactiveBookcaseController {
+
+  private final BookcaseFacade bookcaseFacade;
+  private final ReactiveReads reactiveReads;
+
+  public ReactiveBookcaseController(BookcaseFacade bookcaseFacade, ReactiveReads reactiveReads) {
+    this.bookcaseFacade = bookcaseFacade;
+    this.reactiveReads = reactiveReads;
+  }
+
+  @GetMapping("/locations")
+  public Mono<Set<String>> getAllBookcaseLocations() {
+    return reactiveReads.mono(() -> Set.copyOf(bookcaseFacade.getAllBookcaseLocations()));
+  }
+
+  @GetMapping("/location/{location}")
+  public Flux<BookcaseDTO> getBookcaseByLocation(@PathVariable String location) {
+    return reactiveReads
+        .flux(() -> bookcaseFacade.getAllBookcasesByLocation(location))
+        .map(BookcaseMapper::toDTO);
+  }
+
+  @GetMapping("/all")
+  public Flux<BookcaseDTO> getAllBookcases(@AuthenticationPrincipal AppUserImpl principal) {
+    return reactiveReads
+        .flux(() -> bookcaseFacade.getAllBookcasesByUserId(principal.getAppUserId()))
+        .map(BookcaseMapper::toDTO);
+  }
+}
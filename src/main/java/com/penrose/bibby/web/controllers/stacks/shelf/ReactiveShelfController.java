@@ -0,0 +1,42 @@
+package com.penrose.bibby.web.controllers.stacks.shelf;
+
+import com.penrose.bibby.config.reactive.ReactiveReads;
+import com.penrose.bibby.library.stacks.shelf.api.dtos.ShelfOptionResponseDTO;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfQueryFacade;
+import com.penrose.bibby.web.controllers.stacks.shelf.mappers.ShelfResponseMapper;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/** Non-blocking versions of the shelf option reads, run on {@link ReactiveReads}. */
+@RestController
+@RequestMapping("/api/v2/shelves")
+public class ReactiveShelfController {
+
+  private final ShelfQueryFacade shelfQueryFacade;
+  private final ShelfResponseMapper shelfResponseMapper;
+  private final ReactiveReads reactiveReads;
+
+  public ReactiveShelfController(
+      ShelfQueryFacade shelfQueryFacade,
+      ShelfResponseMapper shelfResponseMapper,
+      ReactiveReads reactiveReads) {
+    this.shelfQueryFacade = shelfQueryFacade;
+    this.shelfResponseMapper = shelfResponseMapper;
+    this.reactiveReads = reactiveReads;
+  }
+
+  @GetMapping("/options")
+  public Flux<ShelfOptionResponseDTO> getShelfOptions() {
+    return reactiveReads.flux(shelfQueryFacade::findAll).map(shelfResponseMapper::toShelfOption);
+  }
+
+  @GetMapping("/options/{bookcaseId}")
+  public Flux<ShelfOptionResponseDTO> getShelfOptionsByBookcase(@PathVariable Long bookcaseId) {
+    return reactiveReads
+        .flux(() -> shelfQueryFacade.findShelvesByBookcaseId(bookcaseId))
+        .map(shelfResponseMapper::toShelfOption);
+  }
+}
@@ -1,11 +1,15 @@
 package com.penrose.bibby.web.controllers.stacks.shelf;
 
+import com.penrose.bibby.config.http.ConditionalGetSupport;
+import com.penrose.bibby.config.http.ResourceVersions;
 import com.penrose.bibby.library.stacks.shelf.api.dtos.ShelfOptionResponseDTO;
 import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.PlaceBookOnShelfUseCasePort;
 import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfQueryFacade;
 import com.penrose.bibby.web.controllers.stacks.shelf.mappers.ShelfResponseMapper;
 import java.util.List;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RequestMapping("/api/v1/shelves")
 @RestController
@@ -14,19 +18,26 @@ public class ShelfController {
   private final ShelfQueryFacade shelfQueryFacade;
   private final ShelfResponseMapper shelfResponseMapper;
   private final PlaceBookOnShelfUseCasePort placeBookOnShelfUseCasePort;
+  private final ConditionalGetSupport conditionalGet;
 
   public ShelfController(
       ShelfQueryFacade shelfQueryFacade,
       ShelfResponseMapper shelfResponseMapper,
-      PlaceBookOnShelfUseCasePort placeBookOnShelfUseCasePort) {
+      PlaceBookOnShelfUseCasePort placeBookOnShelfUseCasePort,
+      ConditionalGetSupport conditionalGet) {
     this.shelfQueryFacade = shelfQueryFacade;
     this.shelfResponseMapper = shelfResponseMapper;
     this.placeBookOnShelfUseCasePort = placeBookOnShelfUseCasePort;
+    this.conditionalGet = conditionalGet;
   }
 
   @GetMapping("/options")
-  public List<ShelfOptionResponseDTO> getShelfOptions() {
-    return shelfQueryFacade.findAll().stream().map(shelfResponseMapper::toShelfOption).toList();
+  public ResponseEntity<List<ShelfOptionResponseDTO>> getShelfOptions(WebRequest request) {
+    return conditionalGet.respond(
+        request,
+        ResourceVersions.SHELVES,
+        "options",
+        () -> shelfQueryFacade.findAll().stream().map(shelfResponseMapper::toShelfOption).toList());
   }
 
   /**
@@ -37,10 +48,16 @@ public class ShelfController {
    *     options for the given bookcase
    */
   @GetMapping("/options/{bookcaseId}")
-  public List<ShelfOptionResponseDTO> getShelfOptionsByBookcase(@PathVariable Long bookcaseId) {
-    return shelfQueryFacade.findShelvesByBookcaseId(bookcaseId).stream()
-        .map(shelfResponseMapper::toShelfOption)
-        .toList();
+  public ResponseEntity<List<ShelfOptionResponseDTO>> getShelfOptionsByBookcase(
+      @PathVariable Long bookcaseId, WebRequest request) {
+    return conditionalGet.respond(
+        request,
+        ResourceVersions.SHELVES,
+        "options/" + bookcaseId,
+        () ->
+            shelfQueryFacade.findShelvesByBookcaseId(bookcaseId).stream()
+                .map(shelfResponseMapper::toShelfOption)
+                .toList());
   }
 
   public record AddBookToShelfRequest(Long bookId, Long shelfId) {}
@@ -0,0 +1,90 @@
+package com.penrose.bibby;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.penrose.bibby.config.security.throttle.LoginThrottle;
+import com.penrose.bibby.library.cataloging.book.infrastructure.repository.BookJpaRepository;
+import com.penrose.bibby.ratelimit.RateLimitService;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.filter.ForwardedHeaderFilter;
+
+/**
+ * Boots with the {@code dev} profile, the one the application runs with, swapping only its
+ * PostgreSQL connection for H2. Settings that must hold under every profile are checked here rather
+ * than in the default-profile test configuration, which would mask them.
+ */
+@SpringBootTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:devprofile",
+      "spring.datasource.driver-class-name=org.h2.Driver",
+      "spring.datasource.username=sa",
+      "spring.datasource.password=",
+      "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+      "spring.shell.interactive.enabled=false"
+    })
+@ActiveProfiles("dev")
+@AutoConfigureMockMvc
+class DevProfileBootTest {
+
+  @Autowired private BookJpaRepository bookJpaRepository;
+  @Autowired private ServerProperties serverProperties;
+  @Autowired private RateLimitService rateLimitService;
+  @Autowired private ApplicationContext context;
+  @Autowired private LoginThrottle loginThrottle;
+  @Autowired private MockMvc mockMvc;
+
+  @Test
+  void tenantScopedRepositories_shouldOpenSessionsUnderTheDevProfile() {
+    assertThat(bookJpaRepository.count()).isZero();
+  }
+
+  // Rate limits and the login throttle key on the remote address, which only the proxy's
+  // forwarding headers make the client's
+  @Test
+  void forwardedHeaders_shouldBeAppliedUnderTheDevProfile() {
+    assertThat(serverProperties.getForwardHeadersStrategy())
+        .isEqualTo(ServerProperties.ForwardHeadersStrategy.FRAMEWORK);
+    assertThat(context.getBeansOfType(FilterRegistrationBean.class).values())
+        .anyMatch(registration -> registration.getFilter() instanceof ForwardedHeaderFilter);
+  }
+
+  @Test
+  void rateLimitRoutes_shouldBeInForceUnderTheDevProfile() {
+    String path = "/api/v1/books/fetchbookmetadata";
+    for (int i = 0; i < 5; i++) {
+      assertThat(rateLimitService.tryAcquire("POST", path, "203.0.113.7")).isZero();
+    }
+
+    assertThat(rateLimitService.tryAcquire("POST", path, "203.0.113.7")).isPositive();
+    assertThat(rateLimitService.tryAcquire("POST", path, "203.0.113.8")).isZero();
+  }
+
+  @Test
+  void failedLogins_shouldCountAgainstTheForwardedClientAddress() throws Exception {
+    mockMvc
+        .perform(
+            post("/login")
+                .param("username", "nobody@example.com")
+                .param("password", "wrong")
+                .header("X-Forwarded-For", "203.0.113.9")
+                .with(csrf()))
+        .andExpect(status().isUnauthorized());
+
+    assertThat(loginThrottle.topOffenders())
+        .extracting(Map.Entry::getKey)
+        .contains(new LoginThrottle.Offender("address", "203.0.113.9"))
+        .noneMatch(offender -> offender.key().equals("127.0.0.1"));
+  }
+}
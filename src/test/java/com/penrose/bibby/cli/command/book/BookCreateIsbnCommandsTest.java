@@ -1,11 +1,13 @@
 package com.penrose.bibby.cli.command.book;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.penrose.bibby.cli.prompt.application.CliPromptService;
 import com.penrose.bibby.cli.prompt.domain.PromptOptions;
 import com.penrose.bibby.cli.ui.BookcardRenderer;
+import com.penrose.bibby.library.cataloging.author.api.dtos.AuthorDTO;
 import com.penrose.bibby.library.cataloging.author.core.ports.inbound.AuthorFacade;
 import com.penrose.bibby.library.cataloging.book.api.dtos.BookMetaDataResponse;
 import com.penrose.bibby.library.cataloging.book.core.port.inbound.BookFacade;
@@ -13,6 +15,7 @@ import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.BookcaseFaca
 import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfQueryFacade;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 class BookCreateIsbnCommandsTest {
@@ -135,4 +138,36 @@ class BookCreateIsbnCommandsTest {
     verify(cliPrompt, never()).promptForBookcaseSelection(anyMap());
     verify(cliPrompt, never()).promptForShelfSelection(anyLong());
   }
+
+  @Test
+  void createAuthorsFromMetaData_promptsOnlyForNamesSharedByNamesakes() {
+    CliPromptService cliPrompt = mock(CliPromptService.class);
+    AuthorFacade authorFacade = mock(AuthorFacade.class);
+    BookCreateIsbnCommands commands =
+        new BookCreateIsbnCommands(
+            cliPrompt,
+            mock(BookcardRenderer.class),
+            mock(BookFacade.class),
+            mock(BookcaseFacade.class),
+            mock(ShelfQueryFacade.class),
+            authorFacade,
+            mock(PromptOptions.class),
+            mock(BookCreateCommands.class));
+    List<String> names = List.of("Ada Lovelace", "John Ronald Reuel Tolkien", "Frank Herbert");
+    AuthorDTO tolkien = new AuthorDTO(null, "John Ronald Reuel", "Tolkien");
+    when(authorFacade.findNamesWithNamesakes(names))
+        .thenReturn(Set.of("John Ronald Reuel Tolkien"));
+    when(authorFacade.findOrCreateAll(List.of("Ada Lovelace", "Frank Herbert")))
+        .thenReturn(
+            List.of(new AuthorDTO(1L, "Ada", "Lovelace"), new AuthorDTO(3L, "Frank", "Herbert")));
+    when(authorFacade.authorExistFirstNameLastName("John Ronald Reuel", "Tolkien"))
+        .thenReturn(true);
+    when(cliPrompt.promptMultipleAuthorConfirmation(tolkien)).thenReturn(2L);
+    when(authorFacade.findById(2L)).thenReturn(new AuthorDTO(2L, "John Ronald Reuel", "Tolkien"));
+
+    List<Long> authorIds = commands.createAuthorsFromMetaData(names);
+
+    assertThat(authorIds).containsExactly(1L, 2L, 3L);
+    verify(cliPrompt, times(1)).promptMultipleAuthorConfirmation(any());
+  }
 }
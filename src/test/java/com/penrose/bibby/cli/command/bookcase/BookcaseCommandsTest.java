@@ -0,0 +1,80 @@
+package com.penrose.bibby.cli.command.bookcase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.penrose.bibby.cli.prompt.application.CliPromptService;
+import com.penrose.bibby.cli.prompt.domain.PromptOptions;
+import com.penrose.bibby.config.tenancy.LibraryTenantResolver;
+import com.penrose.bibby.identity.core.application.UserRegistrationService;
+import com.penrose.bibby.library.cataloging.book.core.port.inbound.BookFacade;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.BookcaseFacade;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.CreateBookcaseUseCasePort;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.ProvisionLayoutUseCasePort;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.ProvisionLayoutResult;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfQueryFacade;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.shell.component.flow.ComponentFlow;
+
+class BookcaseCommandsTest {
+
+  private static final String LAYOUT = "Office, Desk, A, 2, 10";
+
+  private final ProvisionLayoutUseCasePort provisionLayoutUseCasePort =
+      mock(ProvisionLayoutUseCasePort.class);
+  private final UserRegistrationService userRegistrationService =
+      mock(UserRegistrationService.class);
+  private final BookcaseCommands commands =
+      new BookcaseCommands(
+          mock(ComponentFlow.Builder.class),
+          mock(ShelfQueryFacade.class),
+          mock(BookFacade.class),
+          mock(BookcaseFacade.class),
+          mock(CliPromptService.class),
+          mock(PromptOptions.class),
+          mock(CreateBookcaseUseCasePort.class),
+          provisionLayoutUseCasePort,
+          userRegistrationService);
+
+  @TempDir private Path dir;
+
+  @Test
+  void provisionLayout_shouldCreateTheBookcasesForTheOwner() throws Exception {
+    when(userRegistrationService.findUserId("reader@example.com")).thenReturn(Optional.of(7L));
+    List<Long> tenants = new ArrayList<>();
+    when(provisionLayoutUseCasePort.provision(7L, LAYOUT))
+        .thenAnswer(
+            invocation -> {
+              tenants.add(LibraryTenantResolver.currentTenant());
+              return new ProvisionLayoutResult(1, 2, List.of());
+            });
+
+    commands.provisionLayout(layoutFile().toString(), "reader@example.com");
+
+    verify(provisionLayoutUseCasePort).provision(7L, LAYOUT);
+    assertThat(tenants).containsExactly(7L);
+    assertThat(LibraryTenantResolver.currentTenant()).isEqualTo(LibraryTenantResolver.ROOT);
+  }
+
+  @Test
+  void provisionLayout_shouldNotProvisionForAnUnknownOwner() throws Exception {
+    when(userRegistrationService.findUserId("nobody@example.com")).thenReturn(Optional.empty());
+
+    commands.provisionLayout(layoutFile().toString(), "nobody@example.com");
+
+    verifyNoInteractions(provisionLayoutUseCasePort);
+  }
+
+  private Path layoutFile() throws Exception {
+    return Files.writeString(dir.resolve("layout.csv"), LAYOUT);
+  }
+}
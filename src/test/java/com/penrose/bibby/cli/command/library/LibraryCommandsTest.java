@@ -0,0 +1,67 @@
+package com.penrose.bibby.cli.command.library;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.penrose.bibby.cli.command.book.BookCreateIsbnCommands;
+import com.penrose.bibby.cli.prompt.application.CliPromptService;
+import com.penrose.bibby.cli.prompt.domain.PromptOptions;
+import com.penrose.bibby.cli.ui.BookcardRenderer;
+import com.penrose.bibby.library.cataloging.book.core.port.inbound.BookFacade;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.BookcaseFacade;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfQueryFacade;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LibraryCommandsTest {
+
+  private final BookCreateIsbnCommands bookCreateIsbnCommands = mock(BookCreateIsbnCommands.class);
+  private final ExecutorService importExecutor = Executors.newFixedThreadPool(2);
+  private final LibraryCommands commands =
+      new LibraryCommands(
+          bookCreateIsbnCommands,
+          mock(CliPromptService.class),
+          mock(PromptOptions.class),
+          mock(BookFacade.class),
+          mock(BookcaseFacade.class),
+          mock(ShelfQueryFacade.class),
+          mock(BookcardRenderer.class),
+          importExecutor);
+
+  @TempDir private Path dir;
+
+  @AfterEach
+  void tearDown() {
+    importExecutor.shutdownNow();
+  }
+
+  @Test
+  void createBooksFromCsv_shouldImportEveryIsbnOnTheImportWorkers() throws Exception {
+    Path file = Files.writeString(dir.resolve("isbns.csv"), "9780441172719\n\n 9780553293357 \n");
+
+    commands.createBooksFromCsv(file.toString());
+
+    verify(bookCreateIsbnCommands).importBook("9780441172719");
+    verify(bookCreateIsbnCommands).importBook("9780553293357");
+  }
+
+  @Test
+  void createBooksFromCsv_shouldKeepImportingAfterAFailedIsbn() throws Exception {
+    when(bookCreateIsbnCommands.importBook("0000000000000"))
+        .thenThrow(new IllegalStateException("not found"));
+    Path file =
+        Files.writeString(
+            dir.resolve("isbns.csv"), "0000000000000\n9780441172719\n9780553293357\n");
+
+    commands.createBooksFromCsv(file.toString());
+
+    verify(bookCreateIsbnCommands).importBook("9780441172719");
+    verify(bookCreateIsbnCommands).importBook("9780553293357");
+  }
+}
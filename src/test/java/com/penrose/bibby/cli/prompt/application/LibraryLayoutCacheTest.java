@@ -0,0 +1,127 @@
+package com.penrose.bibby.cli.prompt.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import com.penrose.bibby.library.cataloging.book.api.dtos.BookcaseBookCount;
+import com.penrose.bibby.library.cataloging.book.core.port.inbound.BookFacade;
+import com.penrose.bibby.library.shared.events.InMemoryChangeCounters;
+import com.penrose.bibby.library.stacks.bookcase.api.dtos.BookcaseDTO;
+import com.penrose.bibby.library.stacks.bookcase.core.domain.model.Bookcase;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.BookcaseFacade;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfQueryFacade;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.inboundPortModels.ShelfResponse;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LibraryLayoutCacheTest {
+
+  @Mock private BookcaseFacade bookcaseFacade;
+
+  @Mock private ShelfQueryFacade shelfQueryFacade;
+
+  @Mock private BookFacade bookFacade;
+
+  private final InMemoryChangeCounters changeCounters = new InMemoryChangeCounters();
+
+  private LibraryLayoutCache cache;
+
+  private final Bookcase office = new Bookcase(1L, 1L, 2, 20, "Office", "A", "1");
+  private final Bookcase den = new Bookcase(2L, 1L, 3, 30, "Den", "A", "1");
+
+  @BeforeEach
+  void setUp() {
+    cache = new LibraryLayoutCache(bookcaseFacade, shelfQueryFacade, bookFacade, changeCounters);
+  }
+
+  @Test
+  void bookcases_shouldLoadOnceAndServeEveryMenuFromMemory() {
+    when(bookcaseFacade.getAllBookcases()).thenReturn(List.of(office, den));
+
+    cache.bookcases();
+    cache.bookcasesAt("Den");
+    List<String> locations = cache.locations();
+
+    assertThat(locations).containsExactly("Office", "Den");
+    assertThat(cache.bookcasesAt("Den")).extracting(BookcaseDTO::bookcaseId).containsExactly(2L);
+    verify(bookcaseFacade, times(1)).getAllBookcases();
+  }
+
+  @Test
+  void shelves_shouldLoadEachBookcaseOnlyOnce() {
+    ShelfResponse shelf = new ShelfResponse(10L, 1, "Shelf 1", 10, List.of(), 1L);
+    when(shelfQueryFacade.findShelvesByBookcaseId(1L)).thenReturn(List.of(shelf));
+
+    cache.shelves(1L);
+    List<ShelfResponse> shelves = cache.shelves(1L);
+
+    assertThat(shelves).containsExactly(shelf);
+    verify(shelfQueryFacade, times(1)).findShelvesByBookcaseId(1L);
+  }
+
+  @Test
+  void layoutChanged_shouldReloadBookcasesShelvesAndCounts() {
+    when(bookcaseFacade.getAllBookcases())
+        .thenReturn(List.of(office))
+        .thenReturn(List.of(office, den));
+    when(shelfQueryFacade.findShelvesByBookcaseId(1L)).thenReturn(List.of());
+    when(bookFacade.countBooksPerBookcase()).thenReturn(List.of());
+
+    assertThat(cache.bookcases()).hasSize(1);
+    cache.shelves(1L);
+    cache.bookCount(1L);
+
+    cache.layoutChanged();
+
+    assertThat(cache.bookcases()).hasSize(2);
+    cache.shelves(1L);
+    cache.bookCount(1L);
+    verify(bookcaseFacade, times(2)).getAllBookcases();
+    verify(shelfQueryFacade, times(2)).findShelvesByBookcaseId(1L);
+    verify(bookFacade, times(2)).countBooksPerBookcase();
+  }
+
+  @Test
+  void booksChanged_shouldReloadCountsButKeepTheLayout() {
+    when(bookcaseFacade.getAllBookcases()).thenReturn(List.of(office));
+    when(bookFacade.countBooksPerBookcase())
+        .thenReturn(List.of(new BookcaseBookCount(1L, 4L)))
+        .thenReturn(List.of(new BookcaseBookCount(1L, 5L)));
+
+    cache.bookcases();
+    assertThat(cache.bookCount(1L)).isEqualTo(4L);
+
+    cache.booksChanged();
+
+    assertThat(cache.bookCount(1L)).isEqualTo(5L);
+    cache.bookcases();
+    verify(bookcaseFacade, times(1)).getAllBookcases();
+  }
+
+  @Test
+  void layoutChanged_shouldReachTheCacheOfAnotherInstance() {
+    LibraryLayoutCache otherInstance =
+        new LibraryLayoutCache(bookcaseFacade, shelfQueryFacade, bookFacade, changeCounters);
+    when(bookcaseFacade.getAllBookcases())
+        .thenReturn(List.of(office))
+        .thenReturn(List.of(office, den));
+
+    assertThat(cache.bookcases()).hasSize(1);
+
+    otherInstance.layoutChanged();
+
+    assertThat(cache.bookcases()).hasSize(2);
+  }
+
+  @Test
+  void bookCount_shouldBeZeroForBookcasesWithoutBooks() {
+    when(bookFacade.countBooksPerBookcase()).thenReturn(List.of(new BookcaseBookCount(1L, 4L)));
+
+    assertThat(cache.bookCount(2L)).isZero();
+  }
+}
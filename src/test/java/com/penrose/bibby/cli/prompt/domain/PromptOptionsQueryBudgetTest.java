@@ -0,0 +1,100 @@
+package com.penrose.bibby.cli.prompt.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.penrose.bibby.cli.prompt.application.LibraryLayoutCache;
+import com.penrose.bibby.config.sql.QueryBudget;
+import com.penrose.bibby.library.cataloging.author.api.dtos.AuthorDTO;
+import com.penrose.bibby.library.cataloging.author.infrastructure.entity.AuthorEntity;
+import com.penrose.bibby.library.cataloging.author.infrastructure.repository.AuthorJpaRepository;
+import com.penrose.bibby.library.cataloging.book.infrastructure.entity.BookEntity;
+import com.penrose.bibby.library.cataloging.book.infrastructure.repository.BookJpaRepository;
+import com.penrose.bibby.library.stacks.bookcase.infrastructure.persistence.entity.BookcaseEntity;
+import com.penrose.bibby.library.stacks.bookcase.infrastructure.persistence.repository.BookcaseJpaRepository;
+import com.penrose.bibby.library.stacks.shelf.infrastructure.persistence.entity.ShelfEntity;
+import com.penrose.bibby.library.stacks.shelf.infrastructure.persistence.repository.ShelfJpaRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.shell.component.flow.SelectItem;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Statement budgets for the shell menus, through the real facades and layout cache, so a query per
+ * bookcase, shelf or author is caught in CI.
+ */
+@SpringBootTest
+@Transactional
+class PromptOptionsQueryBudgetTest {
+
+  private static final int BOOKCASES = 4;
+  private static final int SHELVES_PER_BOOKCASE = 3;
+
+  @Autowired private PromptOptions promptOptions;
+  @Autowired private LibraryLayoutCache libraryLayoutCache;
+  @Autowired private BookcaseJpaRepository bookcaseJpaRepository;
+  @Autowired private ShelfJpaRepository shelfJpaRepository;
+  @Autowired private BookJpaRepository bookJpaRepository;
+  @Autowired private AuthorJpaRepository authorJpaRepository;
+
+  private Long bookcaseId;
+
+  @BeforeEach
+  void setUp() {
+    AuthorEntity butler = authorJpaRepository.save(new AuthorEntity("Octavia", "Butler"));
+    AuthorEntity namesake = authorJpaRepository.save(new AuthorEntity("Octavia", "Butler"));
+    for (int b = 0; b < BOOKCASES; b++) {
+      bookcaseId =
+          bookcaseJpaRepository
+              .save(new BookcaseEntity(1L, "Budget Room " + b, "A", String.valueOf(b), 3, 30))
+              .getBookcaseId();
+      for (int s = 1; s <= SHELVES_PER_BOOKCASE; s++) {
+        Long shelfId =
+            shelfJpaRepository.save(new ShelfEntity(bookcaseId, s, "Shelf " + s, 10)).getShelfId();
+        BookEntity book =
+            new BookEntity("Kindred " + b + "." + s, Set.of(s % 2 == 0 ? butler : namesake));
+        book.setShelfId(shelfId);
+        bookJpaRepository.save(book);
+      }
+    }
+    bookJpaRepository.flush();
+    // Start every test from a stale cache so the loads are counted too
+    libraryLayoutCache.layoutChanged();
+  }
+
+  @Test
+  void bookCaseOptions_shouldNotQueryPerBookcase() {
+    Map<String, String> options = QueryBudget.atMost(4, () -> promptOptions.bookCaseOptions());
+
+    assertThat(options).hasSizeGreaterThan(BOOKCASES);
+    assertThat(options.keySet())
+        .filteredOn(row -> row.contains("BUDGET ROOM"))
+        .hasSize(BOOKCASES)
+        .allMatch(row -> row.contains("3  \u001B[22m\u001B[38;5;15mBooks"));
+
+    // Once loaded, a menu only checks the two shared change counters
+    QueryBudget.atMost(2, () -> promptOptions.bookCaseOptions());
+  }
+
+  @Test
+  void bookShelfOptions_shouldLoadABookcasesShelvesInOneStatement() {
+    Map<String, String> options =
+        QueryBudget.atMost(2, () -> promptOptions.bookShelfOptions(bookcaseId));
+
+    assertThat(options).hasSize(SHELVES_PER_BOOKCASE + 1);
+  }
+
+  @Test
+  void authorOptions_shouldPreviewEveryNamesakeInOneStatement() {
+    List<SelectItem> options =
+        QueryBudget.atMost(
+            2, () -> promptOptions.authorOptions(new AuthorDTO(null, "Octavia", "Butler")));
+
+    // "Create New Author" plus both namesakes
+    assertThat(options).hasSize(3);
+  }
+}
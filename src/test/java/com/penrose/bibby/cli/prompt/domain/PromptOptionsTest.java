@@ -1,17 +1,17 @@
 package com.penrose.bibby.cli.prompt.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.penrose.bibby.cli.prompt.application.LibraryLayoutCache;
+import com.penrose.bibby.library.cataloging.author.api.dtos.AuthorDTO;
 import com.penrose.bibby.library.cataloging.author.core.ports.inbound.AuthorFacade;
-import com.penrose.bibby.library.cataloging.book.core.domain.AuthorName;
-import com.penrose.bibby.library.cataloging.book.core.domain.AuthorRef;
-import com.penrose.bibby.library.cataloging.book.core.domain.AvailabilityStatus;
-import com.penrose.bibby.library.cataloging.book.core.domain.model.Book;
-import com.penrose.bibby.library.cataloging.book.core.domain.valueObject.BookId;
-import com.penrose.bibby.library.cataloging.book.core.domain.valueObject.Isbn;
-import com.penrose.bibby.library.cataloging.book.core.domain.valueObject.Title;
+import com.penrose.bibby.library.cataloging.book.api.dtos.BookcaseBookCount;
 import com.penrose.bibby.library.cataloging.book.core.port.inbound.BookFacade;
+import com.penrose.bibby.library.shared.events.InMemoryChangeCounters;
 import com.penrose.bibby.library.stacks.bookcase.core.domain.model.Bookcase;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.BookcaseFacade;
 import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfQueryFacade;
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.shell.component.flow.SelectItem;
 
 @ExtendWith(MockitoExtension.class)
 class PromptOptionsTest {
@@ -40,7 +41,10 @@ class PromptOptionsTest {
 
   @BeforeEach
   void setUp() {
-    promptOptions = new PromptOptions(shelfFacade, authorFacade, bookFacade, bookcaseFacade);
+    LibraryLayoutCache libraryLayoutCache =
+        new LibraryLayoutCache(
+            bookcaseFacade, shelfFacade, bookFacade, new InMemoryChangeCounters());
+    promptOptions = new PromptOptions(authorFacade, bookFacade, libraryLayoutCache);
   }
 
   @Test
@@ -70,8 +74,6 @@ class PromptOptionsTest {
     Bookcase bookcase2 = new Bookcase(2L, 1L, 3, 15, "Office", "B", "2");
 
     when(bookcaseFacade.getAllBookcases()).thenReturn(List.of(bookcase1, bookcase2));
-    when(shelfFacade.findShelvesByBookcaseId(1L)).thenReturn(List.of());
-    when(shelfFacade.findShelvesByBookcaseId(2L)).thenReturn(List.of());
 
     Map<String, String> options = promptOptions.bookCaseOptions();
 
@@ -85,17 +87,8 @@ class PromptOptionsTest {
   void bookCaseOptions_shouldCorrectlyCountBooksAcrossShelves() {
     Bookcase bookcase = new Bookcase(1L, 1L, 2, 10, "Study", "C", "3");
 
-    ShelfResponse shelf1 = new ShelfResponse(10L, 1, "Top Shelf", 10, List.of(100L, 101L), 1L);
-    ShelfResponse shelf2 = new ShelfResponse(11L, 2, "Bottom Shelf", 10, List.of(200L), 1L);
-
-    Book book1 = buildBook(100L);
-    Book book2 = buildBook(101L);
-    Book book3 = buildBook(200L);
-
     when(bookcaseFacade.getAllBookcases()).thenReturn(List.of(bookcase));
-    when(shelfFacade.findShelvesByBookcaseId(1L)).thenReturn(List.of(shelf1, shelf2));
-    when(bookFacade.findByShelfId(10L)).thenReturn(List.of(book1, book2));
-    when(bookFacade.findByShelfId(11L)).thenReturn(List.of(book3));
+    when(bookFacade.countBooksPerBookcase()).thenReturn(List.of(new BookcaseBookCount(1L, 3L)));
 
     Map<String, String> options = promptOptions.bookCaseOptions();
 
@@ -111,7 +104,6 @@ class PromptOptionsTest {
     Bookcase bookcase = new Bookcase(1L, 1L, 2, 10, "basement", "A", "1");
 
     when(bookcaseFacade.getAllBookcases()).thenReturn(List.of(bookcase));
-    when(shelfFacade.findShelvesByBookcaseId(1L)).thenReturn(List.of());
 
     Map<String, String> options = promptOptions.bookCaseOptions();
 
@@ -124,11 +116,9 @@ class PromptOptionsTest {
   @Test
   void bookCaseOptions_shouldCountZeroBooksWhenShelvesAreEmpty() {
     Bookcase bookcase = new Bookcase(1L, 1L, 3, 10, "Garage", "D", "4");
-    ShelfResponse emptyShelf = new ShelfResponse(20L, 1, "Empty Shelf", 10, new ArrayList<>(), 1L);
 
     when(bookcaseFacade.getAllBookcases()).thenReturn(List.of(bookcase));
-    when(shelfFacade.findShelvesByBookcaseId(1L)).thenReturn(List.of(emptyShelf));
-    when(bookFacade.findByShelfId(20L)).thenReturn(List.of());
+    when(bookFacade.countBooksPerBookcase()).thenReturn(List.of(new BookcaseBookCount(2L, 4L)));
 
     Map<String, String> options = promptOptions.bookCaseOptions();
 
@@ -146,9 +136,6 @@ class PromptOptionsTest {
     Bookcase bookcase3 = new Bookcase(3L, 1L, 2, 10, "Gamma", "C", "3");
 
     when(bookcaseFacade.getAllBookcases()).thenReturn(List.of(bookcase1, bookcase2, bookcase3));
-    when(shelfFacade.findShelvesByBookcaseId(1L)).thenReturn(List.of());
-    when(shelfFacade.findShelvesByBookcaseId(2L)).thenReturn(List.of());
-    when(shelfFacade.findShelvesByBookcaseId(3L)).thenReturn(List.of());
 
     Map<String, String> options = promptOptions.bookCaseOptions();
 
@@ -156,21 +143,46 @@ class PromptOptionsTest {
     assertThat(values).containsExactly("cancel", "1", "2", "3");
   }
 
-  private Book buildBook(Long id) {
-    return new Book(
-        new BookId(id),
-        1,
-        new Title("Title"),
-        List.of(new AuthorRef(1L, new AuthorName("First", "Last"))),
-        new Isbn("9780345391803"),
-        "genre",
-        "publisher",
-        2020,
-        1L,
-        "desc",
-        AvailabilityStatus.AVAILABLE,
-        null,
-        null,
-        null);
+  @Test
+  void bookShelfOptions_shouldListShelvesAfterCancel() {
+    ShelfResponse top = new ShelfResponse(10L, 1, "Top Shelf", 10, List.of(), 1L);
+    ShelfResponse bottom = new ShelfResponse(11L, 2, "Bottom Shelf", 10, List.of(), 1L);
+    when(shelfFacade.findShelvesByBookcaseId(1L)).thenReturn(List.of(top, bottom));
+
+    Map<String, String> options = promptOptions.bookShelfOptions(1L);
+
+    assertThat(new ArrayList<>(options.values())).containsExactly("cancel", "10", "11");
+    assertThat(options).containsEntry("Top Shelf", "10");
+  }
+
+  @Test
+  void bookCaseOptionsByLocation_shouldOnlyListBookcasesAtThatLocation() {
+    Bookcase office1 = new Bookcase(1L, 1L, 2, 10, "Office", "A", "1");
+    Bookcase den = new Bookcase(2L, 1L, 2, 10, "Den", "A", "1");
+    Bookcase office2 = new Bookcase(3L, 1L, 2, 10, "Office", "B", "1");
+    when(bookcaseFacade.getAllBookcases()).thenReturn(List.of(office1, den, office2));
+
+    Map<String, String> options = promptOptions.bookCaseOptionsByLocation("Office");
+
+    assertThat(options).containsValue("3");
+    assertThat(options).doesNotContainValue("2");
+  }
+
+  @Test
+  void authorOptions_shouldPreviewEveryCandidateWithOneBookQuery() {
+    AuthorDTO typed = new AuthorDTO(null, "John", "Smith");
+    AuthorDTO first = new AuthorDTO(1L, "John", "Smith");
+    AuthorDTO second = new AuthorDTO(2L, "John", "Smith");
+    when(authorFacade.getAllAuthorsByName("John", "Smith")).thenReturn(List.of(first, second));
+    when(bookFacade.getTitlePreviewsByAuthorIds(List.of(1L, 2L), 3))
+        .thenReturn(Map.of(1L, List.of("Dune", "Emma")));
+
+    List<SelectItem> options = promptOptions.authorOptions(typed);
+
+    // "Create New Author" + one entry per candidate
+    assertThat(options).hasSize(3);
+    assertThat(options.get(1).name()).contains("[Dune, Emma]");
+    assertThat(options.get(2).name()).contains("[]");
+    verify(bookFacade, never()).getBooksByAuthorId(any());
   }
 }
@@ -0,0 +1,39 @@
+package com.penrose.bibby.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class VirtualThreadsConfigTest {
+
+  private final ApplicationContextRunner contextRunner =
+      new ApplicationContextRunner().withUserConfiguration(VirtualThreadsConfig.class);
+
+  @Test
+  void requireVirtualThreads_shouldRejectRuntimesBeforeJava21() {
+    assertThatThrownBy(() -> VirtualThreadsConfig.requireVirtualThreads(17))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Java 17");
+    assertThatCode(() -> VirtualThreadsConfig.requireVirtualThreads(21)).doesNotThrowAnyException();
+  }
+
+  @Test
+  @EnabledForJreRange(max = JRE.JAVA_20)
+  void context_shouldFailToStartWhenVirtualThreadsAreEnabledOnThisRuntime() {
+    contextRunner
+        .withPropertyValues("spring.threads.virtual.enabled=true")
+        .run(context -> assertThat(context).hasFailed());
+  }
+
+  @Test
+  void context_shouldStartWhenVirtualThreadsAreDisabled() {
+    contextRunner
+        .withPropertyValues("spring.threads.virtual.enabled=false")
+        .run(context -> assertThat(context).hasNotFailed());
+  }
+}
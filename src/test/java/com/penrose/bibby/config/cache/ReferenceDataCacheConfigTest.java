@@ -0,0 +1,85 @@
+package com.penrose.bibby.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import org.junit.jupiter.api.Test;
+
+class ReferenceDataCacheConfigTest {
+
+  private final ReferenceDataCacheConfig config =
+      new ReferenceDataCacheConfig(true, 500, 50, Duration.ofMinutes(5));
+
+  @Test
+  void referenceDataCacheManager_shouldCreateBoundedEntityAndQueryRegions() {
+    CacheManager cacheManager = config.referenceDataCacheManager();
+
+    for (String region : ReferenceDataCacheConfig.ENTITY_REGIONS) {
+      assertThat(cacheManager.getCache(region)).as(region).isNotNull();
+    }
+    assertThat(cacheManager.getCache(ReferenceDataCacheConfig.QUERY_RESULTS_REGION)).isNotNull();
+    assertThat(cacheManager.getCache(ReferenceDataCacheConfig.UPDATE_TIMESTAMPS_REGION))
+        .isNotNull();
+  }
+
+  @Test
+  void referenceDataCacheManager_shouldNeverExpireUpdateTimestamps() {
+    CacheManager cacheManager = config.referenceDataCacheManager();
+
+    CaffeineConfiguration<?, ?> timestamps =
+        configurationOf(cacheManager.getCache(ReferenceDataCacheConfig.UPDATE_TIMESTAMPS_REGION));
+
+    assertThat(timestamps.getMaximumSize()).isEmpty();
+    assertThat(timestamps.getExpireAfterWrite()).isEmpty();
+  }
+
+  @Test
+  void referenceDataCacheManager_shouldBeReusableWhenRegionsAlreadyExist() {
+    config.referenceDataCacheManager();
+
+    CacheManager again = config.referenceDataCacheManager();
+
+    assertThat(again.getCache(ReferenceDataCacheConfig.BOOKCASE_REGION)).isNotNull();
+  }
+
+  @Test
+  void customizer_shouldEnableSecondLevelAndQueryCache() {
+    CacheManager cacheManager = config.referenceDataCacheManager();
+    Map<String, Object> properties = new HashMap<>();
+
+    config.referenceDataCacheCustomizer(cacheManager).customize(properties);
+
+    assertThat(properties)
+        .containsEntry("hibernate.cache.use_second_level_cache", true)
+        .containsEntry("hibernate.cache.use_query_cache", true)
+        .containsEntry("hibernate.cache.region.factory_class", "jcache")
+        .containsEntry("hibernate.javax.cache.cache_manager", cacheManager)
+        .containsEntry("jakarta.persistence.sharedCache.mode", "ENABLE_SELECTIVE");
+  }
+
+  @Test
+  void customizer_shouldOnlyTurnCachingOffWhenDisabled() {
+    ReferenceDataCacheConfig disabled =
+        new ReferenceDataCacheConfig(false, 500, 50, Duration.ofMinutes(5));
+    Map<String, Object> properties = new HashMap<>();
+
+    disabled
+        .referenceDataCacheCustomizer(disabled.referenceDataCacheManager())
+        .customize(properties);
+
+    assertThat(properties)
+        .containsOnly(
+            Map.entry("hibernate.cache.use_second_level_cache", false),
+            Map.entry("hibernate.cache.use_query_cache", false));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static CaffeineConfiguration<?, ?> configurationOf(Cache<?, ?> cache) {
+    return cache.getConfiguration(CaffeineConfiguration.class);
+  }
+}
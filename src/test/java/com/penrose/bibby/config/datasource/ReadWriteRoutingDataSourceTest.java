@@ -0,0 +1,146 @@
+package com.penrose.bibby.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Routes between two independent in-memory databases standing in for a primary and a replica. */
+class ReadWriteRoutingDataSourceTest {
+
+  private static final String NODE = "SELECT name FROM node";
+  private static final String INSERT_BOOK = "INSERT INTO book (title) VALUES (?)";
+  private static final String COUNT_BOOKS = "SELECT COUNT(*) FROM book";
+
+  private final DataSource primary = database("primary");
+  private final DataSource replica = database("replica");
+  private ReplicaLagMonitor lagMonitor;
+
+  @AfterEach
+  void tearDown() {
+    new JdbcTemplate(primary).execute("SHUTDOWN");
+    new JdbcTemplate(replica).execute("SHUTDOWN");
+  }
+
+  @Test
+  void readOnlyTransaction_shouldBeServedByReplica() {
+    RoutedDatabase db = routed("SELECT 0", Duration.ofSeconds(5));
+
+    assertThat(db.nodeServingReadOnly()).isEqualTo("replica");
+  }
+
+  @Test
+  void readWriteTransaction_shouldBeServedByPrimary() {
+    RoutedDatabase db = routed("SELECT 0", Duration.ZERO);
+
+    assertThat(db.nodeServingReadWrite()).isEqualTo("primary");
+  }
+
+  @Test
+  void readAfterOwnWrite_shouldStayOnPrimaryWithinStickyWindow() {
+    RoutedDatabase db = routed("SELECT 0", Duration.ofMinutes(1));
+
+    db.readWrite().executeWithoutResult(status -> db.jdbc().update(INSERT_BOOK, "Dune"));
+
+    assertThat(db.countBooksReadOnly()).isEqualTo(1L);
+  }
+
+  @Test
+  void rolledBackWrite_shouldNotMakeReadsSticky() {
+    RoutedDatabase db = routed("SELECT 0", Duration.ofMinutes(1));
+
+    db.readWrite()
+        .executeWithoutResult(
+            status -> {
+              db.jdbc().update(INSERT_BOOK, "Dune");
+              status.setRollbackOnly();
+            });
+
+    assertThat(db.nodeServingReadOnly()).isEqualTo("replica");
+  }
+
+  @Test
+  void readOnlyTransaction_shouldFallBackToPrimaryWhenReplicaIsTooFarBehind() {
+    RoutedDatabase db = routed("SELECT 30", Duration.ZERO);
+
+    assertThat(db.nodeServingReadOnly()).isEqualTo("primary");
+  }
+
+  @Test
+  void readOnlyTransaction_shouldFallBackToPrimaryWhenLagCannotBeMeasured() {
+    RoutedDatabase db = routed("SELECT missing_column FROM node", Duration.ZERO);
+
+    assertThat(db.nodeServingReadOnly()).isEqualTo("primary");
+  }
+
+  @Test
+  void lagMonitor_shouldPickUpRecoveredReplicaOnNextCheck() {
+    new JdbcTemplate(replica).execute("CREATE TABLE lag (seconds INT)");
+    new JdbcTemplate(replica).update("INSERT INTO lag VALUES (30)");
+    routed("SELECT seconds FROM lag", Duration.ZERO);
+    assertThat(lagMonitor.isUsable("replica")).isFalse();
+
+    new JdbcTemplate(replica).update("UPDATE lag SET seconds = 1");
+    lagMonitor.checkAll();
+
+    assertThat(lagMonitor.isUsable("replica")).isTrue();
+  }
+
+  private RoutedDatabase routed(String lagQuery, Duration stickyWindow) {
+    lagMonitor =
+        new ReplicaLagMonitor(
+            Map.of("replica", replica), lagQuery, Duration.ofSeconds(5), Duration.ofMinutes(1));
+    lagMonitor.checkAll();
+    ReadWriteRoutingDataSource routing =
+        new ReadWriteRoutingDataSource(
+            List.of("replica"),
+            lagMonitor,
+            new ReadYourWritesTracker(stickyWindow, Clock.systemUTC()));
+    routing.setTargetDataSources(
+        Map.of(ReadWriteRoutingDataSource.PRIMARY, primary, "replica", replica));
+    routing.afterPropertiesSet();
+    LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    return new RoutedDatabase(
+        new JdbcTemplate(dataSource), readOnly, new TransactionTemplate(transactionManager));
+  }
+
+  private static DataSource database(String name) {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+    jdbc.update("INSERT INTO node VALUES (?)", name);
+    jdbc.execute("CREATE TABLE book (title VARCHAR(100))");
+    return dataSource;
+  }
+
+  private record RoutedDatabase(
+      JdbcTemplate jdbc, TransactionTemplate readOnly, TransactionTemplate readWrite) {
+
+    String nodeServingReadOnly() {
+      return readOnly.execute(status -> jdbc.queryForObject(NODE, String.class));
+    }
+
+    String nodeServingReadWrite() {
+      return readWrite.execute(status -> jdbc.queryForObject(NODE, String.class));
+    }
+
+    Long countBooksReadOnly() {
+      return readOnly.execute(status -> jdbc.queryForObject(COUNT_BOOKS, Long.class));
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package com.penrose.bibby.config.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.penrose.bibby.library.shared.events.InMemoryChangeCounters;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class ConditionalGetSupportTest {
+
+  private final InMemoryChangeCounters changeCounters = new InMemoryChangeCounters();
+  private final ResourceVersions versions = new ResourceVersions(changeCounters);
+  private final ConditionalGetSupport conditionalGet =
+      new ConditionalGetSupport(versions, true, 100, Duration.ofMinutes(10));
+  private final AtomicInteger loads = new AtomicInteger();
+  private final Supplier<List<String>> loader =
+      () -> {
+        loads.incrementAndGet();
+        return List.of("Office", "Den");
+      };
+
+  @AfterEach
+  void clearSecurityContext() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void respond_shouldReturnBodyWithTheVersionAsItsOnlyValidator() {
+    ResponseEntity<List<String>> response = get(null);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).containsExactly("Office", "Den");
+    assertThat(response.getHeaders().getETag()).startsWith("W/\"bookcases-");
+    assertThat(response.getHeaders().getLastModified()).isEqualTo(-1);
+  }
+
+  @Test
+  void respond_shouldAnswerNotModifiedWithoutLoadingWhenTagMatches() {
+    String eTag = get(null).getHeaders().getETag();
+
+    ResponseEntity<List<String>> response = get(eTag);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(response.getBody()).isNull();
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void respond_shouldServeCachedBodyUntilTheResourceChanges() {
+    get(null);
+    get(null);
+    assertThat(loads).hasValue(1);
+
+    versions.bump(ResourceVersions.BOOKCASES);
+    get(null);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void respond_shouldReturnFreshBodyOnceTheTagIsStale() {
+    String eTag = get(null).getHeaders().getETag();
+
+    versions.bump(ResourceVersions.BOOKCASES);
+    ResponseEntity<List<String>> response = get(eTag);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getETag()).isNotEqualTo(eTag);
+  }
+
+  @Test
+  void respond_shouldSeeAChangeRelayedOnAnotherInstance() {
+    String eTag = get(null).getHeaders().getETag();
+
+    new ResourceVersions(changeCounters).bump(ResourceVersions.BOOKCASES);
+    ResponseEntity<List<String>> response = get(eTag);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void respond_shouldIgnoreChangesToOtherResources() {
+    String eTag = get(null).getHeaders().getETag();
+
+    versions.bump(ResourceVersions.BOOKS);
+
+    assertThat(get(eTag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+  }
+
+  @Test
+  void respond_shouldKeepCacheEntriesAndTagsPerUser() {
+    authenticateAs("alice");
+    String aliceTag = get(null).getHeaders().getETag();
+
+    authenticateAs("bob");
+    ResponseEntity<List<String>> bobResponse = get(aliceTag);
+
+    assertThat(bobResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(bobResponse.getHeaders().getETag()).isNotEqualTo(aliceTag);
+    assertThat(loads).hasValue(2);
+  }
+
+  private ResponseEntity<List<String>> get(String ifNoneMatch) {
+    MockHttpServletRequest request =
+        new MockHttpServletRequest("GET", "/api/v1/bookcase/locations");
+    if (ifNoneMatch != null) {
+      request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+    }
+    ServletWebRequest webRequest = new ServletWebRequest(request, new MockHttpServletResponse());
+    return conditionalGet.respond(webRequest, ResourceVersions.BOOKCASES, "locations", loader);
+  }
+
+  private static void authenticateAs(String username) {
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+  }
+}
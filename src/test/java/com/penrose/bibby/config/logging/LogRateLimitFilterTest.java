@@ -0,0 +1,101 @@
+package com.penrose.bibby.config.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LogRateLimitFilterTest {
+
+  private final LoggerContext context = new LoggerContext();
+  private final LogRateLimitFilter filter = new LogRateLimitFilter();
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+  @BeforeEach
+  void setUp() {
+    filter.addLimit("com.acme=3/0.001");
+    filter.addLimit("com.acme.web=2/0.001");
+    filter.start();
+    context.addTurboFilter(filter);
+    appender.setContext(context);
+    appender.start();
+    Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+    root.setLevel(Level.INFO);
+    root.addAppender(appender);
+  }
+
+  @Test
+  void decide_shouldDropInfoBeyondTheBurstAndCountTheDrops() {
+    Logger logger = context.getLogger("com.acme.service.BookService");
+
+    for (int i = 0; i < 5; i++) {
+      logger.info("event {}", i);
+    }
+
+    assertThat(appender.list).hasSize(3);
+    assertThat(filter.dropped()).containsEntry("com.acme", 2L);
+  }
+
+  @Test
+  void decide_shouldApplyTheLongestMatchingPrefix() {
+    Logger web = context.getLogger("com.acme.web.BookController");
+    Logger service = context.getLogger("com.acme.service.BookService");
+
+    for (int i = 0; i < 5; i++) {
+      web.info("web {}", i);
+    }
+    service.info("service");
+
+    assertThat(appender.list).hasSize(3);
+    assertThat(filter.dropped()).containsEntry("com.acme.web", 3L).containsEntry("com.acme", 0L);
+  }
+
+  @Test
+  void decide_shouldNeverLimitWarningsOrErrors() {
+    Logger logger = context.getLogger("com.acme.service.BookService");
+
+    for (int i = 0; i < 5; i++) {
+      logger.warn("warn {}", i);
+      logger.error("error {}", i);
+    }
+
+    assertThat(appender.list).hasSize(10);
+  }
+
+  @Test
+  void decide_shouldLeaveUnmatchedLoggersAlone() {
+    Logger logger = context.getLogger("org.example.Other");
+
+    for (int i = 0; i < 10; i++) {
+      logger.info("event {}", i);
+    }
+
+    assertThat(appender.list).hasSize(10);
+  }
+
+  @Test
+  void decide_shouldNotSpendTokensOnDisabledLevels() {
+    Logger logger = context.getLogger("com.acme.service.BookService");
+
+    for (int i = 0; i < 10; i++) {
+      logger.debug("debug {}", i);
+    }
+    for (int i = 0; i < 3; i++) {
+      logger.info("event {}", i);
+    }
+
+    assertThat(appender.list).hasSize(3);
+  }
+
+  @Test
+  void addLimit_shouldRejectAMalformedSpec() {
+    assertThatThrownBy(() -> filter.addLimit("com.acme=100"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
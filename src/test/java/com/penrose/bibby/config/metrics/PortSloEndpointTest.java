@@ -0,0 +1,88 @@
+package com.penrose.bibby.config.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties;
+import org.springframework.boot.actuate.autoconfigure.metrics.ServiceLevelObjectiveBoundary;
+
+class PortSloEndpointTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  @Test
+  void report_shouldGiveTheShareOfCallsWithinEachThreshold() {
+    Timer lookups = timer("outbound", "IsbnLookupService", "lookupBook", "none");
+    lookups.record(Duration.ofMillis(20));
+    lookups.record(Duration.ofMillis(80));
+    lookups.record(Duration.ofMillis(300));
+    lookups.record(Duration.ofMillis(400));
+
+    PortSloEndpoint.SloReport report = endpoint("50ms", "1s").report();
+
+    assertThat(report.thresholds()).containsExactly("50ms", "1s");
+    PortSloEndpoint.PortLatency latency = report.ports().get(0);
+    assertThat(latency.port()).isEqualTo("IsbnLookupService");
+    assertThat(latency.count()).isEqualTo(4);
+    assertThat(latency.withinThreshold()).containsEntry("50ms", 0.25).containsEntry("1s", 1.0);
+  }
+
+  @Test
+  void report_shouldMergeOutcomesAndListTheSlowestPortFirst() {
+    timer("inbound", "BookFacade", "findBookById", "none").record(Duration.ofMillis(5));
+    timer("inbound", "ShelfQueryFacade", "isFull", "none").record(Duration.ofMillis(30));
+    timer("inbound", "ShelfQueryFacade", "isFull", "IllegalStateException")
+        .record(Duration.ofMillis(30));
+
+    PortSloEndpoint.SloReport report = endpoint("10ms").report();
+
+    assertThat(report.ports())
+        .extracting(PortSloEndpoint.PortLatency::port)
+        .containsExactly("ShelfQueryFacade", "BookFacade");
+    PortSloEndpoint.PortLatency shelf = report.ports().get(0);
+    assertThat(shelf.count()).isEqualTo(2);
+    assertThat(shelf.errors()).isEqualTo(1);
+    assertThat(shelf.withinThreshold()).containsEntry("10ms", 0.0);
+  }
+
+  @Test
+  void report_shouldGiveOnlyTotalsWithoutThresholds() {
+    timer("inbound", "BookFacade", "findBookById", "none").record(Duration.ofMillis(5));
+
+    PortSloEndpoint.SloReport report = endpoint().report();
+
+    assertThat(report.thresholds()).isEmpty();
+    assertThat(report.ports().get(0).count()).isEqualTo(1);
+    assertThat(report.ports().get(0).withinThreshold()).isEmpty();
+  }
+
+  // Registered as Boot would from management.metrics.distribution.slo
+  private Timer timer(String direction, String port, String method, String exception) {
+    return Timer.builder(PortTimingAspect.TIMER)
+        .tag("direction", direction)
+        .tag("port", port)
+        .tag("method", method)
+        .tag("exception", exception)
+        .serviceLevelObjectives(Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofSeconds(1))
+        .register(registry);
+  }
+
+  private PortSloEndpoint endpoint(String... thresholds) {
+    MetricsProperties properties = new MetricsProperties();
+    if (thresholds.length > 0) {
+      ServiceLevelObjectiveBoundary[] boundaries =
+          new ServiceLevelObjectiveBoundary[thresholds.length];
+      for (int i = 0; i < thresholds.length; i++) {
+        boundaries[i] = ServiceLevelObjectiveBoundary.valueOf(thresholds[i]);
+      }
+      properties.getDistribution().getSlo().put("bibby.port", boundaries);
+    }
+    StaticListableBeanFactory beans = new StaticListableBeanFactory();
+    beans.addBean("metricsProperties", properties);
+    return new PortSloEndpoint(registry, beans.getBeanProvider(MetricsProperties.class));
+  }
+}
@@ -0,0 +1,92 @@
+package com.penrose.bibby.config.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.penrose.bibby.library.cataloging.author.core.ports.inbound.AuthorFacade;
+import com.penrose.bibby.library.cataloging.book.core.application.IsbnLookupService;
+import com.penrose.bibby.library.cataloging.book.infrastructure.external.GoogleBooksResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import reactor.core.publisher.Mono;
+
+class PortTimingAspectTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final PortTimingAspect aspect = new PortTimingAspect(registry);
+
+  @Test
+  void timeInbound_shouldTimeFacadeCallsByPortAndMethod() {
+    AuthorFacade authors = proxy(mock(AuthorFacade.class));
+
+    authors.findByBookId(1L);
+    authors.findByBookId(2L);
+
+    assertThat(
+            registry
+                .get(PortTimingAspect.TIMER)
+                .tags("direction", "inbound", "port", "AuthorFacade")
+                .tags("method", "findByBookId", "exception", "none")
+                .timer()
+                .count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void timeInbound_shouldTagFailedCallsWithTheException() {
+    AuthorFacade target = mock(AuthorFacade.class);
+    when(target.findOrCreateAll(List.of())).thenThrow(new IllegalStateException("boom"));
+    AuthorFacade authors = proxy(target);
+
+    assertThatThrownBy(() -> authors.findOrCreateAll(List.of()))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(
+            registry
+                .get(PortTimingAspect.TIMER)
+                .tags("method", "findOrCreateAll", "exception", "IllegalStateException")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void timeOutbound_shouldTimeAMonoWhenItCompletesNotWhenItIsReturned() {
+    IsbnLookupService target = mock(IsbnLookupService.class);
+    when(target.lookupBook("123")).thenReturn(Mono.just(new GoogleBooksResponse(List.of())));
+    IsbnLookupService lookups = proxy(target);
+
+    Mono<GoogleBooksResponse> response = lookups.lookupBook("123");
+
+    assertThat(registry.find(PortTimingAspect.TIMER).timers()).allMatch(t -> t.count() == 0);
+    response.block();
+    assertThat(
+            registry
+                .get(PortTimingAspect.TIMER)
+                .tags("direction", "outbound", "method", "lookupBook")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void timeInbound_shouldIgnoreMethodsOutsideTheFacade() {
+    AuthorFacade authors = proxy(mock(AuthorFacade.class));
+
+    authors.toString();
+
+    assertThat(registry.find(PortTimingAspect.TIMER).timers()).isEmpty();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T proxy(T target) {
+    AspectJProxyFactory factory = new AspectJProxyFactory(target);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(aspect);
+    return (T) factory.getProxy();
+  }
+}
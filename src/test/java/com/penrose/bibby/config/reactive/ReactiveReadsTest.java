@@ -0,0 +1,86 @@
+package com.penrose.bibby.config.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+class ReactiveReadsTest {
+
+  private final ReactiveReads reactiveReads = new ReactiveReads(1, 1);
+
+  @AfterEach
+  void tearDown() {
+    reactiveReads.destroy();
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void mono_shouldRunOffTheCallingThread() {
+    Thread caller = Thread.currentThread();
+
+    Thread reader = reactiveReads.mono(Thread::currentThread).block();
+
+    assertThat(reader).isNotSameAs(caller);
+    assertThat(reader.getName()).startsWith("reactive-read");
+  }
+
+  @Test
+  void mono_shouldRunWithTheCallersSecurityContextAndClearItAfterwards() {
+    Authentication alice =
+        UsernamePasswordAuthenticationToken.authenticated("alice", null, List.of());
+    SecurityContextHolder.getContext().setAuthentication(alice);
+
+    Mono<Authentication> read =
+        reactiveReads.mono(() -> SecurityContextHolder.getContext().getAuthentication());
+    SecurityContextHolder.clearContext();
+
+    assertThat(read.block()).isSameAs(alice);
+    assertThat(
+            reactiveReads
+                .mono(() -> SecurityContextHolder.getContext().getAuthentication())
+                .blockOptional())
+        .isEmpty();
+  }
+
+  @Test
+  void flux_shouldEmitTheReturnedElements() {
+    assertThat(reactiveReads.flux(() -> List.of(1, 2, 3)).collectList().block())
+        .containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void mono_shouldAnswer503OnceTheQueueIsFull() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    reactiveReads
+        .mono(
+            () -> {
+              started.countDown();
+              return release.await(5, TimeUnit.SECONDS);
+            })
+        .subscribe();
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    reactiveReads.mono(() -> "queued").subscribe();
+
+    try {
+      assertThatThrownBy(() -> reactiveReads.mono(() -> "refused").block(Duration.ofSeconds(5)))
+          .isInstanceOfSatisfying(
+              ResponseStatusException.class,
+              e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    } finally {
+      release.countDown();
+    }
+  }
+}
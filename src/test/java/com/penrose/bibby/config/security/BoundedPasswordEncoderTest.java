@@ -0,0 +1,104 @@
+package com.penrose.bibby.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private BoundedPasswordEncoder encoder;
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    if (encoder != null) {
+      encoder.destroy();
+    }
+  }
+
+  @Test
+  void encode_shouldProduceHashesThatMatch() {
+    encoder = bounded(new BCryptPasswordEncoder(4), 2, 2, Duration.ofSeconds(10));
+
+    String hash = encoder.encode("secret");
+
+    assertThat(encoder.matches("secret", hash)).isTrue();
+    assertThat(encoder.matches("wrong", hash)).isFalse();
+    assertThat(meterRegistry.get("bibby.password.hash").tag("operation", "matches").timer().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void upgradeEncoding_shouldFlagHashesWeakerThanTheConfiguredStrength() {
+    encoder = bounded(new BCryptPasswordEncoder(5), 1, 1, Duration.ofSeconds(10));
+
+    assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+    assertThat(encoder.upgradeEncoding(encoder.encode("secret"))).isFalse();
+  }
+
+  @Test
+  void encode_shouldRejectOnceThePoolAndQueueAreFull() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    encoder = bounded(blockingEncoder(started), 1, 1, Duration.ofSeconds(10));
+    CompletableFuture.runAsync(() -> encoder.encode("running"));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture.runAsync(() -> encoder.encode("queued"));
+    waitForQueueDepth(1);
+
+    assertThatThrownBy(() -> encoder.encode("rejected"))
+        .isInstanceOf(PasswordHashingBusyException.class);
+    assertThat(meterRegistry.get("bibby.password.hash.rejected").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void encode_shouldGiveUpAfterMaxWait() throws Exception {
+    encoder = bounded(blockingEncoder(new CountDownLatch(1)), 1, 1, Duration.ofMillis(50));
+
+    assertThatThrownBy(() -> encoder.encode("slow"))
+        .isInstanceOf(PasswordHashingBusyException.class);
+  }
+
+  private BoundedPasswordEncoder bounded(
+      PasswordEncoder delegate, int threads, int queueCapacity, Duration maxWait) {
+    return new BoundedPasswordEncoder(delegate, threads, queueCapacity, maxWait, meterRegistry);
+  }
+
+  private PasswordEncoder blockingEncoder(CountDownLatch started) {
+    return new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return rawPassword.toString();
+      }
+
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return encode(rawPassword).equals(encodedPassword);
+      }
+    };
+  }
+
+  private void waitForQueueDepth(double depth) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (meterRegistry.get("bibby.password.hash.queue").gauge().value() < depth
+        && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+}
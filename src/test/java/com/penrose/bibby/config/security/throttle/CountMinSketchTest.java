@@ -0,0 +1,54 @@
+package com.penrose.bibby.config.security.throttle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CountMinSketchTest {
+
+  @Test
+  void estimate_shouldNeverUndercount() {
+    CountMinSketch sketch = new CountMinSketch(4, 64, 1L);
+    for (int key = 0; key < 1_000; key++) {
+      for (int i = 0; i <= key % 5; i++) {
+        sketch.increment("user" + key);
+      }
+    }
+
+    for (int key = 0; key < 1_000; key++) {
+      assertThat(sketch.estimate("user" + key)).isGreaterThanOrEqualTo(key % 5 + 1);
+    }
+  }
+
+  @Test
+  void estimate_shouldBeExactForHeavyKeysWhenTheSketchIsWideEnough() {
+    CountMinSketch sketch = new CountMinSketch(4, 4096, 7L);
+    for (int i = 0; i < 25; i++) {
+      sketch.increment("attacker");
+    }
+    for (int key = 0; key < 500; key++) {
+      sketch.increment("user" + key);
+    }
+
+    assertThat(sketch.estimate("attacker")).isEqualTo(25);
+    assertThat(sketch.estimate("never-seen")).isLessThanOrEqualTo(1);
+  }
+
+  @Test
+  void halve_shouldAgeEveryCount() {
+    CountMinSketch sketch = new CountMinSketch(2, 16, 3L);
+    for (int i = 0; i < 9; i++) {
+      sketch.increment("key");
+    }
+
+    sketch.halve();
+
+    assertThat(sketch.estimate("key")).isEqualTo(4);
+  }
+
+  @Test
+  void width_shouldRoundUpToAPowerOfTwo() {
+    assertThat(new CountMinSketch(1, 1000, 0L).width()).isEqualTo(1024);
+    assertThat(new CountMinSketch(1, 1024, 0L).width()).isEqualTo(1024);
+  }
+}
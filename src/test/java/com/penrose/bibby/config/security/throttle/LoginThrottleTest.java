@@ -0,0 +1,81 @@
+package com.penrose.bibby.config.security.throttle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LoginThrottleTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final LoginThrottle throttle =
+      new LoginThrottle(
+          new CountMinSketch(4, 1024, 11L),
+          Duration.ofMinutes(5),
+          3,
+          5,
+          2,
+          meterRegistry,
+          clock::get);
+
+  @Test
+  void retryAfterSeconds_shouldBlockAnAccountAfterTooManyFailures() {
+    for (int i = 0; i < 3; i++) {
+      assertThat(throttle.retryAfterSeconds("Reader@Example.com", "10.0.0." + i)).isZero();
+      throttle.recordFailure("Reader@Example.com", "10.0.0." + i);
+    }
+
+    assertThat(throttle.retryAfterSeconds("reader@example.com", "10.0.0.99")).isEqualTo(300);
+    assertThat(throttle.retryAfterSeconds("other@example.com", "10.0.0.99")).isZero();
+  }
+
+  @Test
+  void retryAfterSeconds_shouldBlockAnAddressSprayingManyAccounts() {
+    for (int i = 0; i < 5; i++) {
+      throttle.recordFailure("user" + i + "@example.com", "203.0.113.5");
+    }
+
+    assertThat(throttle.retryAfterSeconds("fresh@example.com", "203.0.113.5")).isPositive();
+    assertThat(throttle.retryAfterSeconds("fresh@example.com", "198.51.100.7")).isZero();
+  }
+
+  @Test
+  void retryAfterSeconds_shouldLetKeysBackInOnceCountsDecay() {
+    for (int i = 0; i < 3; i++) {
+      throttle.recordFailure("reader@example.com", "10.0.0.1");
+    }
+
+    clock.addAndGet(Duration.ofMinutes(5).toNanos());
+
+    assertThat(throttle.retryAfterSeconds("reader@example.com", "10.0.0.1")).isZero();
+  }
+
+  @Test
+  void topOffenders_shouldTrackTheHeaviestKeysAsMetricsWithoutRawUsernames() {
+    for (int i = 0; i < 4; i++) {
+      throttle.recordFailure("victim@example.com", "203.0.113.5");
+    }
+    throttle.recordFailure("typo@example.com", "10.0.0.1");
+
+    assertThat(throttle.topOffenders())
+        .extracting(Map.Entry::getKey)
+        .containsExactlyInAnyOrder(
+            new LoginThrottle.Offender("account", "victim@example.com"),
+            new LoginThrottle.Offender("address", "203.0.113.5"));
+    assertThat(
+            meterRegistry
+                .get("bibby.login.failures.top")
+                .tags("kind", "account", "key", "ffbe8cff4f9f")
+                .gauge()
+                .value())
+        .isEqualTo(4);
+    assertThat(
+            meterRegistry.find("bibby.login.failures.top").tag("key", "victim@example.com").gauge())
+        .isNull();
+    assertThat(meterRegistry.get("bibby.login.failures").counter().count()).isEqualTo(5);
+  }
+}
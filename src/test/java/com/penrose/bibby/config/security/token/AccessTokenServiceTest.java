@@ -0,0 +1,106 @@
+package com.penrose.bibby.config.security.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.penrose.bibby.identity.infrastructure.AppUserImpl;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class AccessTokenServiceTest {
+
+  private static final String SECRET = "0123456789abcdef0123456789abcdef";
+  private static final Instant NOW = Instant.parse("2026-03-01T10:00:00Z");
+
+  private final AppUserImpl user = AppUserImpl.fromToken(42L, "reader@example.com");
+
+  @Test
+  void verifyAccessToken_shouldRestoreThePrincipal() {
+    AccessTokenService service = serviceAt(NOW);
+    TokenPair tokens = service.issue(user);
+
+    Optional<AppUserImpl> principal = service.verifyAccessToken(tokens.accessToken());
+
+    assertThat(principal).isPresent();
+    assertThat(principal.get().getAppUserId()).isEqualTo(42L);
+    assertThat(principal.get().getUsername()).isEqualTo("reader@example.com");
+    assertThat(tokens.tokenType()).isEqualTo("Bearer");
+    assertThat(tokens.expiresIn()).isEqualTo(900);
+  }
+
+  @Test
+  void verifyAccessToken_shouldRejectExpiredTokens() {
+    String token = serviceAt(NOW).issue(user).accessToken();
+
+    assertThat(serviceAt(NOW.plus(Duration.ofMinutes(15))).verifyAccessToken(token)).isEmpty();
+  }
+
+  @Test
+  void verifyAccessToken_shouldRejectTamperedTokens() {
+    AccessTokenService service = serviceAt(NOW);
+    String token = service.issue(user).accessToken();
+    String[] parts = token.split("\\.");
+    String forged =
+        parts[0]
+            + "."
+            + Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(
+                    "{\"sub\":\"1\",\"email\":\"x\",\"typ\":\"access\",\"exp\":9999999999}"
+                        .getBytes())
+            + "."
+            + parts[2];
+
+    assertThat(service.verifyAccessToken(forged)).isEmpty();
+    assertThat(service.verifyAccessToken("not-a-token")).isEmpty();
+  }
+
+  @Test
+  void verifyAccessToken_shouldRejectTokensSignedWithAnotherSecret() {
+    String token =
+        new AccessTokenService(
+                new ObjectMapper(),
+                "another-secret-another-secret-xx",
+                Duration.ofMinutes(15),
+                Duration.ofDays(7),
+                Clock.fixed(NOW, ZoneOffset.UTC))
+            .issue(user)
+            .accessToken();
+
+    assertThat(serviceAt(NOW).verifyAccessToken(token)).isEmpty();
+  }
+
+  @Test
+  void tokens_shouldOnlyBeAcceptedForTheirOwnPurpose() {
+    AccessTokenService service = serviceAt(NOW);
+    TokenPair tokens = service.issue(user);
+
+    assertThat(service.verifyAccessToken(tokens.refreshToken())).isEmpty();
+    assertThat(service.verifyRefreshToken(tokens.accessToken())).isEmpty();
+    assertThat(service.verifyRefreshToken(tokens.refreshToken())).isPresent();
+  }
+
+  @Test
+  void constructor_shouldRequireALongEnoughSecret() {
+    assertThatThrownBy(
+            () ->
+                new AccessTokenService(
+                    new ObjectMapper(), "short", Duration.ofMinutes(15), Duration.ofDays(7)))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static AccessTokenService serviceAt(Instant instant) {
+    return new AccessTokenService(
+        new ObjectMapper(),
+        SECRET,
+        Duration.ofMinutes(15),
+        Duration.ofDays(7),
+        Clock.fixed(instant, ZoneOffset.UTC));
+  }
+}
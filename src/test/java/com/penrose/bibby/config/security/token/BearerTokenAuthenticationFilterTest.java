@@ -0,0 +1,62 @@
+package com.penrose.bibby.config.security.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.penrose.bibby.identity.infrastructure.AppUserImpl;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class BearerTokenAuthenticationFilterTest {
+
+  private final AccessTokenService tokens =
+      new AccessTokenService(
+          new ObjectMapper(),
+          "0123456789abcdef0123456789abcdef",
+          Duration.ofMinutes(15),
+          Duration.ofDays(7));
+  private final BearerTokenAuthenticationFilter filter =
+      new BearerTokenAuthenticationFilter(tokens);
+
+  @AfterEach
+  void clearSecurityContext() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void doFilter_shouldAuthenticateAValidAccessToken() throws Exception {
+    String token = tokens.issue(AppUserImpl.fromToken(7L, "reader@example.com")).accessToken();
+
+    Authentication authentication = filterWith("Bearer " + token);
+
+    assertThat(authentication).isNotNull();
+    assertThat(authentication.getPrincipal())
+        .isInstanceOfSatisfying(
+            AppUserImpl.class, user -> assertThat(user.getAppUserId()).isEqualTo(7L));
+  }
+
+  @Test
+  void doFilter_shouldLeaveTheRequestAnonymousForABadToken() throws Exception {
+    assertThat(filterWith("Bearer garbage")).isNull();
+    assertThat(filterWith(null)).isNull();
+  }
+
+  private Authentication filterWith(String authorization) throws Exception {
+    SecurityContextHolder.clearContext();
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/bookcase/all");
+    if (authorization != null) {
+      request.addHeader("Authorization", authorization);
+    }
+    Authentication[] seen = new Authentication[1];
+    filter.doFilter(
+        request,
+        new MockHttpServletResponse(),
+        (req, res) -> seen[0] = SecurityContextHolder.getContext().getAuthentication());
+    return seen[0];
+  }
+}
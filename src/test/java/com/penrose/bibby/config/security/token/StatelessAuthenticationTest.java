@@ -0,0 +1,66 @@
+package com.penrose.bibby.config.security.token;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(
+    properties = {
+      "bibby.security.auth-mode=stateless",
+      "bibby.security.token.secret=0123456789abcdef0123456789abcdef",
+      "bibby.security.password.bcrypt-strength=4"
+    })
+@AutoConfigureMockMvc
+class StatelessAuthenticationTest {
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private ObjectMapper objectMapper;
+
+  @Test
+  void login_shouldIssueTokensThatAuthenticateWithoutASession() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/user/registration/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"stateless@example.com\",\"password\":\"secret\"}"))
+        .andExpect(status().isCreated());
+
+    String body =
+        mockMvc
+            .perform(
+                post("/login")
+                    .param("username", "stateless@example.com")
+                    .param("password", "secret"))
+            .andExpect(status().isOk())
+            .andExpect(request().sessionAttributeDoesNotExist("SPRING_SECURITY_CONTEXT"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    JsonNode tokens = objectMapper.readTree(body);
+
+    mockMvc.perform(get("/api/v1/bookcase/all")).andExpect(status().isUnauthorized());
+    mockMvc
+        .perform(
+            get("/api/v1/bookcase/all")
+                .header("Authorization", "Bearer " + tokens.path("accessToken").asText()))
+        .andExpect(status().isOk());
+    mockMvc
+        .perform(
+            post("/api/v1/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + tokens.path("refreshToken").asText() + "\"}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.accessToken").isNotEmpty());
+  }
+}
@@ -0,0 +1,42 @@
+package com.penrose.bibby.config.sql;
+
+import java.util.function.Supplier;
+
+/**
+ * Test helper that fails when a piece of work executes more SQL statements than allowed, to catch
+ * queries repeated per row (N+1) before they reach production.
+ *
+ * <pre>{@code
+ * List<BookDTO> books = QueryBudget.atMost(1, () -> adaptor.getBooksByShelfId(shelfId));
+ * }</pre>
+ *
+ * <p>Requires {@link StatementCountingConfig} in the test context so Hibernate reports statements.
+ */
+public final class QueryBudget {
+
+  private QueryBudget() {}
+
+  public static <T> T atMost(long maxStatements, Supplier<T> work) {
+    try (StatementCounter.Scope scope = StatementCounter.open()) {
+      T result = work.get();
+      if (scope.count() > maxStatements) {
+        throw new AssertionError(
+            "Expected at most "
+                + maxStatements
+                + " SQL statements but "
+                + scope.count()
+                + " were executed");
+      }
+      return result;
+    }
+  }
+
+  public static void atMost(long maxStatements, Runnable work) {
+    atMost(
+        maxStatements,
+        () -> {
+          work.run();
+          return null;
+        });
+  }
+}
@@ -0,0 +1,68 @@
+package com.penrose.bibby.config.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class StatementCounterTest {
+
+  private final StatementCounter inspector = new StatementCounter();
+
+  @Test
+  void inspect_shouldCountOnlyWhileScopeIsOpen() {
+    inspector.inspect("select 1");
+
+    try (StatementCounter.Scope scope = StatementCounter.open()) {
+      inspector.inspect("select 1");
+      inspector.inspect("select 2");
+      assertThat(scope.count()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void inspect_shouldCountTowardsEveryOpenScope() {
+    try (StatementCounter.Scope outer = StatementCounter.open()) {
+      inspector.inspect("select 1");
+      try (StatementCounter.Scope inner = StatementCounter.open()) {
+        inspector.inspect("select 2");
+        assertThat(inner.count()).isEqualTo(1);
+      }
+      inspector.inspect("select 3");
+      assertThat(outer.count()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  void inspect_shouldReturnStatementUnchanged() {
+    assertThat(inspector.inspect("select * from books")).isEqualTo("select * from books");
+  }
+
+  @Test
+  void queryBudget_shouldFailWhenBudgetIsExceeded() {
+    assertThatThrownBy(
+            () ->
+                QueryBudget.atMost(
+                    1,
+                    () -> {
+                      inspector.inspect("select 1");
+                      inspector.inspect("select 2");
+                    }))
+        .isInstanceOf(AssertionError.class)
+        .hasMessageContaining("at most 1")
+        .hasMessageContaining("2 were executed");
+  }
+
+  @Test
+  void queryBudget_shouldReturnResultWithinBudget() {
+    String result =
+        QueryBudget.atMost(
+            1,
+            () -> {
+              inspector.inspect("select 1");
+              return "ok";
+            });
+
+    assertThat(result).isEqualTo("ok");
+  }
+}
@@ -0,0 +1,90 @@
+package com.penrose.bibby.identity.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.penrose.bibby.identity.infrastructure.AppUserImpl;
+import com.penrose.bibby.identity.infrastructure.entity.AppUserEntity;
+import com.penrose.bibby.identity.infrastructure.repository.UserRegistrationJpaRepository;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class AppUserDetailsServiceImplTest {
+
+  @Mock private UserRegistrationJpaRepository userRegistrationJpaRepository;
+
+  private final UserDetailsCache userDetailsCache =
+      new UserDetailsCache(true, 100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+
+  @Test
+  void loadUserByUsername_shouldQueryTheDatabaseOncePerUser() {
+    when(userRegistrationJpaRepository.findByEmail("reader@example.com"))
+        .thenReturn(new AppUserEntity(7L, "hash", "reader@example.com", null, null));
+    AppUserDetailsServiceImpl service = service();
+
+    UserDetails first = service.loadUserByUsername("reader@example.com");
+    UserDetails second = service.loadUserByUsername("reader@example.com");
+
+    verify(userRegistrationJpaRepository, times(1)).findByEmail("reader@example.com");
+    assertThat(((AppUserImpl) second).getAppUserId()).isEqualTo(7L);
+    assertThat(second.getPassword()).isEqualTo("hash");
+    assertThat(second).isNotSameAs(first);
+  }
+
+  @Test
+  void loadUserByUsername_shouldOnlyServeExactEmailMatchesFromTheCache() {
+    when(userRegistrationJpaRepository.findByEmail("reader@example.com"))
+        .thenReturn(new AppUserEntity(7L, "hash", "reader@example.com", null, null));
+    AppUserDetailsServiceImpl service = service();
+    service.loadUserByUsername("reader@example.com");
+
+    assertThatThrownBy(() -> service.loadUserByUsername("Reader@Example.com"))
+        .isInstanceOf(UsernameNotFoundException.class);
+  }
+
+  @Test
+  void loadUserByUsername_shouldRememberUnknownUsersUntilTheyRegister() {
+    AppUserDetailsServiceImpl service = service();
+    assertThatThrownBy(() -> service.loadUserByUsername("new@example.com"))
+        .isInstanceOf(UsernameNotFoundException.class);
+    assertThatThrownBy(() -> service.loadUserByUsername("new@example.com"))
+        .isInstanceOf(UsernameNotFoundException.class);
+    verify(userRegistrationJpaRepository, times(1)).findByEmail("new@example.com");
+
+    when(userRegistrationJpaRepository.findByEmail("new@example.com"))
+        .thenReturn(new AppUserEntity(8L, "hash", "new@example.com", null, null));
+    userDetailsCache.evict("new@example.com");
+
+    assertThat(service.loadUserByUsername("new@example.com").getUsername())
+        .isEqualTo("new@example.com");
+  }
+
+  @Test
+  void updatePassword_shouldEvictTheCachedUser() {
+    AppUserEntity stored = new AppUserEntity(7L, "old-hash", "reader@example.com", null, null);
+    when(userRegistrationJpaRepository.findByEmail("reader@example.com")).thenReturn(stored);
+    when(userRegistrationJpaRepository.save(any(AppUserEntity.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    AppUserDetailsServiceImpl service = service();
+    UserDetails user = service.loadUserByUsername("reader@example.com");
+
+    service.updatePassword(user, "new-hash");
+
+    assertThat(service.loadUserByUsername("reader@example.com").getPassword())
+        .isEqualTo("new-hash");
+  }
+
+  private AppUserDetailsServiceImpl service() {
+    return new AppUserDetailsServiceImpl(userRegistrationJpaRepository, userDetailsCache);
+  }
+}
@@ -91,6 +91,14 @@ class AuthorNameTest {
     assertEquals("G R R Martin", normalized);
   }
 
+  @Test
+  void normalizedKey_shouldIgnoreCaseWhitespaceAndPeriods() {
+    assertEquals("jrr tolkien", AuthorName.normalizedKey("J.R.R.", "  Tolkien"));
+    assertEquals(
+        AuthorName.normalizedKey("jrr", "TOLKIEN"), AuthorName.normalizedKey("J.R.R.", "Tolkien"));
+    assertEquals("plato", AuthorName.normalizedKey("Plato", null));
+  }
+
   @Test
   void toString_shouldReturnNormalizedAuthorName() {
     AuthorName name = new AuthorName("  Chinua   Achebe. ");
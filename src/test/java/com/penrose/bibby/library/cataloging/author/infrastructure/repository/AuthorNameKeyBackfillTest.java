@@ -0,0 +1,54 @@
+package com.penrose.bibby.library.cataloging.author.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.penrose.bibby.config.tenancy.TenancyConfig;
+import com.penrose.bibby.library.cataloging.author.infrastructure.entity.AuthorEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Runs outside a test transaction so each backfill batch commits as it does in production. */
+@DataJpaTest
+@Import({TenancyConfig.class, AuthorNameKeyBackfill.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuthorNameKeyBackfillTest {
+
+  @Autowired private AuthorJpaRepository authorJpaRepository;
+  @Autowired private AuthorNameKeyBackfill backfill;
+
+  @AfterEach
+  void tearDown() {
+    authorJpaRepository.deleteAll();
+  }
+
+  @Test
+  void backfill_shouldKeyTheOldestAuthorOfEachNameWithTheSameNormalisation() {
+    Long tolkien = save("J.R.R. ", "Tolkien", null);
+    Long namesake = save("jrr", "TOLKIEN", null);
+    Long herbert = save("Frank", "Herbert", "frank herbert");
+    Long keylessHerbert = save("Frank", "Herbert.", null);
+
+    assertThat(backfill.backfill()).isEqualTo(1);
+
+    assertThat(keyOf(tolkien)).isEqualTo("jrr tolkien");
+    assertThat(keyOf(namesake)).isNull();
+    assertThat(keyOf(herbert)).isEqualTo("frank herbert");
+    assertThat(keyOf(keylessHerbert)).isNull();
+    assertThat(backfill.backfill()).isZero();
+  }
+
+  private Long save(String firstName, String lastName, String key) {
+    AuthorEntity author = new AuthorEntity(firstName, lastName);
+    author.setNormalizedName(key);
+    return authorJpaRepository.save(author).getAuthorId();
+  }
+
+  private String keyOf(Long authorId) {
+    return authorJpaRepository.findById(authorId).orElseThrow().getNormalizedName();
+  }
+}
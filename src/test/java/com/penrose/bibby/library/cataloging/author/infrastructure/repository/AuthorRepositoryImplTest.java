@@ -0,0 +1,224 @@
+package com.penrose.bibby.library.cataloging.author.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.penrose.bibby.library.cataloging.author.core.domain.Author;
+import com.penrose.bibby.library.cataloging.author.infrastructure.entity.AuthorEntity;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorRepositoryImplTest {
+
+  @Mock private AuthorJpaRepository authorJpaRepository;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  private AuthorRepositoryImpl authorRepository;
+
+  private final AtomicLong ids = new AtomicLong(100);
+
+  @BeforeEach
+  void setUp() {
+    lenient()
+        .when(transactionManager.getTransaction(any()))
+        .thenReturn(mock(TransactionStatus.class));
+    authorRepository =
+        new AuthorRepositoryImpl(authorJpaRepository, transactionManager, eventPublisher);
+  }
+
+  private static AuthorEntity author(Long id, String first, String last, String key) {
+    AuthorEntity entity = new AuthorEntity(first, last);
+    entity.setAuthorId(id);
+    entity.setNormalizedName(key);
+    return entity;
+  }
+
+  private List<AuthorEntity> assignIds(List<AuthorEntity> entities) {
+    entities.forEach(entity -> entity.setAuthorId(ids.getAndIncrement()));
+    return entities;
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void findOrCreateAll_shouldReuseExistingAndInsertMissingInOneBatch() {
+    when(authorJpaRepository.findAllByNormalizedNameInOrNormalizedNameIsNull(any()))
+        .thenReturn(List.of(author(7L, "Frank", "Herbert", "frank herbert")));
+    when(authorJpaRepository.saveAllAndFlush(anyList()))
+        .thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+    List<Author> authors =
+        authorRepository.findOrCreateAll(
+            List.of("Frank Herbert", "Ursula K. Le Guin", "FRANK  HERBERT", " "));
+
+    assertThat(authors).hasSize(3);
+    assertThat(authors.get(0).getAuthorId().id()).isEqualTo(7L);
+    assertThat(authors.get(1).getAuthorId().id()).isEqualTo(100L);
+    assertThat(authors.get(2).getAuthorId().id()).isEqualTo(7L);
+
+    ArgumentCaptor<List<AuthorEntity>> inserted = ArgumentCaptor.forClass(List.class);
+    verify(authorJpaRepository, times(1)).saveAllAndFlush(inserted.capture());
+    assertThat(inserted.getValue())
+        .singleElement()
+        .satisfies(
+            entity -> {
+              assertThat(entity.getFirstName()).isEqualTo("Ursula K. Le");
+              assertThat(entity.getLastName()).isEqualTo("Guin");
+              assertThat(entity.getNormalizedName()).isEqualTo("ursula k le guin");
+            });
+    verify(authorJpaRepository, times(1)).findAllByNormalizedNameInOrNormalizedNameIsNull(any());
+  }
+
+  @Test
+  void findOrCreateAll_shouldNotInsertWhenEveryAuthorExists() {
+    when(authorJpaRepository.findAllByNormalizedNameInOrNormalizedNameIsNull(any()))
+        .thenReturn(List.of(author(7L, "Frank", "Herbert", null)));
+
+    List<Author> authors = authorRepository.findOrCreateAll(List.of("Frank Herbert"));
+
+    assertThat(authors).extracting(author -> author.getAuthorId().id()).containsExactly(7L);
+    verify(authorJpaRepository, never()).saveAllAndFlush(any());
+  }
+
+  @Test
+  void findOrCreateAll_shouldMatchKeylessAuthorsWithTheSameNormalisation() {
+    when(authorJpaRepository.findAllByNormalizedNameInOrNormalizedNameIsNull(any()))
+        .thenReturn(
+            List.of(author(7L, "J.R.R. ", "Tolkien", null), author(8L, "Mary", "Shelley", null)));
+
+    List<Author> authors = authorRepository.findOrCreateAll(List.of("JRR  Tolkien"));
+
+    assertThat(authors).extracting(author -> author.getAuthorId().id()).containsExactly(7L);
+    verify(authorJpaRepository, never()).saveAllAndFlush(any());
+  }
+
+  @Test
+  void findOrCreateAll_shouldKeepMiddleNamesInTheKey() {
+    when(authorJpaRepository.findAllByNormalizedNameInOrNormalizedNameIsNull(any()))
+        .thenReturn(List.of(author(7L, "John", "Tolkien", "john tolkien")));
+    when(authorJpaRepository.saveAllAndFlush(anyList()))
+        .thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+
+    List<Author> authors =
+        authorRepository.findOrCreateAll(List.of("John Ronald Reuel Tolkien", "John Tolkien"));
+
+    assertThat(authors.get(0).getAuthorId().id()).isEqualTo(100L);
+    assertThat(authors.get(1).getAuthorId().id()).isEqualTo(7L);
+    verify(authorJpaRepository)
+        .findAllByNormalizedNameInOrNormalizedNameIsNull(
+            argThat(
+                keys -> keys.containsAll(List.of("john ronald reuel tolkien", "john tolkien"))));
+  }
+
+  @Test
+  void findNamesWithNamesakes_shouldReturnNamesMatchingSeveralAuthors() {
+    when(authorJpaRepository.findAllByNormalizedNameInOrNormalizedNameIsNull(any()))
+        .thenReturn(
+            List.of(
+                author(3L, "Frank", "Herbert", null),
+                author(9L, "Frank", "Herbert", "frank herbert"),
+                author(5L, "Ada", "Lovelace", "ada lovelace")));
+
+    assertThat(
+            authorRepository.findNamesWithNamesakes(
+                List.of("Frank Herbert", "Ada Lovelace", "Mary Shelley", " ")))
+        .containsExactly("Frank Herbert");
+    verify(authorJpaRepository, times(1)).findAllByNormalizedNameInOrNormalizedNameIsNull(any());
+  }
+
+  @Test
+  void findOrCreateAll_shouldPreferKeyedAuthorOverNamesake() {
+    when(authorJpaRepository.findAllByNormalizedNameInOrNormalizedNameIsNull(any()))
+        .thenReturn(
+            List.of(
+                author(3L, "Frank", "Herbert", null),
+                author(9L, "Frank", "Herbert", "frank herbert")));
+
+    List<Author> authors = authorRepository.findOrCreateAll(List.of("Frank Herbert"));
+
+    assertThat(authors.get(0).getAuthorId().id()).isEqualTo(9L);
+  }
+
+  @Test
+  void findOrCreateAll_shouldReReadAuthorsCreatedByConcurrentImport() {
+    List<Collection<String>> lookups = new ArrayList<>();
+    when(authorJpaRepository.findAllByNormalizedNameInOrNormalizedNameIsNull(any()))
+        .thenAnswer(
+            invocation -> {
+              lookups.add(List.copyOf(invocation.<Collection<String>>getArgument(0)));
+              return lookups.size() == 1
+                  ? List.of()
+                  : List.of(author(42L, "Frank", "Herbert", "frank herbert"));
+            });
+    when(authorJpaRepository.saveAllAndFlush(anyList()))
+        .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+    List<Author> authors = authorRepository.findOrCreateAll(List.of("Frank Herbert"));
+
+    assertThat(authors.get(0).getAuthorId().id()).isEqualTo(42L);
+    assertThat(lookups).hasSize(2);
+    verify(transactionManager).rollback(any());
+  }
+
+  @Test
+  void findOrCreateAll_shouldGiveUpAfterRepeatedConflicts() {
+    when(authorJpaRepository.findAllByNormalizedNameInOrNormalizedNameIsNull(any()))
+        .thenReturn(List.of());
+    when(authorJpaRepository.saveAllAndFlush(anyList()))
+        .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+    assertThatThrownBy(() -> authorRepository.findOrCreateAll(List.of("Frank Herbert")))
+        .isInstanceOf(DataIntegrityViolationException.class);
+    verify(authorJpaRepository, times(AuthorRepositoryImpl.MAX_INSERT_ATTEMPTS))
+        .saveAllAndFlush(anyList());
+  }
+
+  @Test
+  void findOrCreateAll_shouldReturnEmptyListWithoutQueryingForBlankInput() {
+    assertThat(authorRepository.findOrCreateAll(List.of("", "  "))).isEmpty();
+    verifyNoInteractions(authorJpaRepository);
+  }
+
+  @Test
+  void getAuthorsById_shouldLoadAllAuthorsWithOneQuery() {
+    when(authorJpaRepository.findAllById(List.of(1L, 2L)))
+        .thenReturn(List.of(author(1L, "A", "B", null), author(2L, "C", "D", null)));
+
+    assertThat(authorRepository.getAuthorsById(List.of("1", "2"))).hasSize(2);
+    verify(authorJpaRepository, never()).findById(any());
+  }
+
+  @Test
+  void createAuthor_shouldReturnSavedAuthorWithoutReQuerying() {
+    when(authorJpaRepository.existsByNormalizedName("frank herbert")).thenReturn(false);
+    when(authorJpaRepository.save(any(AuthorEntity.class)))
+        .thenAnswer(
+            invocation -> {
+              AuthorEntity entity = invocation.getArgument(0);
+              entity.setAuthorId(5L);
+              return entity;
+            });
+
+    Author author = authorRepository.createAuthor("Frank", "Herbert").orElseThrow();
+
+    assertThat(author.getAuthorId().id()).isEqualTo(5L);
+    verify(authorJpaRepository, never()).getByFirstNameAndLastName(any(), any());
+  }
+}
@@ -0,0 +1,133 @@
+package com.penrose.bibby.library.cataloging.book.core.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.penrose.bibby.library.cataloging.book.core.domain.location.BookLocationEntry;
+import com.penrose.bibby.library.cataloging.book.core.port.outbound.BookDomainRepository;
+import com.penrose.bibby.library.shared.events.InMemoryChangeCounters;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BookLocationServiceTest {
+
+  private static final BookLocationEntry DUNE =
+      new BookLocationEntry(1L, 10L, "Top", 100L, "Living Room");
+  private static final BookLocationEntry EMMA =
+      new BookLocationEntry(2L, 20L, "Top", 200L, "Study");
+
+  private static final Instant NOW = Instant.parse("2026-03-01T10:00:00Z");
+
+  @Mock private BookDomainRepository bookDomainRepository;
+  @Mock private Clock clock;
+  private final InMemoryChangeCounters changeCounters = new InMemoryChangeCounters();
+  private BookLocationService bookLocationService;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(bookDomainRepository.findAllBookLocations()).thenReturn(List.of(DUNE, EMMA));
+    lenient().when(clock.instant()).thenReturn(NOW);
+    bookLocationService = newInstance();
+  }
+
+  @Test
+  void findLocation_shouldLoadTheIndexOnceAndThenServeFromMemory() {
+    assertEquals(Optional.of(DUNE), bookLocationService.findLocation(1L));
+    assertEquals(Optional.of(EMMA), bookLocationService.findLocation(2L));
+    assertEquals(Optional.of(DUNE), bookLocationService.findLocation(1L));
+
+    verify(bookDomainRepository, times(1)).findAllBookLocations();
+    verify(bookDomainRepository, never()).findBookLocation(any());
+  }
+
+  @Test
+  void findLocation_shouldFallBackToTheDatabaseForUnindexedBooks() {
+    BookLocationEntry added = new BookLocationEntry(3L, 10L, "Top", 100L, "Living Room");
+    bookLocationService.findLocation(1L);
+    when(bookDomainRepository.findBookLocation(3L)).thenReturn(Optional.of(added));
+
+    assertEquals(Optional.of(added), bookLocationService.findLocation(3L));
+    assertEquals(Optional.of(added), bookLocationService.findLocation(3L));
+
+    verify(bookDomainRepository, times(1)).findBookLocation(3L);
+  }
+
+  @Test
+  void bookPlaced_shouldMoveWithinTheIndexWhenTheShelfIsKnown() {
+    bookLocationService.findLocation(1L);
+
+    bookLocationService.bookPlaced(1L, 20L);
+
+    assertEquals("Study", bookLocationService.findLocation(1L).orElseThrow().bookcaseLocation());
+    verify(bookDomainRepository, never()).findBookLocation(any());
+  }
+
+  @Test
+  void bookPlaced_shouldReadTheLocationWhenTheShelfIsNew() {
+    BookLocationEntry moved = new BookLocationEntry(1L, 30L, "Bottom", 300L, "Hall");
+    bookLocationService.findLocation(1L);
+    when(bookDomainRepository.findBookLocation(1L)).thenReturn(Optional.of(moved));
+
+    bookLocationService.bookPlaced(1L, 30L);
+
+    assertEquals(Optional.of(moved), bookLocationService.findLocation(1L));
+  }
+
+  @Test
+  void bookPlaced_shouldReachTheIndexOfAnotherInstance() {
+    BookLocationEntry moved = new BookLocationEntry(1L, 20L, "Top", 200L, "Study");
+    bookLocationService.findLocation(1L);
+    when(bookDomainRepository.findAllBookLocations()).thenReturn(List.of(moved, EMMA));
+
+    newInstance().bookPlaced(1L, 20L);
+
+    assertEquals(Optional.of(moved), bookLocationService.findLocation(1L));
+    verify(bookDomainRepository, times(2)).findAllBookLocations();
+  }
+
+  @Test
+  void findLocation_shouldRebuildAnIndexOlderThanTheMaxAge() {
+    BookLocationEntry relabelled = new BookLocationEntry(1L, 10L, "Upper", 100L, "Lounge");
+    bookLocationService.findLocation(1L);
+    when(bookDomainRepository.findAllBookLocations()).thenReturn(List.of(relabelled, EMMA));
+
+    when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(9)));
+    assertEquals(Optional.of(DUNE), bookLocationService.findLocation(1L));
+
+    when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(10)));
+    assertEquals(Optional.of(relabelled), bookLocationService.findLocation(1L));
+  }
+
+  @Test
+  void bookPlaced_shouldBeIgnoredUntilTheIndexIsLoaded() {
+    bookLocationService.bookPlaced(1L, 20L);
+
+    verifyNoInteractions(bookDomainRepository);
+  }
+
+  @Test
+  void shelfDeleted_shouldForgetItsBooks() {
+    bookLocationService.findLocation(1L);
+    when(bookDomainRepository.findBookLocation(1L)).thenReturn(Optional.empty());
+
+    bookLocationService.shelfDeleted(10L);
+
+    assertTrue(bookLocationService.findLocation(1L).isEmpty());
+    assertEquals(Optional.of(EMMA), bookLocationService.findLocation(2L));
+  }
+
+  // Instances built here share the change counters, the way instances share the database
+  private BookLocationService newInstance() {
+    return new BookLocationService(
+        bookDomainRepository, changeCounters, Duration.ofMinutes(10), clock);
+  }
+}
@@ -0,0 +1,70 @@
+package com.penrose.bibby.library.cataloging.book.core.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.penrose.bibby.library.cataloging.author.api.events.AuthorsChanged;
+import com.penrose.bibby.library.cataloging.author.core.ports.inbound.AuthorFacade;
+import com.penrose.bibby.library.cataloging.book.core.port.outbound.BookDomainRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class BookSuggestionServiceTest {
+
+  private final BookDomainRepository bookDomainRepository = mock(BookDomainRepository.class);
+  private final AuthorFacade authorFacade = mock(AuthorFacade.class);
+  private final BookSuggestionService service =
+      new BookSuggestionService(bookDomainRepository, authorFacade);
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void invalidate_shouldKeepTheIndexUntilTheWriteCommits() {
+    when(bookDomainRepository.findAllTitles()).thenReturn(List.of("Dune"));
+    service.suggestTitles("du", 5);
+    when(bookDomainRepository.findAllTitles()).thenReturn(List.of("Dune", "Dune Messiah"));
+    TransactionSynchronizationManager.initSynchronization();
+
+    service.invalidate();
+
+    // A lookup before the commit must not cache the old rows as current
+    assertThat(service.suggestTitles("du", 5)).containsExactly("Dune");
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    assertThat(service.suggestTitles("du", 5)).contains("Dune Messiah");
+  }
+
+  @Test
+  void invalidate_shouldNotMarkTheIndexStaleWhenTheWriteRollsBack() {
+    when(bookDomainRepository.findAllTitles()).thenReturn(List.of("Dune"));
+    service.suggestTitles("du", 5);
+    when(bookDomainRepository.findAllTitles()).thenReturn(List.of("Dune", "Dune Messiah"));
+    TransactionSynchronizationManager.initSynchronization();
+
+    service.invalidate();
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    assertThat(service.suggestTitles("du", 5)).containsExactly("Dune");
+  }
+
+  @Test
+  void onAuthorsChanged_shouldRebuildTheAuthorIndex() {
+    when(authorFacade.getAllAuthorNames()).thenReturn(List.of("Frank Herbert"));
+    service.suggestAuthors("fr", 5);
+    when(authorFacade.getAllAuthorNames()).thenReturn(List.of("Frank Herbert", "Fritz Leiber"));
+
+    service.onAuthorsChanged(new AuthorsChanged(1));
+
+    assertThat(service.suggestAuthors("fr", 5)).contains("Fritz Leiber");
+  }
+}
@@ -0,0 +1,91 @@
+package com.penrose.bibby.library.cataloging.book.core.domain.location;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class BookLocationIndexTest {
+
+  private final BookLocationIndex index =
+      BookLocationIndex.of(
+          List.of(
+              new BookLocationEntry(1L, 10L, "Top", 100L, "Living Room"),
+              new BookLocationEntry(2L, 10L, "Top", 100L, "Living Room"),
+              new BookLocationEntry(3L, 11L, "Bottom", 100L, "Living Room"),
+              new BookLocationEntry(4L, 20L, "Top", 200L, "Study")));
+
+  @Test
+  void find_shouldReturnShelfAndBookcase() {
+    assertEquals(
+        Optional.of(new BookLocationEntry(3L, 11L, "Bottom", 100L, "Living Room")), index.find(3L));
+  }
+
+  @Test
+  void find_shouldReturnEmptyForUnknownBook() {
+    assertTrue(index.find(99L).isEmpty());
+  }
+
+  @Test
+  void put_shouldInternLabelsAcrossShelves() {
+    BookLocationIndex interned =
+        BookLocationIndex.of(
+            List.of(
+                new BookLocationEntry(1L, 10L, "Top", 100L, new String("Living Room")),
+                new BookLocationEntry(2L, 11L, "Bottom", 100L, new String("Living Room"))));
+
+    assertSame(
+        interned.find(1L).orElseThrow().bookcaseLocation(),
+        interned.find(2L).orElseThrow().bookcaseLocation());
+  }
+
+  @Test
+  void place_shouldMoveBookToKnownShelf() {
+    assertTrue(index.place(1L, 20L));
+
+    assertEquals("Study", index.find(1L).orElseThrow().bookcaseLocation());
+  }
+
+  @Test
+  void place_shouldLeaveIndexUnchangedForUnknownShelf() {
+    assertFalse(index.place(1L, 999L));
+
+    assertEquals(10L, index.find(1L).orElseThrow().shelfId());
+  }
+
+  @Test
+  void put_shouldRefreshLabelsOfAKnownShelf() {
+    index.put(new BookLocationEntry(5L, 10L, "Top (renamed)", 100L, "Living Room"));
+
+    assertEquals("Top (renamed)", index.find(1L).orElseThrow().shelfLabel());
+  }
+
+  @Test
+  void removeShelf_shouldForgetItsBooksOnly() {
+    index.removeShelf(10L);
+
+    assertTrue(index.find(1L).isEmpty());
+    assertTrue(index.find(2L).isEmpty());
+    assertTrue(index.find(3L).isPresent());
+    assertFalse(index.place(1L, 10L));
+    assertEquals(2, index.size());
+  }
+
+  @Test
+  void removeBookcase_shouldForgetAllOfItsShelvesAndBooks() {
+    index.removeBookcase(100L);
+
+    assertEquals(1, index.size());
+    assertTrue(index.find(4L).isPresent());
+  }
+
+  @Test
+  void put_shouldReuseSlotsFreedByDeletedShelves() {
+    index.removeShelf(20L);
+    index.put(new BookLocationEntry(4L, 21L, "Middle", 200L, "Study"));
+
+    assertEquals("Middle", index.find(4L).orElseThrow().shelfLabel());
+    assertEquals("Top", index.find(1L).orElseThrow().shelfLabel());
+  }
+}
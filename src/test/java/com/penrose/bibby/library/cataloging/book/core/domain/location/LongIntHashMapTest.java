@@ -0,0 +1,56 @@
+package com.penrose.bibby.library.cataloging.book.core.domain.location;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LongIntHashMapTest {
+
+  @Test
+  void get_shouldReturnMissingForAbsentKey() {
+    assertEquals(LongIntHashMap.MISSING, new LongIntHashMap(0).get(42L));
+  }
+
+  @Test
+  void put_shouldOverwriteExistingKey() {
+    LongIntHashMap map = new LongIntHashMap(0);
+    map.put(7L, 1);
+    map.put(7L, 2);
+
+    assertEquals(2, map.get(7L));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  void put_shouldRejectTheFreeSlotMarker() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new LongIntHashMap(0).put(Long.MIN_VALUE, 1));
+  }
+
+  @Test
+  void randomOperations_shouldMatchHashMap() {
+    // Small key space forces long probe chains, growth and backward-shift deletes
+    Random random = new Random(20240601L);
+    LongIntHashMap map = new LongIntHashMap(0);
+    Map<Long, Integer> expected = new HashMap<>();
+    for (int i = 0; i < 200_000; i++) {
+      long key = random.nextInt(5_000);
+      if (random.nextInt(3) == 0) {
+        Integer removed = expected.remove(key);
+        assertEquals(removed == null ? LongIntHashMap.MISSING : removed, map.remove(key));
+      } else {
+        int value = random.nextInt(1_000);
+        expected.put(key, value);
+        map.put(key, value);
+      }
+    }
+
+    assertEquals(expected.size(), map.size());
+    for (long key = 0; key < 5_000; key++) {
+      assertEquals(expected.getOrDefault(key, LongIntHashMap.MISSING), map.get(key));
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.penrose.bibby.library.cataloging.book.core.domain.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SuggestionIndexTest {
+
+  private final SuggestionIndex index =
+      SuggestionIndex.build(
+          List.of(
+              "The Hobbit",
+              "The Lord of the Rings",
+              "Dune",
+              "Dune Messiah",
+              "Children of Dune",
+              "Domain-Driven Design",
+              "Clean Code",
+              "Clean Architecture",
+              "Clean Code"));
+
+  @Test
+  void suggest_shouldReturnExactPrefixMatches() {
+    List<String> suggestions = index.suggest("clean", 10);
+
+    assertEquals(List.of("Clean Code", "Clean Architecture"), suggestions);
+  }
+
+  @Test
+  void suggest_shouldRankMoreFrequentTermsFirst() {
+    // "Clean Code" was added twice so it outranks the longer, single "Clean Architecture"
+    assertEquals("Clean Code", index.suggest("cle", 1).get(0));
+  }
+
+  @Test
+  void suggest_shouldTolerateSingleTypo() {
+    assertEquals(List.of("The Hobbit"), index.suggest("the hobit", 10));
+  }
+
+  @Test
+  void suggest_shouldTolerateTransposedCharacters() {
+    assertTrue(index.suggest("domian", 10).contains("Domain-Driven Design"));
+  }
+
+  @Test
+  void suggest_shouldMatchInnerWordsAfterLeadingMatches() {
+    List<String> suggestions = index.suggest("dune", 10);
+
+    assertEquals(List.of("Dune", "Dune Messiah", "Children of Dune"), suggestions);
+  }
+
+  @Test
+  void suggest_shouldIgnoreCaseAndPunctuation() {
+    assertEquals(List.of("Domain-Driven Design"), index.suggest("DOMAIN driven", 10));
+  }
+
+  @Test
+  void suggest_shouldRespectLimit() {
+    assertEquals(2, index.suggest("d", 2).size());
+  }
+
+  @Test
+  void suggest_shouldReturnEmptyListForBlankOrUnknownQuery() {
+    assertTrue(index.suggest("   ", 10).isEmpty());
+    assertTrue(index.suggest(null, 10).isEmpty());
+    assertTrue(index.suggest("zzzzzz", 10).isEmpty());
+  }
+
+  @Test
+  void build_shouldCollapseDuplicatesAndSkipNulls() {
+    SuggestionIndex built = SuggestionIndex.build(Arrays.asList("Dune", null, "dune", "  "));
+
+    assertEquals(1, built.size());
+    assertEquals(List.of("Dune"), built.suggest("du", 5));
+  }
+
+  @Test
+  void empty_shouldNeverSuggest() {
+    assertTrue(SuggestionIndex.empty().suggest("dune", 5).isEmpty());
+  }
+}
@@ -0,0 +1,57 @@
+package com.penrose.bibby.library.cataloging.book.infrastructure.adapter.outbound;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEventType;
+import com.penrose.bibby.library.cataloging.circulation.core.ports.inbound.CirculationEventFacade;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CirculationLogPortAdapterTest {
+
+  private final CirculationEventFacade facade = mock(CirculationEventFacade.class);
+  private final CirculationLogPortAdapter adapter = new CirculationLogPortAdapter(facade);
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void checkedOut_shouldRecordOnlyOnceTheTransactionCommits() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    adapter.checkedOut(1L);
+
+    verifyNoInteractions(facade);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    verify(facade).record(CirculationEventType.CHECK_OUT, 1L, null);
+  }
+
+  @Test
+  void placed_shouldRecordNothingWhenTheTransactionRollsBack() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    adapter.placed(1L, 10L);
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(
+            synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    verifyNoInteractions(facade);
+  }
+
+  @Test
+  void renewed_shouldRecordStraightAwayOutsideATransaction() {
+    adapter.renewed(1L);
+
+    verify(facade).record(CirculationEventType.RENEW, 1L, null);
+  }
+}
@@ -0,0 +1,143 @@
+package com.penrose.bibby.library.cataloging.book.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.penrose.bibby.config.tenancy.TenancyConfig;
+import com.penrose.bibby.library.cataloging.author.core.ports.inbound.AuthorFacade;
+import com.penrose.bibby.library.cataloging.book.core.domain.AvailabilityStatus;
+import com.penrose.bibby.library.cataloging.book.infrastructure.adapter.mapping.BookMapper;
+import com.penrose.bibby.library.cataloging.book.infrastructure.adapter.outbound.BookDomainRepositoryAdaptor;
+import com.penrose.bibby.library.cataloging.book.infrastructure.entity.BookEntity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Contention test for check-out/check-in: many threads race on the same copy, and every
+ * transition must be applied exactly once. Runs outside a test transaction so that each call
+ * commits on its own, as it does in production.
+ */
+@DataJpaTest
+@Import({BookDomainRepositoryAdaptor.class, BookMapper.class, TenancyConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookCirculationContentionTest {
+
+  private static final int THREADS = 16;
+  private static final int CYCLES_PER_THREAD = 100;
+
+  @Autowired private BookJpaRepository bookJpaRepository;
+  @Autowired private BookDomainRepositoryAdaptor bookDomainRepositoryAdaptor;
+  @MockitoBean private AuthorFacade authorFacade;
+
+  private ExecutorService executor;
+  private Long bookId;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(THREADS);
+    bookId = bookJpaRepository.save(new BookEntity("Dune", Set.of())).getBookId();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+    bookJpaRepository.deleteAll();
+  }
+
+  @Test
+  void simultaneousCheckOuts_shouldLendTheBookExactlyOnce() throws Exception {
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Boolean>> attempts = new ArrayList<>();
+    for (int i = 0; i < THREADS; i++) {
+      attempts.add(
+          executor.submit(
+              () -> {
+                start.await();
+                return checkOut();
+              }));
+    }
+    start.countDown();
+
+    int succeeded = 0;
+    for (Future<Boolean> attempt : attempts) {
+      if (attempt.get(30, TimeUnit.SECONDS)) {
+        succeeded++;
+      }
+    }
+
+    BookEntity book = bookJpaRepository.findById(bookId).orElseThrow();
+    assertThat(succeeded).isEqualTo(1);
+    assertThat(book.getAvailabilityStatus()).isEqualTo("CHECKED_OUT");
+    assertThat(book.getVersion()).isEqualTo(1);
+  }
+
+  @Test
+  void checkOutCheckInCycles_shouldNeverDoubleLend() throws Exception {
+    AtomicInteger lent = new AtomicInteger();
+    AtomicInteger doubleLends = new AtomicInteger();
+    AtomicInteger failedCheckIns = new AtomicInteger();
+    AtomicInteger checkOuts = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+
+    Callable<Void> borrower =
+        () -> {
+          start.await();
+          for (int i = 0; i < CYCLES_PER_THREAD; i++) {
+            if (!checkOut()) {
+              continue;
+            }
+            checkOuts.incrementAndGet();
+            if (lent.incrementAndGet() != 1) {
+              doubleLends.incrementAndGet();
+            }
+            lent.decrementAndGet();
+            if (!checkIn()) {
+              failedCheckIns.incrementAndGet();
+            }
+          }
+          return null;
+        };
+    List<Future<Void>> borrowers = new ArrayList<>();
+    for (int i = 0; i < THREADS; i++) {
+      borrowers.add(executor.submit(borrower));
+    }
+
+    start.countDown();
+    for (Future<Void> future : borrowers) {
+      future.get(2, TimeUnit.MINUTES);
+    }
+
+    BookEntity book = bookJpaRepository.findById(bookId).orElseThrow();
+    assertThat(doubleLends.get()).isZero();
+    assertThat(failedCheckIns.get()).isZero();
+    assertThat(checkOuts.get()).isPositive();
+    assertThat(book.getAvailabilityStatus()).isEqualTo("AVAILABLE");
+    assertThat(book.getVersion()).isEqualTo(2L * checkOuts.get());
+  }
+
+  private boolean checkOut() {
+    return bookDomainRepositoryAdaptor.transitionAvailability(
+        bookId, AvailabilityStatus.AVAILABLE, AvailabilityStatus.CHECKED_OUT);
+  }
+
+  private boolean checkIn() {
+    return bookDomainRepositoryAdaptor.transitionAvailability(
+        bookId, AvailabilityStatus.CHECKED_OUT, AvailabilityStatus.AVAILABLE);
+  }
+}
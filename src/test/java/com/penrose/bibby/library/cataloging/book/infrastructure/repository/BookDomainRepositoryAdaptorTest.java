@@ -20,21 +20,27 @@ import com.penrose.bibby.library.cataloging.book.infrastructure.adapter.outbound
 import com.penrose.bibby.library.cataloging.book.infrastructure.entity.BookEntity;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 class BookDomainRepositoryAdaptorTest {
 
   @Mock private BookJpaRepository bookJpaRepository;
   @Mock private BookMapper bookMapper;
+  @Mock private PlatformTransactionManager transactionManager;
 
   @InjectMocks private BookDomainRepositoryAdaptor bookDomainRepositoryAdaptor;
 
@@ -124,7 +130,7 @@ class BookDomainRepositoryAdaptorTest {
             LocalDate.now(),
             null);
 
-    when(bookJpaRepository.findByShelfId(shelfId)).thenReturn(entities);
+    when(bookJpaRepository.findWithAuthorsByShelfId(shelfId)).thenReturn(entities);
     when(bookMapper.toDTOfromEntity(entity1)).thenReturn(dto1);
     when(bookMapper.toDTOfromEntity(entity2)).thenReturn(dto2);
 
@@ -135,7 +141,7 @@ class BookDomainRepositoryAdaptorTest {
     assertThat(result).hasSize(2);
     assertThat(result.get(0).title()).isEqualTo("Test Book");
     assertThat(result.get(1).title()).isEqualTo("Second Book");
-    verify(bookJpaRepository).findByShelfId(shelfId);
+    verify(bookJpaRepository).findWithAuthorsByShelfId(shelfId);
     verify(bookMapper, times(2)).toDTOfromEntity(any(BookEntity.class));
   }
 
@@ -143,14 +149,14 @@ class BookDomainRepositoryAdaptorTest {
   void getBooksByShelfId_shouldReturnEmptyListWhenNoBooksFound() {
     // given
     Long shelfId = 99L;
-    when(bookJpaRepository.findByShelfId(shelfId)).thenReturn(List.of());
+    when(bookJpaRepository.findWithAuthorsByShelfId(shelfId)).thenReturn(List.of());
 
     // when
     List<BookDTO> result = bookDomainRepositoryAdaptor.getBooksByShelfId(shelfId);
 
     // then
     assertThat(result).isEmpty();
-    verify(bookJpaRepository).findByShelfId(shelfId);
+    verify(bookJpaRepository).findWithAuthorsByShelfId(shelfId);
     verifyNoInteractions(bookMapper);
   }
 
@@ -262,6 +268,7 @@ class BookDomainRepositoryAdaptorTest {
     Book book = createTestBook();
     BookEntity bookEntity = createTestBookEntity();
     when(bookJpaRepository.findById(1L)).thenReturn(Optional.of(bookEntity));
+    when(bookJpaRepository.isShelfVisible(newShelfId)).thenReturn(true);
 
     // when
     bookDomainRepositoryAdaptor.updateTheBooksShelf(book, 1L, newShelfId);
@@ -346,23 +353,32 @@ class BookDomainRepositoryAdaptorTest {
     verify(bookJpaRepository).save(mappedEntity);
   }
 
-  // --- getThreeBooksByAuthorId ---
+  // --- findTitlePreviewsByAuthorIds ---
 
   @Test
-  void getThreeBooksByAuthorId_shouldDelegateToRepository() {
+  void findTitlePreviewsByAuthorIds_shouldGroupRowsByAuthor() {
     // given
-    BookEntity entity1 = createTestBookEntity();
-    BookEntity entity2 = createTestBookEntity();
-    entity2.setBookId(2L);
-    List<BookEntity> entities = List.of(entity1, entity2);
-    when(bookJpaRepository.findByAuthorsAuthorId(1L)).thenReturn(entities);
+    List<Object[]> rows =
+        List.of(
+            new Object[] {1L, "Dune"},
+            new Object[] {1L, "Dune Messiah"},
+            new Object[] {2L, "Neuromancer"});
+    when(bookJpaRepository.findTopTitlesByAuthorIds(List.of(1L, 2L, 3L), 2)).thenReturn(rows);
 
     // when
-    List<BookEntity> result = bookDomainRepositoryAdaptor.getThreeBooksByAuthorId(1L);
+    Map<Long, List<String>> result =
+        bookDomainRepositoryAdaptor.findTitlePreviewsByAuthorIds(List.of(1L, 2L, 3L), 2);
 
     // then
-    assertThat(result).hasSize(2);
-    verify(bookJpaRepository).findByAuthorsAuthorId(1L);
+    assertThat(result)
+        .containsExactly(
+            Map.entry(1L, List.of("Dune", "Dune Messiah")), Map.entry(2L, List.of("Neuromancer")));
+  }
+
+  @Test
+  void findTitlePreviewsByAuthorIds_shouldNotQueryForNoAuthors() {
+    assertThat(bookDomainRepositoryAdaptor.findTitlePreviewsByAuthorIds(List.of(), 3)).isEmpty();
+    verifyNoInteractions(bookJpaRepository);
   }
 
   // --- updatePublisher ---
@@ -397,37 +413,85 @@ class BookDomainRepositoryAdaptorTest {
   // --- deleteByShelfId ---
 
   @Test
-  void deleteByShelfId_shouldDeleteBooksMatchingShelfIds() {
+  void deleteByShelfId_shouldDeleteAuthorLinksThenBooksWithoutLoadingThem() {
     // given
     List<Long> shelfIds = List.of(1L, 2L, 3L);
-    BookEntity book1 = createTestBookEntity();
-    book1.setShelfId(1L);
-    BookEntity book2 = createTestBookEntity();
-    book2.setBookId(2L);
-    book2.setShelfId(2L);
-    List<BookEntity> booksToDelete = List.of(book1, book2);
-    when(bookJpaRepository.findByShelfIdIn(shelfIds)).thenReturn(booksToDelete);
+    when(bookJpaRepository.findBookIdsByShelfIdIn(eq(shelfIds), any()))
+        .thenReturn(List.of(10L, 11L));
+    when(bookJpaRepository.deleteAuthorLinksByBookIdIn(List.of(10L, 11L))).thenReturn(3);
+    when(bookJpaRepository.deleteAllByBookIdIn(List.of(10L, 11L))).thenReturn(2);
 
     // when
-    bookDomainRepositoryAdaptor.deleteByShelfId(shelfIds);
+    int deleted = bookDomainRepositoryAdaptor.deleteByShelfId(shelfIds);
 
     // then
-    verify(bookJpaRepository).findByShelfIdIn(shelfIds);
-    verify(bookJpaRepository).deleteAll(booksToDelete);
+    assertThat(deleted).isEqualTo(2);
+    InOrder inOrder = inOrder(bookJpaRepository, transactionManager);
+    inOrder.verify(transactionManager).getTransaction(any());
+    inOrder.verify(bookJpaRepository).deleteAuthorLinksByBookIdIn(List.of(10L, 11L));
+    inOrder.verify(bookJpaRepository).deleteAllByBookIdIn(List.of(10L, 11L));
+    inOrder.verify(transactionManager).commit(any());
+    verify(bookJpaRepository, never()).findByShelfIdIn(any());
+    verify(bookJpaRepository, never()).deleteAll(any());
   }
 
   @Test
   void deleteByShelfId_shouldHandleEmptyResult() {
     // given
     List<Long> shelfIds = List.of(99L);
-    when(bookJpaRepository.findByShelfIdIn(shelfIds)).thenReturn(List.of());
+    when(bookJpaRepository.findBookIdsByShelfIdIn(eq(shelfIds), any())).thenReturn(List.of());
+
+    // when
+    int deleted = bookDomainRepositoryAdaptor.deleteByShelfId(shelfIds);
+
+    // then
+    assertThat(deleted).isZero();
+    verify(bookJpaRepository, never()).deleteAllByBookIdIn(any());
+    verifyNoInteractions(transactionManager);
+  }
+
+  @Test
+  void deleteByShelfId_shouldCommitEachChunkOfBooksSeparately() {
+    // given
+    List<Long> shelfIds = List.of(1L);
+    List<Long> fullChunk =
+        LongStream.rangeClosed(1, BookDomainRepositoryAdaptor.DELETE_CHUNK_SIZE).boxed().toList();
+    when(bookJpaRepository.findBookIdsByShelfIdIn(
+            shelfIds, Limit.of(BookDomainRepositoryAdaptor.DELETE_CHUNK_SIZE)))
+        .thenReturn(fullChunk)
+        .thenReturn(List.of(9_999L));
+    when(bookJpaRepository.deleteAllByBookIdIn(any()))
+        .thenReturn(BookDomainRepositoryAdaptor.DELETE_CHUNK_SIZE, 1);
+
+    // when
+    int deleted = bookDomainRepositoryAdaptor.deleteByShelfId(shelfIds);
+
+    // then
+    assertThat(deleted).isEqualTo(BookDomainRepositoryAdaptor.DELETE_CHUNK_SIZE + 1);
+    verify(bookJpaRepository).deleteAllByBookIdIn(fullChunk);
+    verify(bookJpaRepository).deleteAllByBookIdIn(List.of(9_999L));
+    verify(transactionManager, times(2)).commit(any());
+  }
+
+  @Test
+  void deleteByShelfId_shouldSplitLongShelfListsIntoChunks() {
+    // given
+    List<Long> shelfIds =
+        LongStream.rangeClosed(1, BookDomainRepositoryAdaptor.DELETE_CHUNK_SIZE + 1)
+            .boxed()
+            .toList();
+    when(bookJpaRepository.findBookIdsByShelfIdIn(any(), any())).thenReturn(List.of());
 
     // when
     bookDomainRepositoryAdaptor.deleteByShelfId(shelfIds);
 
     // then
-    verify(bookJpaRepository).findByShelfIdIn(shelfIds);
-    verify(bookJpaRepository).deleteAll(List.of());
+    verify(bookJpaRepository)
+        .findBookIdsByShelfIdIn(
+            eq(shelfIds.subList(0, BookDomainRepositoryAdaptor.DELETE_CHUNK_SIZE)), any());
+    verify(bookJpaRepository)
+        .findBookIdsByShelfIdIn(
+            eq(List.of((long) BookDomainRepositoryAdaptor.DELETE_CHUNK_SIZE + 1)), any());
   }
 
   // --- getBookDomainById ---
@@ -469,6 +533,7 @@ class BookDomainRepositoryAdaptorTest {
     Book expectedBook = createTestBook();
     when(bookJpaRepository.findById(1L)).thenReturn(Optional.of(entity));
     when(bookMapper.toDomainFromEntity(entity)).thenReturn(expectedBook);
+    when(bookJpaRepository.isShelfVisible(10L)).thenReturn(true);
 
     // when
     Book result = bookDomainRepositoryAdaptor.placeBookOnShelf(1L, 10L);
@@ -491,31 +556,59 @@ class BookDomainRepositoryAdaptorTest {
         .hasMessageContaining("Book not found with id: 99");
   }
 
+  // --- transitionAvailability ---
+
+  @Test
+  void transitionAvailability_shouldReturnTrueWhenRowWasUpdated() {
+    // given
+    when(bookJpaRepository.transitionAvailability(
+            eq(1L), eq("AVAILABLE"), eq("CHECKED_OUT"), any(LocalDate.class)))
+        .thenReturn(1);
+
+    // when
+    boolean result =
+        bookDomainRepositoryAdaptor.transitionAvailability(
+            1L, AvailabilityStatus.AVAILABLE, AvailabilityStatus.CHECKED_OUT);
+
+    // then
+    assertThat(result).isTrue();
+  }
+
+  @Test
+  void transitionAvailability_shouldReturnFalseWhenBookWasNotInExpectedStatus() {
+    // given
+    when(bookJpaRepository.transitionAvailability(
+            eq(1L), eq("CHECKED_OUT"), eq("AVAILABLE"), any(LocalDate.class)))
+        .thenReturn(0);
+
+    // when
+    boolean result =
+        bookDomainRepositoryAdaptor.transitionAvailability(
+            1L, AvailabilityStatus.CHECKED_OUT, AvailabilityStatus.AVAILABLE);
+
+    // then
+    assertThat(result).isFalse();
+  }
+
   // --- getBookIdsByShelfId ---
 
   @Test
   void getBookIdsByShelfId_shouldReturnListOfBookIds() {
     // given
-    BookEntity entity1 = createTestBookEntity();
-    entity1.setBookId(1L);
-    BookEntity entity2 = createTestBookEntity();
-    entity2.setBookId(2L);
-    BookEntity entity3 = createTestBookEntity();
-    entity3.setBookId(3L);
-    when(bookJpaRepository.findByShelfId(5L)).thenReturn(List.of(entity1, entity2, entity3));
+    when(bookJpaRepository.findBookIdsByShelfId(5L)).thenReturn(List.of(1L, 2L, 3L));
 
     // when
     List<Long> result = bookDomainRepositoryAdaptor.getBookIdsByShelfId(5L);
 
     // then
     assertThat(result).containsExactly(1L, 2L, 3L);
-    verify(bookJpaRepository).findByShelfId(5L);
+    verify(bookJpaRepository).findBookIdsByShelfId(5L);
   }
 
   @Test
   void getBookIdsByShelfId_shouldReturnEmptyListWhenNoBooksFound() {
     // given
-    when(bookJpaRepository.findByShelfId(99L)).thenReturn(List.of());
+    when(bookJpaRepository.findBookIdsByShelfId(99L)).thenReturn(List.of());
 
     // when
     List<Long> result = bookDomainRepositoryAdaptor.getBookIdsByShelfId(99L);
@@ -0,0 +1,90 @@
+package com.penrose.bibby.library.cataloging.book.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.penrose.bibby.config.sql.QueryBudget;
+import com.penrose.bibby.config.sql.StatementCountingConfig;
+import com.penrose.bibby.config.tenancy.TenancyConfig;
+import com.penrose.bibby.library.cataloging.author.core.ports.inbound.AuthorFacade;
+import com.penrose.bibby.library.cataloging.author.infrastructure.entity.AuthorEntity;
+import com.penrose.bibby.library.cataloging.book.api.dtos.BookDTO;
+import com.penrose.bibby.library.cataloging.book.infrastructure.adapter.mapping.BookMapper;
+import com.penrose.bibby.library.cataloging.book.infrastructure.adapter.outbound.BookDomainRepositoryAdaptor;
+import com.penrose.bibby.library.cataloging.book.infrastructure.entity.BookEntity;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/** Statement budgets for the book read paths, so per-row queries are caught in CI. */
+@DataJpaTest
+@Import({
+  StatementCountingConfig.class,
+  BookDomainRepositoryAdaptor.class,
+  BookMapper.class,
+  TenancyConfig.class
+})
+class BookQueryBudgetTest {
+
+  private static final long SHELF_ID = 7L;
+  private static final int BOOKS_ON_SHELF = 5;
+
+  private Long herbertId;
+  private Long andersonId;
+
+  @Autowired private TestEntityManager entityManager;
+  @Autowired private BookDomainRepositoryAdaptor bookDomainRepositoryAdaptor;
+  @MockitoBean private AuthorFacade authorFacade;
+
+  @BeforeEach
+  void setUp() {
+    AuthorEntity herbert = entityManager.persist(new AuthorEntity("Frank", "Herbert"));
+    AuthorEntity anderson = entityManager.persist(new AuthorEntity("Kevin", "Anderson"));
+    for (int i = 0; i < BOOKS_ON_SHELF; i++) {
+      BookEntity book = new BookEntity("Dune " + i, Set.of(herbert, anderson));
+      book.setShelfId(SHELF_ID);
+      entityManager.persist(book);
+    }
+    entityManager.flush();
+    entityManager.clear();
+    herbertId = herbert.getAuthorId();
+    andersonId = anderson.getAuthorId();
+  }
+
+  @Test
+  void getBooksByShelfId_shouldLoadBooksAndAuthorsInOneStatement() {
+    List<BookDTO> books =
+        QueryBudget.atMost(1, () -> bookDomainRepositoryAdaptor.getBooksByShelfId(SHELF_ID));
+
+    assertThat(books).hasSize(BOOKS_ON_SHELF);
+    assertThat(books.get(0).authors().get(0)).contains("Herbert").contains("Anderson");
+  }
+
+  @Test
+  void getBookIdsByShelfId_shouldNotLoadBookEntities() {
+    List<Long> bookIds =
+        QueryBudget.atMost(1, () -> bookDomainRepositoryAdaptor.getBookIdsByShelfId(SHELF_ID));
+
+    assertThat(bookIds).hasSize(BOOKS_ON_SHELF);
+  }
+
+  @Test
+  void findTitlePreviewsByAuthorIds_shouldPreviewEveryAuthorInOneStatement() {
+    Map<Long, List<String>> previews =
+        QueryBudget.atMost(
+            1,
+            () ->
+                bookDomainRepositoryAdaptor.findTitlePreviewsByAuthorIds(
+                    List.of(herbertId, andersonId), 3));
+
+    assertThat(previews).containsOnlyKeys(herbertId, andersonId);
+    assertThat(previews.get(herbertId)).containsExactly("Dune 0", "Dune 1", "Dune 2");
+    assertThat(previews.get(andersonId)).hasSize(3);
+  }
+}
@@ -0,0 +1,224 @@
+package com.penrose.bibby.library.cataloging.book.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.penrose.bibby.config.tenancy.LibraryTenantResolver;
+import com.penrose.bibby.config.tenancy.TenancyConfig;
+import com.penrose.bibby.identity.infrastructure.AppUserImpl;
+import com.penrose.bibby.library.cataloging.author.infrastructure.entity.AuthorEntity;
+import com.penrose.bibby.library.cataloging.author.infrastructure.repository.AuthorJpaRepository;
+import com.penrose.bibby.library.cataloging.book.infrastructure.adapter.mapping.BookMapper;
+import com.penrose.bibby.library.cataloging.book.infrastructure.adapter.outbound.BookDomainRepositoryAdaptor;
+import com.penrose.bibby.library.cataloging.book.infrastructure.entity.BookEntity;
+import com.penrose.bibby.library.stacks.bookcase.infrastructure.persistence.entity.BookcaseEntity;
+import com.penrose.bibby.library.stacks.bookcase.infrastructure.persistence.repository.BookcaseJpaRepository;
+import com.penrose.bibby.library.stacks.shelf.infrastructure.persistence.entity.ShelfEntity;
+import com.penrose.bibby.library.stacks.shelf.infrastructure.persistence.repository.ShelfJpaRepository;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Library rows are partitioned by tenant. Runs outside a test transaction so that every repository
+ * call opens its own session, which takes the tenant of the thread at that moment.
+ */
+@DataJpaTest
+@Import(TenancyConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookTenantScopingTest {
+
+  private static final long ALICE = 7L;
+  private static final long BOB = 8L;
+
+  @Autowired private BookJpaRepository bookJpaRepository;
+  @Autowired private AuthorJpaRepository authorJpaRepository;
+  @Autowired private BookcaseJpaRepository bookcaseJpaRepository;
+  @Autowired private ShelfJpaRepository shelfJpaRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private Long herbert;
+  private Long aliceBook;
+  private Long bobBook;
+  private Long aliceShelf;
+
+  @BeforeEach
+  void setUp() {
+    herbert = authorJpaRepository.save(new AuthorEntity("Frank", "Herbert")).getAuthorId();
+    signIn(ALICE);
+    aliceBook = saveBook("Dune");
+    Long aliceBookcase =
+        bookcaseJpaRepository
+            .save(new BookcaseEntity(ALICE, "Office", "A", "1", 3, 30))
+            .getBookcaseId();
+    aliceShelf = shelfJpaRepository.save(new ShelfEntity(aliceBookcase, 1, "Top", 10)).getShelfId();
+    signIn(BOB);
+    bobBook = saveBook("Dune");
+  }
+
+  @AfterEach
+  void tearDown() {
+    signOut();
+    bookJpaRepository.deleteAll();
+    shelfJpaRepository.deleteAll();
+    bookcaseJpaRepository.deleteAll();
+    authorJpaRepository.deleteAll();
+  }
+
+  @Test
+  void writes_shouldBeStampedWithTheSignedInUser() {
+    signOut();
+
+    assertThat(bookJpaRepository.findById(aliceBook).orElseThrow().getTenantId()).isEqualTo(ALICE);
+    assertThat(bookJpaRepository.findById(bobBook).orElseThrow().getTenantId()).isEqualTo(BOB);
+  }
+
+  @Test
+  void derivedQueries_shouldOnlySeeTheSignedInUsersRows() {
+    signIn(ALICE);
+
+    assertThat(bookJpaRepository.findByTitleIgnoreCase("dune"))
+        .hasValueSatisfying(book -> assertThat(book.getBookId()).isEqualTo(aliceBook));
+    assertThat(bookJpaRepository.findAll()).hasSize(1);
+    assertThat(bookcaseJpaRepository.findAll()).hasSize(1);
+
+    signIn(BOB);
+
+    assertThat(bookcaseJpaRepository.findAll()).isEmpty();
+  }
+
+  @Test
+  void findById_shouldNotLoadAnotherUsersRow() {
+    signIn(ALICE);
+
+    assertThat(bookJpaRepository.findById(bobBook)).isEmpty();
+    assertThat(bookJpaRepository.existsById(bobBook)).isFalse();
+  }
+
+  @Test
+  void nativeQueries_shouldApplyTheTenantToo() {
+    signIn(BOB);
+
+    List<Object[]> rows = bookJpaRepository.findTopTitlesByAuthorIds(List.of(herbert), 5);
+
+    assertThat(rows).hasSize(1);
+  }
+
+  @Test
+  void placingABook_shouldRejectAnotherUsersShelf() {
+    signIn(BOB);
+    BookDomainRepositoryAdaptor adaptor =
+        new BookDomainRepositoryAdaptor(
+            mock(BookMapper.class), bookJpaRepository, transactionManager);
+
+    assertThatThrownBy(() -> adaptor.placeBookOnShelf(bobBook, aliceShelf))
+        .isInstanceOf(IllegalStateException.class);
+
+    signOut();
+    assertThat(bookJpaRepository.findById(bobBook).orElseThrow().getShelfId()).isNull();
+  }
+
+  @Test
+  void deletingAShelfsBooks_shouldSpareAnotherUsersBooksOnIt() {
+    shelveEveryBookOn(aliceShelf);
+    signIn(ALICE);
+    BookDomainRepositoryAdaptor adaptor =
+        new BookDomainRepositoryAdaptor(
+            mock(BookMapper.class), bookJpaRepository, transactionManager);
+
+    int deleted = adaptor.deleteByShelfId(List.of(aliceShelf));
+
+    assertThat(deleted).isEqualTo(1);
+    signIn(BOB);
+    assertThat(bookJpaRepository.findById(bobBook)).isPresent();
+    assertThat(bookJpaRepository.findTopTitlesByAuthorIds(List.of(herbert), 5)).hasSize(1);
+  }
+
+  @Test
+  void bookDetailView_shouldNotShowAnotherUsersShelf() {
+    shelveEveryBookOn(aliceShelf);
+
+    signIn(BOB);
+    assertThat(bookJpaRepository.getBookDetailView(bobBook)).isNull();
+
+    signIn(ALICE);
+    assertThat(bookJpaRepository.getBookDetailView(aliceBook).shelfLabel()).isEqualTo("Top");
+  }
+
+  @Test
+  void anonymousWebRequests_shouldSeeNothing() {
+    signOut();
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+
+    assertThat(bookJpaRepository.findAll()).isEmpty();
+  }
+
+  @Test
+  void workRunAsATenant_shouldOnlySeeAndStampThatTenant() {
+    signOut();
+
+    Long created =
+        LibraryTenantResolver.callAs(
+            ALICE,
+            () -> {
+              assertThat(bookJpaRepository.findAll()).hasSize(1);
+              return saveBook("Children of Dune");
+            });
+
+    assertThat(bookJpaRepository.findById(created).orElseThrow().getTenantId()).isEqualTo(ALICE);
+    assertThat(bookJpaRepository.findAll()).hasSize(3);
+  }
+
+  @Test
+  void callsOutsideAWebRequest_shouldSeeEveryTenant() {
+    signOut();
+
+    assertThat(bookJpaRepository.findAll()).hasSize(2);
+    assertThat(bookJpaRepository.findTopTitlesByAuthorIds(List.of(herbert), 5)).hasSize(2);
+  }
+
+  // As the root tenant, the way rows written before shelf checks existed could end up
+  private void shelveEveryBookOn(Long shelfId) {
+    signOut();
+    for (BookEntity book : bookJpaRepository.findAll()) {
+      book.setShelfId(shelfId);
+      bookJpaRepository.save(book);
+    }
+  }
+
+  private Long saveBook(String title) {
+    AuthorEntity author = authorJpaRepository.findById(herbert).orElseThrow();
+    return bookJpaRepository.save(new BookEntity(title, Set.of(author))).getBookId();
+  }
+
+  private static void signIn(long appUserId) {
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(
+                AppUserImpl.fromToken(appUserId, "user" + appUserId + "@example.com"),
+                null,
+                List.of()));
+  }
+
+  private static void signOut() {
+    RequestContextHolder.resetRequestAttributes();
+    SecurityContextHolder.clearContext();
+  }
+}
@@ -0,0 +1,107 @@
+package com.penrose.bibby.library.cataloging.book.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.penrose.bibby.config.tenancy.TenancyConfig;
+import com.penrose.bibby.library.cataloging.book.infrastructure.adapter.mapping.BookMapper;
+import com.penrose.bibby.library.cataloging.book.infrastructure.adapter.outbound.BookDomainRepositoryAdaptor;
+import com.penrose.bibby.library.cataloging.book.infrastructure.entity.BookEntity;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Books on deleted shelves are removed in chunks that commit one by one. Runs outside a test
+ * transaction so a chunk that committed stays deleted when a later one fails.
+ */
+@DataJpaTest
+@Import(TenancyConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChunkedBookDeleteTest {
+
+  private static final long SHELF = 1L;
+  private static final int BOOKS = BookDomainRepositoryAdaptor.DELETE_CHUNK_SIZE + 1;
+
+  @Autowired private BookJpaRepository bookJpaRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @AfterEach
+  void tearDown() {
+    bookJpaRepository.deleteAll();
+  }
+
+  @Test
+  void deleteByShelfId_shouldFinishTheJobWhenRunAgainAfterAFailedChunk() {
+    shelveBooks(BOOKS);
+    BookDomainRepositoryAdaptor failingOnSecondChunk =
+        new BookDomainRepositoryAdaptor(
+            mock(BookMapper.class), bookJpaRepository, new FailingOnCall(transactionManager, 2));
+
+    assertThatThrownBy(() -> failingOnSecondChunk.deleteByShelfId(List.of(SHELF)))
+        .isInstanceOf(CannotCreateTransactionException.class);
+    assertThat(bookJpaRepository.count()).isEqualTo(1);
+
+    int deleted =
+        new BookDomainRepositoryAdaptor(
+                mock(BookMapper.class), bookJpaRepository, transactionManager)
+            .deleteByShelfId(List.of(SHELF));
+
+    assertThat(deleted).isEqualTo(1);
+    assertThat(bookJpaRepository.count()).isZero();
+  }
+
+  private void shelveBooks(int count) {
+    bookJpaRepository.saveAll(
+        IntStream.range(0, count)
+            .mapToObj(
+                i -> {
+                  BookEntity book = new BookEntity("Book " + i, Set.of());
+                  book.setShelfId(SHELF);
+                  return book;
+                })
+            .toList());
+  }
+
+  /** Fails to begin the given transaction, counting from one, and passes every other through. */
+  private static final class FailingOnCall implements PlatformTransactionManager {
+    private final PlatformTransactionManager delegate;
+    private final int failingCall;
+    private int calls;
+
+    FailingOnCall(PlatformTransactionManager delegate, int failingCall) {
+      this.delegate = delegate;
+      this.failingCall = failingCall;
+    }
+
+    @Override
+    public TransactionStatus getTransaction(TransactionDefinition definition) {
+      if (++calls == failingCall) {
+        throw new CannotCreateTransactionException("connection lost");
+      }
+      return delegate.getTransaction(definition);
+    }
+
+    @Override
+    public void commit(TransactionStatus status) {
+      delegate.commit(status);
+    }
+
+    @Override
+    public void rollback(TransactionStatus status) {
+      delegate.rollback(status);
+    }
+  }
+}
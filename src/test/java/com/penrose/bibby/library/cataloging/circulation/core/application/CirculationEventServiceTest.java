@@ -0,0 +1,288 @@
+package com.penrose.bibby.library.cataloging.circulation.core.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.penrose.bibby.identity.infrastructure.AppUserImpl;
+import com.penrose.bibby.library.cataloging.circulation.api.dtos.CirculationEventDTO;
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEvent;
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEventType;
+import com.penrose.bibby.library.cataloging.circulation.core.ports.outbound.CirculationEventSpill;
+import com.penrose.bibby.library.cataloging.circulation.core.ports.outbound.CirculationEventStore;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class CirculationEventServiceTest {
+
+  private static final Instant NOW = Instant.parse("2026-03-15T10:00:00Z");
+  private static final int MAX_ATTEMPTS = 2;
+
+  private final RecordingStore store = new RecordingStore();
+  private final MemorySpill spill = new MemorySpill();
+  private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+  @AfterEach
+  void clearSecurityContext() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void record_shouldQueueWithoutWritingToTheStore() {
+    CirculationEventService service = service(2, 100, 0);
+
+    service.record(CirculationEventType.CHECK_OUT, 1L, 10L);
+
+    assertThat(store.batches).isEmpty();
+  }
+
+  @Test
+  void flush_shouldWriteQueuedEventsInBatches() {
+    CirculationEventService service = service(2, 100, 0);
+    for (long bookId = 1; bookId <= 5; bookId++) {
+      service.record(CirculationEventType.CHECK_OUT, bookId, 10L);
+    }
+
+    service.flush();
+
+    assertThat(store.batches).extracting(List::size).containsExactly(2, 2, 1);
+    assertThat(store.events).extracting(CirculationEvent::actor).containsOnly("local");
+    assertThat(store.events).extracting(CirculationEvent::occurredAt).containsOnly(NOW);
+  }
+
+  @Test
+  void record_shouldSpillRatherThanWriteOnTheCallersThreadWhenTheQueueIsFull() {
+    CirculationEventService service = service(10, 2, 0);
+
+    service.record(CirculationEventType.CHECK_OUT, 1L, null);
+    service.record(CirculationEventType.CHECK_IN, 1L, null);
+    service.record(CirculationEventType.RENEW, 2L, null);
+
+    assertThat(store.batches).isEmpty();
+    assertThat(spill.events)
+        .extracting(CirculationEvent::type)
+        .containsExactly(CirculationEventType.RENEW);
+
+    service.flush();
+
+    assertThat(store.events).hasSize(3);
+    assertThat(spill.events).isEmpty();
+  }
+
+  @Test
+  void historyOfBook_shouldIncludeEventsStillInTheQueue() {
+    CirculationEventService service = service(10, 100, 0);
+    service.record(CirculationEventType.CHECK_OUT, 1L, 10L);
+    service.record(CirculationEventType.CHECK_OUT, 2L, 10L);
+
+    List<CirculationEventDTO> history = service.historyOfBook(1L, 10);
+
+    assertThat(history)
+        .singleElement()
+        .satisfies(e -> assertThat(e.eventType()).isEqualTo("CHECK_OUT"));
+  }
+
+  @Test
+  void record_shouldOnlyKeepTheShelfOfAPlacement() {
+    CirculationEventService service = service(10, 100, 0);
+    service.record(CirculationEventType.CHECK_OUT, 1L, 10L);
+    service.record(CirculationEventType.PLACE, 1L, 20L);
+
+    service.flush();
+
+    assertThat(store.events).extracting(CirculationEvent::shelfId).containsExactly(null, 20L);
+  }
+
+  @Test
+  void flush_shouldRetryAFailedBatchOnTheNextFlush() {
+    CirculationEventService service = service(1, 100, 0);
+    store.failures = 1;
+    service.record(CirculationEventType.CHECK_OUT, 1L, null);
+    service.record(CirculationEventType.CHECK_IN, 1L, null);
+
+    service.flush();
+
+    assertThat(store.events).isEmpty();
+
+    service.flush();
+
+    assertThat(store.events)
+        .extracting(CirculationEvent::type)
+        .containsExactly(CirculationEventType.CHECK_OUT, CirculationEventType.CHECK_IN);
+    assertThat(spill.events).isEmpty();
+  }
+
+  @Test
+  void flush_shouldSpillABatchThatKeepsFailingAndReplayItOnceWritesSucceed() {
+    CirculationEventService service = service(10, 100, 0);
+    store.failures = MAX_ATTEMPTS;
+    service.record(CirculationEventType.CHECK_OUT, 1L, null);
+
+    service.flush();
+    service.flush();
+
+    assertThat(store.events).isEmpty();
+    assertThat(spill.events).extracting(CirculationEvent::bookId).containsExactly(1L);
+
+    service.record(CirculationEventType.CHECK_IN, 1L, null);
+    service.flush();
+
+    assertThat(store.events)
+        .extracting(CirculationEvent::type)
+        .containsExactlyInAnyOrder(CirculationEventType.CHECK_OUT, CirculationEventType.CHECK_IN);
+    assertThat(spill.events).isEmpty();
+  }
+
+  @Test
+  void flush_shouldReplayEventsSpilledByAnEarlierRun() {
+    spill.events.add(new CirculationEvent(1L, CirculationEventType.RENEW, null, "local", NOW, 0L));
+
+    service(10, 100, 0).flush();
+
+    assertThat(store.events)
+        .extracting(CirculationEvent::type)
+        .containsExactly(CirculationEventType.RENEW);
+    assertThat(spill.events).isEmpty();
+  }
+
+  @Test
+  void stop_shouldSpillWhatTheStoreWouldNotTake() {
+    CirculationEventService service = service(10, 100, 0);
+    service.start();
+    store.failures = 1;
+    service.record(CirculationEventType.CHECK_OUT, 1L, null);
+
+    service.stop();
+
+    assertThat(store.events).isEmpty();
+    assertThat(spill.events).extracting(CirculationEvent::bookId).containsExactly(1L);
+  }
+
+  @Test
+  void dropExpiredMonths_shouldDropMonthsOlderThanTheRetention() {
+    service(10, 100, 3).dropExpiredMonths();
+
+    assertThat(store.droppedBefore).isEqualTo(YearMonth.of(2025, 12));
+  }
+
+  @Test
+  void dropExpiredMonths_shouldKeepEverythingWhenRetentionIsDisabled() {
+    service(10, 100, 0).dropExpiredMonths();
+
+    assertThat(store.droppedBefore).isNull();
+  }
+
+  @Test
+  void stop_shouldFlushPendingEvents() {
+    CirculationEventService service = service(10, 100, 0);
+    service.start();
+    service.record(CirculationEventType.PLACE, 1L, 10L);
+
+    service.stop();
+
+    assertThat(service.isRunning()).isFalse();
+    assertThat(store.events).hasSize(1);
+  }
+
+  @Test
+  void history_shouldOnlyShowATenantItsOwnEvents() {
+    CirculationEventService service = service(10, 100, 0);
+    authenticateAs(7L, "alice@example.com");
+    service.record(CirculationEventType.CHECK_OUT, 1L, null);
+    authenticateAs(8L, "bob@example.com");
+    service.record(CirculationEventType.CHECK_IN, 1L, null);
+
+    assertThat(service.historyOfBook(1L, 10))
+        .singleElement()
+        .satisfies(e -> assertThat(e.actor()).isEqualTo("bob@example.com"));
+    assertThat(service.recentActivity(1, 10)).hasSize(1);
+
+    SecurityContextHolder.clearContext();
+    assertThat(service.historyOfBook(1L, 10)).hasSize(2);
+  }
+
+  private static void authenticateAs(Long appUserId, String email) {
+    AppUserImpl user = AppUserImpl.fromToken(appUserId, email);
+    SecurityContextHolder.getContext()
+        .setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+  }
+
+  private CirculationEventService service(int batchSize, int queueCapacity, int retentionMonths) {
+    return new CirculationEventService(
+        store,
+        spill,
+        clock,
+        batchSize,
+        Duration.ofHours(1),
+        queueCapacity,
+        MAX_ATTEMPTS,
+        retentionMonths);
+  }
+
+  private static final class MemorySpill implements CirculationEventSpill {
+    private final List<CirculationEvent> events = new ArrayList<>();
+
+    @Override
+    public void write(List<CirculationEvent> spilled) {
+      events.addAll(spilled);
+    }
+
+    @Override
+    public List<CirculationEvent> takeAll() {
+      List<CirculationEvent> taken = List.copyOf(events);
+      events.clear();
+      return taken;
+    }
+  }
+
+  private static final class RecordingStore implements CirculationEventStore {
+    private final List<List<CirculationEvent>> batches = new ArrayList<>();
+    private final List<CirculationEvent> events = new ArrayList<>();
+    private int failures;
+    private YearMonth droppedBefore;
+
+    @Override
+    public void appendAll(List<CirculationEvent> batch) {
+      if (failures > 0) {
+        failures--;
+        throw new IllegalStateException("database unavailable");
+      }
+      batches.add(List.copyOf(batch));
+      events.addAll(batch);
+    }
+
+    @Override
+    public List<CirculationEvent> findByBookId(Long tenantId, Long bookId, int limit) {
+      return events.stream()
+          .filter(e -> tenantId == null || e.tenantId().equals(tenantId))
+          .filter(e -> e.bookId().equals(bookId))
+          .sorted(Comparator.comparing(CirculationEvent::occurredAt).reversed())
+          .limit(limit)
+          .toList();
+    }
+
+    @Override
+    public List<CirculationEvent> findSince(Long tenantId, Instant since, int limit) {
+      return events.stream()
+          .filter(e -> tenantId == null || e.tenantId().equals(tenantId))
+          .filter(e -> !e.occurredAt().isBefore(since))
+          .limit(limit)
+          .toList();
+    }
+
+    @Override
+    public int dropBefore(YearMonth month) {
+      droppedBefore = month;
+      return 0;
+    }
+  }
+}
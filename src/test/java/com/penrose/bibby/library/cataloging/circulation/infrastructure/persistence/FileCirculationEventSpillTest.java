@@ -0,0 +1,41 @@
+package com.penrose.bibby.library.cataloging.circulation.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEvent;
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEventType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileCirculationEventSpillTest {
+
+  private static final Instant NOW = Instant.parse("2026-03-15T10:00:00Z");
+
+  @TempDir private Path dir;
+
+  @Test
+  void takeAll_shouldReturnEverySpilledEventInOrderAndDeleteTheFile() {
+    Path file = dir.resolve("circulation-events.spill");
+    FileCirculationEventSpill spill = new FileCirculationEventSpill(file);
+    CirculationEvent checkOut =
+        new CirculationEvent(
+            1L, CirculationEventType.CHECK_OUT, null, "reader@example.com", NOW, 7L);
+    CirculationEvent place =
+        new CirculationEvent(2L, CirculationEventType.PLACE, 20L, "local", NOW.plusSeconds(1), 0L);
+
+    spill.write(List.of(checkOut));
+    spill.write(List.of(place));
+
+    assertThat(new FileCirculationEventSpill(file).takeAll()).containsExactly(checkOut, place);
+    assertThat(Files.exists(file)).isFalse();
+  }
+
+  @Test
+  void takeAll_shouldBeEmptyWhenNothingWasSpilled() {
+    assertThat(new FileCirculationEventSpill(dir.resolve("none.spill")).takeAll()).isEmpty();
+  }
+}
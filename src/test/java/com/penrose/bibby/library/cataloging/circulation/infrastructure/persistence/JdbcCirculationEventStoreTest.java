@@ -0,0 +1,96 @@
+package com.penrose.bibby.library.cataloging.circulation.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEvent;
+import com.penrose.bibby.library.cataloging.circulation.core.domain.CirculationEventType;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+
+@JdbcTest
+@Import(JdbcCirculationEventStore.class)
+class JdbcCirculationEventStoreTest {
+
+  @Autowired private JdbcCirculationEventStore store;
+
+  @Test
+  void findByBookId_shouldReturnTheBooksEventsNewestFirst() {
+    store.appendAll(
+        List.of(
+            event(1L, CirculationEventType.CHECK_OUT, "2026-01-10T09:00:00Z"),
+            event(2L, CirculationEventType.CHECK_OUT, "2026-01-11T09:00:00Z"),
+            event(1L, CirculationEventType.CHECK_IN, "2026-02-01T09:00:00Z")));
+
+    List<CirculationEvent> history = store.findByBookId(null, 1L, 10);
+
+    assertThat(history)
+        .extracting(CirculationEvent::type)
+        .containsExactly(CirculationEventType.CHECK_IN, CirculationEventType.CHECK_OUT);
+    assertThat(history.get(0).occurredAt()).isEqualTo(Instant.parse("2026-02-01T09:00:00Z"));
+    assertThat(history.get(0).shelfId()).isEqualTo(10L);
+  }
+
+  @Test
+  void findSince_shouldReturnOnlyEventsInTheWindow() {
+    store.appendAll(
+        List.of(
+            event(1L, CirculationEventType.CHECK_OUT, "2026-01-10T09:00:00Z"),
+            new CirculationEvent(
+                2L,
+                CirculationEventType.RENEW,
+                null,
+                "local",
+                Instant.parse("2026-01-20T09:00:00Z"),
+                0L)));
+
+    List<CirculationEvent> recent =
+        store.findSince(null, Instant.parse("2026-01-15T00:00:00Z"), 10);
+
+    assertThat(recent).singleElement().satisfies(e -> assertThat(e.shelfId()).isNull());
+  }
+
+  @Test
+  void finders_shouldOnlyReturnTheGivenTenantsEvents() {
+    store.appendAll(
+        List.of(
+            event(1L, CirculationEventType.CHECK_OUT, "2026-01-10T09:00:00Z", 7L),
+            event(1L, CirculationEventType.CHECK_IN, "2026-01-11T09:00:00Z", 8L)));
+    Instant since = Instant.parse("2026-01-01T00:00:00Z");
+
+    assertThat(store.findByBookId(7L, 1L, 10))
+        .singleElement()
+        .satisfies(e -> assertThat(e.tenantId()).isEqualTo(7L));
+    assertThat(store.findSince(8L, since, 10))
+        .extracting(CirculationEvent::type)
+        .containsExactly(CirculationEventType.CHECK_IN);
+    assertThat(store.findSince(null, since, 10)).hasSize(2);
+  }
+
+  @Test
+  void dropBefore_shouldRemoveOlderMonthsOnly() {
+    store.appendAll(
+        List.of(
+            event(1L, CirculationEventType.CHECK_OUT, "2025-12-31T23:59:59Z"),
+            event(1L, CirculationEventType.CHECK_IN, "2026-01-01T00:00:00Z")));
+
+    store.dropBefore(YearMonth.of(2026, 1));
+
+    assertThat(store.findByBookId(null, 1L, 10))
+        .extracting(CirculationEvent::type)
+        .containsExactly(CirculationEventType.CHECK_IN);
+  }
+
+  private static CirculationEvent event(Long bookId, CirculationEventType type, String at) {
+    return event(bookId, type, at, 0L);
+  }
+
+  private static CirculationEvent event(
+      Long bookId, CirculationEventType type, String at, Long tenantId) {
+    return new CirculationEvent(bookId, type, 10L, "alice", Instant.parse(at), tenantId);
+  }
+}
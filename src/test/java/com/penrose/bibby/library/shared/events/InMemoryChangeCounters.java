@@ -0,0 +1,20 @@
+package com.penrose.bibby.library.shared.events;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** {@link ChangeCounters} for tests; several caches sharing one instance act like two instances. */
+public class InMemoryChangeCounters implements ChangeCounters {
+
+  private final Map<String, Long> counters = new ConcurrentHashMap<>();
+
+  @Override
+  public long current(String name) {
+    return counters.getOrDefault(name, 0L);
+  }
+
+  @Override
+  public long increment(String name) {
+    return counters.merge(name, 1L, Long::sum);
+  }
+}
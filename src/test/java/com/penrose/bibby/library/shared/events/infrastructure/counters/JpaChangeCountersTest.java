@@ -0,0 +1,50 @@
+package com.penrose.bibby.library.shared.events.infrastructure.counters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.penrose.bibby.config.tenancy.TenancyConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Runs without a test transaction so each increment commits, as it would from a subscriber. */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaChangeCounters.class, TenancyConfig.class})
+class JpaChangeCountersTest {
+
+  @Autowired private JpaChangeCounters changeCounters;
+  @Autowired private ChangeCounterJpaRepository changeCounterJpaRepository;
+
+  @AfterEach
+  void tearDown() {
+    changeCounterJpaRepository.deleteAll();
+  }
+
+  @Test
+  void current_shouldBeZeroForACounterNeverIncremented() {
+    assertThat(changeCounters.current("test-books")).isZero();
+  }
+
+  @Test
+  void increment_shouldCreateTheCounterOnFirstUseAndCountFromThere() {
+    long first = changeCounters.increment("test-books");
+    long second = changeCounters.increment("test-books");
+
+    assertThat(first).isPositive();
+    assertThat(second).isEqualTo(first + 1);
+    assertThat(changeCounters.current("test-books")).isEqualTo(second);
+    assertThat(changeCounters.current("test-shelves")).isZero();
+  }
+
+  @Test
+  void increment_shouldStartANewCounterFromTheCurrentTime() {
+    long createdAfter = System.currentTimeMillis();
+
+    assertThat(changeCounters.increment("test-books")).isGreaterThan(createdAfter);
+  }
+}
@@ -0,0 +1,221 @@
+package com.penrose.bibby.library.shared.events.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.penrose.bibby.config.tenancy.TenancyConfig;
+import com.penrose.bibby.library.cataloging.book.api.events.BookMoved;
+import com.penrose.bibby.library.cataloging.book.api.events.BookPlaced;
+import com.penrose.bibby.library.shared.events.DomainEventPublisher;
+import com.penrose.bibby.library.shared.events.DomainEventSubscriber;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Runs without a test transaction so publishing commits and the relay sees real outbox rows. */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({
+  OutboxDomainEventPublisher.class,
+  OutboxRelay.class,
+  OutboxRelayTest.Subscribers.class,
+  TenancyConfig.class
+})
+@TestPropertySource(
+    properties = {
+      "bibby.events.outbox.batch-size=1",
+      "bibby.events.outbox.max-attempts=2",
+      "bibby.events.outbox.retry-backoff=1h",
+      "bibby.events.outbox.max-retry-backoff=3h"
+    })
+class OutboxRelayTest {
+
+  @Autowired private DomainEventPublisher publisher;
+  @Autowired private OutboxRelay relay;
+  @Autowired private OutboxEventJpaRepository outboxEventJpaRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private RecordingSubscriber placedSubscriber;
+
+  @BeforeEach
+  void setUp() {
+    // Drive the relay from the test thread only
+    relay.stop();
+    placedSubscriber.reset();
+  }
+
+  @AfterEach
+  void tearDown() {
+    outboxEventJpaRepository.deleteAll();
+  }
+
+  @Test
+  void relayPending_shouldDeliverCommittedEventsToSubscribersOfTheirType() {
+    inTransaction(
+        () -> {
+          publisher.publish(new BookPlaced(1L, 10L));
+          publisher.publish(new BookMoved(1L, 10L, 11L));
+        });
+
+    relay.relayPending();
+
+    assertThat(placedSubscriber.received).containsExactly(new BookPlaced(1L, 10L));
+    assertThat(outboxEventJpaRepository.findAll())
+        .allSatisfy(entry -> assertThat(entry.getDispatchedAt()).isNotNull());
+  }
+
+  @Test
+  void publish_shouldDiscardEventsOfARolledBackTransaction() {
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(
+            status -> {
+              publisher.publish(new BookPlaced(2L, 10L));
+              status.setRollbackOnly();
+            });
+
+    relay.relayPending();
+
+    assertThat(placedSubscriber.received).isEmpty();
+    assertThat(outboxEventJpaRepository.count()).isZero();
+  }
+
+  @Test
+  void relayPending_shouldRedeliverAfterASubscriberFailure() {
+    placedSubscriber.failuresLeft = 1;
+    inTransaction(() -> publisher.publish(new BookPlaced(3L, 10L)));
+
+    relay.relayPending();
+    assertThat(outboxEventJpaRepository.findAll())
+        .singleElement()
+        .satisfies(
+            entry -> {
+              assertThat(entry.getDispatchedAt()).isNull();
+              assertThat(entry.getAttempts()).isEqualTo(1);
+              assertThat(entry.getLastError()).contains("boom");
+              assertThat(entry.getNextAttemptAt()).isAfter(entry.getCreatedAt());
+            });
+
+    assertThat(relay.relayPending()).as("still backing off").isZero();
+
+    makeFailedEventsDue();
+    relay.relayPending();
+    assertThat(placedSubscriber.received).containsExactly(new BookPlaced(3L, 10L));
+  }
+
+  @Test
+  void relayPending_shouldEndThePassAtABatchWithAFailure() {
+    placedSubscriber.failuresLeft = 1;
+    inTransaction(
+        () -> {
+          publisher.publish(new BookPlaced(5L, 10L));
+          publisher.publish(new BookPlaced(6L, 10L));
+        });
+
+    int handled = relay.relayPending();
+
+    assertThat(handled).isEqualTo(1);
+    assertThat(placedSubscriber.received).isEmpty();
+    assertThat(relay.relayPending()).isEqualTo(1);
+    assertThat(placedSubscriber.received).containsExactly(new BookPlaced(6L, 10L));
+  }
+
+  @Test
+  void relayPending_shouldHoldBackLaterEventsOfTheSameAggregate() {
+    placedSubscriber.failuresLeft = 1;
+    inTransaction(
+        () -> {
+          publisher.publish(new BookPlaced(7L, 10L));
+          publisher.publish(new BookPlaced(7L, 11L));
+        });
+
+    relay.relayPending();
+    assertThat(relay.relayPending()).isZero();
+
+    makeFailedEventsDue();
+    relay.relayPending();
+
+    assertThat(placedSubscriber.received)
+        .containsExactly(new BookPlaced(7L, 10L), new BookPlaced(7L, 11L));
+  }
+
+  @Test
+  void backoff_shouldDoubleWithEachFailureUpToTheCap() {
+    assertThat(relay.backoff(1)).isEqualTo(Duration.ofHours(1));
+    assertThat(relay.backoff(2)).isEqualTo(Duration.ofHours(2));
+    assertThat(relay.backoff(3)).isEqualTo(Duration.ofHours(3));
+    assertThat(relay.backoff(30)).isEqualTo(Duration.ofHours(3));
+  }
+
+  @Test
+  void relayPending_shouldStopRetryingAfterMaxAttempts() {
+    placedSubscriber.failuresLeft = Integer.MAX_VALUE;
+    inTransaction(() -> publisher.publish(new BookPlaced(4L, 10L)));
+
+    relay.relayPending();
+    makeFailedEventsDue();
+    relay.relayPending();
+    makeFailedEventsDue();
+    int handledAfterGivingUp = relay.relayPending();
+
+    assertThat(handledAfterGivingUp).isZero();
+    assertThat(outboxEventJpaRepository.findAll())
+        .singleElement()
+        .satisfies(entry -> assertThat(entry.getAttempts()).isEqualTo(2));
+  }
+
+  private void makeFailedEventsDue() {
+    jdbcTemplate.update("UPDATE domain_event_outbox SET next_attempt_at = NULL");
+  }
+
+  private void inTransaction(Runnable work) {
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> work.run());
+  }
+
+  @TestConfiguration
+  static class Subscribers {
+    @Bean
+    RecordingSubscriber placedSubscriber() {
+      return new RecordingSubscriber();
+    }
+  }
+
+  static class RecordingSubscriber implements DomainEventSubscriber<BookPlaced> {
+    final List<BookPlaced> received = new CopyOnWriteArrayList<>();
+    volatile int failuresLeft;
+
+    void reset() {
+      received.clear();
+      failuresLeft = 0;
+    }
+
+    @Override
+    public Class<BookPlaced> eventType() {
+      return BookPlaced.class;
+    }
+
+    @Override
+    public void on(BookPlaced event) {
+      if (failuresLeft > 0) {
+        failuresLeft--;
+        throw new IllegalStateException("boom");
+      }
+      received.add(event);
+    }
+  }
+}
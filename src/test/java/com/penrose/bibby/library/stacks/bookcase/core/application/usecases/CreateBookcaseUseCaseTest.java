@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.penrose.bibby.library.shared.events.DomainEventPublisher;
+import com.penrose.bibby.library.stacks.bookcase.api.events.BookcaseCreated;
 import com.penrose.bibby.library.stacks.bookcase.core.domain.model.Bookcase;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.outbound.BookcaseRepository;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.outbound.ShelfAccessPort;
@@ -23,6 +25,8 @@ class CreateBookcaseUseCaseTest {
 
   @Mock private ShelfAccessPort shelfAccessPort;
 
+  @Mock private DomainEventPublisher domainEventPublisher;
+
   @InjectMocks private CreateBookcaseUseCase createBookcaseUseCase;
 
   @Test
@@ -46,6 +50,8 @@ class CreateBookcaseUseCaseTest {
             bookcaseZoneIndex);
     when(bookcaseRepository.findBookcaseByBookcaseLocation(label)).thenReturn(null);
     when(bookcaseRepository.save(any(Bookcase.class))).thenReturn(savedBookcase);
+    when(shelfAccessPort.createShelves(100L, shelfCapacity, bookCapacity))
+        .thenReturn(shelfCapacity);
 
     CreateBookcaseResult result =
         createBookcaseUseCase.createNewBookCase(
@@ -55,8 +61,8 @@ class CreateBookcaseUseCaseTest {
     assertThat(result.bookcaseId()).isEqualTo(100L);
     verify(bookcaseRepository).findBookcaseByBookcaseLocation(label);
     verify(bookcaseRepository).save(any(Bookcase.class));
-    verify(shelfAccessPort, times(shelfCapacity))
-        .createShelf(eq(100L), anyInt(), anyString(), eq(bookCapacity));
+    verify(shelfAccessPort).createShelves(100L, shelfCapacity, bookCapacity);
+    verify(domainEventPublisher).publish(new BookcaseCreated(100L, location, shelfCapacity));
   }
 
   @Test
@@ -89,11 +95,11 @@ class CreateBookcaseUseCaseTest {
 
     verify(bookcaseRepository).findBookcaseByBookcaseLocation(label);
     verify(bookcaseRepository, never()).save(any());
-    verify(shelfAccessPort, never()).createShelf(anyLong(), anyInt(), anyString(), anyInt());
+    verify(shelfAccessPort, never()).createShelves(anyLong(), anyInt(), anyInt());
   }
 
   @Test
-  void createNewBookCase_shouldCreateCorrectNumberOfShelves() {
+  void createNewBookCase_shouldCreateAllShelvesInOneBatch() {
     int shelfCapacity = 3;
     int bookCapacity = 10;
 
@@ -106,9 +112,7 @@ class CreateBookcaseUseCaseTest {
     createBookcaseUseCase.createNewBookCase(
         1L, "BC001", "A", "1", shelfCapacity, bookCapacity, "Living Room");
 
-    verify(shelfAccessPort).createShelf(100L, 1, "Shelf 1", bookCapacity);
-    verify(shelfAccessPort).createShelf(100L, 2, "Shelf 2", bookCapacity);
-    verify(shelfAccessPort).createShelf(100L, 3, "Shelf 3", bookCapacity);
+    verify(shelfAccessPort).createShelves(100L, shelfCapacity, bookCapacity);
     verifyNoMoreInteractions(shelfAccessPort);
   }
 }
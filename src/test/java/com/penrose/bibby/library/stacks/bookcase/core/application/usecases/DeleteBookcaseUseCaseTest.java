@@ -1,7 +1,16 @@
 package com.penrose.bibby.library.stacks.bookcase.core.application.usecases;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.penrose.bibby.library.shared.events.DomainEventPublisher;
+import com.penrose.bibby.library.stacks.bookcase.api.events.BookcaseDeleted;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.outbound.BookcaseRepository;
 import com.penrose.bibby.library.stacks.bookcase.core.ports.outbound.ShelfAccessPort;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.DeleteBookcaseResult;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.ShelfDeletionCounts;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
@@ -17,16 +26,36 @@ class DeleteBookcaseUseCaseTest {
 
   @Mock private ShelfAccessPort shelfAccessPort;
 
+  @Mock private DomainEventPublisher domainEventPublisher;
+
   @InjectMocks private DeleteBookcaseUseCase deleteBookcaseUseCase;
 
   @Test
   void deleteBookcase_shouldDeleteShelvesThenBookcase() {
     Long bookcaseId = 100L;
+    when(shelfAccessPort.deleteAllShelvesInBookcase(bookcaseId))
+        .thenReturn(new ShelfDeletionCounts(3, 12, 12));
+    when(bookcaseRepository.deleteById(bookcaseId)).thenReturn(1);
 
-    deleteBookcaseUseCase.deleteBookcase(bookcaseId);
+    DeleteBookcaseResult result = deleteBookcaseUseCase.deleteBookcase(bookcaseId);
 
     InOrder inOrder = Mockito.inOrder(shelfAccessPort, bookcaseRepository);
     inOrder.verify(shelfAccessPort).deleteAllShelvesInBookcase(bookcaseId);
     inOrder.verify(bookcaseRepository).deleteById(bookcaseId);
+    assertThat(result).isEqualTo(new DeleteBookcaseResult(bookcaseId, true, 3, 12, 12));
+    verify(domainEventPublisher).publish(new BookcaseDeleted(bookcaseId));
+  }
+
+  @Test
+  void deleteBookcase_shouldReportMissingBookcase() {
+    Long bookcaseId = 404L;
+    when(shelfAccessPort.deleteAllShelvesInBookcase(bookcaseId))
+        .thenReturn(new ShelfDeletionCounts(0, 0, 0));
+    when(bookcaseRepository.deleteById(bookcaseId)).thenReturn(0);
+
+    DeleteBookcaseResult result = deleteBookcaseUseCase.deleteBookcase(bookcaseId);
+
+    assertThat(result.bookcaseDeleted()).isFalse();
+    verifyNoInteractions(domainEventPublisher);
   }
 }
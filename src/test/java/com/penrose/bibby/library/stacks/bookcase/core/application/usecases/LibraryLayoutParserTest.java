@@ -0,0 +1,74 @@
+package com.penrose.bibby.library.stacks.bookcase.core.application.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.BookcaseLayoutEntry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LibraryLayoutParserTest {
+
+  @Test
+  void parse_shouldExpandNumericRangesKeepingZeroPadding() {
+    List<BookcaseLayoutEntry> entries =
+        LibraryLayoutParser.parse("Warehouse, Aisle1, 08-11, 5, 30");
+
+    assertThat(entries)
+        .extracting(BookcaseLayoutEntry::index)
+        .containsExactly("08", "09", "10", "11");
+    assertThat(entries)
+        .allSatisfy(
+            entry -> {
+              assertThat(entry.location()).isEqualTo("Warehouse");
+              assertThat(entry.zone()).isEqualTo("Aisle1");
+              assertThat(entry.shelfCount()).isEqualTo(5);
+              assertThat(entry.bookCapacity()).isEqualTo(30);
+            });
+  }
+
+  @Test
+  void parse_shouldExpandLetterRangesAndKeepSingleIndexes() {
+    String layout =
+        """
+        # location, zone, index, shelves, books per shelf
+        Office, NorthWall, a-c, 4, 20
+
+        Office, Desk, 1, 2, 15
+        """;
+
+    List<BookcaseLayoutEntry> entries = LibraryLayoutParser.parse(layout);
+
+    assertThat(entries)
+        .extracting(BookcaseLayoutEntry::label)
+        .containsExactly("NorthWall-A", "NorthWall-B", "NorthWall-C", "Desk-1");
+  }
+
+  @Test
+  void parse_shouldReportLineNumberOfMalformedLine() {
+    String layout = "Office, Desk, 1, 2, 15\nOffice, Desk, 2, two, 15";
+
+    assertThatThrownBy(() -> LibraryLayoutParser.parse(layout))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("line 2")
+        .hasMessageContaining("shelf count");
+  }
+
+  @Test
+  void parse_shouldRejectReversedRangesAndMissingColumns() {
+    assertThatThrownBy(() -> LibraryLayoutParser.parse("Office, Desk, 9-3, 2, 15"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("reversed");
+    assertThatThrownBy(() -> LibraryLayoutParser.parse("Office, Desk, 1, 2"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("expected 5 columns");
+  }
+
+  @Test
+  void parse_shouldRejectLayoutWithoutBookcases() {
+    assertThatThrownBy(() -> LibraryLayoutParser.parse("# only a comment\n"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> LibraryLayoutParser.parse(null))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
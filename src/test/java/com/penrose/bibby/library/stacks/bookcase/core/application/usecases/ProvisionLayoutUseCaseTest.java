@@ -0,0 +1,120 @@
+package com.penrose.bibby.library.stacks.bookcase.core.application.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.penrose.bibby.library.shared.events.DomainEventPublisher;
+import com.penrose.bibby.library.stacks.bookcase.core.domain.model.Bookcase;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.outbound.BookcaseRepository;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.outbound.ShelfAccessPort;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.ProvisionLayoutResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+class ProvisionLayoutUseCaseTest {
+
+  @Mock private BookcaseRepository bookcaseRepository;
+
+  @Mock private ShelfAccessPort shelfAccessPort;
+
+  @Mock private DomainEventPublisher domainEventPublisher;
+
+  private ProvisionLayoutUseCase provisionLayoutUseCase;
+
+  private final AtomicLong ids = new AtomicLong(100);
+
+  @BeforeEach
+  void setUp() {
+    provisionLayoutUseCase =
+        new ProvisionLayoutUseCase(
+            bookcaseRepository,
+            shelfAccessPort,
+            TransactionOperations.withoutTransaction(),
+            domainEventPublisher);
+  }
+
+  private void assignIdsOnSave() {
+    when(bookcaseRepository.saveAll(anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<Bookcase> saved = new ArrayList<>();
+              for (Bookcase bookcase : invocation.<List<Bookcase>>getArgument(0)) {
+                bookcase.setBookcaseId(ids.getAndIncrement());
+                saved.add(bookcase);
+              }
+              return saved;
+            });
+    when(shelfAccessPort.createShelves(anyLong(), anyInt(), anyInt()))
+        .thenAnswer(invocation -> invocation.getArgument(1));
+  }
+
+  @Test
+  void provision_shouldCreateBookcasesAndShelvesFromLayout() {
+    when(bookcaseRepository.findByAppUserId(1L)).thenReturn(List.of());
+    assignIdsOnSave();
+
+    ProvisionLayoutResult result =
+        provisionLayoutUseCase.provision(
+            1L, "Warehouse, Aisle1, 1-3, 5, 30\nOffice, Desk, A, 2, 10");
+
+    assertThat(result.bookcasesCreated()).isEqualTo(4);
+    assertThat(result.shelvesCreated()).isEqualTo(17);
+    assertThat(result.skipped()).isEmpty();
+    verify(bookcaseRepository, times(1)).saveAll(anyList());
+    verify(shelfAccessPort).createShelves(100L, 5, 30);
+    verify(shelfAccessPort).createShelves(103L, 2, 10);
+    verify(bookcaseRepository, never()).save(any());
+  }
+
+  @Test
+  void provision_shouldSkipBookcasesThatAlreadyExist() {
+    Bookcase existing = new Bookcase(7L, 1L, 5, 150, "Warehouse", "Aisle1", "2");
+    when(bookcaseRepository.findByAppUserId(1L)).thenReturn(List.of(existing));
+    assignIdsOnSave();
+
+    ProvisionLayoutResult result =
+        provisionLayoutUseCase.provision(1L, "warehouse, aisle1, 1-3, 5, 30");
+
+    assertThat(result.bookcasesCreated()).isEqualTo(2);
+    assertThat(result.skipped()).containsExactly("warehouse/aisle1-2");
+  }
+
+  @Test
+  void provision_shouldWriteLargeLayoutsInChunks() {
+    when(bookcaseRepository.findByAppUserId(1L)).thenReturn(List.of());
+    assignIdsOnSave();
+    int total = ProvisionLayoutUseCase.CHUNK_SIZE * 2 + 1;
+
+    ProvisionLayoutResult result =
+        provisionLayoutUseCase.provision(1L, "Warehouse, Aisle1, 1-" + total + ", 1, 10");
+
+    assertThat(result.bookcasesCreated()).isEqualTo(total);
+    verify(bookcaseRepository, times(3)).saveAll(anyList());
+  }
+
+  @Test
+  void provision_shouldRejectInvalidLayoutBeforeWriting() {
+    assertThatThrownBy(() -> provisionLayoutUseCase.provision(1L, "Warehouse, Aisle1"))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    verifyNoInteractions(bookcaseRepository, shelfAccessPort);
+  }
+
+  @Test
+  void provision_shouldRejectALayoutWithoutAnOwner() {
+    assertThatThrownBy(() -> provisionLayoutUseCase.provision(null, "Warehouse, Aisle1, 1, 5, 30"))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    verifyNoInteractions(bookcaseRepository, shelfAccessPort);
+  }
+}
@@ -1,10 +1,13 @@
 package com.penrose.bibby.library.stacks.bookcase.infrastructure.adapter.outbound;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import com.penrose.bibby.library.stacks.bookcase.core.ports.portModel.ShelfDeletionCounts;
 import com.penrose.bibby.library.stacks.bookcase.infrastructure.adapter.ShelfAccessPortAdapter;
 import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.DeleteShelvesUseCasePort;
 import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfCommandFacade;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.inboundPortModels.DeleteShelvesResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -21,10 +24,12 @@ class ShelfAccessPortAdapterTest {
   @Test
   void deleteAllShelvesInBookcase_shouldDelegateToDeleteShelvesUseCasePort() {
     Long bookcaseId = 1L;
+    when(deleteShelvesUseCasePort.execute(bookcaseId)).thenReturn(new DeleteShelvesResult(2, 5, 4));
 
-    shelfAccessPortAdapter.deleteAllShelvesInBookcase(bookcaseId);
+    ShelfDeletionCounts counts = shelfAccessPortAdapter.deleteAllShelvesInBookcase(bookcaseId);
 
     verify(deleteShelvesUseCasePort).execute(bookcaseId);
     verifyNoInteractions(shelfCommandFacade);
+    assertThat(counts).isEqualTo(new ShelfDeletionCounts(2, 5, 4));
   }
 }
@@ -0,0 +1,78 @@
+package com.penrose.bibby.library.stacks.shelf.core.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.penrose.bibby.config.sql.QueryBudget;
+import com.penrose.bibby.library.stacks.bookcase.infrastructure.persistence.entity.BookcaseEntity;
+import com.penrose.bibby.library.stacks.bookcase.infrastructure.persistence.repository.BookcaseJpaRepository;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfQueryFacade;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.inboundPortModels.ShelfResponse;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.inboundPortModels.ShelfSummaryResponse;
+import com.penrose.bibby.library.stacks.shelf.infrastructure.persistence.entity.ShelfEntity;
+import com.penrose.bibby.library.stacks.shelf.infrastructure.persistence.repository.ShelfJpaRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Statement budgets for the shelf read paths, so a query per shelf is caught in CI. */
+@SpringBootTest
+@Transactional
+class ShelfQueryBudgetTest {
+
+  private static final int SHELVES = 5;
+
+  @Autowired private ShelfQueryFacade shelfQueryFacade;
+  @Autowired private BookcaseJpaRepository bookcaseJpaRepository;
+  @Autowired private ShelfJpaRepository shelfJpaRepository;
+
+  private Long bookcaseId;
+  private Long shelfId;
+
+  @BeforeEach
+  void setUp() {
+    bookcaseId =
+        bookcaseJpaRepository
+            .save(new BookcaseEntity(1L, "Budget Hall", "A", "1", SHELVES, 50))
+            .getBookcaseId();
+    for (int position = 1; position <= SHELVES; position++) {
+      shelfId =
+          shelfJpaRepository
+              .save(new ShelfEntity(bookcaseId, position, "Shelf " + position, 10))
+              .getShelfId();
+    }
+    shelfJpaRepository.flush();
+  }
+
+  @Test
+  void findShelvesByBookcaseId_shouldNotQueryPerShelf() {
+    List<ShelfResponse> shelves =
+        QueryBudget.atMost(1, () -> shelfQueryFacade.findShelvesByBookcaseId(bookcaseId));
+
+    assertThat(shelves).hasSize(SHELVES);
+  }
+
+  @Test
+  void getShelfSummaries_shouldNotQueryPerShelf() {
+    List<ShelfSummaryResponse> summaries =
+        QueryBudget.atMost(
+            1, () -> shelfQueryFacade.getShelfSummariesForBookcaseByBookcaseId(bookcaseId));
+
+    assertThat(summaries).hasSize(SHELVES);
+  }
+
+  @Test
+  void findAll_shouldNotQueryPerShelf() {
+    List<ShelfResponse> shelves = QueryBudget.atMost(1, () -> shelfQueryFacade.findAll());
+
+    assertThat(shelves).hasSizeGreaterThanOrEqualTo(SHELVES);
+  }
+
+  @Test
+  void singleShelfLookups_shouldTakeOneStatement() {
+    assertThat(QueryBudget.atMost(1, () -> shelfQueryFacade.findShelfById(shelfId))).isPresent();
+    assertThat(QueryBudget.atMost(1, () -> shelfQueryFacade.isFull(shelfId))).isFalse();
+  }
+}
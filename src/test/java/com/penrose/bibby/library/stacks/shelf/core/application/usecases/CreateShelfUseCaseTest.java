@@ -3,8 +3,11 @@ package com.penrose.bibby.library.stacks.shelf.core.application.usecases;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import com.penrose.bibby.library.shared.events.DomainEventPublisher;
+import com.penrose.bibby.library.stacks.shelf.api.events.ShelvesAdded;
 import com.penrose.bibby.library.stacks.shelf.core.domain.model.Shelf;
 import com.penrose.bibby.library.stacks.shelf.core.ports.outbound.ShelfDomainRepositoryPort;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -17,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class CreateShelfUseCaseTest {
 
   @Mock private ShelfDomainRepositoryPort shelfDomainRepositoryPort;
+  @Mock private DomainEventPublisher domainEventPublisher;
   @InjectMocks private CreateShelfUseCase createShelfUseCase;
   @Captor private ArgumentCaptor<Shelf> shelfCaptor;
 
@@ -32,5 +36,30 @@ class CreateShelfUseCaseTest {
     assertThat(captured.getBookcaseId()).isEqualTo(100L);
     assertThat(captured.getBooks()).isEmpty();
     assertThat(captured.getShelfId()).isNull();
+    verify(domainEventPublisher).publish(new ShelvesAdded(100L, 1));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void createShelves_shouldSaveAllShelvesInOneCall() {
+    ArgumentCaptor<List<Shelf>> listCaptor = ArgumentCaptor.forClass(List.class);
+
+    int created = createShelfUseCase.createShelves(100L, 3, 25);
+
+    assertThat(created).isEqualTo(3);
+    verify(shelfDomainRepositoryPort).createNewShelves(listCaptor.capture());
+    verify(shelfDomainRepositoryPort, never()).createNewShelfInBookcase(any());
+    List<Shelf> shelves = listCaptor.getValue();
+    assertThat(shelves)
+        .extracting(Shelf::getShelfLabel)
+        .containsExactly("Shelf 1", "Shelf 2", "Shelf 3");
+    assertThat(shelves).extracting(Shelf::getShelfPosition).containsExactly(1, 2, 3);
+    assertThat(shelves)
+        .allSatisfy(
+            shelf -> {
+              assertThat(shelf.getBookcaseId()).isEqualTo(100L);
+              assertThat(shelf.getBookCapacity()).isEqualTo(25);
+            });
+    verify(domainEventPublisher).publish(new ShelvesAdded(100L, 3));
   }
 }
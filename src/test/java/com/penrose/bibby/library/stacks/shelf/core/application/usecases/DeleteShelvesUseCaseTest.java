@@ -1,10 +1,13 @@
 package com.penrose.bibby.library.stacks.shelf.core.application.usecases;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
-import com.penrose.bibby.library.stacks.shelf.core.domain.model.Shelf;
-import com.penrose.bibby.library.stacks.shelf.core.domain.valueobject.ShelfId;
+import com.penrose.bibby.library.shared.events.DomainEventPublisher;
+import com.penrose.bibby.library.stacks.shelf.api.events.ShelfDeleted;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.inboundPortModels.DeleteShelvesResult;
 import com.penrose.bibby.library.stacks.shelf.core.ports.outbound.BookAccessPort;
+import com.penrose.bibby.library.stacks.shelf.core.ports.outbound.PlacementRepositoryPort;
 import com.penrose.bibby.library.stacks.shelf.core.ports.outbound.ShelfDomainRepositoryPort;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -19,35 +22,49 @@ class DeleteShelvesUseCaseTest {
 
   @Mock private ShelfDomainRepositoryPort shelfDomainRepositoryPort;
   @Mock private BookAccessPort bookAccessPort;
+  @Mock private PlacementRepositoryPort placementRepositoryPort;
+  @Mock private DomainEventPublisher domainEventPublisher;
   @InjectMocks private DeleteShelvesUseCase deleteShelvesUseCase;
 
   @Test
-  void execute_shouldDeleteBooksBeforeShelves() {
+  void execute_shouldDeleteBooksAndPlacementsBeforeShelves() {
     Long bookcaseId = 100L;
-    Shelf shelf1 = mock(Shelf.class);
-    Shelf shelf2 = mock(Shelf.class);
-    when(shelf1.getShelfId()).thenReturn(new ShelfId(1L));
-    when(shelf2.getShelfId()).thenReturn(new ShelfId(2L));
+    when(shelfDomainRepositoryPort.findShelfIdsByBookcaseId(bookcaseId))
+        .thenReturn(List.of(1L, 2L));
+    when(bookAccessPort.deleteBooksOnShelves(List.of(1L, 2L))).thenReturn(7);
+    when(placementRepositoryPort.deleteByShelfIds(List.of(1L, 2L))).thenReturn(3);
+    when(shelfDomainRepositoryPort.deleteByBookcaseId(bookcaseId)).thenReturn(2);
 
-    when(shelfDomainRepositoryPort.findByBookcaseId(bookcaseId))
-        .thenReturn(List.of(shelf1, shelf2));
+    DeleteShelvesResult result = deleteShelvesUseCase.execute(bookcaseId);
 
-    deleteShelvesUseCase.execute(bookcaseId);
-
-    InOrder inOrder = inOrder(bookAccessPort, shelfDomainRepositoryPort);
+    InOrder inOrder = inOrder(bookAccessPort, placementRepositoryPort, shelfDomainRepositoryPort);
     inOrder.verify(bookAccessPort).deleteBooksOnShelves(List.of(1L, 2L));
+    inOrder.verify(placementRepositoryPort).deleteByShelfIds(List.of(1L, 2L));
     inOrder.verify(shelfDomainRepositoryPort).deleteByBookcaseId(bookcaseId);
+    assertThat(result).isEqualTo(new DeleteShelvesResult(2, 7, 3));
+    verify(domainEventPublisher).publish(new ShelfDeleted(1L, bookcaseId));
+    verify(domainEventPublisher).publish(new ShelfDeleted(2L, bookcaseId));
   }
 
   @Test
-  void execute_shouldHandleEmptyBookcase() {
+  void execute_shouldNeverLoadShelfAggregates() {
     Long bookcaseId = 100L;
-
-    when(shelfDomainRepositoryPort.findByBookcaseId(bookcaseId)).thenReturn(List.of());
+    when(shelfDomainRepositoryPort.findShelfIdsByBookcaseId(bookcaseId)).thenReturn(List.of(1L));
 
     deleteShelvesUseCase.execute(bookcaseId);
 
-    verify(bookAccessPort).deleteBooksOnShelves(List.of());
+    verify(shelfDomainRepositoryPort, never()).findByBookcaseId(any());
+  }
+
+  @Test
+  void execute_shouldSkipBookAndPlacementDeletesForEmptyBookcase() {
+    Long bookcaseId = 100L;
+    when(shelfDomainRepositoryPort.findShelfIdsByBookcaseId(bookcaseId)).thenReturn(List.of());
+
+    DeleteShelvesResult result = deleteShelvesUseCase.execute(bookcaseId);
+
+    verifyNoInteractions(bookAccessPort, placementRepositoryPort);
     verify(shelfDomainRepositoryPort).deleteByBookcaseId(bookcaseId);
+    assertThat(result).isEqualTo(new DeleteShelvesResult(0, 0, 0));
   }
 }
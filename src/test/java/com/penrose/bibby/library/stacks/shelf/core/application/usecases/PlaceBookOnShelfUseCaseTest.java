@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
+import com.penrose.bibby.library.shared.events.DomainEventPublisher;
+import com.penrose.bibby.library.stacks.shelf.api.events.BookPlacementRecorded;
 import com.penrose.bibby.library.stacks.shelf.core.domain.model.Placement;
 import com.penrose.bibby.library.stacks.shelf.core.ports.outbound.BookAccessPort;
 import com.penrose.bibby.library.stacks.shelf.core.ports.outbound.PlacementRepositoryPort;
@@ -20,6 +22,7 @@ class PlaceBookOnShelfUseCaseTest {
 
   @Mock private PlacementRepositoryPort placementRepositoryPort;
   @Mock private BookAccessPort bookAccessPort;
+  @Mock private DomainEventPublisher domainEventPublisher;
   @InjectMocks private PlaceBookOnShelfUseCase placeBookOnShelfUseCase;
   @Captor private ArgumentCaptor<Placement> placementCaptor;
 
@@ -35,6 +38,7 @@ class PlaceBookOnShelfUseCaseTest {
     Placement captured = placementCaptor.getValue();
     assertThat(captured.getBookId()).isEqualTo(bookId);
     assertThat(captured.getShelfId()).isEqualTo(shelfId);
+    verify(domainEventPublisher).publish(new BookPlacementRecorded(bookId, shelfId));
   }
 
   @Test
@@ -48,5 +52,6 @@ class PlaceBookOnShelfUseCaseTest {
         .hasMessage("Book with id 99 does not exist.");
 
     verify(placementRepositoryPort, never()).placeBookOnShelf(any());
+    verifyNoInteractions(domainEventPublisher);
   }
 }
@@ -0,0 +1,95 @@
+package com.penrose.bibby.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.penrose.bibby.ratelimit.store.InMemoryRateLimitStore;
+import com.penrose.bibby.ratelimit.store.RateLimitStore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LeasedPermitsTest {
+
+  // Five requests, then one every 20 seconds
+  private final RateLimitPolicy policy = RateLimitPolicy.parse("POST /import=5/0.05");
+  private final AtomicLong clock = new AtomicLong();
+  private final InMemoryRateLimitStore store = new InMemoryRateLimitStore(clock::get);
+
+  @Test
+  void tryAcquire_shouldTouchTheStoreOncePerLease() {
+    LeasedPermits permits = leased(store, 3);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(permits.tryAcquire()).isZero();
+    }
+
+    assertThat(store.leaseCalls()).isEqualTo(1);
+  }
+
+  @Test
+  void tryAcquire_shouldHoldAllInstancesToOneBurst() {
+    LeasedPermits first = leased(store, 2);
+    LeasedPermits second = leased(store, 2);
+
+    int admitted = 0;
+    for (int i = 0; i < 10; i++) {
+      admitted += first.tryAcquire() == 0 ? 1 : 0;
+      admitted += second.tryAcquire() == 0 ? 1 : 0;
+    }
+
+    assertThat(admitted).isEqualTo(5);
+  }
+
+  @Test
+  void tryAcquire_shouldNotAskTheStoreAgainUntilAPermitIsDue() {
+    LeasedPermits permits = leased(store, 5);
+    for (int i = 0; i < 5; i++) {
+      permits.tryAcquire();
+    }
+
+    long wait = permits.tryAcquire();
+    int callsAfterRefusal = store.leaseCalls();
+    permits.tryAcquire();
+
+    assertThat(wait).isEqualTo(TimeUnit.SECONDS.toNanos(20));
+    assertThat(store.leaseCalls()).isEqualTo(callsAfterRefusal);
+
+    clock.addAndGet(wait);
+    assertThat(permits.tryAcquire()).isZero();
+  }
+
+  @Test
+  void tryAcquire_shouldReturnLeasedPermitsOnceTheLeaseExpires() {
+    LeasedPermits permits = leased(store, 2);
+
+    // Each request comes after the previous lease expired, half used
+    for (int i = 0; i < 5; i++) {
+      assertThat(permits.tryAcquire()).as("request %d", i + 1).isZero();
+      clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+    }
+
+    assertThat(store.leaseCalls()).isEqualTo(5);
+    assertThat(permits.tryAcquire()).isPositive();
+  }
+
+  @Test
+  void tryAcquire_shouldLimitLocallyWhileTheStoreIsDown() {
+    RateLimitStore failing =
+        (key, count, returned, interval, capacity) -> {
+          throw new IllegalStateException("connection refused");
+        };
+    LeasedPermits permits = leased(failing, 2);
+
+    int admitted = 0;
+    for (int i = 0; i < 10; i++) {
+      admitted += permits.tryAcquire() == 0 ? 1 : 0;
+    }
+
+    assertThat(admitted).isEqualTo(5);
+  }
+
+  private LeasedPermits leased(RateLimitStore store, int leaseSize) {
+    return new LeasedPermits(
+        store, "POST /import 10.0.0.1", policy, leaseSize, TimeUnit.SECONDS.toNanos(1), clock::get);
+  }
+}
@@ -0,0 +1,68 @@
+package com.penrose.bibby.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RateLimitFilterTest {
+
+  private final RateLimitService service =
+      new RateLimitService(
+          "POST /api/v1/books/fetchbookmetadata=1/0.5", 100, Duration.ofMinutes(1));
+
+  @Test
+  void doFilter_rejectsWithRetryAfterOnceTheBurstIsUsed() throws Exception {
+    RateLimitFilter filter = filter(true);
+
+    MockHttpServletResponse first = send(filter, "10.0.0.1", null);
+    MockHttpServletResponse second = send(filter, "10.0.0.1", null);
+
+    assertThat(first.getStatus()).isEqualTo(200);
+    assertThat(second.getStatus()).isEqualTo(429);
+    assertThat(second.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+  }
+
+  @Test
+  void doFilter_keysClientsByRemoteAddressNotByForwardedHeaders() throws Exception {
+    RateLimitFilter filter = filter(true);
+
+    send(filter, "10.0.0.1", "203.0.113.5");
+
+    assertThat(send(filter, "10.0.0.1", "198.51.100.7").getStatus()).isEqualTo(429);
+    assertThat(send(filter, "10.0.0.2", "203.0.113.5").getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  void doFilter_passesEverythingWhenDisabled() throws Exception {
+    RateLimitFilter filter = filter(false);
+
+    send(filter, "10.0.0.1", null);
+
+    assertThat(send(filter, "10.0.0.1", null).getStatus()).isEqualTo(200);
+  }
+
+  private RateLimitFilter filter(boolean enabled) {
+    StaticListableBeanFactory beans = new StaticListableBeanFactory();
+    beans.addBean("rateLimitService", service);
+    return new RateLimitFilter(beans.getBeanProvider(RateLimitService.class), enabled);
+  }
+
+  private static MockHttpServletResponse send(
+      RateLimitFilter filter, String remoteAddr, String forwardedFor) throws Exception {
+    MockHttpServletRequest request =
+        new MockHttpServletRequest("POST", "/api/v1/books/fetchbookmetadata");
+    request.setRemoteAddr(remoteAddr);
+    if (forwardedFor != null) {
+      request.addHeader("X-Forwarded-For", forwardedFor);
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+}
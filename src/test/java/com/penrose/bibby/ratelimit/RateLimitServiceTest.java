@@ -2,6 +2,9 @@ package com.penrose.bibby.ratelimit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.penrose.bibby.ratelimit.store.InMemoryRateLimitStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 
 class RateLimitServiceTest {
@@ -24,6 +27,25 @@ class RateLimitServiceTest {
     assertFalse(service.isAllowed(ip), "Request 6 should be blocked");
   }
 
+  @Test
+  void bindTo_countsRejectionsPerRoute() {
+    RateLimitService service = new RateLimitService();
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    service.bindTo(registry);
+
+    for (int i = 0; i < 7; i++) {
+      service.isAllowed("10.0.0.2");
+    }
+
+    assertEquals(
+        2,
+        registry
+            .get("bibby.ratelimit.rejections")
+            .tag("route", "POST /api/v1/books/fetchbookmetadata")
+            .functionCounter()
+            .count());
+  }
+
   @Test
   void isAllowed_tracksSeparateBucketsPerIp() {
     RateLimitService service = new RateLimitService();
@@ -37,4 +59,73 @@ class RateLimitServiceTest {
     // IP 2 should still have tokens
     assertTrue(service.isAllowed("ip2"));
   }
+
+  @Test
+  void tryAcquire_limitsOnlyMatchingRoutes() {
+    RateLimitService service =
+        new RateLimitService(
+            "POST /api/v1/books/fetchbookmetadata=1/0", 100, Duration.ofMinutes(1));
+
+    assertEquals(0, service.tryAcquire("POST", "/api/v1/books/fetchbookmetadata", "ip"));
+    assertTrue(service.tryAcquire("POST", "/api/v1/books/fetchbookmetadata", "ip") > 0);
+
+    assertEquals(0, service.tryAcquire("GET", "/api/v1/books/fetchbookmetadata", "ip"));
+    assertEquals(0, service.tryAcquire("POST", "/api/v1/books", "ip"));
+  }
+
+  @Test
+  void tryAcquire_usesFirstMatchingPolicy() {
+    RateLimitService service =
+        new RateLimitService(
+            "/api/v1/books/{id}=1/0, /api/v1/books/**=3/0", 100, Duration.ofMinutes(1));
+
+    assertEquals(0, service.tryAcquire("GET", "/api/v1/books/7", "ip"));
+    assertTrue(service.tryAcquire("GET", "/api/v1/books/7", "ip") > 0);
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(0, service.tryAcquire("GET", "/api/v1/books/7/loans", "ip"));
+    }
+    assertTrue(service.tryAcquire("GET", "/api/v1/books/7/loans", "ip") > 0);
+  }
+
+  @Test
+  void constructor_rejectsMalformedPolicies() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new RateLimitService("/api/v1/books", 100, Duration.ofMinutes(1)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new RateLimitService("/api/v1/books=0/1", 100, Duration.ofMinutes(1)));
+  }
+
+  @Test
+  void tryAcquire_withSharedStore_limitsClientsAcrossInstances() {
+    InMemoryRateLimitStore store = new InMemoryRateLimitStore(System::nanoTime);
+    RateLimitService node1 =
+        new RateLimitService(
+            "POST /api/v1/books/fetchbookmetadata=5/0",
+            100,
+            Duration.ofMinutes(1),
+            store,
+            2,
+            Duration.ofMinutes(1));
+    RateLimitService node2 =
+        new RateLimitService(
+            "POST /api/v1/books/fetchbookmetadata=5/0",
+            100,
+            Duration.ofMinutes(1),
+            store,
+            2,
+            Duration.ofMinutes(1));
+
+    int admitted = 0;
+    for (int i = 0; i < 10; i++) {
+      RateLimitService node = i % 2 == 0 ? node1 : node2;
+      if (node.tryAcquire("POST", "/api/v1/books/fetchbookmetadata", "203.0.113.5") == 0) {
+        admitted++;
+      }
+    }
+
+    assertEquals(5, admitted);
+  }
 }
@@ -0,0 +1,38 @@
+package com.penrose.bibby.ratelimit.store;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/** {@link RateLimitStore} in a map, standing in for a shared database in tests. */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+  private final Map<String, Long> theoreticalArrivals = new ConcurrentHashMap<>();
+  private final AtomicInteger leaseCalls = new AtomicInteger();
+  private final LongSupplier nanoClock;
+
+  public InMemoryRateLimitStore(LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+  }
+
+  @Override
+  public synchronized Lease lease(
+      String key, int permits, int returned, long emissionIntervalNanos, long capacityNanos) {
+    leaseCalls.incrementAndGet();
+    Lease lease =
+        Lease.take(
+            theoreticalArrivals.getOrDefault(key, 0L),
+            nanoClock.getAsLong(),
+            permits,
+            returned,
+            emissionIntervalNanos,
+            capacityNanos);
+    theoreticalArrivals.put(key, lease.theoreticalArrival());
+    return lease;
+  }
+
+  public int leaseCalls() {
+    return leaseCalls.get();
+  }
+}
@@ -0,0 +1,78 @@
+package com.penrose.bibby.ratelimit.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// Leases run in their own transactions, so the test must not hold one open around them
+@JdbcTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcRateLimitStoreTest {
+
+  private static final long INTERVAL = TimeUnit.HOURS.toNanos(1);
+  private static final long CAPACITY = 3 * INTERVAL;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private JdbcRateLimitStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new JdbcRateLimitStore(jdbcTemplate, transactionManager, Duration.ofMinutes(10));
+    store.purgeFull(); // creates the table on first use
+    jdbcTemplate.update("DELETE FROM " + JdbcRateLimitStore.TABLE);
+  }
+
+  @Test
+  void lease_shouldGrantUpToTheBurstAcrossCalls() {
+    assertThat(store.lease("POST /import 10.0.0.1", 2, 0, INTERVAL, CAPACITY).granted())
+        .isEqualTo(2);
+    assertThat(store.lease("POST /import 10.0.0.1", 2, 0, INTERVAL, CAPACITY).granted())
+        .isEqualTo(1);
+
+    RateLimitStore.Lease refused = store.lease("POST /import 10.0.0.1", 2, 0, INTERVAL, CAPACITY);
+
+    assertThat(refused.granted()).isZero();
+    assertThat(refused.retryAfterNanos()).isPositive().isLessThanOrEqualTo(INTERVAL);
+  }
+
+  @Test
+  void lease_shouldPutReturnedPermitsBackBeforeTaking() {
+    store.lease("POST /import 10.0.0.1", 3, 0, INTERVAL, CAPACITY);
+
+    assertThat(store.lease("POST /import 10.0.0.1", 3, 2, INTERVAL, CAPACITY).granted())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void lease_shouldKeepBucketsPerKey() {
+    store.lease("POST /import 10.0.0.1", 3, 0, INTERVAL, CAPACITY);
+
+    assertThat(store.lease("POST /import 10.0.0.2", 3, 0, INTERVAL, CAPACITY).granted())
+        .isEqualTo(3);
+  }
+
+  @Test
+  void purgeFull_shouldKeepBucketsThatAreStillRefilling() {
+    store.lease("POST /import 10.0.0.1", 1, 0, INTERVAL, CAPACITY);
+    jdbcTemplate.update(
+        "INSERT INTO " + JdbcRateLimitStore.TABLE + " VALUES ('POST /import 10.0.0.2', 0)");
+
+    store.purgeFull();
+
+    assertThat(
+            jdbcTemplate.queryForList(
+                "SELECT bucket_key FROM " + JdbcRateLimitStore.TABLE, String.class))
+        .containsExactly("POST /import 10.0.0.1");
+  }
+}
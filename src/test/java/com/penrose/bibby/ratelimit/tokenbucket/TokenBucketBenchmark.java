@@ -0,0 +1,62 @@
+package com.penrose.bibby.ratelimit.tokenbucket;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Rough throughput check for {@link TokenBucket#tryAcquire()} with every thread hammering one
+ * bucket. Not part of the normal build; run it with {@code mvn test -Dtest=TokenBucketBenchmark
+ * -Dbibby.bench=true}.
+ */
+@EnabledIfSystemProperty(named = "bibby.bench", matches = "true")
+class TokenBucketBenchmark {
+
+  private static final long WARMUP_MILLIS = 2_000;
+  private static final long MEASURE_MILLIS = 5_000;
+
+  @Test
+  void contendedTryAcquire() throws InterruptedException {
+    for (int threads : new int[] {1, 4, 16}) {
+      run(threads, WARMUP_MILLIS);
+      long ops = run(threads, MEASURE_MILLIS);
+      System.out.printf(
+          "TokenBucket.tryAcquire threads=%d: %.1f Mops/s%n",
+          threads, ops / (MEASURE_MILLIS * 1_000.0));
+    }
+  }
+
+  private static long run(int threads, long millis) throws InterruptedException {
+    TokenBucket bucket = new TokenBucket(1_000, 1_000_000);
+    LongAdder ops = new LongAdder();
+    CountDownLatch start = new CountDownLatch(1);
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis) + 50_000_000L;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    for (int t = 0; t < threads; t++) {
+      executor.execute(
+          () -> {
+            try {
+              start.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+              return;
+            }
+            long count = 0;
+            long sink = 0;
+            while (System.nanoTime() < deadline) {
+              sink += bucket.tryAcquire();
+              count++;
+            }
+            ops.add(count + (sink == Long.MIN_VALUE ? 1 : 0));
+          });
+    }
+    start.countDown();
+    executor.shutdown();
+    executor.awaitTermination(millis + 10_000, TimeUnit.MILLISECONDS);
+    return ops.sum();
+  }
+}
@@ -2,6 +2,12 @@ package com.penrose.bibby.ratelimit.tokenbucket;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.Test;
 
 class TokenBucketTest {
@@ -55,4 +61,59 @@ class TokenBucketTest {
     assertFalse(bucket.isAllowed());
     assertFalse(bucket.isAllowed());
   }
+
+  @Test
+  void tryAcquire_reportsTimeUntilNextToken() {
+    AtomicLong clock = new AtomicLong();
+    TokenBucket bucket = new TokenBucket(1, 2.0, clock::get); // one token every 500ms
+
+    assertEquals(0, bucket.tryAcquire());
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(500), bucket.tryAcquire());
+
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(300), bucket.tryAcquire());
+
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(300));
+    assertEquals(0, bucket.tryAcquire());
+  }
+
+  @Test
+  void bucket_underContention_admitsExactlyMaxTokens() throws InterruptedException {
+    TokenBucket bucket = new TokenBucket(50, 0.0);
+    int threads = 16;
+    int attemptsPerThread = 1_000;
+    AtomicInteger admitted = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (int t = 0; t < threads; t++) {
+        executor.execute(
+            () -> {
+              try {
+                start.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+              }
+              for (int i = 0; i < attemptsPerThread; i++) {
+                if (bucket.isAllowed()) {
+                  admitted.incrementAndGet();
+                }
+              }
+            });
+      }
+      start.countDown();
+    } finally {
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    }
+
+    assertEquals(50, admitted.get());
+  }
+
+  @Test
+  void constructor_rejectsInvalidSettings() {
+    assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1.0));
+    assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, -1.0));
+  }
 }
@@ -0,0 +1,45 @@
+package com.penrose.bibby.web.controllers.cataloging.book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.penrose.bibby.config.http.ConditionalGetSupport;
+import com.penrose.bibby.library.cataloging.author.core.ports.inbound.AuthorFacade;
+import com.penrose.bibby.library.cataloging.book.core.application.BookService;
+import com.penrose.bibby.library.cataloging.book.core.application.IsbnLookupService;
+import com.penrose.bibby.library.cataloging.book.core.port.inbound.BookFacade;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.PlaceBookOnShelfUseCasePort;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class BookControllerTest {
+
+  private final BookFacade bookFacade = mock(BookFacade.class);
+  private final BookController controller =
+      new BookController(
+          mock(BookService.class),
+          bookFacade,
+          mock(IsbnLookupService.class),
+          mock(AuthorFacade.class),
+          mock(PlaceBookOnShelfUseCasePort.class),
+          mock(ConditionalGetSupport.class));
+
+  @Test
+  void suggest_shouldAcceptTheTypeInAnyCase() {
+    when(bookFacade.suggestAuthors("herb", 5)).thenReturn(List.of("Frank Herbert"));
+
+    assertThat(controller.suggest("herb", "Author", 5).getBody()).containsExactly("Frank Herbert");
+  }
+
+  @Test
+  void suggest_shouldRejectAnUnknownTypeAsABadRequest() {
+    assertThatThrownBy(() -> controller.suggest("herb", "isbn", 5))
+        .isInstanceOfSatisfying(
+            ResponseStatusException.class,
+            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+  }
+}
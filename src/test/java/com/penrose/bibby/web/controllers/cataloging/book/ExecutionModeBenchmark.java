@@ -0,0 +1,178 @@
+package com.penrose.bibby.web.controllers.cataloging.book;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.penrose.bibby.library.cataloging.book.api.dtos.BookDTO;
+import com.penrose.bibby.library.cataloging.book.core.application.IsbnLookupService;
+import com.penrose.bibby.library.cataloging.book.infrastructure.external.BookImportRequest;
+import com.penrose.bibby.library.cataloging.book.infrastructure.external.GoogleBookItems;
+import com.penrose.bibby.library.cataloging.book.infrastructure.external.GoogleBooksResponse;
+import com.penrose.bibby.library.cataloging.book.infrastructure.external.VolumeInfo;
+import com.penrose.bibby.library.stacks.bookcase.core.ports.inbound.BookcaseFacade;
+import com.penrose.bibby.library.stacks.shelf.core.ports.inbound.ShelfQueryFacade;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Mono;
+
+/**
+ * Sustained throughput of the {@code fetchbookmetadata} and {@code addnewbook} handlers with
+ * {@value #CALLERS} concurrent callers in one execution mode per run: {@code
+ * -Dbibby.bench.mode=platform} (the default) uses a pool of {@value #PLATFORM_THREADS} platform
+ * threads, Tomcat's default maximum, and {@code virtual} one virtual thread per caller. The Google
+ * Books lookup is replaced by a fixed {@code LOOKUP_LATENCY} delay; {@code addnewbook} runs against
+ * the test database and its connection pool.
+ *
+ * <p>Not part of the normal build, and no results are recorded here. Comparing the modes means
+ * running it once per mode on Java 21 or later, e.g. {@code mvn test -Dtest=ExecutionModeBenchmark
+ * -Dbibby.bench=true -Dbibby.bench.mode=virtual}. Asking for the virtual mode on an older runtime
+ * fails rather than skipping.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "bibby.bench", matches = "true")
+class ExecutionModeBenchmark {
+
+  private static final int CALLERS = 1_000;
+  private static final int PLATFORM_THREADS = 200;
+  private static final Duration LOOKUP_LATENCY = Duration.ofMillis(50);
+  private static final long WARMUP_MILLIS = 2_000;
+  private static final long MEASURE_MILLIS = 5_000;
+
+  @Autowired private BookImportController bookImportController;
+  @Autowired private BookController bookController;
+  @Autowired private BookcaseFacade bookcaseFacade;
+  @Autowired private ShelfQueryFacade shelfQueryFacade;
+  @MockitoBean private IsbnLookupService isbnLookupService;
+
+  private final AtomicLong isbns = new AtomicLong(9_780_000_000_000L);
+
+  @BeforeEach
+  void setUp() {
+    GoogleBooksResponse response =
+        new GoogleBooksResponse(
+            List.of(
+                new GoogleBookItems(
+                    new VolumeInfo(
+                        "Dune",
+                        List.of("Frank Herbert"),
+                        "Chilton",
+                        null,
+                        null,
+                        List.of(),
+                        "1965"))));
+    when(isbnLookupService.lookupBook(anyString()))
+        .thenAnswer(invocation -> Mono.delay(LOOKUP_LATENCY).thenReturn(response));
+  }
+
+  @Test
+  void fetchBookMetadata() throws Exception {
+    measure(
+        "fetchbookmetadata",
+        () -> bookImportController.importBook(new BookImportRequest(nextIsbn())));
+  }
+
+  // Each book gets its own author: addnewbook registers the author names it is given
+  @Test
+  void addNewBook() throws Exception {
+    Long bookcaseId =
+        bookcaseFacade
+            .createNewBookCase(1L, "Bench", "A", "1", 1, Integer.MAX_VALUE, "Bench")
+            .bookcaseId();
+    Long shelfId = shelfQueryFacade.findShelvesByBookcaseId(bookcaseId).get(0).id();
+    measure(
+        "addnewbook",
+        () -> {
+          String isbn = nextIsbn();
+          bookController.addNewBook(
+              new BookDTO(
+                  null,
+                  1,
+                  "Dune",
+                  List.of("Author " + isbn),
+                  isbn,
+                  null,
+                  "Chilton",
+                  1965,
+                  shelfId,
+                  null,
+                  null,
+                  null,
+                  null,
+                  null));
+        });
+  }
+
+  private void measure(String name, Runnable call) throws Exception {
+    String mode = System.getProperty("bibby.bench.mode", "platform");
+    switch (mode) {
+      case "platform" ->
+          report(name, mode, () -> Executors.newFixedThreadPool(PLATFORM_THREADS), call);
+      case "virtual" -> report(name, mode, ExecutionModeBenchmark::virtualThreadExecutor, call);
+      default -> throw new IllegalArgumentException("Unknown bibby.bench.mode: " + mode);
+    }
+  }
+
+  private static void report(
+      String name, String mode, Supplier<ExecutorService> executors, Runnable call)
+      throws Exception {
+    run(executors.get(), call, WARMUP_MILLIS);
+    long calls = run(executors.get(), call, MEASURE_MILLIS);
+    System.out.printf(
+        "%s %s (%d callers): %.0f calls/s%n",
+        name, mode, CALLERS, calls * 1_000.0 / MEASURE_MILLIS);
+  }
+
+  // Every caller loops until the deadline; callers a capped pool cannot start in time do nothing
+  private static long run(ExecutorService executor, Runnable call, long millis)
+      throws InterruptedException {
+    LongAdder calls = new LongAdder();
+    CountDownLatch done = new CountDownLatch(CALLERS);
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    for (int i = 0; i < CALLERS; i++) {
+      executor.execute(
+          () -> {
+            try {
+              while (System.nanoTime() < deadline) {
+                call.run();
+                calls.increment();
+              }
+            } finally {
+              done.countDown();
+            }
+          });
+    }
+    done.await();
+    executor.shutdown();
+    return calls.sum();
+  }
+
+  private String nextIsbn() {
+    return Long.toString(isbns.incrementAndGet());
+  }
+
+  // Looked up reflectively so the benchmark still compiles for Java 17
+  private static ExecutorService virtualThreadExecutor() {
+    try {
+      return (ExecutorService)
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(
+          "bibby.bench.mode=virtual needs Java 21 or later, but this is Java "
+              + Runtime.version().feature(),
+          e);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.penrose.bibby.web.controllers.stacks.shelf;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.penrose.bibby.identity.infrastructure.AppUserImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReactiveShelfControllerTest {
+
+  private static final AppUserImpl ALICE = AppUserImpl.fromToken(101L, "alice@example.com");
+  private static final AppUserImpl BOB = AppUserImpl.fromToken(102L, "bob@example.com");
+
+  @Autowired private MockMvc mockMvc;
+
+  @Test
+  void getShelfOptions_shouldAnswerAsynchronouslyWithTheCallersShelvesOnly() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/bookcase/create")
+                .with(user(ALICE))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    """
+                    {"location":"Study","zone":"R","indexId":"1","shelfCount":2,"shelfCapacity":10}
+                    """))
+        .andExpect(status().isCreated());
+
+    MvcResult alices =
+        mockMvc
+            .perform(get("/api/v2/shelves/options").with(user(ALICE)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    mockMvc
+        .perform(asyncDispatch(alices))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$[0].bookCapacity").value(10));
+
+    MvcResult bobs =
+        mockMvc
+            .perform(get("/api/v2/shelves/options").with(user(BOB)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    mockMvc
+        .perform(asyncDispatch(bobs))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(0));
+  }
+}